@@ -0,0 +1,230 @@
+package tassist.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+import tassist.address.commons.core.Config;
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.core.StartupTimeline;
+import tassist.address.commons.exceptions.DataLoadingException;
+import tassist.address.commons.util.ConfigUtil;
+import tassist.address.commons.util.StringUtil;
+import tassist.address.logic.Logic;
+import tassist.address.logic.LogicManager;
+import tassist.address.model.AddressBook;
+import tassist.address.model.Model;
+import tassist.address.model.ModelManager;
+import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.ReadOnlyUserPrefs;
+import tassist.address.model.UserPrefs;
+import tassist.address.model.util.SampleDataUtil;
+import tassist.address.storage.AddressBookStorage;
+import tassist.address.storage.JsonAddressBookStorage;
+import tassist.address.storage.JsonUserPrefsStorage;
+import tassist.address.storage.Storage;
+import tassist.address.storage.StorageManager;
+import tassist.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, storage, model and logic of the application, which both the GUI and the headless mode run on.
+ * Nothing here depends on the JavaFX toolkit, so the headless mode never starts it.
+ * The data file is loaded on a background thread while the config and prefs files are brought up to date, and each
+ * phase is recorded in a {@code StartupTimeline}.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private final StartupTimeline timeline;
+
+    /**
+     * Reads the config, user prefs and address book named by {@code appParameters} and sets up the components that
+     * work on them.
+     */
+    public AppInitializer(AppParameters appParameters) {
+        this(appParameters, new StartupTimeline());
+    }
+
+    /**
+     * Reads the config, user prefs and address book named by {@code appParameters} and sets up the components that
+     * work on them, recording each phase in {@code timeline}.
+     * The address book's location is only known once the config and prefs are read, but loading it does not wait
+     * for their files to be rewritten.
+     */
+    public AppInitializer(AppParameters appParameters, StartupTimeline timeline) {
+        this.timeline = timeline;
+        Path configFilePath = getConfigFilePath(appParameters.getConfigPath());
+        config = timeline.measure("read config", () -> initConfig(configFilePath));
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = timeline.measure("read prefs", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        CompletableFuture<Model> modelLoading = CompletableFuture.supplyAsync(() ->
+                timeline.measure("load data file", () -> initModelManager(storage, userPrefs)));
+        timeline.measure("update config and prefs files", () -> {
+            updateConfigFile(config, configFilePath);
+            updatePrefsFile(userPrefs, userPrefsStorage);
+        });
+        try {
+            model = modelLoading.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+
+        logic = new LogicManager(model, storage);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    public StartupTimeline getTimeline() {
+        return timeline;
+    }
+
+    /**
+     * Saves the user prefs of the model, which the application does when it stops.
+     */
+    public void saveUserPrefs() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns the config file to use: {@code configFilePath}, or the default file path
+     * {@code Config#DEFAULT_CONFIG_FILE} if {@code configFilePath} is null.
+     */
+    private Path getConfigFilePath(Path configFilePath) {
+        if (configFilePath == null) {
+            return Config.DEFAULT_CONFIG_FILE;
+        }
+        logger.info("Custom Config file specified " + configFilePath);
+        return configFilePath;
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}, or the default config if the file is
+     * missing or cannot be read.
+     */
+    protected Config initConfig(Path configFilePath) {
+        logger.info("Using config file : " + configFilePath);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePath);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePath);
+            }
+            return configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePath + " could not be loaded."
+                    + " Using default config properties.");
+            return new Config();
+        }
+    }
+
+    /**
+     * Updates the config file in case it was missing to begin with or there are new/unused fields.
+     * The file is left alone if it already holds {@code config}.
+     */
+    private void updateConfigFile(Config config, Path configFilePath) {
+        try {
+            if (!ConfigUtil.saveConfigIfChanged(config, configFilePath)) {
+                logger.fine("Config file is up to date");
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+        return initializedPrefs;
+    }
+
+    /**
+     * Updates the prefs file in case it was missing to begin with or there are new/unused fields.
+     * The user prefs storage leaves the file alone if it already holds {@code userPrefs}.
+     */
+    private void updatePrefsFile(UserPrefs userPrefs, UserPrefsStorage storage) {
+        try {
+            storage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save preference file : " + StringUtil.getDetails(e));
+        }
+    }
+}
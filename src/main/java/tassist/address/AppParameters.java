@@ -2,11 +2,15 @@ package tassist.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import tassist.address.api.ApiServer;
 import tassist.address.commons.core.LogsCenter;
 import tassist.address.commons.util.FileUtil;
 import tassist.address.commons.util.ToStringBuilder;
@@ -15,9 +19,18 @@ import tassist.address.commons.util.ToStringBuilder;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String FLAG_HEADLESS = "--headless";
+    public static final String FLAG_SERVE = "--serve";
+
+    private static final int MAX_PORT = 65535;
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean isHeadless;
+    private Path scriptPath;
+    private boolean isServe;
+    private int port = ApiServer.DEFAULT_PORT;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,23 +40,118 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the application should run commands without a GUI.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the file of commands to run without a GUI, or null to read them from the standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns true if the application should serve the API without a GUI.
+     */
+    public boolean isServe() {
+        return isServe;
+    }
+
+    public void setServe(boolean isServe) {
+        this.isServe = isServe;
+    }
+
+    /**
+     * Returns the port to serve the API on.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
-        AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        return parse(parameters.getNamed(), parameters.getUnnamed());
+    }
 
-        String configPathParameter = namedParameters.get("config");
-        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
+    /**
+     * Parses the raw command-line arguments the same way JavaFX does, without starting JavaFX: an argument of the
+     * form {@code --name=value} is a named parameter and any other argument is unnamed.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        return parse(namedParameters, unnamedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters, List<String> unnamedParameters) {
+        AppParameters appParameters = new AppParameters();
+
+        appParameters.setConfigPath(parsePath(namedParameters.get("config"), "Using default config path."));
+        appParameters.setHeadless(unnamedParameters.contains(FLAG_HEADLESS));
+        appParameters.setScriptPath(parsePath(namedParameters.get("script"), "Reading commands from standard input."));
+        appParameters.setServe(unnamedParameters.contains(FLAG_SERVE));
+        appParameters.setPort(parsePort(namedParameters.get("port")));
 
         return appParameters;
     }
 
+    /**
+     * Returns {@code pathParameter} as a path, or null if it is not given or not a valid path, in which case
+     * {@code fallback} describes what is done instead.
+     */
+    private static Path parsePath(String pathParameter, String fallback) {
+        if (pathParameter != null && !FileUtil.isValidPath(pathParameter)) {
+            logger.warning("Invalid path " + pathParameter + ". " + fallback);
+            return null;
+        }
+        return pathParameter != null ? Paths.get(pathParameter) : null;
+    }
+
+    /**
+     * Returns {@code portParameter} as a port number, or the default port if it is not given or not a valid port.
+     */
+    private static int parsePort(String portParameter) {
+        if (portParameter == null) {
+            return ApiServer.DEFAULT_PORT;
+        }
+        try {
+            int port = Integer.parseInt(portParameter);
+            if (port >= 0 && port <= MAX_PORT) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the default port
+        }
+        logger.warning("Invalid port " + portParameter + ". Using default port " + ApiServer.DEFAULT_PORT + ".");
+        return ApiServer.DEFAULT_PORT;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +164,26 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isHeadless == otherAppParameters.isHeadless
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && isServe == otherAppParameters.isServe
+                && port == otherAppParameters.port;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless, scriptPath, isServe, port);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isHeadless", isHeadless)
+                .add("scriptPath", scriptPath)
+                .add("isServe", isServe)
+                .add("port", port)
                 .toString();
     }
 }
@@ -0,0 +1,106 @@
+package tassist.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.util.StringUtil;
+import tassist.address.logic.Logic;
+import tassist.address.logic.commands.CommandResult;
+import tassist.address.logic.commands.RunCommand;
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands read from a script or the standard input without a GUI, printing the result of each command.
+ * The JavaFX toolkit is never started, so the application can run in batch jobs and on machines without a display.
+ */
+public class HeadlessApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_IO_ERROR = 2;
+
+    public static final String MESSAGE_ERROR = "Error: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}.
+     */
+    public HeadlessApp(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Sets up the application from {@code appParameters} and runs the commands in its script, or in the standard
+     * input if it has none, saving the user prefs when done.
+     *
+     * @return The exit status of the application.
+     */
+    public static int launch(AppParameters appParameters) {
+        logger.info("=============================[ Running AddressBook headless ]======================");
+        AppInitializer initializer = new AppInitializer(appParameters);
+        logger.info(initializer.getTimeline().toString());
+        HeadlessApp app = new HeadlessApp(initializer.getLogic());
+
+        int status;
+        try (BufferedReader in = appParameters.getScriptPath() == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(appParameters.getScriptPath(), StandardCharsets.UTF_8)) {
+            status = app.run(in, System.out);
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            System.err.println(String.format(MESSAGE_ERROR, e.getMessage()));
+            status = EXIT_IO_ERROR;
+        }
+
+        initializer.saveUserPrefs();
+        return status;
+    }
+
+    /**
+     * Executes every command read from {@code in} until it ends or a command exits the application, printing the
+     * feedback of each command to {@code out}. Blank lines and lines starting with {@value RunCommand#COMMENT_PREFIX}
+     * are skipped, and a command that fails does not stop the commands after it.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_COMMAND_FAILED} otherwise.
+     * @throws IOException if {@code in} cannot be read.
+     */
+    public int run(BufferedReader in, PrintStream out) throws IOException {
+        requireNonNull(in);
+        requireNonNull(out);
+
+        boolean hasFailed = false;
+        String line;
+        while ((line = in.readLine()) != null) {
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(RunCommand.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                out.println(String.format(MESSAGE_ERROR, e.getMessage()));
+                hasFailed = true;
+            }
+        }
+        out.flush();
+        return hasFailed ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+    }
+}
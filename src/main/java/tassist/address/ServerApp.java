@@ -0,0 +1,63 @@
+package tassist.address;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import tassist.address.api.ApiServer;
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.util.StringUtil;
+
+/**
+ * Serves the API of the application on the loopback address without a GUI, until it is interrupted or an
+ * {@code exit} command is posted to it.
+ */
+public class ServerApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_SERVER_FAILED = 1;
+
+    public static final String MESSAGE_SERVING = "Serving TAssist on http://127.0.0.1:%1$d/api";
+    public static final String MESSAGE_TOKEN = "Post commands with the header " + ApiServer.HEADER_TOKEN + ": %1$s";
+    public static final String MESSAGE_FAILED = "Could not serve TAssist on port %1$d: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ServerApp.class);
+
+    private ServerApp() {}
+
+    /**
+     * Sets up the application from {@code appParameters} and serves its API until the server stops. The user prefs
+     * are saved when the application shuts down.
+     *
+     * @return The exit status of the application.
+     */
+    public static int launch(AppParameters appParameters) {
+        logger.info("=============================[ Serving AddressBook ]===============================");
+        AppInitializer initializer = new AppInitializer(appParameters);
+        logger.info(initializer.getTimeline().toString());
+
+        ApiServer server;
+        try {
+            server = new ApiServer(initializer.getLogic(), appParameters.getPort());
+        } catch (IOException e) {
+            logger.severe("Failed to start the API server " + StringUtil.getDetails(e));
+            System.err.println(String.format(MESSAGE_FAILED, appParameters.getPort(), e.getMessage()));
+            return EXIT_SERVER_FAILED;
+        }
+
+        // Runs both when the server is interrupted and when the application exits after an exit command
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            initializer.saveUserPrefs();
+        }));
+        server.start();
+        System.out.println(String.format(MESSAGE_SERVING, server.getPort()));
+        System.out.println(String.format(MESSAGE_TOKEN, server.getToken()));
+
+        try {
+            server.awaitStop();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return EXIT_SUCCESS;
+    }
+}
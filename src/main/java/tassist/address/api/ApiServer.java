@@ -0,0 +1,326 @@
+package tassist.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.util.JsonUtil;
+import tassist.address.logic.Logic;
+import tassist.address.logic.commands.CommandResult;
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.logic.parser.QueryParser;
+import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.storage.JsonStreamWriter;
+
+/**
+ * Serves the address book as JSON over HTTP on the loopback address, so that local tools can read and change it
+ * without editing the data file.
+ * <ul>
+ *     <li>{@code GET /api/persons} lists the students, or those selected by the query in the {@code q} parameter,
+ *     e.g. {@code ?q=where class=T01 sort progress desc limit 10}.</li>
+ *     <li>{@code GET /api/events} lists the timed events.</li>
+ *     <li>{@code POST /api/commands} executes the command in the request body and returns its feedback.</li>
+ * </ul>
+ * Commands are executed one at a time on a single writer thread, which is the only thread that executes commands.
+ * Reads are served concurrently from the address book snapshot the model publishes after each command, so a read
+ * never sees a command half done and never waits for one. Responses are streamed as they are written.
+ * <p>
+ * Browsers can reach the loopback address too, so requests whose {@code Host} is not the loopback address and port
+ * (DNS rebinding) and requests with an {@code Origin} header (pages on other sites) are refused. Commands must also
+ * carry the token generated when the server is created in the {@value #HEADER_TOKEN} header, which pages cannot set
+ * on a cross-site request without the server's consent and cannot learn.
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_PORT = 8765;
+
+    public static final String PATH_PERSONS = "/api/persons";
+    public static final String PATH_EVENTS = "/api/events";
+    public static final String PATH_COMMANDS = "/api/commands";
+    public static final String PARAMETER_QUERY = "q";
+    public static final String HEADER_TOKEN = "X-TAssist-Token";
+
+    public static final String MESSAGE_NOT_FOUND = "There is no resource at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s only accepts %2$s requests";
+    public static final String MESSAGE_EMPTY_COMMAND = "The request body must hold a command";
+    public static final String MESSAGE_INTERRUPTED = "The server is stopping";
+    public static final String MESSAGE_FORBIDDEN_HOST =
+            "Requests must be addressed to 127.0.0.1:%1$d or localhost:%1$d";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests from web pages are not accepted";
+    public static final String MESSAGE_INVALID_TOKEN = "Commands must carry the server's token in the "
+            + HEADER_TOKEN + " header";
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_UNAVAILABLE = 503;
+    private static final int READER_THREAD_COUNT = 4;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int TOKEN_BYTE_COUNT = 24;
+    private static final List<String> LOOPBACK_HOST_NAMES = List.of("127.0.0.1", "localhost");
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService readers;
+    private final ExecutorService writer;
+    private final String token;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /**
+     * Creates a server for {@code logic} bound to {@code port} on the loopback address, which is not started yet,
+     * with a new random token for posting commands. Once the server is started, {@code logic} must not execute
+     * commands on any other thread.
+     *
+     * @param port The port to listen on, or 0 to use any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, int port) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        readers = Executors.newFixedThreadPool(READER_THREAD_COUNT);
+        writer = Executors.newSingleThreadExecutor();
+        token = generateToken();
+
+        server.setExecutor(readers);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API on http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + getPort());
+    }
+
+    /**
+     * Stops serving requests, letting the requests being served finish first, and stops the writer thread.
+     * Does nothing if the server is already stopped.
+     */
+    public synchronized void stop() {
+        if (stopped.getCount() == 0) {
+            return;
+        }
+        server.stop(STOP_DELAY_SECONDS);
+        readers.shutdown();
+        writer.shutdown();
+        stopped.countDown();
+        logger.info("Stopped serving the API");
+    }
+
+    /**
+     * Blocks until the server is stopped, either by {@link #stop()} or by a command that exits the application.
+     */
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the token that requests to {@value #PATH_COMMANDS} must carry in the {@value #HEADER_TOKEN} header.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!isLoopbackHost(exchange.getRequestHeaders().getFirst("Host"))) {
+                sendError(exchange, STATUS_FORBIDDEN, String.format(MESSAGE_FORBIDDEN_HOST, getPort()));
+                return;
+            }
+            if (exchange.getRequestHeaders().containsKey("Origin")) {
+                sendError(exchange, STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_ORIGIN);
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            switch (path) {
+            case PATH_PERSONS -> handlePersons(exchange);
+            case PATH_EVENTS -> handleTimedEvents(exchange);
+            case PATH_COMMANDS -> handleCommand(exchange);
+            default -> sendError(exchange, STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to answer an API request: " + e.getMessage());
+        }
+    }
+
+    private void handlePersons(HttpExchange exchange) throws IOException {
+        if (!isMethod(exchange, "GET")) {
+            return;
+        }
+        List<Person> persons = logic.getAddressBookSnapshot().getPersonList();
+        String query = getQueryParameter(exchange, PARAMETER_QUERY);
+
+        Stream<Person> selected;
+        try {
+            selected = query == null ? persons.stream() : new QueryParser().parse(query).select(persons);
+        } catch (ParseException e) {
+            sendError(exchange, STATUS_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        JsonStreamWriter.writePersons(selected.iterator(), startJsonResponse(exchange, STATUS_OK));
+    }
+
+    private void handleTimedEvents(HttpExchange exchange) throws IOException {
+        if (!isMethod(exchange, "GET")) {
+            return;
+        }
+        List<TimedEvent> timedEvents = logic.getAddressBookSnapshot().getTimedEventList();
+        JsonStreamWriter.writeTimedEvents(timedEvents.iterator(), startJsonResponse(exchange, STATUS_OK));
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        if (!isMethod(exchange, "POST")) {
+            return;
+        }
+        if (!isToken(exchange.getRequestHeaders().getFirst(HEADER_TOKEN))) {
+            sendError(exchange, STATUS_FORBIDDEN, MESSAGE_INVALID_TOKEN);
+            return;
+        }
+        String commandText;
+        try (InputStream body = exchange.getRequestBody()) {
+            commandText = new String(body.readAllBytes(), StandardCharsets.UTF_8).strip();
+        }
+        if (commandText.isEmpty()) {
+            sendError(exchange, STATUS_BAD_REQUEST, MESSAGE_EMPTY_COMMAND);
+            return;
+        }
+
+        CommandResult commandResult;
+        try {
+            commandResult = writer.submit(() -> logic.execute(commandText)).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                sendError(exchange, STATUS_BAD_REQUEST, cause.getMessage());
+                return;
+            }
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, STATUS_UNAVAILABLE, MESSAGE_INTERRUPTED);
+            return;
+        }
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(startJsonResponse(exchange, STATUS_OK))) {
+            generator.writeStartObject();
+            generator.writeStringField("feedback", commandResult.getFeedbackToUser());
+            generator.writeBooleanField("exit", commandResult.isExit());
+            generator.writeEndObject();
+        }
+        if (commandResult.isExit()) {
+            // Stopping waits for the requests being served, including this one, so it cannot be done here
+            new Thread(this::stop).start();
+        }
+    }
+
+    /**
+     * Returns true if {@code host}, the value of a {@code Host} header, names the loopback address and this server's
+     * port. A page on another site that was made to resolve to the loopback address still sends its own host name.
+     */
+    private boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        String normalizedHost = host.strip().toLowerCase(Locale.ROOT);
+        return LOOPBACK_HOST_NAMES.stream().anyMatch(name -> normalizedHost.equals(name + ":" + getPort()));
+    }
+
+    /**
+     * Returns true if {@code candidate} is this server's token, taking the same time whichever characters differ.
+     */
+    private boolean isToken(String candidate) {
+        return candidate != null && MessageDigest.isEqual(
+                candidate.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTE_COUNT];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Returns true if {@code exchange} is a request of {@code method}, or answers it with an error otherwise.
+     */
+    private static boolean isMethod(HttpExchange exchange, String method) throws IOException {
+        if (exchange.getRequestMethod().equalsIgnoreCase(method)) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", method);
+        sendError(exchange, STATUS_METHOD_NOT_ALLOWED,
+                String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestURI().getPath(), method));
+        return false;
+    }
+
+    /**
+     * Returns the decoded value of the query string parameter {@code name} of {@code exchange}, or null if there is
+     * none.
+     */
+    private static String getQueryParameter(HttpExchange exchange, String name) {
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            String key = separator < 0 ? parameter : parameter.substring(0, separator);
+            if (URLDecoder.decode(key, StandardCharsets.UTF_8).equals(name)) {
+                String value = separator < 0 ? "" : parameter.substring(separator + 1);
+                return URLDecoder.decode(value, StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sends the headers of a JSON response with {@code status} and returns the stream to write its body to, which
+     * is sent in chunks as it is written.
+     */
+    private static OutputStream startJsonResponse(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        return exchange.getResponseBody();
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(startJsonResponse(exchange, status))) {
+            generator.writeStartObject();
+            generator.writeStringField("error", message);
+            generator.writeEndObject();
+        }
+    }
+}
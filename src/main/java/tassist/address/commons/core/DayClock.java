@@ -0,0 +1,113 @@
+package tassist.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Publishes the current date, which everything that depends on "today" (overdue events, remaining times) reads
+ * instead of asking the system clock for the time.
+ * The date is worked out once per day: until the next midnight, {@link #today()} only compares the clock's millis
+ * with the start of the next day. Listeners are told about a new day when {@link #tick()} sees one, so they can
+ * refresh everything that depends on the date in one batch.
+ */
+public class DayClock {
+
+    private static final DayClock SYSTEM = new DayClock(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private final List<Consumer<LocalDate>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Day day;
+    /** The date the listeners were last told about. */
+    private LocalDate announcedDate;
+
+    /**
+     * Creates a {@code DayClock} that reads the date from {@code clock}.
+     */
+    public DayClock(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        this.day = Day.of(clock);
+        this.announcedDate = day.date;
+    }
+
+    /**
+     * Returns the clock of the system's default time zone, which the application uses.
+     */
+    public static DayClock system() {
+        return SYSTEM;
+    }
+
+    /**
+     * Returns today's date.
+     */
+    public LocalDate today() {
+        Day currentDay = day;
+        if (clock.millis() < currentDay.nextDayMillis) {
+            return currentDay.date;
+        }
+        return refresh().date;
+    }
+
+    /**
+     * Returns the number of milliseconds until the next day starts.
+     */
+    public long getMillisUntilNextDay() {
+        return Math.max(0, day.nextDayMillis - clock.millis());
+    }
+
+    /**
+     * Registers a listener that is called with the new date on the thread that calls {@link #tick()} when it sees
+     * that the day changed.
+     */
+    public void addListener(Consumer<LocalDate> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Checks whether the day changed since the listeners were last told, and tells them if it did.
+     * This is meant to be called at midnight.
+     *
+     * @return true if the day changed.
+     */
+    public synchronized boolean tick() {
+        LocalDate date = today();
+        if (date.equals(announcedDate)) {
+            return false;
+        }
+        announcedDate = date;
+        listeners.forEach(listener -> listener.accept(date));
+        return true;
+    }
+
+    private synchronized Day refresh() {
+        if (clock.millis() >= day.nextDayMillis) {
+            day = Day.of(clock);
+        }
+        return day;
+    }
+
+    /**
+     * Represents a date and when the day after it starts.
+     */
+    private static class Day {
+        private final LocalDate date;
+        private final long nextDayMillis;
+
+        private Day(LocalDate date, long nextDayMillis) {
+            this.date = date;
+            this.nextDayMillis = nextDayMillis;
+        }
+
+        private static Day of(Clock clock) {
+            LocalDate date = LocalDate.now(clock);
+            long nextDayMillis = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            return new Day(date, nextDayMillis);
+        }
+    }
+}
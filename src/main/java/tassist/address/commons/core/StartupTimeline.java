@@ -0,0 +1,121 @@
+package tassist.address.commons.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each phase of the startup takes and on which thread, so the log shows which phases ran in
+ * parallel and which one bounded the startup time.
+ * Phases can be measured from several threads at once.
+ */
+public class StartupTimeline {
+
+    private final long startNanos;
+    private final List<Phase> phases = new ArrayList<>();
+
+    /**
+     * Creates a timeline whose time starts now.
+     */
+    public StartupTimeline() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Runs {@code task} on the current thread as the phase {@code name}, and returns its result.
+     */
+    public <T> T measure(String name, Supplier<T> task) {
+        long phaseStartNanos = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            record(name, phaseStartNanos, System.nanoTime());
+        }
+    }
+
+    /**
+     * Runs {@code task} on the current thread as the phase {@code name}.
+     */
+    public void measure(String name, Runnable task) {
+        measure(name, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private synchronized void record(String name, long phaseStartNanos, long phaseEndNanos) {
+        phases.add(new Phase(name, Thread.currentThread().getName(),
+                toMillis(phaseStartNanos - startNanos), toMillis(phaseEndNanos - startNanos)));
+    }
+
+    /**
+     * Returns the number of milliseconds since the timeline started.
+     */
+    public long getElapsedMillis() {
+        return toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    /**
+     * Returns the phases measured so far, ordered by when they started.
+     */
+    public synchronized List<Phase> getPhases() {
+        List<Phase> sortedPhases = new ArrayList<>(phases);
+        sortedPhases.sort(Comparator.comparingLong(Phase::getStartMillis));
+        return sortedPhases;
+    }
+
+    /**
+     * Returns one line per phase with its start and end since the timeline started, its duration and its thread.
+     */
+    @Override
+    public String toString() {
+        StringBuilder timeline = new StringBuilder("Startup timeline (" + getElapsedMillis() + " ms):");
+        for (Phase phase : getPhases()) {
+            timeline.append(String.format("%n  %1$6d - %2$6d ms  %3$6d ms  %4$s [%5$s]", phase.startMillis,
+                    phase.endMillis, phase.getDurationMillis(), phase.name, phase.threadName));
+        }
+        return timeline.toString();
+    }
+
+    /**
+     * Represents a measured phase, timed in milliseconds since the timeline started.
+     */
+    public static class Phase {
+        private final String name;
+        private final String threadName;
+        private final long startMillis;
+        private final long endMillis;
+
+        private Phase(String name, String threadName, long startMillis, long endMillis) {
+            this.name = name;
+            this.threadName = threadName;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        public long getEndMillis() {
+            return endMillis;
+        }
+
+        public long getDurationMillis() {
+            return endMillis - startMillis;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package tassist.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,34 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the {@code k} smallest elements of {@code items} by {@code comparator}, in order, or all of them if
+     * there are fewer than {@code k}.
+     * The elements are picked with a heap that never holds more than {@code k} elements, which takes O(n log k)
+     * time instead of the O(n log n) of sorting every element.
+     */
+    public static <T> List<T> selectSmallest(Collection<? extends T> items, int k, Comparator<? super T> comparator) {
+        requireAllNonNull(items, comparator);
+        checkArgument(k >= 0, "The number of elements to select must not be negative");
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+
+        Comparator<T> order = comparator::compare;
+        // The heap is ordered largest first, so the largest of the k smallest elements so far can be replaced
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.min(k, Math.max(1, items.size())), order.reversed());
+        for (T item : items) {
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+
+        List<T> smallest = new ArrayList<>(heap);
+        smallest.sort(order);
+        return smallest;
+    }
 }
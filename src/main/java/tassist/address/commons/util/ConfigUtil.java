@@ -20,4 +20,11 @@ public class ConfigUtil {
         JsonUtil.saveJsonFile(config, configFilePath);
     }
 
+    /**
+     * Saves {@code config} unless the file at {@code configFilePath} already holds it, returning true if it did.
+     */
+    public static boolean saveConfigIfChanged(Config config, Path configFilePath) throws IOException {
+        return JsonUtil.saveJsonFileIfChanged(config, configFilePath);
+    }
+
 }
@@ -0,0 +1,48 @@
+package tassist.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable observable list over the elements of a {@code PersistentList}, which never changes and so never
+ * notifies its listeners. Creating one copies nothing, and since the elements cannot change it can be read from any
+ * thread without locking.
+ *
+ * @param <E> the type of the elements.
+ */
+public class ImmutableObservableList<E> extends ObservableListBase<E> {
+
+    private final PersistentList<E> elements;
+
+    /**
+     * Creates a list of the elements of {@code elements}, in order.
+     */
+    public ImmutableObservableList(PersistentList<E> elements) {
+        requireNonNull(elements);
+        this.elements = elements;
+    }
+
+    /**
+     * Returns the element at {@code index}, in O(log n).
+     */
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns an iterator over the elements that walks the list in O(n) overall, rather than looking up each index.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+}
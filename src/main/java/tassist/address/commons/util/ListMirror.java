@@ -0,0 +1,104 @@
+package tassist.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable copy of an observable list that is changed on another thread.
+ * Changes to the source list are recorded as they happen, on whichever thread makes them, and are only applied to
+ * the copy by {@link #applyPendingChanges()}, so the copy can be shown by a UI that must only change on its own
+ * thread. Each call applies every change recorded since the last one as a single change of the copy.
+ *
+ * @param <E> the type of the elements.
+ */
+public class ListMirror<E> extends ObservableListBase<E> {
+
+    private final List<E> elements;
+    /** The changes recorded but not applied yet, guarded by this list. */
+    private final List<Edit<E>> pendingEdits = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code source}, which must not be changed while it is being created.
+     */
+    public ListMirror(ObservableList<E> source) {
+        requireNonNull(source);
+        elements = new ArrayList<>(source);
+        source.addListener((ListChangeListener<E>) this::recordChange);
+    }
+
+    private synchronized void recordChange(ListChangeListener.Change<? extends E> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                int to = change.getTo();
+                pendingEdits.add(new Edit<>(from, to - from, new ArrayList<>(change.getList().subList(from, to))));
+            } else {
+                pendingEdits.add(new Edit<>(from, change.getRemovedSize(), new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+    }
+
+    /**
+     * Returns true if the source list changed since the changes were last applied.
+     */
+    public synchronized boolean hasPendingChanges() {
+        return !pendingEdits.isEmpty();
+    }
+
+    /**
+     * Applies the changes recorded since the last call to this copy, notifying its listeners once.
+     * Must be called on the thread the copy is used on.
+     */
+    public void applyPendingChanges() {
+        List<Edit<E>> edits;
+        synchronized (this) {
+            if (pendingEdits.isEmpty()) {
+                return;
+            }
+            edits = new ArrayList<>(pendingEdits);
+            pendingEdits.clear();
+        }
+
+        beginChange();
+        for (Edit<E> edit : edits) {
+            List<E> removedRange = elements.subList(edit.from, edit.from + edit.removedSize);
+            List<E> removed = new ArrayList<>(removedRange);
+            removedRange.clear();
+            elements.addAll(edit.from, edit.added);
+            nextReplace(edit.from, edit.from + edit.added.size(), removed);
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Represents a change of the source list: {@code removedSize} elements from {@code from} replaced by
+     * {@code added}.
+     */
+    private static class Edit<E> {
+        private final int from;
+        private final int removedSize;
+        private final List<E> added;
+
+        private Edit(int from, int removedSize, List<E> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+    }
+}
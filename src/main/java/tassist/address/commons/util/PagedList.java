@@ -0,0 +1,125 @@
+package tassist.address.commons.util;
+
+import static tassist.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of at most {@code limit} consecutive elements of its source list, starting from {@code offset}.
+ * While the view shows the whole source list, changes to the source are passed on as they are. Otherwise any change
+ * can shift the elements shown, so the view reports it as a replacement of the elements it shows, which costs time
+ * in proportion to the limit rather than to the size of the source list.
+ *
+ * @param <E> the type of the elements.
+ */
+public class PagedList<E> extends TransformationList<E, E> {
+
+    private int offset;
+    private int limit = Integer.MAX_VALUE;
+    /** The elements shown, kept only while the view does not show the whole source list. */
+    private List<E> shown;
+
+    public PagedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Shows at most {@code limit} elements starting from {@code offset}. A limit of {@code Integer.MAX_VALUE} shows
+     * every element from the offset on.
+     */
+    public void setWindow(int offset, int limit) {
+        checkArgument(offset >= 0 && limit > 0, "The offset must not be negative and the limit must be positive");
+        if (offset == this.offset && limit == this.limit) {
+            return;
+        }
+        List<E> previouslyShown = new ArrayList<>(this);
+        this.offset = offset;
+        this.limit = limit;
+        fireReplaced(previouslyShown);
+    }
+
+    private boolean isShowingAll() {
+        return offset == 0 && limit == Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, Math.min(getSource().size() - offset, limit));
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        return getSource().get(offset + index);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        return offset + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = index - offset;
+        return viewIndex >= 0 && viewIndex < size() ? viewIndex : -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void sourceChanged(Change<? extends E> change) {
+        if (!isShowingAll()) {
+            fireReplaced(shown);
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), (List<E>) change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), (List<E>) change.getRemoved());
+            } else if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Reports that the elements shown, which used to be {@code previouslyShown}, were replaced.
+     */
+    private void fireReplaced(List<E> previouslyShown) {
+        shown = isShowingAll() ? null : new ArrayList<>(this);
+        if (previouslyShown.isEmpty() && isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, size(), previouslyShown);
+        endChange();
+    }
+}
@@ -0,0 +1,353 @@
+package tassist.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list that shares its structure with the lists it was derived from.
+ * The elements are kept in a balanced tree, so changing, inserting or removing one element only copies the
+ * O(log n) nodes on the path to it, and keeping many versions of a list costs memory in proportion to the changes
+ * between them rather than to their size.
+ *
+ * @param <T> the type of the elements, which are compared by identity when deriving a new version.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null, 0);
+
+    private final Node<T> root;
+    private final int newNodeCount;
+
+    private PersistentList(Node<T> root, int newNodeCount) {
+        this.root = root;
+        this.newNodeCount = newNodeCount;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in order, which shares no structure with any other list.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        requireNonNull(elements);
+        Editor<T> editor = new Editor<>();
+        return editor.toList(editor.build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the number of nodes this list does not share with the list it was derived from.
+     */
+    public int getNewNodeCount() {
+        return newNodeCount;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> set(int index, T element) {
+        Objects.checkIndex(index, size());
+        Editor<T> editor = new Editor<>();
+        return editor.toList(editor.set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, which may be the size of this list.
+     */
+    public PersistentList<T> insert(int index, T element) {
+        Objects.checkIndex(index, size() + 1);
+        Editor<T> editor = new Editor<>();
+        return editor.toList(editor.insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     */
+    public PersistentList<T> remove(int index) {
+        Objects.checkIndex(index, size());
+        Editor<T> editor = new Editor<>();
+        return editor.toList(editor.remove(root, index));
+    }
+
+    /**
+     * Returns a list with the {@code removedSize} elements from {@code from} replaced by {@code added}, such as after
+     * one change reported by an observable list. Only the nodes on the paths to the changed positions are copied,
+     * and positions given the same element again, compared by identity, are left as they are.
+     */
+    public PersistentList<T> replace(int from, int removedSize, List<? extends T> added) {
+        requireNonNull(added);
+        Objects.checkFromIndexSize(from, removedSize, size());
+        Editor<T> editor = new Editor<>();
+        Node<T> newRoot = root;
+        int replacedSize = Math.min(removedSize, added.size());
+        for (int i = 0; i < replacedSize; i++) {
+            if (get(from + i) != added.get(i)) {
+                newRoot = editor.set(newRoot, from + i, added.get(i));
+            }
+        }
+        for (int i = replacedSize; i < removedSize; i++) {
+            newRoot = editor.remove(newRoot, from + replacedSize);
+        }
+        for (int i = replacedSize; i < added.size(); i++) {
+            newRoot = editor.insert(newRoot, from + i, added.get(i));
+        }
+
+        return newRoot == root ? this : editor.toList(newRoot);
+    }
+
+    /**
+     * Returns a list of {@code elements}, in order, that shares the nodes of this list wherever the same elements
+     * are at the same positions. Elements are compared by identity.
+     * The new list only allocates nodes for the elements that changed, unless so many changed that building the
+     * list afresh is cheaper.
+     */
+    public PersistentList<T> withElements(List<? extends T> elements) {
+        requireNonNull(elements);
+        List<T> oldElements = toList();
+        int oldSize = oldElements.size();
+        int newSize = elements.size();
+        Editor<T> editor = new Editor<>();
+        Node<T> newRoot = root;
+
+        if (oldSize == newSize) {
+            // Elements were replaced in place, so only the changed positions are copied
+            List<Integer> changedPositions = new ArrayList<>();
+            for (int i = 0; i < newSize; i++) {
+                if (oldElements.get(i) != elements.get(i)) {
+                    changedPositions.add(i);
+                }
+            }
+            if (changedPositions.size() > newSize / 2) {
+                return of(elements);
+            }
+            for (int position : changedPositions) {
+                newRoot = editor.set(newRoot, position, elements.get(position));
+            }
+        } else {
+            // Elements were added or removed, so only the range between the unchanged ends is replaced
+            int prefix = 0;
+            while (prefix < oldSize && prefix < newSize && oldElements.get(prefix) == elements.get(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < oldSize - prefix && suffix < newSize - prefix
+                    && oldElements.get(oldSize - 1 - suffix) == elements.get(newSize - 1 - suffix)) {
+                suffix++;
+            }
+            if ((oldSize - prefix - suffix) + (newSize - prefix - suffix) > newSize) {
+                return of(elements);
+            }
+            for (int i = prefix; i < oldSize - suffix; i++) {
+                newRoot = editor.remove(newRoot, prefix);
+            }
+            for (int i = prefix; i < newSize - suffix; i++) {
+                newRoot = editor.insert(newRoot, i, elements.get(i));
+            }
+        }
+
+        return newRoot == root ? this : editor.toList(newRoot);
+    }
+
+    /**
+     * Returns the elements of this list in a new mutable list.
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(size());
+        forEach(elements::add);
+        return elements;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Deque<Node<T>> path = new ArrayDeque<>();
+        for (Node<T> node = root; node != null; node = node.left) {
+            path.push(node);
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                for (Node<T> next = node.right; next != null; next = next.left) {
+                    path.push(next);
+                }
+                return node.value;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * A node of the tree, holding one element and the subtrees of the elements before and after it.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        private static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+    }
+
+    /**
+     * Derives new trees from existing ones by copying the nodes on the paths it changes, counting the nodes it
+     * creates. The tree is kept balanced as an AVL tree ordered by position.
+     */
+    private static final class Editor<T> {
+        private int newNodeCount;
+
+        private PersistentList<T> toList(Node<T> root) {
+            return root == null ? empty() : new PersistentList<>(root, newNodeCount);
+        }
+
+        private Node<T> node(T value, Node<T> left, Node<T> right) {
+            newNodeCount++;
+            return new Node<>(value, left, right);
+        }
+
+        private Node<T> build(List<? extends T> elements, int from, int to) {
+            if (from >= to) {
+                return null;
+            }
+            int middle = (from + to) >>> 1;
+            return node(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+        }
+
+        private Node<T> set(Node<T> node, int index, T element) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                return node(node.value, set(node.left, index, element), node.right);
+            } else if (index > leftSize) {
+                return node(node.value, node.left, set(node.right, index - leftSize - 1, element));
+            } else {
+                return node(element, node.left, node.right);
+            }
+        }
+
+        private Node<T> insert(Node<T> node, int index, T element) {
+            if (node == null) {
+                return node(element, null, null);
+            }
+            int leftSize = Node.size(node.left);
+            if (index <= leftSize) {
+                return balance(node.value, insert(node.left, index, element), node.right);
+            } else {
+                return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+            }
+        }
+
+        private Node<T> remove(Node<T> node, int index) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                return balance(node.value, remove(node.left, index), node.right);
+            } else if (index > leftSize) {
+                return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+            } else if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            } else {
+                Node<T> first = node.right;
+                while (first.left != null) {
+                    first = first.left;
+                }
+                return balance(first.value, node.left, removeFirst(node.right));
+            }
+        }
+
+        private Node<T> removeFirst(Node<T> node) {
+            if (node.left == null) {
+                return node.right;
+            }
+            return balance(node.value, removeFirst(node.left), node.right);
+        }
+
+        /**
+         * Returns a node of {@code value} between {@code left} and {@code right}, rotating it if the heights of the
+         * subtrees differ by two, which is the most a single insertion or removal can cause.
+         */
+        private Node<T> balance(T value, Node<T> left, Node<T> right) {
+            if (Node.height(left) > Node.height(right) + 1) {
+                if (Node.height(left.left) >= Node.height(left.right)) {
+                    return node(left.value, left.left, node(value, left.right, right));
+                }
+                Node<T> pivot = left.right;
+                return node(pivot.value, node(left.value, left.left, pivot.left), node(value, pivot.right, right));
+            }
+            if (Node.height(right) > Node.height(left) + 1) {
+                if (Node.height(right.right) >= Node.height(right.left)) {
+                    return node(right.value, node(value, left, right.left), right.right);
+                }
+                Node<T> pivot = right.left;
+                return node(pivot.value, node(value, left, pivot.left), node(right.value, pivot.right, right.right));
+            }
+            return node(value, left, right);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package tassist.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import tassist.address.commons.core.GuiSettings;
 import tassist.address.logic.commands.CommandResult;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.person.Person;
 import tassist.address.model.timedevents.TimedEvent;
@@ -24,6 +27,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as a single transaction and returns the result.
+     * Either every command takes effect and the data is saved once, or the data is left unchanged.
+     * @param commandTexts The commands as they would be entered by the user, one per element.
+     * @return the result of the script execution.
+     * @throws CommandException If any command fails, or an error occurs while saving.
+     */
+    CommandResult executeScript(List<String> commandTexts) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -31,9 +43,39 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the AddressBook as of the last command, which can be read from any thread.
+     *
+     * @see tassist.address.model.Model#getAddressBookSnapshot()
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Shows the persons matching {@code predicate} that fall in the window shown, without recording or saving
+     * anything as a command would.
+     * Like the commands, this must only be called on the thread that executes them.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /** Returns the filter of the filtered list of persons */
+    Predicate<Person> getFilteredPersonPredicate();
+
+    /**
+     * Shows the persons of the filtered list that fall in {@code window}, without recording or saving anything as a
+     * command would.
+     * Like the commands, this must only be called on the thread that executes them.
+     */
+    void updatePersonListWindow(PersonListWindow window);
+
+    /** Returns the window of the filtered list of persons that is shown */
+    PersonListWindow getPersonListWindow();
+
+    /** Returns the number of persons in the filtered list, including those outside the window shown */
+    int getMatchingPersonCount();
+
     /** Returns an unmodifiable view of the timed event list */
     ObservableList<TimedEvent> getTimedEventList();
 
@@ -5,6 +5,8 @@ import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,10 +19,12 @@ import tassist.address.logic.commands.CommandResult;
 import tassist.address.logic.commands.ConfirmableCommand;
 import tassist.address.logic.commands.ImportCommand;
 import tassist.address.logic.commands.OpenCommand;
+import tassist.address.logic.commands.RunCommand;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.logic.parser.AddressBookParser;
 import tassist.address.logic.parser.exceptions.ParseException;
 import tassist.address.model.Model;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.person.Person;
 import tassist.address.model.timedevents.TimedEvent;
@@ -68,7 +72,9 @@ public class LogicManager implements Logic {
             if (commandText.equalsIgnoreCase("Y")) {
                 ConfirmableCommand confirmedCommand = pendingConfirmation;
                 pendingConfirmation = null;
-                return confirmedCommand.executeConfirmed(model);
+                CommandResult confirmedResult = confirmedCommand.executeConfirmed(model);
+                model.commitAddressBook();
+                return confirmedResult;
             } else if (commandText.equalsIgnoreCase("N")) {
                 pendingConfirmation = null;
                 return new CommandResult("Action cancelled.");
@@ -93,20 +99,37 @@ public class LogicManager implements Logic {
         }
 
         commandResult = command.execute(model);
+        // Undo and redo restore a recorded state, which commitAddressBook recognises and does not record again
+        model.commitAddressBook();
 
         if (commandResult.requiresConfirmation()) {
             pendingConfirmation = commandResult.getPendingConfirmation();
         }
 
+        saveAddressBook();
+
+        return commandResult;
+    }
+
+    @Override
+    public CommandResult executeScript(List<String> commandTexts) throws CommandException {
+        logger.info("----------------[USER SCRIPT][" + commandTexts.size() + " line(s)]");
+
+        CommandResult commandResult = new RunCommand(commandTexts).execute(model);
+        model.commitAddressBook();
+        saveAddressBook();
+
+        return commandResult;
+    }
+
+    private void saveAddressBook() throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(model.getAddressBookSnapshot());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -114,11 +137,41 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        model.updateFilteredPersonList(predicate);
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonPredicate() {
+        return model.getFilteredPersonPredicate();
+    }
+
+    @Override
+    public void updatePersonListWindow(PersonListWindow window) {
+        model.updatePersonListWindow(window);
+    }
+
+    @Override
+    public PersonListWindow getPersonListWindow() {
+        return model.getPersonListWindow();
+    }
+
+    @Override
+    public int getMatchingPersonCount() {
+        return model.getMatchingPersonCount();
+    }
+
     @Override
     public ObservableList<TimedEvent> getTimedEventList() {
         return model.getTimedEventList();
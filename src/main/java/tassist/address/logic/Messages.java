@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import tassist.address.logic.parser.Prefix;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.person.Person;
 
 /**
@@ -18,6 +19,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_TIMED_EVENT_DISPLAYED_INDEX =
             "The timed event index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d students listed!";
+    public static final String MESSAGE_PERSONS_WINDOW = "Showing students %1$d to %2$d of %3$d (page %4$d of %5$d).";
+    public static final String MESSAGE_PERSONS_WINDOW_EMPTY = "No students on page %1$d, the list has %2$d page(s).";
     public static final String MESSAGE_PERSON_NOT_FOUND = "Student not found with id: ";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
@@ -38,6 +41,22 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns a summary of the students shown by {@code window} out of {@code matchCount} students, or an empty string
+     * if the window shows every student.
+     */
+    public static String formatWindow(PersonListWindow window, int matchCount) {
+        if (window.equals(PersonListWindow.ALL)) {
+            return "";
+        }
+        int shownCount = window.getShownCount(matchCount);
+        if (shownCount == 0) {
+            return String.format(MESSAGE_PERSONS_WINDOW_EMPTY, window.getPageNumber(), window.getPageCount(matchCount));
+        }
+        return String.format(MESSAGE_PERSONS_WINDOW, window.getOffset() + 1, window.getOffset() + shownCount,
+                matchCount, window.getPageNumber(), window.getPageCount(matchCount));
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
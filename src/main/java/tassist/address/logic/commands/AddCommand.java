@@ -79,12 +79,12 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        boolean emailExists = model.getFilteredPersonList().stream()
+        boolean emailExists = model.getAddressBook().getPersonList().stream()
                 .anyMatch(person -> person.getEmail().equals(toAdd.getEmail()));
-        boolean phoneExists = model.getFilteredPersonList().stream()
+        boolean phoneExists = model.getAddressBook().getPersonList().stream()
                 .anyMatch(person -> person.getPhone().equals(toAdd.getPhone()));
         boolean githubExists = !toAdd.getGithub().value.equals(Github.NO_GITHUB)
-                && model.getFilteredPersonList().stream()
+                && model.getAddressBook().getPersonList().stream()
                 .anyMatch(person -> person.getGithub().equals(toAdd.getGithub()));
         if (emailExists) {
             throw new CommandException(MESSAGE_EXISTING_EMAIL);
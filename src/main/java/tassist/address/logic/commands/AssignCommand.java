@@ -2,87 +2,92 @@ package tassist.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import tassist.address.commons.core.index.Index;
+import tassist.address.commons.util.ToStringBuilder;
 import tassist.address.logic.Messages;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.Model;
 import tassist.address.model.person.ClassNumber;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.ProjectTeam;
 import tassist.address.model.person.StudentId;
+import tassist.address.model.tag.Tag;
 import tassist.address.model.timedevents.TimedEvent;
-import tassist.address.model.timedevents.exceptions.DuplicateTimedEventException;
 
 /**
- * Assigns a timed event to one or more students identified by their index, student ID, or class number.
+ * Assigns a timed event to one or more students identified by their index, index range, student ID, class number,
+ * project team or tag.
  */
 public class AssignCommand extends Command {
 
     public static final String COMMAND_WORD = "assign";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Assigns a timed event to one or more students identified by by the index number "
-            + "used in the displayed person list., student ID, or class number\n"
-            + "Parameters: \nSTUDENT_INDEX (must be a positive integer) or STUDENT_ID or CLASS_NUMBER\n"
+            + ": Assigns a timed event to one or more students identified by the index number "
+            + "used in the displayed person list, an index range, student ID, class number, project team or tag\n"
+            + "Parameters: \nSTUDENTS (comma-separated STUDENT_INDEX, START-END, STUDENT_ID or CLASS_NUMBER)\n"
             + "TIMED_EVENT_INDEX (must be a positive integer)\n"
+            + "[pt/PROJECT_TEAM]... [t/TAG]... (STUDENTS may be left out if one of these is given)\n"
             + "Example: \n" + COMMAND_WORD + " 1 2\n"
             + "or: " + COMMAND_WORD + " A1234567B 1\n"
-            + "or: " + COMMAND_WORD + " T01 1";
+            + "or: " + COMMAND_WORD + " T01 1\n"
+            + "or: " + COMMAND_WORD + " 1-20,A1234567B,T02 1\n"
+            + "or: " + COMMAND_WORD + " 1 pt/Team Alpha t/repeat";
 
     public static final String MESSAGE_ASSIGN_SUCCESS = "Assigned timed event to student: %1$s";
+    public static final String MESSAGE_ASSIGN_SUMMARY = "Assigned timed event %1$s to %2$d student(s)";
+    public static final String MESSAGE_ALREADY_ASSIGNED = "%1$d student(s) already had this timed event";
     public static final String MESSAGE_DUPLICATE_ASSIGNMENT = "This assignment is already assigned to the student";
     public static final String MESSAGE_NO_STUDENTS_IN_CLASS = "No students found in class: %1$s";
+    public static final String MESSAGE_NO_STUDENTS_IN_PROJECT_TEAM = "No students found in project team: %1$s";
+    public static final String MESSAGE_NO_STUDENTS_WITH_TAG = "No students found with tag: %1$s";
     public static final String MESSAGE_ASSIGN_FAILED_OVERDUE_ASSIGNMENT = "Cannot assign an overdue timed event: %1$s";
 
     private final Index timedEventIndex;
-    private final Index studentIndex;
-    private final StudentId studentId;
-    private final ClassNumber classNumber;
+    private final StudentSelection studentSelection;
 
     /**
      * Creates an AssignCommand using a timed event index and a student index.
      */
     public AssignCommand(Index timedEventIndex, Index studentIndex) {
-        requireNonNull(timedEventIndex);
-        requireNonNull(studentIndex);
-        this.timedEventIndex = timedEventIndex;
-        this.studentIndex = studentIndex;
-        this.studentId = null;
-        this.classNumber = null;
+        this(timedEventIndex, new StudentSelection().addIndex(requireNonNull(studentIndex)));
     }
 
     /**
      * Creates an AssignCommand using a timed event index and a student ID.
      */
     public AssignCommand(Index timedEventIndex, StudentId studentId) {
-        requireNonNull(timedEventIndex);
-        requireNonNull(studentId);
-        this.timedEventIndex = timedEventIndex;
-        this.studentIndex = null;
-        this.studentId = studentId;
-        this.classNumber = null;
+        this(timedEventIndex, new StudentSelection().addStudentId(requireNonNull(studentId)));
     }
 
     /**
      * Creates an AssignCommand using a timed event index and a class number.
      */
     public AssignCommand(Index timedEventIndex, ClassNumber classNumber) {
+        this(timedEventIndex, new StudentSelection().addClassNumber(requireNonNull(classNumber)));
+    }
+
+    /**
+     * Creates an AssignCommand using a timed event index and the students selected by {@code studentSelection}.
+     */
+    public AssignCommand(Index timedEventIndex, StudentSelection studentSelection) {
         requireNonNull(timedEventIndex);
-        requireNonNull(classNumber);
+        requireNonNull(studentSelection);
         this.timedEventIndex = timedEventIndex;
-        this.studentIndex = null;
-        this.studentId = null;
-        this.classNumber = classNumber;
+        this.studentSelection = new StudentSelection(studentSelection);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<TimedEvent> timedEvents = model.getTimedEventList();
-        List<Person> lastShownList = model.getFilteredPersonList();
 
         // Check if timed event index is valid
         if (timedEventIndex.getZeroBased() >= timedEvents.size()) {
@@ -94,66 +99,42 @@ public class AssignCommand extends Command {
             throw new CommandException(String.format(MESSAGE_ASSIGN_FAILED_OVERDUE_ASSIGNMENT, targetEvent.getName()));
         }
 
-        StringBuilder resultMessage = new StringBuilder();
-
-        if (studentIndex != null) {
-            // Assign to single student by index
-            if (studentIndex.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-            }
-            Person targetStudent = lastShownList.get(studentIndex.getZeroBased());
-            try {
-                targetStudent.addTimedEvent(targetEvent);
-                model.setPerson(targetStudent, targetStudent);
-                resultMessage.append(String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(targetStudent)));
-            } catch (DuplicateTimedEventException e) {
-                resultMessage.append(String.format(MESSAGE_DUPLICATE_ASSIGNMENT));
-            }
-        } else if (studentId != null) {
-            // Assign to single student by ID
-            Optional<Person> personOptional = lastShownList.stream()
-                    .filter(person -> person.getStudentId().equals(studentId))
-                    .findFirst();
-
-            if (personOptional.isEmpty()) {
-                throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
-            }
-            Person targetStudent = personOptional.get();
-            try {
-                targetStudent.addTimedEvent(targetEvent);
-                resultMessage.append(String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(targetStudent)));
-                model.setPerson(targetStudent, targetStudent);
-            } catch (DuplicateTimedEventException e) {
-                resultMessage.append(String.format(MESSAGE_DUPLICATE_ASSIGNMENT));
-            }
-        } else if (classNumber != null) {
-            // Assign to all students in class using streams
-            List<Person> studentsInClass = lastShownList.stream()
-                    .filter(person -> person.getClassNumber().equals(classNumber))
-                    .toList();
-            if (studentsInClass.isEmpty()) {
-                throw new CommandException(String.format(MESSAGE_NO_STUDENTS_IN_CLASS, classNumber));
+        List<Person> targetStudents = studentSelection.select(model.getFilteredPersonList(),
+                model.getMatchingPersons(), model.getAddressBook().getPersonList());
+        List<Person> editedStudents = new ArrayList<>();
+        for (Person student : targetStudents) {
+            if (!student.hasTimedEvent(targetEvent)) {
+                editedStudents.add(student.withTimedEventAdded(targetEvent));
             }
+        }
 
-            // Process each student and collect results
-            String results = studentsInClass.stream()
-                    .map(student -> {
-                        try {
-                            student.addTimedEvent(targetEvent);
-                            model.setPerson(student, student);
-                            return String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(student));
-                        } catch (DuplicateTimedEventException e) {
-                            return MESSAGE_DUPLICATE_ASSIGNMENT;
-                        }
-                    })
-                    .reduce((a, b) -> a + "\n" + b)
-                    .orElse("");
+        // All students are updated together, so the person list only reports a single change
+        if (!editedStudents.isEmpty()) {
+            model.updatePersons(editedStudents);
+        }
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+
+        return new CommandResult(createResultMessage(targetEvent, targetStudents, editedStudents.size()));
+    }
 
-            resultMessage.append(results);
+    /**
+     * Describes the single student assigned, or summarises the number of students assigned when there are several.
+     */
+    private static String createResultMessage(TimedEvent targetEvent, List<Person> targetStudents,
+            int assignedCount) {
+        int alreadyAssignedCount = targetStudents.size() - assignedCount;
+        if (targetStudents.size() == 1) {
+            return assignedCount == 1
+                    ? String.format(MESSAGE_ASSIGN_SUCCESS, Messages.format(targetStudents.get(0)))
+                    : MESSAGE_DUPLICATE_ASSIGNMENT;
         }
 
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(resultMessage.toString());
+        StringBuilder resultMessage = new StringBuilder(
+                String.format(MESSAGE_ASSIGN_SUMMARY, targetEvent.getName(), assignedCount));
+        if (alreadyAssignedCount > 0) {
+            resultMessage.append('\n').append(String.format(MESSAGE_ALREADY_ASSIGNED, alreadyAssignedCount));
+        }
+        return resultMessage.toString();
     }
 
     @Override
@@ -167,9 +148,202 @@ public class AssignCommand extends Command {
         }
 
         AssignCommand otherAssignCommand = (AssignCommand) other;
-        return Objects.equals(timedEventIndex, otherAssignCommand.timedEventIndex)
-                && Objects.equals(studentIndex, otherAssignCommand.studentIndex)
-                && Objects.equals(studentId, otherAssignCommand.studentId)
-                && Objects.equals(classNumber, otherAssignCommand.classNumber);
+        return timedEventIndex.equals(otherAssignCommand.timedEventIndex)
+                && studentSelection.equals(otherAssignCommand.studentSelection);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("timedEventIndex", timedEventIndex)
+                .add("studentSelection", studentSelection)
+                .toString();
+    }
+
+    /**
+     * Stores the students to assign a timed event to, as a union of index ranges, student IDs, class numbers,
+     * project teams and tags. Indices and ranges refer to the displayed person list, class numbers, project teams and
+     * tags to every student matching its filter, including those on other pages, and student IDs to every student.
+     */
+    public static class StudentSelection {
+        private final List<Index> rangeStarts = new ArrayList<>();
+        private final List<Index> rangeEnds = new ArrayList<>();
+        private final List<StudentId> studentIds = new ArrayList<>();
+        private final List<ClassNumber> classNumbers = new ArrayList<>();
+        private final List<ProjectTeam> projectTeams = new ArrayList<>();
+        private final List<Tag> tags = new ArrayList<>();
+
+        public StudentSelection() {}
+
+        /**
+         * Copy constructor.
+         */
+        public StudentSelection(StudentSelection toCopy) {
+            rangeStarts.addAll(toCopy.rangeStarts);
+            rangeEnds.addAll(toCopy.rangeEnds);
+            studentIds.addAll(toCopy.studentIds);
+            classNumbers.addAll(toCopy.classNumbers);
+            projectTeams.addAll(toCopy.projectTeams);
+            tags.addAll(toCopy.tags);
+        }
+
+        /**
+         * Selects the student at {@code index}.
+         */
+        public StudentSelection addIndex(Index index) {
+            return addIndexRange(index, index);
+        }
+
+        /**
+         * Selects the students from {@code start} to {@code end}, inclusive.
+         * The range is kept as its two ends, so large ranges take no extra space.
+         */
+        public StudentSelection addIndexRange(Index start, Index end) {
+            requireNonNull(start);
+            requireNonNull(end);
+            if (start.getZeroBased() > end.getZeroBased()) {
+                throw new IllegalArgumentException("Index range must not end before it starts");
+            }
+            rangeStarts.add(start);
+            rangeEnds.add(end);
+            return this;
+        }
+
+        /**
+         * Selects the student with {@code studentId}.
+         */
+        public StudentSelection addStudentId(StudentId studentId) {
+            studentIds.add(requireNonNull(studentId));
+            return this;
+        }
+
+        /**
+         * Selects every student in {@code classNumber}.
+         */
+        public StudentSelection addClassNumber(ClassNumber classNumber) {
+            classNumbers.add(requireNonNull(classNumber));
+            return this;
+        }
+
+        /**
+         * Selects every student in {@code projectTeam}.
+         */
+        public StudentSelection addProjectTeam(ProjectTeam projectTeam) {
+            projectTeams.add(requireNonNull(projectTeam));
+            return this;
+        }
+
+        /**
+         * Selects every student with {@code tag}.
+         */
+        public StudentSelection addTag(Tag tag) {
+            tags.add(requireNonNull(tag));
+            return this;
+        }
+
+        /**
+         * Returns true if no students are selected.
+         */
+        public boolean isEmpty() {
+            return rangeStarts.isEmpty() && studentIds.isEmpty() && classNumbers.isEmpty()
+                    && projectTeams.isEmpty() && tags.isEmpty();
+        }
+
+        /**
+         * Returns the selected students, each once, in the order they were first selected.
+         *
+         * @param shownPersons The students displayed, which indices refer to.
+         * @param matchingPersons The students matching the filter of the displayed list, including those on other
+         *     pages, which class numbers, project teams and tags are looked up in.
+         * @param allPersons Every student, which student IDs are looked up in.
+         * @throws CommandException if an index is out of range, a student ID is not found, or a class, project team
+         *     or tag has no students.
+         */
+        private List<Person> select(List<Person> shownPersons, List<Person> matchingPersons, List<Person> allPersons)
+                throws CommandException {
+            Map<StudentId, Person> selected = new LinkedHashMap<>();
+
+            for (int i = 0; i < rangeStarts.size(); i++) {
+                if (rangeEnds.get(i).getZeroBased() >= shownPersons.size()) {
+                    throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+                }
+                for (int j = rangeStarts.get(i).getZeroBased(); j <= rangeEnds.get(i).getZeroBased(); j++) {
+                    selected.putIfAbsent(shownPersons.get(j).getStudentId(), shownPersons.get(j));
+                }
+            }
+
+            if (!studentIds.isEmpty()) {
+                Map<StudentId, Person> personsById = new HashMap<>();
+                allPersons.forEach(person -> personsById.put(person.getStudentId(), person));
+                for (StudentId studentId : studentIds) {
+                    Person person = personsById.get(studentId);
+                    if (person == null) {
+                        throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
+                    }
+                    selected.putIfAbsent(studentId, person);
+                }
+            }
+
+            for (ClassNumber classNumber : classNumbers) {
+                selectMatching(matchingPersons, selected, person -> person.getClassNumber().equals(classNumber),
+                        String.format(MESSAGE_NO_STUDENTS_IN_CLASS, classNumber));
+            }
+            for (ProjectTeam projectTeam : projectTeams) {
+                selectMatching(matchingPersons, selected, person -> person.getProjectTeam().equals(projectTeam),
+                        String.format(MESSAGE_NO_STUDENTS_IN_PROJECT_TEAM, projectTeam));
+            }
+            for (Tag tag : tags) {
+                selectMatching(matchingPersons, selected, person -> person.getTags().contains(tag),
+                        String.format(MESSAGE_NO_STUDENTS_WITH_TAG, tag.tagName));
+            }
+
+            return new ArrayList<>(selected.values());
+        }
+
+        private static void selectMatching(List<Person> persons, Map<StudentId, Person> selected,
+                Predicate<Person> predicate, String messageIfNone) throws CommandException {
+            boolean hasMatch = false;
+            for (Person person : persons) {
+                if (predicate.test(person)) {
+                    selected.putIfAbsent(person.getStudentId(), person);
+                    hasMatch = true;
+                }
+            }
+            if (!hasMatch) {
+                throw new CommandException(messageIfNone);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof StudentSelection)) {
+                return false;
+            }
+
+            StudentSelection otherSelection = (StudentSelection) other;
+            return rangeStarts.equals(otherSelection.rangeStarts)
+                    && rangeEnds.equals(otherSelection.rangeEnds)
+                    && studentIds.equals(otherSelection.studentIds)
+                    && classNumbers.equals(otherSelection.classNumbers)
+                    && projectTeams.equals(otherSelection.projectTeams)
+                    && tags.equals(otherSelection.tags);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("rangeStarts", rangeStarts)
+                    .add("rangeEnds", rangeEnds)
+                    .add("studentIds", studentIds)
+                    .add("classNumbers", classNumbers)
+                    .add("projectTeams", projectTeams)
+                    .add("tags", tags)
+                    .toString();
+        }
     }
 }
@@ -87,7 +87,7 @@ public class ClassCommand extends Command {
             }
             personToEdit = lastShownList.get(index.getZeroBased());
         } else if (studentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream()
+            Optional<Person> personOptional = model.getAddressBook().getPersonList().stream()
                     .filter(person -> person.getStudentId().equals(studentId)).findFirst();
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
@@ -2,16 +2,19 @@ package tassist.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Objects;
 
 import tassist.address.commons.util.ToStringBuilder;
 
 /**
  * Represents the result of a command execution.
+ * The feedback can be given either as one string or as a list of lines, and the other form is built from it.
  */
 public class CommandResult {
 
     private final String feedbackToUser;
+    private final List<String> feedbackLines;
 
     /**
      * Help information should be shown to the user.
@@ -30,6 +33,7 @@ public class CommandResult {
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.feedbackLines = toLines(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.pendingConfirmation = null; // No confirmation required
@@ -40,6 +44,7 @@ public class CommandResult {
      */
     public CommandResult(String feedbackToUser, ConfirmableCommand pendingConfirmation) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.feedbackLines = toLines(feedbackToUser);
         this.showHelp = false;
         this.exit = false;
         this.pendingConfirmation = pendingConfirmation;
@@ -53,10 +58,36 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} whose feedback is the given lines, with other fields set to their default
+     * value.
+     */
+    public CommandResult(List<String> feedbackLines) {
+        this.feedbackLines = List.copyOf(feedbackLines);
+        this.feedbackToUser = String.join("\n", this.feedbackLines);
+        this.showHelp = false;
+        this.exit = false;
+        this.pendingConfirmation = null;
+    }
+
+    /**
+     * Returns the feedback as one string, with its lines separated by line breaks.
+     */
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
 
+    /**
+     * Returns the lines of the feedback.
+     */
+    public List<String> getFeedbackLines() {
+        return feedbackLines;
+    }
+
+    private static List<String> toLines(String feedback) {
+        return List.of(feedback.split("\n", -1));
+    }
+
     public boolean requiresConfirmation() {
         return pendingConfirmation != null;
     }
@@ -69,7 +69,7 @@ public class DeleteCommand extends Command implements ConfirmableCommand {
             personToDelete = lastShownList.get(targetIndex.getZeroBased());
         }
         if (targetStudentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream().filter(
+            Optional<Person> personOptional = model.getAddressBook().getPersonList().stream().filter(
                     person -> person.getStudentId().equals(targetStudentId)).findFirst();
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + targetStudentId);
@@ -96,7 +96,7 @@ public class DeleteCommand extends Command implements ConfirmableCommand {
             personToDelete = lastShownList.get(targetIndex.getZeroBased());
         }
         if (targetStudentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream().filter(
+            Optional<Person> personOptional = model.getAddressBook().getPersonList().stream().filter(
                     person -> person.getStudentId().equals(targetStudentId)).findFirst();
             if (personOptional.isEmpty()) {
                 return new CommandResult(Messages.MESSAGE_PERSON_NOT_FOUND + targetStudentId);
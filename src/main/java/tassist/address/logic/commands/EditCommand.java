@@ -101,7 +101,7 @@ public class EditCommand extends Command {
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
-        for (Person p : model.getFilteredPersonList()) {
+        for (Person p : model.getAddressBook().getPersonList()) {
             if (p.equals(personToEdit)) {
                 continue;
             }
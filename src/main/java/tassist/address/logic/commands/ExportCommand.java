@@ -4,31 +4,44 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Objects;
 
 import tassist.address.logic.Messages;
 import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.AddressBookDelta;
 import tassist.address.model.Model;
 import tassist.address.storage.CsvJsonConverter;
 
 /**
- * Exports the current address book data to a CSV file.
+ * Exports the current address book data to a CSV file, or only the students changed since a point in time.
  */
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
 
+    public static final String FLAG_SINCE = "--since";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Exports the current address book data to a CSV file.\n"
-            + "Parameters: FILE_PATH (must be a valid absolute path to the CSV file)\n"
+            + "Parameters: FILE_PATH (must be a valid absolute path to the CSV file) "
+            + "[" + FLAG_SINCE + " [dd-MM-yyyy [HH:mm]]]\n"
+            + "With " + FLAG_SINCE + ", only the students changed or deleted since the given time "
+            + "(or since the last export) are exported as a delta file.\n"
             + "Example:\n"
             + "(Unix/mac): " + COMMAND_WORD + " /Users/Name/Downloads/file.csv\n"
-            + "(Windows): " + COMMAND_WORD + " C:\\Users\\Name\\Downloads\\file.csv";
+            + "(Windows): " + COMMAND_WORD + " C:\\Users\\Name\\Downloads\\file.csv\n"
+            + "(Delta): " + COMMAND_WORD + " /Users/Name/Downloads/delta.csv " + FLAG_SINCE;
 
     public static final String MESSAGE_EXPORT_SUCCESS = "Successfully exported address book to: %1$s";
+    public static final String MESSAGE_EXPORT_DELTA_SUCCESS =
+            "Successfully exported %1$d changed and %2$d deleted student(s) to: %3$s";
     public static final String MESSAGE_EXPORT_FAILURE = "Failed to export address book.";
     public static final String MESSAGE_PARENT_FOLDER_DOES_NOT_EXIST = "Parent directory does not exist!";
 
     private final Path filePath;
+    private final boolean isDelta;
+    private final LocalDateTime since;
 
     /**
      * Constructs an ExportCommand with a specified file path.
@@ -36,7 +49,20 @@ public class ExportCommand extends Command {
      * @param filePath The destination path of the CSV file to be created.
      */
     public ExportCommand(Path filePath) {
+        this(filePath, false, null);
+    }
+
+    /**
+     * Constructs an ExportCommand with a specified file path that may only export the changes since a given time.
+     *
+     * @param filePath The destination path of the CSV file to be created.
+     * @param isDelta Whether only the students changed or deleted since {@code since} should be exported.
+     * @param since The time to export changes from, or null to use the time of the last export.
+     */
+    public ExportCommand(Path filePath, boolean isDelta, LocalDateTime since) {
         this.filePath = filePath;
+        this.isDelta = isDelta;
+        this.since = since;
     }
 
     @Override
@@ -53,7 +79,21 @@ public class ExportCommand extends Command {
 
         try {
             CsvJsonConverter converter = new CsvJsonConverter();
+            LocalDateTime exportTime = LocalDateTime.now();
+
+            if (isDelta) {
+                LocalDateTime changesSince = since != null
+                        ? since
+                        : model.getAddressBook().getLastExportTime().orElse(null);
+                AddressBookDelta delta = AddressBookDelta.since(model.getAddressBook(), changesSince);
+                converter.convertDeltaToCsv(filePath, delta);
+                model.setLastExportTime(exportTime);
+                return new CommandResult(String.format(MESSAGE_EXPORT_DELTA_SUCCESS,
+                        delta.getChangedPersons().size(), delta.getDeletedStudentIds().size(), filePath));
+            }
+
             converter.convertJsonToCsv(filePath, model.getAddressBook());
+            model.recordFullExport(exportTime);
 
             return new CommandResult(generateSuccessMessage());
         } catch (IOException e) {
@@ -86,6 +126,8 @@ public class ExportCommand extends Command {
         }
 
         ExportCommand otherExportCommand = (ExportCommand) other;
-        return filePath.equals(otherExportCommand.filePath);
+        return filePath.equals(otherExportCommand.filePath)
+                && isDelta == otherExportCommand.isDelta
+                && Objects.equals(since, otherExportCommand.since);
     }
 }
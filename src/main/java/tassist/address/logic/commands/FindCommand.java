@@ -2,12 +2,17 @@ package tassist.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static tassist.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_PAGE;
 
 import java.util.Objects;
 import java.util.function.Predicate;
 
 import tassist.address.commons.util.ToStringBuilder;
+import tassist.address.logic.Messages;
 import tassist.address.model.Model;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.person.NameContainsKeywordsPredicate;
 import tassist.address.model.person.Person;
 
@@ -23,14 +28,16 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive), whose student ID matches exactly, "
             + "or whose class number matches exactly, and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]... or STUDENTID or CLASS\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... or STUDENTID or CLASS, optionally followed by "
+            + "[" + PREFIX_LIMIT + "LIMIT] [" + PREFIX_OFFSET + "OFFSET] [" + PREFIX_PAGE + "PAGE]\n"
             + "Example:\n"
             + COMMAND_WORD + " alice bob charlie\n"
-            + COMMAND_WORD + " A1234567B" + " or " + COMMAND_WORD + " T01";
+            + COMMAND_WORD + " A1234567B" + " or " + COMMAND_WORD + " T01 " + PREFIX_PAGE + "2";
 
     private final NameContainsKeywordsPredicate namePredicate;
     private final Predicate<Person> studentIdPredicate;
     private final Predicate<Person> classNumberPredicate;
+    private final PersonListWindow window;
 
     /**
      * Constructs a FindCommand that filters by student ID.
@@ -41,6 +48,7 @@ public class FindCommand extends Command {
         this.studentIdPredicate = studentIdPredicate;
         this.namePredicate = null;
         this.classNumberPredicate = null;
+        this.window = PersonListWindow.ALL;
     }
 
     /**
@@ -53,6 +61,7 @@ public class FindCommand extends Command {
         this.namePredicate = namePredicate;
         this.studentIdPredicate = null;
         this.classNumberPredicate = null;
+        this.window = PersonListWindow.ALL;
     }
 
     /**
@@ -64,27 +73,43 @@ public class FindCommand extends Command {
         this.classNumberPredicate = classNumberPredicate;
         this.namePredicate = null;
         this.studentIdPredicate = null;
+        this.window = PersonListWindow.ALL;
+    }
+
+    private FindCommand(FindCommand command, PersonListWindow window) {
+        this.studentIdPredicate = command.studentIdPredicate;
+        this.namePredicate = command.namePredicate;
+        this.classNumberPredicate = command.classNumberPredicate;
+        this.window = window;
+    }
+
+    /**
+     * Returns a copy of this command that shows the students found in {@code window}.
+     */
+    public FindCommand withWindow(PersonListWindow window) {
+        requireNonNull(window);
+        return new FindCommand(this, window);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        model.updatePersonListWindow(window);
         if (studentIdPredicate != null) {
             model.updateFilteredPersonList(studentIdPredicate);
-            return new CommandResult(
-                    String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
         } else if (namePredicate != null) {
             model.updateFilteredPersonList(namePredicate);
-            return new CommandResult(
-                    String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
         } else if (classNumberPredicate != null) {
             model.updateFilteredPersonList(classNumberPredicate);
-            return new CommandResult(
-                    String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
         } else {
             //won't reach this line, throwing an assertion just in case
             throw new AssertionError("Either name keywords, student ID, or class number must be provided");
         }
+
+        int matchCount = model.getMatchingPersonCount();
+        String message = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, matchCount);
+        String windowSummary = Messages.formatWindow(window, matchCount);
+        return new CommandResult(windowSummary.isEmpty() ? message : message + "\n" + windowSummary);
     }
 
     @Override
@@ -101,7 +126,8 @@ public class FindCommand extends Command {
         FindCommand otherFindCommand = (FindCommand) other;
         return Objects.equals(studentIdPredicate, otherFindCommand.studentIdPredicate)
                 && Objects.equals(namePredicate, otherFindCommand.namePredicate)
-                && Objects.equals(classNumberPredicate, otherFindCommand.classNumberPredicate);
+                && Objects.equals(classNumberPredicate, otherFindCommand.classNumberPredicate)
+                && window.equals(otherFindCommand.window);
     }
 
     @Override
@@ -114,6 +140,9 @@ public class FindCommand extends Command {
         } else if (classNumberPredicate != null) {
             builder.add("classNumberPredicate", classNumberPredicate);
         }
+        if (!window.equals(PersonListWindow.ALL)) {
+            builder.add("window", window);
+        }
         return builder.toString();
     }
 }
@@ -84,7 +84,7 @@ public class GithubCommand extends Command {
             personToEdit = lastShownList.get(index.getZeroBased());
         }
         if (studentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream().filter(
+            Optional<Person> personOptional = model.getAddressBook().getPersonList().stream().filter(
                     person -> person.getStudentId().equals(studentId)).findFirst();
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
@@ -118,7 +118,7 @@ public class GithubCommand extends Command {
      * @throws CommandException
      */
     private void checkDuplicates(Model model, Person personToEdit) throws CommandException {
-        List<Github> githubList = model.getFilteredPersonList().stream()
+        List<Github> githubList = model.getAddressBook().getPersonList().stream()
                 .filter(person -> !person.equals(personToEdit))
                 .map(person -> person.getGithub())
                 .filter(g -> !g.value.equals(NO_GITHUB))
@@ -6,37 +6,70 @@ import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.opencsv.exceptions.CsvException;
 
 import tassist.address.commons.exceptions.DataLoadingException;
 import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.AddressBook;
+import tassist.address.model.AddressBookDelta;
 import tassist.address.model.Model;
+import tassist.address.model.ModelManager;
 import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.person.exceptions.DuplicatePersonException;
+import tassist.address.storage.CsvImportValidation;
 import tassist.address.storage.CsvJsonConverter;
 import tassist.address.storage.Storage;
 
 /**
- * Imports a CSV file containing a list of students into the address book.
+ * Imports a CSV file containing a list of students into the address book, or applies a delta file to it.
  */
 public class ImportCommand extends Command {
 
     public static final String COMMAND_WORD = "import";
 
+    public static final String FLAG_DELTA = "--delta";
+    public static final String FLAG_DRY_RUN = "--dry-run";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Imports a CSV file containing a list of students into the address book.\n"
-            + "Parameters: FILE_PATH (must be a valid absolute path to the CSV file)\n"
+            + "Parameters: FILE_PATH (must be a valid absolute path to the CSV file) [" + FLAG_DELTA + "] ["
+            + FLAG_DRY_RUN + "]\n"
+            + "With " + FLAG_DELTA + ", the file must be a delta file created by export --since, "
+            + "and only the students in it are added, updated or deleted.\n"
+            + "With " + FLAG_DRY_RUN + ", the file is checked and the changes it would make are reported, "
+            + "but no data is changed.\n"
             + "Example:\n"
             + "(Unix/mac): " + COMMAND_WORD + " /Users/Name/Downloads/file.csv\n"
-            + "(Windows): " + COMMAND_WORD + " C:\\Users\\Name\\Downloads\\file.csv";
+            + "(Windows): " + COMMAND_WORD + " C:\\Users\\Name\\Downloads\\file.csv\n"
+            + "(Delta): " + COMMAND_WORD + " /Users/Name/Downloads/delta.csv " + FLAG_DELTA + "\n"
+            + "(Dry run): " + COMMAND_WORD + " /Users/Name/Downloads/file.csv " + FLAG_DRY_RUN;
 
     public static final String MESSAGE_IMPORT_SUCCESS = "Successfully imported CSV file: %1$s";
+    public static final String MESSAGE_IMPORT_DELTA_SUCCESS =
+            "Successfully applied %1$d changed and %2$d deleted student(s) from: %3$s";
+    public static final String MESSAGE_DRY_RUN_SUCCESS = "Dry run of import from %1$s, no data was changed:\n"
+            + "Students: %2$d new, %3$d changed, %4$d unchanged, %5$d removed\n"
+            + "Rows: %6$d duplicate, %7$d invalid\n"
+            + "Time taken: parse %8$d ms, validate %9$d ms, apply %10$d ms";
+    public static final String MESSAGE_DRY_RUN_WOULD_FAIL =
+            "\nThe import would fail until the duplicate and invalid rows are fixed.";
+    public static final String MESSAGE_MORE_INVALID_ROWS = "\n... and %1$d more invalid row(s)";
+    public static final int MAX_INVALID_ROWS_SHOWN = 5;
     public static final String MESSAGE_INVALID_VALUE_IN_FILE = "Error during file conversion: invalid value";
     public static final String MESSAGE_UNABLE_TO_ACCESS_FILE = "Unable to access file";
     public static final String MESSAGE_CORRUPTED_FILE = "File is corrupted";
     private static Storage storage = null;
 
     private final Path filePath;
+    private final boolean isDelta;
+    private final boolean isDryRun;
 
     /**
      * Constructs an ImportCommand with a specified file path.
@@ -44,7 +77,30 @@ public class ImportCommand extends Command {
      * @param filePath The file path of the CSV file to be imported.
      */
     public ImportCommand(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs an ImportCommand with a specified file path that may be a delta file.
+     *
+     * @param filePath The file path of the CSV file to be imported.
+     * @param isDelta Whether the file is a delta file to be applied to the current data.
+     */
+    public ImportCommand(Path filePath, boolean isDelta) {
+        this(filePath, isDelta, false);
+    }
+
+    /**
+     * Constructs an ImportCommand with a specified file path that may be a delta file, and may only be checked.
+     *
+     * @param filePath The file path of the CSV file to be imported.
+     * @param isDelta Whether the file is a delta file to be applied to the current data.
+     * @param isDryRun Whether to only report what the import would do, without changing any data.
+     */
+    public ImportCommand(Path filePath, boolean isDelta, boolean isDryRun) {
         this.filePath = filePath;
+        this.isDelta = isDelta;
+        this.isDryRun = isDryRun;
     }
 
     @Override
@@ -60,6 +116,14 @@ public class ImportCommand extends Command {
         try {
             CsvJsonConverter converter = new CsvJsonConverter();
 
+            if (isDryRun) {
+                return dryRun(model, converter);
+            }
+
+            if (isDelta) {
+                return applyDelta(model, converter);
+            }
+
             if (isCsvFile(filePath.toString())) {
                 Path jsonFilePath = model.getAddressBookFilePath();
                 converter.convertCsvToJson(filePath, jsonFilePath);
@@ -81,6 +145,83 @@ public class ImportCommand extends Command {
         }
     }
 
+    /**
+     * Applies the delta file at {@code filePath} to {@code model} without rewriting the whole address book.
+     */
+    private CommandResult applyDelta(Model model, CsvJsonConverter converter)
+            throws CommandException, IOException, CsvException {
+        if (!isCsvFile(filePath.toString())) {
+            throw new CommandException(MESSAGE_INVALID_FILE_PATH);
+        }
+
+        AddressBookDelta delta = converter.readDeltaCsv(filePath);
+        try {
+            model.applyAddressBookDelta(delta);
+        } catch (DuplicatePersonException e) {
+            throw new CommandException(MESSAGE_INVALID_VALUE_IN_FILE);
+        }
+
+        return new CommandResult(String.format(MESSAGE_IMPORT_DELTA_SUCCESS,
+                delta.getChangedPersons().size(), delta.getDeletedStudentIds().size(), filePath));
+    }
+
+    /**
+     * Validates the file at {@code filePath} and applies it to a scratch copy of {@code model}, reporting what the
+     * import would change and how long each step took. Neither {@code model} nor the data file is changed.
+     */
+    private CommandResult dryRun(Model model, CsvJsonConverter converter)
+            throws CommandException, IOException, CsvException {
+        if (!isCsvFile(filePath.toString())) {
+            throw new CommandException(MESSAGE_INVALID_FILE_PATH);
+        }
+
+        CsvImportValidation validation = converter.validateCsv(filePath, isDelta);
+
+        long startTime = System.nanoTime();
+        ReadOnlyAddressBook currentData = model.getAddressBook();
+        Model scratchModel = new ModelManager(currentData, model.getUserPrefs());
+        if (isDelta) {
+            scratchModel.applyAddressBookDelta(new AddressBookDelta(null, validation.getPersons(),
+                    validation.getDeletedStudentIds(), validation.getTimedEvents()));
+        } else {
+            AddressBook importedData = new AddressBook();
+            importedData.setPersons(validation.getPersons());
+            importedData.setTimedEvents(validation.getTimedEvents());
+            scratchModel.setAddressBook(importedData);
+        }
+        Duration applyTime = Duration.ofNanos(System.nanoTime() - startTime);
+
+        Map<StudentId, Person> currentPersons = new HashMap<>();
+        currentData.getPersonList().forEach(person -> currentPersons.put(person.getStudentId(), person));
+        int newCount = 0;
+        int changedCount = 0;
+        for (Person person : validation.getPersons()) {
+            Person currentPerson = currentPersons.get(person.getStudentId());
+            if (currentPerson == null) {
+                newCount++;
+            } else if (!currentPerson.hasSameDetails(person)) {
+                changedCount++;
+            }
+        }
+        int unchangedCount = validation.getPersons().size() - newCount - changedCount;
+        int removedCount = currentPersons.size() + newCount - scratchModel.getAddressBook().getPersonList().size();
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_DRY_RUN_SUCCESS, filePath,
+                newCount, changedCount, unchangedCount, removedCount,
+                validation.getDuplicateRowCount(), validation.getInvalidRows().size(),
+                validation.getParseTime().toMillis(), validation.getValidateTime().toMillis(), applyTime.toMillis()));
+        if (!validation.isImportable()) {
+            message.append(MESSAGE_DRY_RUN_WOULD_FAIL);
+            List<String> invalidRows = validation.getInvalidRows();
+            invalidRows.stream().limit(MAX_INVALID_ROWS_SHOWN).forEach(row -> message.append("\n").append(row));
+            if (invalidRows.size() > MAX_INVALID_ROWS_SHOWN) {
+                message.append(String.format(MESSAGE_MORE_INVALID_ROWS, invalidRows.size() - MAX_INVALID_ROWS_SHOWN));
+            }
+        }
+
+        return new CommandResult(message.toString());
+    }
+
     private boolean isCsvFile(String filePath) {
         return filePath.endsWith(".csv");
     }
@@ -105,7 +246,9 @@ public class ImportCommand extends Command {
         }
 
         ImportCommand otherImportCommand = (ImportCommand) other;
-        return filePath.equals(otherImportCommand.filePath);
+        return filePath.equals(otherImportCommand.filePath)
+                && isDelta == otherImportCommand.isDelta
+                && isDryRun == otherImportCommand.isDryRun;
     }
 
     public Path getFilePath() {
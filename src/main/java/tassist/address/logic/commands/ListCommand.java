@@ -3,7 +3,10 @@ package tassist.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_FILTER;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_FILTER_VALUE;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_PAGE;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_SORT;
 import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
@@ -11,12 +14,21 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import tassist.address.logic.Messages;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.Model;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.query.PersonQuery;
+import tassist.address.model.query.QueryField;
+import tassist.address.model.query.QueryPlan;
+import tassist.address.model.query.SortKey;
 
 /**
  * Lists all students in the TAssist system, with optional sorting and filtering.
@@ -27,20 +39,27 @@ public class ListCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists students with optional sorting and filtering.\n"
             + "Parameters: " + PREFIX_FILTER + "FILTER_TYPE " + PREFIX_FILTER_VALUE + "FILTER_VALUE or\n"
-            + "Parameters: " + PREFIX_SORT + "SORT_TYPE " + PREFIX_ORDER + "SORT_ORDER\n"
+            + "Parameters: " + PREFIX_SORT + "SORT_TYPE " + PREFIX_ORDER + "SORT_ORDER or\n"
+            + "Parameters: [explain] [where CONDITION] [sort FIELD [asc|desc], ...] [limit N] [offset N] [page N]\n"
+            + "Each form takes optional " + PREFIX_LIMIT + "LIMIT " + PREFIX_OFFSET + "OFFSET " + PREFIX_PAGE
+            + "PAGE\n"
             + "Supported SORT_TYPE: name, progress, github\n"
             + "Supported SORT_ORDER: asc (ascending), des (descending)\n"
             + "Supported FILTER_TYPE: class, team, progress\n"
             + "Example:\n"
             + COMMAND_WORD + " s/name o/asc\n"
             + COMMAND_WORD + " f/class fv/T01\n"
-            + COMMAND_WORD + " f/class fv/T01 s/name o/asc";
+            + COMMAND_WORD + " f/class fv/T01 s/name o/asc\n"
+            + COMMAND_WORD + " s/progress o/asc " + PREFIX_LIMIT + "20\n"
+            + COMMAND_WORD + " where class=T01 and progress<50 and tag=weak sort name asc, progress desc page 2";
 
     public static final String MESSAGE_SUCCESS = "Listed all students";
     public static final String MESSAGE_LIST_ALL = "Listed all students.";
     public static final String MESSAGE_LIST_FILTERED = "Listed students with filter applied.";
     public static final String MESSAGE_LIST_SORTED = "Listed students with sorting applied.";
     public static final String MESSAGE_LIST_FILTERED_SORTED = "Listed students with filter and sorting applied.";
+    public static final String MESSAGE_LIST_QUERY = "Listed %1$d student(s) matching the query.";
+    public static final String MESSAGE_EXPLAIN = "Query: %1$s\n%2$s\nSort: %3$s\nMatches: %4$d student(s)";
     public static final String MESSAGE_NO_STUDENTS = "No students found.";
     public static final String MESSAGE_INVALID_SORT = "Invalid sort type! Allowed sort type: name, progress, github.";
     public static final String MESSAGE_INVALID_SORT_ORDER = "Invalid sort order! Allowed sort order: asc, des.";
@@ -62,6 +81,9 @@ public class ListCommand extends Command {
     public final String sortOrder;
     public final String filterType;
     public final String filterValue;
+    private final PersonQuery query;
+    private final boolean isExplain;
+    private final PersonListWindow window;
 
     /**
      * Constructs a {@code ListCommand} with sorting and filtering.
@@ -72,10 +94,44 @@ public class ListCommand extends Command {
      * @param filterValue Value to filter the field by.
      */
     public ListCommand(String sortType, String sortOrder, String filterType, String filterValue) {
+        this(sortType, sortOrder, filterType, filterValue, PersonListWindow.ALL);
+    }
+
+    /**
+     * Constructs a {@code ListCommand} with sorting and filtering that shows the students in {@code window}.
+     *
+     * @param sortType Type of field to sort by.
+     * @param sortOrder Order to sort in (ascending or descending).
+     * @param filterType Type of field to filter by.
+     * @param filterValue Value to filter the field by.
+     * @param window Part of the sorted, filtered list to show.
+     */
+    public ListCommand(String sortType, String sortOrder, String filterType, String filterValue,
+            PersonListWindow window) {
+        requireNonNull(window);
         this.sortType = sortType != null ? sortType.toLowerCase() : null;
         this.sortOrder = sortOrder != null ? sortOrder.toLowerCase() : null;
         this.filterType = filterType != null ? filterType.toLowerCase() : null;
         this.filterValue = filterValue != null ? filterValue.toLowerCase() : null;
+        this.query = null;
+        this.isExplain = false;
+        this.window = window;
+    }
+
+    /**
+     * Constructs a {@code ListCommand} that lists the students matching {@code query}.
+     *
+     * @param isExplain If true, describes how the query is evaluated instead of listing the students.
+     */
+    public ListCommand(PersonQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.sortType = null;
+        this.sortOrder = null;
+        this.filterType = null;
+        this.filterValue = null;
+        this.query = query;
+        this.isExplain = isExplain;
+        this.window = query.getWindow();
     }
 
     /**
@@ -86,13 +142,21 @@ public class ListCommand extends Command {
         this.sortOrder = null;
         this.filterType = null;
         this.filterValue = null;
+        this.query = null;
+        this.isExplain = false;
+        this.window = PersonListWindow.ALL;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         logger.info("Executing ListCommand");
+        if (query != null) {
+            return executeQuery(model);
+        }
         isValidFilterAndSort();
+        // The window is set first, so a limited list is never sorted in full on the way to its new filter and sort
+        model.updatePersonListWindow(window);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         List<Person> list = model.getFilteredPersonList();
 
@@ -111,10 +175,13 @@ public class ListCommand extends Command {
             model.updateSortedPersonList(comp);
         }
 
-        if (list.isEmpty()) {
+        if (model.getMatchingPersonCount() == 0) {
             logger.warning("No students found after applying filter/sort.");
             return new CommandResult(MESSAGE_NO_STUDENTS);
         }
+        if (list.isEmpty()) {
+            return new CommandResult(Messages.formatWindow(window, model.getMatchingPersonCount()));
+        }
 
         String message;
         if (hasFilter && hasSort) {
@@ -126,7 +193,46 @@ public class ListCommand extends Command {
         } else {
             message = MESSAGE_LIST_ALL;
         }
-        return new CommandResult(message);
+        return new CommandResult(withWindowSummary(message, model.getMatchingPersonCount()));
+    }
+
+    /**
+     * Lists the students matching the query, finding them through the plan the query's where clause is given.
+     * The students found are shown as they are, so the condition is not evaluated again for every student.
+     */
+    private CommandResult executeQuery(Model model) {
+        QueryPlan plan = QueryPlan.of(query.getWhere().orElse(null), model.getPersonIndex());
+        logger.info(String.format("Executing query '%s' with plan %s", query, plan));
+        Set<StudentId> matchedStudentIds = plan.findMatches().stream()
+                .map(Person::getStudentId)
+                .collect(Collectors.toSet());
+        int matchCount = matchedStudentIds.size();
+
+        if (isExplain) {
+            String sort = query.getSortKeys().isEmpty()
+                    ? "none"
+                    : query.getSortKeys().stream().map(Object::toString).collect(Collectors.joining(", "));
+            return new CommandResult(String.format(MESSAGE_EXPLAIN, query, plan.explain(), sort, matchCount));
+        }
+
+        model.updatePersonListWindow(window);
+        model.updateFilteredPersonList(person -> matchedStudentIds.contains(person.getStudentId()));
+        query.getComparator().ifPresent(model::updateSortedPersonList);
+        if (matchCount == 0) {
+            return new CommandResult(MESSAGE_NO_STUDENTS);
+        }
+        if (model.getFilteredPersonList().isEmpty()) {
+            return new CommandResult(Messages.formatWindow(window, matchCount));
+        }
+        return new CommandResult(withWindowSummary(String.format(MESSAGE_LIST_QUERY, matchCount), matchCount));
+    }
+
+    /**
+     * Appends to {@code message} which of the {@code matchCount} students are shown, if not all of them are.
+     */
+    private String withWindowSummary(String message, int matchCount) {
+        String windowSummary = Messages.formatWindow(window, matchCount);
+        return windowSummary.isEmpty() ? message : message + "\n" + windowSummary;
     }
 
     private void isValidFilterAndSort() throws CommandException {
@@ -147,7 +253,7 @@ public class ListCommand extends Command {
     private Predicate<Person> getFilter(Model model, String filterType, String filterValue) throws CommandException {
         return switch (filterType) {
         case "class" -> {
-            boolean hasClass = model.getFilteredPersonList().stream().anyMatch(p ->
+            boolean hasClass = model.getAddressBook().getPersonList().stream().anyMatch(p ->
                     p.getClassNumber().value.equalsIgnoreCase(filterValue));
             if (!hasClass) {
                 throw new CommandException(String.format(MESSAGE_NONEXISTENT_FILTER_VALUE, filterValue));
@@ -155,7 +261,7 @@ public class ListCommand extends Command {
             yield p -> p.getClassNumber().value.equalsIgnoreCase(filterValue);
         }
         case "team" -> {
-            boolean hasTeam = model.getFilteredPersonList().stream()
+            boolean hasTeam = model.getAddressBook().getPersonList().stream()
                     .anyMatch(p -> p.getProjectTeam().value.equalsIgnoreCase(filterValue));
             if (!hasTeam) {
                 throw new CommandException(String.format(MESSAGE_NONEXISTENT_FILTER_VALUE, filterValue));
@@ -176,13 +282,13 @@ public class ListCommand extends Command {
     }
 
     private Comparator<Person> getComparator(String sortType, String sortOrder) throws CommandException {
-        Comparator<Person> comparator = switch (sortType) {
-        case "name" -> Comparator.comparing(p -> p.getName().value.toLowerCase());
-        case "progress"-> Comparator.comparing(p -> p.getProgress().value);
-        case "github" -> Comparator.comparing(p -> p.getGithub().value.toLowerCase());
+        QueryField field = switch (sortType) {
+        case "name" -> QueryField.NAME;
+        case "progress"-> QueryField.PROGRESS;
+        case "github" -> QueryField.GITHUB;
         default -> throw new CommandException(MESSAGE_INVALID_SORT);
         };
-        return "des".equals(sortOrder) ? comparator.reversed() : comparator;
+        return SortKey.getComparator(List.of(new SortKey(field, !"des".equals(sortOrder))));
     }
 
     @Override
@@ -199,16 +305,23 @@ public class ListCommand extends Command {
         return Objects.equals(this.sortType, otherCommand.sortType)
                 && Objects.equals(this.sortOrder, otherCommand.sortOrder)
                 && Objects.equals(this.filterType, otherCommand.filterType)
-                && Objects.equals(this.filterValue, otherCommand.filterValue);
+                && Objects.equals(this.filterValue, otherCommand.filterValue)
+                && Objects.equals(this.query, otherCommand.query)
+                && this.isExplain == otherCommand.isExplain
+                && this.window.equals(otherCommand.window);
     }
 
     @Override
     public String toString() {
+        if (query != null) {
+            return "ListCommand{query='" + query + "', isExplain=" + isExplain + '}';
+        }
         return "ListCommand{"
                 + "sortType='" + sortType + '\''
                 + ", sortOrder='" + sortOrder + '\''
                 + ", filterType='" + filterType + '\''
                 + ", filterValue='" + filterValue + '\''
+                + (window.equals(PersonListWindow.ALL) ? "" : ", window=" + window)
                 + '}';
     }
 }
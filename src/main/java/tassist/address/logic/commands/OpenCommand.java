@@ -117,7 +117,7 @@ public class OpenCommand extends Command {
             }
             personToOpen = lastShownList.get(targetIndex.getZeroBased());
         } else if (targetStudentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream()
+            Optional<Person> personOptional = model.getAddressBook().getPersonList().stream()
                     .filter(person -> person.getStudentId().equals(targetStudentId)).findFirst();
             if (personOptional.isEmpty()) {
                 throw new CommandException(MESSAGE_PERSON_NOT_FOUND + targetStudentId);
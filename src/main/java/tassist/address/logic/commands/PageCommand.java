@@ -0,0 +1,119 @@
+package tassist.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.AppUtil.checkArgument;
+
+import tassist.address.commons.util.ToStringBuilder;
+import tassist.address.logic.Messages;
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.Model;
+import tassist.address.model.PersonListWindow;
+
+/**
+ * Moves the window of the student list to another page.
+ */
+public class PageCommand extends Command {
+
+    public static final String COMMAND_WORD = "page";
+    public static final String KEYWORD_NEXT = "next";
+    public static final String KEYWORD_PREVIOUS = "prev";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows another page of the student list.\n"
+            + "Parameters: " + KEYWORD_NEXT + " or " + KEYWORD_PREVIOUS + " or PAGE_NUMBER\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_NEXT + " or " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_NOT_PAGED = "The student list is not split into pages. "
+            + "Use " + COMMAND_WORD + " PAGE_NUMBER, or list with a limit or page.";
+    public static final String MESSAGE_FIRST_PAGE = "Already on the first page.";
+    public static final String MESSAGE_LAST_PAGE = "Already on the last page.";
+    public static final String MESSAGE_INVALID_PAGE = "There is no page %1$d, the list has %2$d page(s).";
+
+    /** The page to show, or 0 to move by {@code pageStep} pages. */
+    private final int pageNumber;
+    private final int pageStep;
+
+    private PageCommand(int pageNumber, int pageStep) {
+        this.pageNumber = pageNumber;
+        this.pageStep = pageStep;
+    }
+
+    /**
+     * Returns a command that shows page {@code pageNumber}, counting from 1.
+     * If the list is not split into pages yet, it is split into pages of
+     * {@code PersonListWindow.DEFAULT_PAGE_SIZE} students.
+     */
+    public static PageCommand ofPage(int pageNumber) {
+        checkArgument(pageNumber > 0, PersonListWindow.MESSAGE_CONSTRAINTS);
+        return new PageCommand(pageNumber, 0);
+    }
+
+    /**
+     * Returns a command that shows the page after the current one.
+     */
+    public static PageCommand next() {
+        return new PageCommand(0, 1);
+    }
+
+    /**
+     * Returns a command that shows the page before the current one.
+     */
+    public static PageCommand previous() {
+        return new PageCommand(0, -1);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        PersonListWindow current = model.getPersonListWindow();
+        int matchCount = model.getMatchingPersonCount();
+
+        PersonListWindow target;
+        if (pageStep == 0) {
+            int pageSize = current.isLimited() ? current.getLimit() : PersonListWindow.DEFAULT_PAGE_SIZE;
+            target = PersonListWindow.ofPage(pageNumber, pageSize);
+            if (target.getOffset() > 0 && target.getOffset() >= matchCount) {
+                throw new CommandException(String.format(MESSAGE_INVALID_PAGE, pageNumber,
+                        target.getPageCount(matchCount)));
+            }
+        } else if (!current.isLimited()) {
+            throw new CommandException(MESSAGE_NOT_PAGED);
+        } else if (pageStep > 0) {
+            target = current.next();
+            if (target.getOffset() >= matchCount) {
+                throw new CommandException(MESSAGE_LAST_PAGE);
+            }
+        } else {
+            if (current.getOffset() == 0) {
+                throw new CommandException(MESSAGE_FIRST_PAGE);
+            }
+            target = current.previous();
+        }
+
+        model.updatePersonListWindow(target);
+        return new CommandResult(Messages.formatWindow(target, matchCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PageCommand)) {
+            return false;
+        }
+
+        PageCommand otherCommand = (PageCommand) other;
+        return pageNumber == otherCommand.pageNumber
+                && pageStep == otherCommand.pageStep;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("pageNumber", pageNumber)
+                .add("pageStep", pageStep)
+                .toString();
+    }
+}
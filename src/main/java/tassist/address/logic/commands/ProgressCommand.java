@@ -77,7 +77,7 @@ public class ProgressCommand extends Command {
             }
             personToEdit = lastShownList.get(index.getZeroBased());
         } else if (studentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream()
+            Optional<Person> personOptional = model.getAddressBook().getPersonList().stream()
                     .filter(person -> person.getStudentId().equals(studentId)).findFirst();
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
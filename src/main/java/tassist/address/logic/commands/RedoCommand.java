@@ -0,0 +1,40 @@
+package tassist.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.Model;
+
+/**
+ * Restores the address book to its state before the last undo.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more changes to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RedoCommand;
+    }
+
+    @Override
+    public String toString() {
+        return "RedoCommand{}";
+    }
+}
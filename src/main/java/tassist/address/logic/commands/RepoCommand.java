@@ -107,7 +107,7 @@ public class RepoCommand extends Command {
             personToEdit = lastShownList.get(index.getZeroBased());
         }
         if (studentId != null) {
-            Optional<Person> personOptional = model.getFilteredPersonList().stream().filter(
+            Optional<Person> personOptional = model.getAddressBook().getPersonList().stream().filter(
                     person -> person.getStudentId().equals(studentId)).findFirst();
             if (personOptional.isEmpty()) {
                 throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND + studentId);
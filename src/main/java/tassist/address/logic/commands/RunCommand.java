@@ -0,0 +1,181 @@
+package tassist.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import tassist.address.commons.util.ToStringBuilder;
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.logic.parser.AddressBookParser;
+import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.Model;
+
+/**
+ * Runs a script of commands, one per line, as a single transaction.
+ * The commands are executed in one batch on the model, which is rolled back if any command fails,
+ * so the model is changed (and saved) exactly once, or not at all.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one command per line, as a single transaction.\n"
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are ignored. "
+            + "If any command fails, none of the changes are kept.\n"
+            + "Parameters: FILE_PATH (must be a valid absolute path to the script file)\n"
+            + "Example:\n"
+            + "(Unix/mac): " + COMMAND_WORD + " /Users/Name/Downloads/setup.txt\n"
+            + "(Windows): " + COMMAND_WORD + " C:\\Users\\Name\\Downloads\\setup.txt";
+
+    public static final String MESSAGE_RUN_SUCCESS = "Successfully ran %1$d command(s) from: %2$s";
+    public static final String MESSAGE_RUN_COMMANDS_SUCCESS = "Successfully ran %1$d command(s)";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d (%2$s) failed, no changes were made:\n%3$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "This command cannot be used in a script";
+    public static final String MESSAGE_INVALID_CONFIRMATION = "Invalid response. Please enter Y/N.";
+    public static final String MESSAGE_MISSING_CONFIRMATION =
+            "The script ended while a command was waiting for Y/N, no changes were made";
+    public static final String MESSAGE_UNABLE_TO_READ_FILE = "Unable to read script file";
+
+    private final Path filePath;
+    private final List<String> commandTexts;
+
+    /**
+     * Constructs a RunCommand that runs the script at the specified file path.
+     *
+     * @param filePath The file path of the script to be run.
+     */
+    public RunCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.commandTexts = null;
+    }
+
+    /**
+     * Constructs a RunCommand that runs the given commands.
+     *
+     * @param commandTexts The commands to be run, in order, as they would be entered by the user.
+     */
+    public RunCommand(List<String> commandTexts) {
+        requireNonNull(commandTexts);
+        this.filePath = null;
+        this.commandTexts = new ArrayList<>(commandTexts);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<String> lines = filePath == null ? commandTexts : readScript();
+        int[] commandCount = new int[1];
+        model.batch(transaction -> commandCount[0] = runAll(lines, transaction), true);
+
+        return filePath == null
+                ? new CommandResult(String.format(MESSAGE_RUN_COMMANDS_SUCCESS, commandCount[0]))
+                : new CommandResult(String.format(MESSAGE_RUN_SUCCESS, commandCount[0], filePath));
+    }
+
+    private List<String> readScript() throws CommandException {
+        try {
+            return Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_UNABLE_TO_READ_FILE, e);
+        }
+    }
+
+    /**
+     * Executes every command in {@code lines} against {@code transaction} and returns the number of commands run.
+     *
+     * @throws CommandException if any line fails, naming the line that failed.
+     */
+    private static int runAll(List<String> lines, Model transaction) throws CommandException {
+        AddressBookParser parser = new AddressBookParser();
+        ConfirmableCommand pendingConfirmation = null;
+        int commandCount = 0;
+
+        for (int i = 0; i < lines.size(); i++) {
+            String commandText = lines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                if (pendingConfirmation != null) {
+                    ConfirmableCommand confirmableCommand = pendingConfirmation;
+                    pendingConfirmation = null;
+                    if (commandText.equalsIgnoreCase("Y")) {
+                        confirmableCommand.executeConfirmed(transaction);
+                    } else if (!commandText.equalsIgnoreCase("N")) {
+                        throw new CommandException(MESSAGE_INVALID_CONFIRMATION);
+                    }
+                    continue;
+                }
+
+                Command command = parser.parseCommand(commandText);
+                if (!isAllowedInScript(command)) {
+                    throw new CommandException(MESSAGE_COMMAND_NOT_ALLOWED);
+                }
+
+                CommandResult result = command.execute(transaction);
+                if (result.requiresConfirmation()) {
+                    pendingConfirmation = result.getPendingConfirmation();
+                }
+                commandCount++;
+            } catch (CommandException | ParseException e) {
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, i + 1, commandText, e.getMessage()), e);
+            }
+        }
+
+        if (pendingConfirmation != null) {
+            throw new CommandException(MESSAGE_MISSING_CONFIRMATION);
+        }
+        return commandCount;
+    }
+
+    /**
+     * Returns true if {@code command} only works on the model, and so can be rolled back with the rest of a script.
+     * Imports and exports write files directly, and exiting, undoing or nesting scripts has no meaning inside a
+     * transaction.
+     */
+    private static boolean isAllowedInScript(Command command) {
+        return !(command instanceof RunCommand
+                || command instanceof ImportCommand
+                || command instanceof ExportCommand
+                || command instanceof ExitCommand
+                || command instanceof OpenCommand
+                || command instanceof UndoCommand
+                || command instanceof RedoCommand);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return Objects.equals(filePath, otherRunCommand.filePath)
+                && Objects.equals(commandTexts, otherRunCommand.commandTexts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("commandTexts", commandTexts)
+                .toString();
+    }
+}
@@ -53,16 +53,15 @@ public class UnassignCommand extends Command implements ConfirmableCommand {
         }
         TimedEvent eventToUnassign = lastShownList.get(targetIndex.getZeroBased());
 
-        // Remove the event from all students who have it
-        model.getFilteredPersonList().stream()
-                .filter(person -> person.hasTimedEvent(eventToUnassign))
-                .forEach(person -> {
-                    person.removeTimedEvent(eventToUnassign);
-                    model.setPerson(person, person); // Trigger UI update
-                });
-
-        // Remove the event from the event list
-        model.deleteTimedEvent(eventToUnassign);
+        // Remove the event from all students who have it, including those not shown, and then from the event list,
+        // in one batch
+        model.batch(batchModel -> {
+            batchModel.getAddressBook().getPersonList().stream()
+                    .filter(person -> person.hasTimedEvent(eventToUnassign))
+                    .toList()
+                    .forEach(person -> batchModel.setPerson(person, person.withTimedEventRemoved(eventToUnassign)));
+            batchModel.deleteTimedEvent(eventToUnassign);
+        });
         return new CommandResult(String.format(MESSAGE_UNASSIGN_EVENT_SUCCESS, eventToUnassign.getName()));
     }
 
@@ -0,0 +1,40 @@
+package tassist.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.Model;
+
+/**
+ * Restores the address book to its state before the last change.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more changes to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof UndoCommand;
+    }
+
+    @Override
+    public String toString() {
+        return "UndoCommand{}";
+    }
+}
@@ -3,6 +3,7 @@ package tassist.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 import tassist.address.model.Model;
@@ -27,20 +28,20 @@ public class ViewCommand extends Command {
             return new CommandResult(MESSAGE_NO_EVENTS);
         }
 
-        StringBuilder result = new StringBuilder();
-        result.append(MESSAGE_SUCCESS).append("\n");
+        // One line per row, so a long list can be shown as a list of lines
+        List<String> lines = new ArrayList<>(2 + 2 * timedEvents.size());
+        lines.add(MESSAGE_SUCCESS);
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
         for (int i = 0; i < timedEvents.size(); i++) {
             TimedEvent event = timedEvents.get(i);
-            result.append(String.format("%d. %s - %s\n   Due: %s\n",
-                    i + 1,
-                    event.getName(),
-                    event.getClass().getSimpleName(),
-                    event.getTime().format(formatter)));
+            lines.add(String.format("%d. %s - %s", i + 1, event.getName(), event.getClass().getSimpleName()));
+            lines.add("   Due: " + event.getTime().format(formatter));
         }
+        // Ends the feedback with a line break, as each event's lines are
+        lines.add("");
 
-        return new CommandResult(result.toString());
+        return new CommandResult(lines);
     }
 
     @Override
@@ -24,9 +24,13 @@ import tassist.address.logic.commands.HelpCommand;
 import tassist.address.logic.commands.ImportCommand;
 import tassist.address.logic.commands.ListCommand;
 import tassist.address.logic.commands.OpenCommand;
+import tassist.address.logic.commands.PageCommand;
 import tassist.address.logic.commands.ProgressCommand;
+import tassist.address.logic.commands.RedoCommand;
 import tassist.address.logic.commands.RepoCommand;
+import tassist.address.logic.commands.RunCommand;
 import tassist.address.logic.commands.UnassignCommand;
+import tassist.address.logic.commands.UndoCommand;
 import tassist.address.logic.commands.ViewCommand;
 import tassist.address.logic.parser.exceptions.ParseException;
 
@@ -83,6 +87,9 @@ public class AddressBookParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommandParser().parse(arguments);
 
+        case PageCommand.COMMAND_WORD:
+            return new PageCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -122,6 +129,15 @@ public class AddressBookParser {
         case ExportCommand.COMMAND_WORD:
             return new ExportCommandParser().parse(arguments);
 
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
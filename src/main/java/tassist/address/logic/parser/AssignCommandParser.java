@@ -2,11 +2,13 @@ package tassist.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static tassist.address.model.person.StudentId.VALIDATION_REGEX;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_PROJECT_TEAM;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import tassist.address.commons.core.index.Index;
 import tassist.address.commons.exceptions.IllegalValueException;
 import tassist.address.logic.commands.AssignCommand;
+import tassist.address.logic.commands.AssignCommand.StudentSelection;
 import tassist.address.logic.parser.exceptions.ParseException;
 import tassist.address.model.person.ClassNumber;
 import tassist.address.model.person.StudentId;
@@ -16,6 +18,9 @@ import tassist.address.model.person.StudentId;
  */
 public class AssignCommandParser implements Parser<AssignCommand> {
 
+    public static final String SELECTOR_SEPARATOR = ",";
+    public static final String RANGE_SEPARATOR = "-";
+
     /**
      * Parses the given {@code String} of arguments in the context of the AssignCommand
      * and returns an AssignCommand object for execution.
@@ -24,53 +29,73 @@ public class AssignCommandParser implements Parser<AssignCommand> {
      */
     public AssignCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PROJECT_TEAM, PREFIX_TAG);
         String trimmedArgs = argMultimap.getPreamble().trim();
         String[] argArray = trimmedArgs.split("\\s+");
+        boolean hasGroupSelectors = !argMultimap.getAllValues(PREFIX_PROJECT_TEAM).isEmpty()
+                || !argMultimap.getAllValues(PREFIX_TAG).isEmpty();
 
-        if (argArray.length != 2) {
+        // The students may only be left out when a project team or tag selects them instead
+        if (trimmedArgs.isEmpty() || argArray.length > 2 || (argArray.length == 1 && !hasGroupSelectors)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AssignCommand.MESSAGE_USAGE));
         }
 
-        // Parse timed event index
-        Index timedEventIndex;
         try {
-            timedEventIndex = ParserUtil.parseIndex(argArray[1]);
+            // Parse timed event index
+            Index timedEventIndex = ParserUtil.parseIndex(argArray[argArray.length - 1]);
+
+            StudentSelection studentSelection = new StudentSelection();
+            if (argArray.length == 2) {
+                for (String selector : argArray[0].split(SELECTOR_SEPARATOR, -1)) {
+                    addSelector(studentSelection, selector);
+                }
+            }
+            for (String projectTeam : argMultimap.getAllValues(PREFIX_PROJECT_TEAM)) {
+                studentSelection.addProjectTeam(ParserUtil.parseProjectTeam(projectTeam));
+            }
+            for (String tag : argMultimap.getAllValues(PREFIX_TAG)) {
+                studentSelection.addTag(ParserUtil.parseTag(tag));
+            }
+            return new AssignCommand(timedEventIndex, studentSelection);
         } catch (IllegalValueException ive) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AssignCommand.MESSAGE_USAGE), ive);
         }
+    }
 
+    /**
+     * Adds the student ID, class number, index range or index in {@code selector} to {@code studentSelection}.
+     *
+     * @throws ParseException if {@code selector} is none of these, or is a range that ends before it starts.
+     */
+    private static void addSelector(StudentSelection studentSelection, String selector) throws ParseException {
         // Try to parse as student ID first
-        if (argArray[0].matches(VALIDATION_REGEX)) {
-            try {
-                StudentId studentId = ParserUtil.parseStudentId(argArray[0]);
-                return new AssignCommand(timedEventIndex, studentId);
-            } catch (IllegalValueException ive) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        AssignCommand.MESSAGE_USAGE), ive);
-            }
+        if (StudentId.isValidStudentId(selector)) {
+            studentSelection.addStudentId(ParserUtil.parseStudentId(selector));
+            return;
         }
 
         // Try to parse as class number
-        if (ClassNumber.isValidClassNumber(argArray[0])) {
-            try {
-                ClassNumber classNumber = ParserUtil.parseClassNumber(argArray[0]);
-                return new AssignCommand(timedEventIndex, classNumber);
-            } catch (IllegalValueException ive) {
+        if (ClassNumber.isValidClassNumber(selector)) {
+            studentSelection.addClassNumber(ParserUtil.parseClassNumber(selector));
+            return;
+        }
+
+        // Try to parse as index range
+        int separatorPosition = selector.indexOf(RANGE_SEPARATOR);
+        if (separatorPosition >= 0) {
+            Index start = ParserUtil.parseIndex(selector.substring(0, separatorPosition));
+            Index end = ParserUtil.parseIndex(selector.substring(separatorPosition + RANGE_SEPARATOR.length()));
+            if (start.getZeroBased() > end.getZeroBased()) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        AssignCommand.MESSAGE_USAGE), ive);
+                        AssignCommand.MESSAGE_USAGE));
             }
+            studentSelection.addIndexRange(start, end);
+            return;
         }
 
-        // If not a valid student ID or class number, try to parse as index
-        try {
-            Index studentIndex = ParserUtil.parseIndex(argArray[0]);
-            return new AssignCommand(timedEventIndex, studentIndex);
-        } catch (IllegalValueException ive) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                    AssignCommand.MESSAGE_USAGE), ive);
-        }
+        // If not a valid student ID, class number or range, try to parse as index
+        studentSelection.addIndex(ParserUtil.parseIndex(selector));
     }
 }
@@ -6,7 +6,6 @@ import static tassist.address.logic.commands.ClassCommand.MESSAGE_USAGE;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static tassist.address.model.person.ClassNumber.DEFAULT_CLASS;
 import static tassist.address.model.person.ClassNumber.MESSAGE_CONSTRAINTS;
-import static tassist.address.model.person.StudentId.VALIDATION_REGEX;
 
 import java.util.logging.Logger;
 
@@ -60,7 +59,7 @@ public class ClassCommandParser implements Parser<ClassCommand> {
             throw new ParseException(MESSAGE_CONSTRAINTS, e);
         }
 
-        if (preamble.matches(VALIDATION_REGEX)) {
+        if (StudentId.isValidStudentId(preamble)) {
             try {
                 logger.info("Parsing ClassCommand using student ID: " + preamble);
                 StudentId studentId = ParserUtil.parseStudentId(preamble);
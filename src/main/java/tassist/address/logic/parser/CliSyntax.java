@@ -23,4 +23,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_REPOSITORY = new Prefix("r/");
     public static final Prefix PREFIX_USERNAME = new Prefix("un/");
     public static final Prefix PREFIX_REPOSITORY_NAME = new Prefix("rn/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("limit/");
+    public static final Prefix PREFIX_OFFSET = new Prefix("offset/");
+    public static final Prefix PREFIX_PAGE = new Prefix("page/");
 }
@@ -2,7 +2,6 @@ package tassist.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static tassist.address.model.person.StudentId.VALIDATION_REGEX;
 
 import tassist.address.commons.core.index.Index;
 import tassist.address.commons.exceptions.IllegalValueException;
@@ -29,7 +28,7 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     DeleteCommand.MESSAGE_USAGE));
         }
-        if (trimmedArgs.matches(VALIDATION_REGEX)) {
+        if (StudentId.isValidStudentId(trimmedArgs)) {
             try {
                 StudentId studentId = ParserUtil.parseStudentId(trimmedArgs);
                 return new DeleteCommand(studentId);
@@ -9,6 +9,12 @@ import static tassist.address.logic.commands.ExportCommand.MESSAGE_PARENT_FOLDER
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import tassist.address.commons.exceptions.IllegalValueException;
 import tassist.address.logic.commands.ExportCommand;
@@ -19,6 +25,15 @@ import tassist.address.logic.parser.exceptions.ParseException;
  */
 public class ExportCommandParser implements Parser<ExportCommand> {
 
+    public static final String MESSAGE_INVALID_SINCE = "Invalid " + ExportCommand.FLAG_SINCE
+            + " time format. Use: dd-MM-yyyy or dd-MM-yyyy HH:mm";
+
+    private static final Pattern SINCE_FORMAT = Pattern.compile(
+            "(?<filePath>.*?)\\s+" + ExportCommand.FLAG_SINCE + "(?:\\s+(?<since>.*))?");
+    private static final DateTimeFormatter SINCE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter SINCE_DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+
     /**
      * Parses the given {@code String} of arguments in the context of the ExportCommand
      * and returns an ExportCommand object for execution.
@@ -33,6 +48,17 @@ public class ExportCommandParser implements Parser<ExportCommand> {
                     ExportCommand.MESSAGE_USAGE));
         }
 
+        boolean isDelta = false;
+        LocalDateTime since = null;
+        Matcher matcher = SINCE_FORMAT.matcher(trimmedArgs);
+        if (matcher.matches()) {
+            isDelta = true;
+            trimmedArgs = matcher.group("filePath");
+            if (matcher.group("since") != null) {
+                since = parseSince(matcher.group("since").trim());
+            }
+        }
+
         try {
             Path filePath = ParserUtil.parseFilePath(trimmedArgs);
 
@@ -40,11 +66,25 @@ public class ExportCommandParser implements Parser<ExportCommand> {
                 Files.createFile(filePath);
             }
 
-            return new ExportCommand(filePath);
+            return new ExportCommand(filePath, isDelta, since);
         } catch (IllegalValueException ive) {
             throw new ParseException(MESSAGE_INVALID_FILE_PATH);
         } catch (IOException e) {
             throw new ParseException(MESSAGE_EXPORT_FAILURE + "\n" + MESSAGE_PARENT_FOLDER_DOES_NOT_EXIST);
         }
     }
+
+    /**
+     * Parses the time given after {@code --since}, in either dd-MM-yyyy or dd-MM-yyyy HH:mm format.
+     */
+    private LocalDateTime parseSince(String since) throws ParseException {
+        try {
+            if (since.contains(" ")) {
+                return LocalDateTime.parse(since, SINCE_DATE_TIME_FORMATTER);
+            }
+            return LocalDate.parse(since, SINCE_DATE_FORMATTER).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_SINCE);
+        }
+    }
 }
@@ -1,12 +1,16 @@
 package tassist.address.logic.parser;
 
 import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_PAGE;
 
 import java.util.Arrays;
 import java.util.function.Predicate;
 
 import tassist.address.logic.commands.FindCommand;
 import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.person.ClassNumber;
 import tassist.address.model.person.Name;
 import tassist.address.model.person.NameContainsKeywordsPredicate;
@@ -24,6 +28,14 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT, PREFIX_OFFSET, PREFIX_PAGE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT, PREFIX_OFFSET, PREFIX_PAGE);
+        PersonListWindow window = ParserUtil.parsePersonListWindow(argMultimap.getValue(PREFIX_LIMIT),
+                argMultimap.getValue(PREFIX_OFFSET), argMultimap.getValue(PREFIX_PAGE));
+        return parseKeywords(argMultimap.getPreamble()).withWindow(window);
+    }
+
+    private static FindCommand parseKeywords(String args) throws ParseException {
         String trimmedArgs = args.trim();
 
         if (trimmedArgs.isEmpty()) {
@@ -31,20 +43,20 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        if (trimmedArgs.matches(StudentId.VALIDATION_REGEX)) {
+        if (StudentId.isValidStudentId(trimmedArgs)) {
             Predicate<Person> studentIdPredicate = person -> person.getStudentId().value.equals(trimmedArgs);
             return new FindCommand(studentIdPredicate);
         }
 
         // Check if the input matches a class number format
-        if (trimmedArgs.matches(ClassNumber.VALIDATION_REGEX) || trimmedArgs.equals(ClassNumber.DEFAULT_CLASS)) {
+        if (ClassNumber.isValidClassNumber(trimmedArgs)) {
             Predicate<Person> classNumberPredicate = person -> person.getClassNumber().value.equals(trimmedArgs);
             return new FindCommand(classNumberPredicate, true);
         }
 
         String normalizedArgs = args.trim().replaceAll("\\s+", " ");
 
-        if (!normalizedArgs.matches(Name.VALIDATION_REGEX)) {
+        if (!Name.isValidName(normalizedArgs)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
 
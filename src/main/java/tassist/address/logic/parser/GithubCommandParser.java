@@ -6,7 +6,6 @@ import static tassist.address.logic.commands.GithubCommand.MESSAGE_USAGE;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_GITHUB;
 import static tassist.address.model.person.Github.MESSAGE_CONSTRAINTS;
 import static tassist.address.model.person.Github.NO_GITHUB;
-import static tassist.address.model.person.StudentId.VALIDATION_REGEX;
 
 import tassist.address.commons.core.index.Index;
 import tassist.address.commons.exceptions.IllegalValueException;
@@ -61,7 +60,7 @@ public class GithubCommandParser implements Parser<GithubCommand> {
             throw new ParseException(GithubCommand.MESSAGE_INVALID_GITHUB + " " + MESSAGE_CONSTRAINTS, e);
         }
 
-        if (trimmedArgs.matches(VALIDATION_REGEX)) {
+        if (StudentId.isValidStudentId(trimmedArgs)) {
             try {
                 StudentId studentId = ParserUtil.parseStudentId(trimmedArgs);
                 return new GithubCommand(studentId, new Github(github));
@@ -6,6 +6,8 @@ import static tassist.address.logic.Messages.MESSAGE_INVALID_FILE_PATH;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import tassist.address.commons.exceptions.IllegalValueException;
 import tassist.address.logic.commands.ImportCommand;
@@ -16,6 +18,9 @@ import tassist.address.logic.parser.exceptions.ParseException;
  */
 public class ImportCommandParser implements Parser<ImportCommand> {
 
+    private static final Pattern TRAILING_FLAG_FORMAT = Pattern.compile(
+            "(?<filePath>.*?)\\s+(?<flag>" + ImportCommand.FLAG_DELTA + "|" + ImportCommand.FLAG_DRY_RUN + ")");
+
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand
      * and returns an ImportCommand object for execution.
@@ -30,6 +35,20 @@ public class ImportCommandParser implements Parser<ImportCommand> {
                     ImportCommand.MESSAGE_USAGE));
         }
 
+        // Flags follow the file path, in any order
+        boolean isDelta = false;
+        boolean isDryRun = false;
+        Matcher matcher = TRAILING_FLAG_FORMAT.matcher(trimmedArgs);
+        while (matcher.matches()) {
+            if (matcher.group("flag").equals(ImportCommand.FLAG_DELTA)) {
+                isDelta = true;
+            } else {
+                isDryRun = true;
+            }
+            trimmedArgs = matcher.group("filePath");
+            matcher = TRAILING_FLAG_FORMAT.matcher(trimmedArgs);
+        }
+
         try {
             Path filePath = ParserUtil.parseFilePath(trimmedArgs);
 
@@ -37,7 +56,7 @@ public class ImportCommandParser implements Parser<ImportCommand> {
                 throw new ParseException(MESSAGE_INVALID_FILE_PATH);
             }
 
-            return new ImportCommand(filePath);
+            return new ImportCommand(filePath, isDelta, isDryRun);
         } catch (IllegalValueException ive) {
             throw new ParseException(MESSAGE_INVALID_FILE_PATH);
         }
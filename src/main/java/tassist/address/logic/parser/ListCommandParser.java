@@ -7,11 +7,17 @@ import static tassist.address.logic.commands.ListCommand.VALID_SORT_ORDERS;
 import static tassist.address.logic.commands.ListCommand.VALID_SORT_TYPES;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_FILTER;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_FILTER_VALUE;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_PAGE;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_SORT;
 
+import java.util.List;
+
 import tassist.address.logic.commands.ListCommand;
 import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.person.Progress;
 
 /**
@@ -24,10 +30,23 @@ public class ListCommandParser implements Parser<ListCommand> {
     public static final String MESSAGE_MISSING_FILTER_TYPE = "Please specify a filter type to filter the list! "
             + "Refer to the usage below for how to use the `list` command:\n" + MESSAGE_USAGE;
 
+    public static final String KEYWORD_EXPLAIN = "explain";
+
+    /** The words that start a query rather than prefixed sort and filter options. */
+    private static final List<String> QUERY_KEYWORDS = List.of(KEYWORD_EXPLAIN, QueryParser.KEYWORD_WHERE,
+            QueryParser.KEYWORD_SORT, QueryParser.KEYWORD_LIMIT, QueryParser.KEYWORD_OFFSET, QueryParser.KEYWORD_PAGE);
+
     @Override
     public ListCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        String firstWord = trimmedArgs.split("\\s+", 2)[0];
+        if (QUERY_KEYWORDS.stream().anyMatch(firstWord::equalsIgnoreCase)) {
+            return parseQuery(trimmedArgs);
+        }
+
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT, PREFIX_ORDER, PREFIX_FILTER,
-                PREFIX_FILTER_VALUE);
+                PREFIX_FILTER_VALUE, PREFIX_LIMIT, PREFIX_OFFSET, PREFIX_PAGE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT, PREFIX_OFFSET, PREFIX_PAGE);
 
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, "Please use: \n" + MESSAGE_USAGE));
@@ -42,8 +61,22 @@ public class ListCommandParser implements Parser<ListCommand> {
         validateSortOrder(sortOrder);
         validateFilterType(filterType, filterValue);
         validateFilterValue(filterValue, filterType);
+        PersonListWindow window = ParserUtil.parsePersonListWindow(argMultimap.getValue(PREFIX_LIMIT),
+                argMultimap.getValue(PREFIX_OFFSET), argMultimap.getValue(PREFIX_PAGE));
+
+        return new ListCommand(sortType, sortOrder, filterType, filterValue, window);
+    }
 
-        return new ListCommand(sortType, sortOrder, filterType, filterValue);
+    /**
+     * Parses a query, which may be preceded by {@code explain} to describe how it is evaluated.
+     */
+    private static ListCommand parseQuery(String args) throws ParseException {
+        String[] words = args.split("\\s+", 2);
+        if (words[0].equalsIgnoreCase(KEYWORD_EXPLAIN)) {
+            String query = words.length > 1 ? words[1] : "";
+            return new ListCommand(new QueryParser().parse(query), true);
+        }
+        return new ListCommand(new QueryParser().parse(args), false);
     }
 
     private static void validateFilterValue(String filterValue, String filterType) throws ParseException {
@@ -0,0 +1,32 @@
+package tassist.address.logic.parser;
+
+import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import tassist.address.commons.util.StringUtil;
+import tassist.address.logic.commands.PageCommand;
+import tassist.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PageCommand object
+ */
+public class PageCommandParser implements Parser<PageCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PageCommand
+     * and returns a PageCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PageCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.equalsIgnoreCase(PageCommand.KEYWORD_NEXT)) {
+            return PageCommand.next();
+        }
+        if (trimmedArgs.equalsIgnoreCase(PageCommand.KEYWORD_PREVIOUS)) {
+            return PageCommand.previous();
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PageCommand.MESSAGE_USAGE));
+        }
+        return PageCommand.ofPage(Integer.parseInt(trimmedArgs));
+    }
+}
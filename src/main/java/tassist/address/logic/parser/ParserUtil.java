@@ -7,12 +7,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import tassist.address.commons.core.index.Index;
 import tassist.address.commons.util.StringUtil;
 import tassist.address.logic.Messages;
 import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.person.ClassNumber;
 import tassist.address.model.person.Email;
 import tassist.address.model.person.Github;
@@ -30,6 +32,10 @@ import tassist.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_LIMIT = "The limit must be a positive integer.";
+    public static final String MESSAGE_INVALID_OFFSET = "The offset must be a non-negative integer.";
+    public static final String MESSAGE_INVALID_PAGE = "The page number must be a positive integer.";
+    public static final String MESSAGE_PAGE_WITH_OFFSET = "A page and an offset cannot be given together.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -44,6 +50,47 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses the limit, offset and page number of a list of students into the {@code PersonListWindow} to show.
+     * A page holds {@code limit} students, or {@code PersonListWindow.DEFAULT_PAGE_SIZE} if no limit is given.
+     * If none of them is given, every student is shown.
+     *
+     * @throws ParseException if a value is not a valid integer, or both a page and an offset are given.
+     */
+    public static PersonListWindow parsePersonListWindow(Optional<String> limit, Optional<String> offset,
+            Optional<String> page) throws ParseException {
+        requireNonNull(limit);
+        requireNonNull(offset);
+        requireNonNull(page);
+        if (page.isPresent() && offset.isPresent()) {
+            throw new ParseException(MESSAGE_PAGE_WITH_OFFSET);
+        }
+
+        int parsedLimit = Integer.MAX_VALUE;
+        if (limit.isPresent()) {
+            parsedLimit = parsePositiveInteger(limit.get(), MESSAGE_INVALID_LIMIT);
+        }
+        if (page.isPresent()) {
+            int pageSize = limit.isPresent() ? parsedLimit : PersonListWindow.DEFAULT_PAGE_SIZE;
+            return PersonListWindow.ofPage(parsePositiveInteger(page.get(), MESSAGE_INVALID_PAGE), pageSize);
+        }
+
+        int parsedOffset = 0;
+        if (offset.isPresent()) {
+            String trimmedOffset = offset.get().trim();
+            parsedOffset = trimmedOffset.equals("0") ? 0 : parsePositiveInteger(trimmedOffset, MESSAGE_INVALID_OFFSET);
+        }
+        return new PersonListWindow(parsedOffset, parsedLimit);
+    }
+
+    private static int parsePositiveInteger(String value, String errorMessage) throws ParseException {
+        String trimmedValue = value.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedValue)) {
+            throw new ParseException(errorMessage);
+        }
+        return Integer.parseInt(trimmedValue);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tassist.address.logic.commands.ProgressCommand.MESSAGE_USAGE;
 import static tassist.address.logic.parser.CliSyntax.PREFIX_PROGRESS;
-import static tassist.address.model.person.StudentId.VALIDATION_REGEX;
 
 import java.util.logging.Logger;
 
@@ -52,7 +51,7 @@ public class ProgressCommandParser implements Parser<ProgressCommand> {
             throw new ParseException(Progress.MESSAGE_CONSTRAINTS, e);
         }
 
-        if (preamble.matches(VALIDATION_REGEX)) {
+        if (StudentId.isValidStudentId(preamble)) {
             try {
                 logger.info("Parsing ClassCommand using student ID: " + preamble);
                 StudentId studentId = ParserUtil.parseStudentId(preamble);
@@ -0,0 +1,286 @@
+package tassist.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.PersonListWindow;
+import tassist.address.model.person.Progress;
+import tassist.address.model.query.PersonQuery;
+import tassist.address.model.query.QueryExpression;
+import tassist.address.model.query.QueryField;
+import tassist.address.model.query.SortKey;
+
+/**
+ * Parses a query into a {@code PersonQuery}.
+ * The grammar is, with keywords matched case-insensitively and {@code and} binding tighter than {@code or}:
+ * <pre>
+ * query      = [ "where" condition ] [ "sort" sortKey { "," sortKey } ] { window }
+ * condition  = conjunction { "or" conjunction }
+ * conjunction = term { "and" term }
+ * term       = "(" condition ")" | FIELD OPERATOR VALUE
+ * sortKey    = FIELD [ "asc" | "desc" ]
+ * window     = ( "limit" | "offset" | "page" ) NUMBER
+ * </pre>
+ * A value that holds spaces or operator characters can be quoted with double quotes.
+ * Each of {@code limit}, {@code offset} and {@code page} can be given once, as described in
+ * {@link ParserUtil#parsePersonListWindow}.
+ */
+public class QueryParser {
+
+    public static final String KEYWORD_WHERE = "where";
+    public static final String KEYWORD_SORT = "sort";
+    public static final String KEYWORD_LIMIT = "limit";
+    public static final String KEYWORD_OFFSET = "offset";
+    public static final String KEYWORD_PAGE = "page";
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid query: %1$s";
+    public static final String MESSAGE_UNKNOWN_FIELD = "unknown field '%1$s'. Fields: " + QueryField.KEYWORDS;
+    public static final String MESSAGE_EXPECTED_FIELD = "expected a field name but found %1$s";
+    public static final String MESSAGE_EXPECTED_OPERATOR = "expected one of =, !=, <, <=, >, >=, ~ after %1$s "
+            + "but found %2$s";
+    public static final String MESSAGE_INVALID_OPERATOR = "%1$s cannot be compared with %2$s";
+    public static final String MESSAGE_EXPECTED_VALUE = "expected a value after %1$s";
+    public static final String MESSAGE_INVALID_PROGRESS = "progress must be compared with a whole number. "
+            + Progress.MESSAGE_CONSTRAINTS;
+    public static final String MESSAGE_UNSORTABLE_FIELD = "students cannot be sorted by %1$s";
+    public static final String MESSAGE_UNCLOSED_PARENTHESIS = "missing ')'";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "missing closing '\"'";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "unexpected %1$s";
+    public static final String MESSAGE_DUPLICATE_WINDOW_KEYWORD = "'%1$s' is given more than once";
+
+    private static final String OPERATOR_CHARACTERS = "=!<>~";
+    private static final String PUNCTUATION_CHARACTERS = "(),";
+    private static final List<String> WINDOW_KEYWORDS = List.of(KEYWORD_LIMIT, KEYWORD_OFFSET, KEYWORD_PAGE);
+
+    private List<Token> tokens;
+    private int position;
+
+    /**
+     * Parses {@code query} into a {@code PersonQuery}. An empty query selects every student without sorting them.
+     *
+     * @throws ParseException if {@code query} does not follow the query grammar.
+     */
+    public PersonQuery parse(String query) throws ParseException {
+        requireNonNull(query);
+        tokens = tokenize(query);
+        position = 0;
+
+        QueryExpression where = null;
+        if (acceptKeyword(KEYWORD_WHERE)) {
+            where = parseCondition();
+        }
+        List<SortKey> sortKeys = new ArrayList<>();
+        if (acceptKeyword(KEYWORD_SORT)) {
+            do {
+                sortKeys.add(parseSortKey());
+            } while (accept(","));
+        }
+        PersonListWindow window = parseWindow();
+        if (position < tokens.size()) {
+            throw invalidQuery(String.format(MESSAGE_UNEXPECTED_TOKEN, describe(peek())));
+        }
+        return new PersonQuery(where, sortKeys, window);
+    }
+
+    private PersonListWindow parseWindow() throws ParseException {
+        Map<String, String> values = new HashMap<>();
+        Token token = peek();
+        while (token != null && !token.isQuoted && WINDOW_KEYWORDS.contains(token.text.toLowerCase())) {
+            String keyword = next().text.toLowerCase();
+            if (values.containsKey(keyword)) {
+                throw invalidQuery(String.format(MESSAGE_DUPLICATE_WINDOW_KEYWORD, keyword));
+            }
+            Token valueToken = next();
+            if (valueToken == null) {
+                throw invalidQuery(String.format(MESSAGE_EXPECTED_VALUE, keyword));
+            }
+            values.put(keyword, valueToken.text);
+            token = peek();
+        }
+
+        try {
+            return ParserUtil.parsePersonListWindow(Optional.ofNullable(values.get(KEYWORD_LIMIT)),
+                    Optional.ofNullable(values.get(KEYWORD_OFFSET)), Optional.ofNullable(values.get(KEYWORD_PAGE)));
+        } catch (ParseException e) {
+            throw invalidQuery(e.getMessage());
+        }
+    }
+
+    private QueryExpression parseCondition() throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        do {
+            operands.add(parseConjunction());
+        } while (acceptKeyword("or"));
+        return operands.size() == 1 ? operands.get(0) : new QueryExpression.Or(operands);
+    }
+
+    private QueryExpression parseConjunction() throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        do {
+            operands.add(parseTerm());
+        } while (acceptKeyword("and"));
+        return operands.size() == 1 ? operands.get(0) : new QueryExpression.And(operands);
+    }
+
+    private QueryExpression parseTerm() throws ParseException {
+        if (accept("(")) {
+            QueryExpression condition = parseCondition();
+            if (!accept(")")) {
+                throw invalidQuery(MESSAGE_UNCLOSED_PARENTHESIS);
+            }
+            return condition;
+        }
+
+        QueryField field = parseField();
+        Token operatorToken = next();
+        QueryExpression.Operator operator = operatorToken == null || operatorToken.isQuoted
+                ? null
+                : QueryExpression.Operator.fromSymbol(operatorToken.text).orElse(null);
+        if (operator == null) {
+            throw invalidQuery(String.format(MESSAGE_EXPECTED_OPERATOR, field, describe(operatorToken)));
+        }
+        if (field.isNumeric() ? !operator.isNumericOperator() : !operator.isTextOperator()) {
+            throw invalidQuery(String.format(MESSAGE_INVALID_OPERATOR, field, operator));
+        }
+
+        Token valueToken = next();
+        if (valueToken == null || (!valueToken.isQuoted && isSymbol(valueToken.text))) {
+            throw invalidQuery(String.format(MESSAGE_EXPECTED_VALUE, field + " " + operator));
+        }
+        if (field.isNumeric() && !Progress.isValidProgress(valueToken.text)) {
+            throw invalidQuery(MESSAGE_INVALID_PROGRESS);
+        }
+        return new QueryExpression.Comparison(field, operator, valueToken.text);
+    }
+
+    private SortKey parseSortKey() throws ParseException {
+        QueryField field = parseField();
+        if (!field.isSortable()) {
+            throw invalidQuery(String.format(MESSAGE_UNSORTABLE_FIELD, field));
+        }
+        if (acceptKeyword("desc")) {
+            return new SortKey(field, false);
+        }
+        acceptKeyword("asc");
+        return new SortKey(field, true);
+    }
+
+    private QueryField parseField() throws ParseException {
+        Token token = next();
+        if (token == null || token.isQuoted || isSymbol(token.text)) {
+            throw invalidQuery(String.format(MESSAGE_EXPECTED_FIELD, describe(token)));
+        }
+        return QueryField.fromKeyword(token.text)
+                .orElseThrow(() -> invalidQuery(String.format(MESSAGE_UNKNOWN_FIELD, token.text)));
+    }
+
+    private Token peek() {
+        return position < tokens.size() ? tokens.get(position) : null;
+    }
+
+    private Token next() {
+        Token token = peek();
+        if (token != null) {
+            position++;
+        }
+        return token;
+    }
+
+    /**
+     * Consumes the next token if it is the unquoted symbol {@code symbol}.
+     */
+    private boolean accept(String symbol) {
+        Token token = peek();
+        if (token == null || token.isQuoted || !token.text.equals(symbol)) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+
+    /**
+     * Consumes the next token if it is the unquoted keyword {@code keyword}, ignoring case.
+     */
+    private boolean acceptKeyword(String keyword) {
+        Token token = peek();
+        if (token == null || token.isQuoted || !token.text.equalsIgnoreCase(keyword)) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+
+    private static String describe(Token token) {
+        return token == null ? "the end of the query" : "'" + token.text + "'";
+    }
+
+    private static boolean isSymbol(String text) {
+        return OPERATOR_CHARACTERS.indexOf(text.charAt(0)) >= 0 || PUNCTUATION_CHARACTERS.indexOf(text.charAt(0)) >= 0;
+    }
+
+    private static ParseException invalidQuery(String detail) {
+        return new ParseException(String.format(MESSAGE_INVALID_QUERY, detail));
+    }
+
+    /**
+     * Splits {@code query} into words, quoted values, operators and punctuation in a single pass.
+     */
+    private static List<Token> tokenize(String query) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int length = query.length();
+        int i = 0;
+        while (i < length) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw invalidQuery(MESSAGE_UNCLOSED_QUOTE);
+                }
+                tokens.add(new Token(query.substring(i + 1, end), true));
+                i = end + 1;
+            } else if (PUNCTUATION_CHARACTERS.indexOf(c) >= 0) {
+                tokens.add(new Token(String.valueOf(c), false));
+                i++;
+            } else if (OPERATOR_CHARACTERS.indexOf(c) >= 0) {
+                int end = i + 1;
+                if (end < length && query.charAt(end) == '=' && c != '=' && c != '~') {
+                    end++;
+                }
+                tokens.add(new Token(query.substring(i, end), false));
+                i = end;
+            } else {
+                int end = i + 1;
+                while (end < length && !Character.isWhitespace(query.charAt(end))
+                        && OPERATOR_CHARACTERS.indexOf(query.charAt(end)) < 0
+                        && PUNCTUATION_CHARACTERS.indexOf(query.charAt(end)) < 0
+                        && query.charAt(end) != '"') {
+                    end++;
+                }
+                tokens.add(new Token(query.substring(i, end), false));
+                i = end;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Represents a token of a query. A quoted token is always a value, even if its text is a keyword or symbol.
+     */
+    private static class Token {
+        private final String text;
+        private final boolean isQuoted;
+
+        private Token(String text, boolean isQuoted) {
+            this.text = text;
+            this.isQuoted = isQuoted;
+        }
+    }
+}
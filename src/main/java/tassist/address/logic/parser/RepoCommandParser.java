@@ -63,7 +63,7 @@ public class RepoCommandParser implements Parser<RepoCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_VALID_COMMAND));
         }
 
-        if (trimmedArgs.matches(StudentId.VALIDATION_REGEX)) {
+        if (StudentId.isValidStudentId(trimmedArgs)) {
             try {
                 StudentId studentId = ParserUtil.parseStudentId(trimmedArgs);
                 return new RepoCommand(studentId, username, repositoryName, repository);
@@ -0,0 +1,45 @@
+package tassist.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tassist.address.logic.Messages.MESSAGE_INVALID_FILE_PATH;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.logic.commands.RunCommand;
+import tassist.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Path filePath = ParserUtil.parseFilePath(trimmedArgs);
+
+            if (!Files.isRegularFile(filePath)) {
+                throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+            }
+
+            return new RunCommand(filePath);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+    }
+}
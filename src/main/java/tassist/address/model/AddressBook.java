@@ -1,12 +1,24 @@
 package tassist.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import tassist.address.commons.util.PersistentList;
 import tassist.address.commons.util.ToStringBuilder;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
 import tassist.address.model.person.UniquePersonList;
 import tassist.address.model.timedevents.TimedEvent;
 import tassist.address.model.timedevents.UniqueTimedEventList;
@@ -14,11 +26,28 @@ import tassist.address.model.timedevents.UniqueTimedEventList;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Every person-level operation also records when the affected persons were last changed or deleted,
+ * which is what incremental exports are computed from.
+ * The lists are mirrored into persistent lists as they change, so a snapshot of the address book can be taken in
+ * O(1) for undo and redo, and an immutable copy of it can be published to other threads without copying the lists.
+ * During a batch, the changes to the persons list reach its listeners together, and enough is recorded to roll the
+ * batch back without copying the address book.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueTimedEventList timedEvents;
+    private final Map<StudentId, LocalDateTime> personModifiedTimes = new HashMap<>();
+    private final Map<StudentId, LocalDateTime> personDeletedTimes = new HashMap<>();
+    private LocalDateTime lastExportTime;
+    private PersistentList<Person> personsVersion = PersistentList.empty();
+    private PersistentList<TimedEvent> timedEventsVersion = PersistentList.empty();
+    private int newNodeCountSinceSnapshot;
+    private boolean areChangeTimesCopied;
+    private Map<StudentId, LocalDateTime> personModifiedTimesCopy;
+    private Map<StudentId, LocalDateTime> personDeletedTimesCopy;
+    /** What to restore if the batch in progress is rolled back, or null if there is no batch in progress. */
+    private BatchRollback batchRollback;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -30,6 +59,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         timedEvents = new UniqueTimedEventList();
+
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                personsVersion = applyChange(personsVersion, change));
+        timedEvents.asUnmodifiableObservableList().addListener((ListChangeListener<TimedEvent>) change ->
+                timedEventsVersion = applyChange(timedEventsVersion, change));
     }
 
     public AddressBook() {}
@@ -42,6 +76,44 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns {@code version} with {@code change} applied, counting the nodes it creates towards the next snapshot.
+     * Each part of the change is applied at its own position, so changing k elements copies O(k log n) nodes. A
+     * change that replaces most of the list, such as a {@code setAll}, builds it again from the new elements instead.
+     */
+    private <T> PersistentList<T> applyChange(PersistentList<T> version,
+            ListChangeListener.Change<? extends T> change) {
+        int changedSize = 0;
+        while (change.next()) {
+            changedSize += change.wasPermutated() || change.wasUpdated()
+                    ? change.getTo() - change.getFrom()
+                    : change.getRemovedSize() + change.getAddedSize();
+        }
+        if (changedSize > change.getList().size()) {
+            PersistentList<T> rebuilt = version.withElements(change.getList());
+            newNodeCountSinceSnapshot += rebuilt.getNewNodeCount();
+            return rebuilt;
+        }
+
+        change.reset();
+        PersistentList<T> changed = version;
+        while (change.next()) {
+            int from = change.getFrom();
+            PersistentList<T> next;
+            if (change.wasPermutated() || change.wasUpdated()) {
+                int to = change.getTo();
+                next = changed.replace(from, to - from, change.getList().subList(from, to));
+            } else {
+                next = changed.replace(from, change.getRemovedSize(), change.getAddedSubList());
+            }
+            if (next != changed) {
+                newNodeCountSinceSnapshot += next.getNewNodeCount();
+                changed = next;
+            }
+        }
+        return changed;
+    }
+
     //// list overwrite operations
 
     /**
@@ -49,7 +121,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        Set<StudentId> replacedStudentIds = new HashSet<>(personModifiedTimes.keySet());
         this.persons.setPersons(persons);
+
+        LocalDateTime now = LocalDateTime.now();
+        replacedStudentIds.forEach(this::rememberChangeTimes);
+        personModifiedTimes.clear();
+        areChangeTimesCopied = false;
+        for (Person person : persons) {
+            replacedStudentIds.remove(person.getStudentId());
+            markModified(person.getStudentId(), now);
+        }
+        replacedStudentIds.forEach(studentId -> personDeletedTimes.put(studentId, now));
     }
 
     /**
@@ -67,6 +150,193 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
         setTimedEvents(newData.getTimedEventList());
+        restoreChangeTimes(newData.getPersonModifiedTimes(), newData.getPersonDeletedTimes(),
+                newData.getLastExportTime().orElse(lastExportTime));
+    }
+
+    /**
+     * Overrides the recorded change times with {@code modifiedTimes}, {@code deletedTimes} and
+     * {@code lastExportTime}, e.g. when restoring them from storage.
+     * Times are only restored for student IDs whose presence in the persons list matches, so persons without a
+     * restored time keep the time they were added at.
+     */
+    public void restoreChangeTimes(Map<StudentId, LocalDateTime> modifiedTimes,
+            Map<StudentId, LocalDateTime> deletedTimes, LocalDateTime lastExportTime) {
+        requireAllNonNull(modifiedTimes, deletedTimes);
+        areChangeTimesCopied = false;
+        modifiedTimes.forEach((studentId, time) -> {
+            if (personModifiedTimes.containsKey(studentId)) {
+                rememberChangeTimes(studentId);
+                personModifiedTimes.put(studentId, time);
+            }
+        });
+        deletedTimes.forEach((studentId, time) -> {
+            if (!personModifiedTimes.containsKey(studentId)) {
+                rememberChangeTimes(studentId);
+                personDeletedTimes.put(studentId, time);
+            }
+        });
+        this.lastExportTime = lastExportTime;
+    }
+
+    /**
+     * Records {@code time} as the time this address book was last exported.
+     */
+    public void setLastExportTime(LocalDateTime time) {
+        requireNonNull(time);
+        lastExportTime = time;
+    }
+
+    /**
+     * Records {@code time} as the time this address book was last exported in full, and forgets the persons deleted
+     * before then. A full export already leaves them out, so later delta exports do not need to delete them again.
+     */
+    public void recordFullExport(LocalDateTime time) {
+        requireNonNull(time);
+        lastExportTime = time;
+        List<StudentId> forgottenStudentIds = personDeletedTimes.entrySet().stream()
+                .filter(entry -> entry.getValue().isBefore(time))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        for (StudentId studentId : forgottenStudentIds) {
+            rememberChangeTimes(studentId);
+            personDeletedTimes.remove(studentId);
+            areChangeTimesCopied = false;
+        }
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch, during which the changes to the persons list are held back from its listeners until
+     * {@link #releaseHeldChanges()} or {@link #endBatch(boolean)}, and which can be rolled back.
+     * There must not already be a batch in progress.
+     */
+    public void beginBatch() {
+        persons.holdChanges();
+        batchRollback = new BatchRollback(lastExportTime, timedEventsVersion);
+    }
+
+    /**
+     * Notifies the listeners of the persons list of the changes held back so far in the batch in progress, as one
+     * change. Does nothing if there is no batch in progress.
+     */
+    public void releaseHeldChanges() {
+        persons.releaseHeldChanges();
+    }
+
+    /**
+     * Returns true if the persons list changed in the batch in progress since its changes were last released, in
+     * which case the lists derived from it have not caught up yet.
+     */
+    public boolean hasHeldPersonChanges() {
+        return persons.hasHeldChanges();
+    }
+
+    /**
+     * Ends the batch in progress, undoing its changes first if {@code isRolledBack} is true, and notifies the
+     * listeners of the persons list of the changes not released yet as one change.
+     * A rolled back change to the persons list is undone position by position, and the change times of just the
+     * persons the batch touched are restored.
+     */
+    public void endBatch(boolean isRolledBack) {
+        requireNonNull(batchRollback);
+        BatchRollback rollback = batchRollback;
+        batchRollback = null;
+        if (isRolledBack) {
+            rollback.changeTimes.forEach((studentId, changeTimes) -> {
+                restoreTime(personModifiedTimes, studentId, changeTimes.modifiedTime);
+                restoreTime(personDeletedTimes, studentId, changeTimes.deletedTime);
+            });
+            areChangeTimesCopied = false;
+            lastExportTime = rollback.lastExportTime;
+            if (timedEventsVersion != rollback.timedEventsVersion) {
+                timedEvents.setTimedEvents(rollback.timedEventsVersion.toList());
+            }
+        }
+        persons.stopHoldingChanges(isRolledBack);
+    }
+
+    private static void restoreTime(Map<StudentId, LocalDateTime> times, StudentId studentId, LocalDateTime time) {
+        if (time == null) {
+            times.remove(studentId);
+        } else {
+            times.put(studentId, time);
+        }
+    }
+
+    /**
+     * Records the change times of {@code studentId} before they are first changed in the batch in progress, if any.
+     */
+    private void rememberChangeTimes(StudentId studentId) {
+        if (batchRollback != null && !batchRollback.changeTimes.containsKey(studentId)) {
+            batchRollback.changeTimes.put(studentId,
+                    new ChangeTimes(personModifiedTimes.get(studentId), personDeletedTimes.get(studentId)));
+        }
+    }
+
+    //// snapshot operations
+
+    /**
+     * Returns a snapshot of the current persons and timed events, in O(1).
+     * The snapshot records the nodes changed since the previous call, so snapshots should only be taken by the
+     * owner of the undo history.
+     */
+    public AddressBookSnapshot takeSnapshot() {
+        releaseHeldChanges();
+        AddressBookSnapshot snapshot =
+                new AddressBookSnapshot(personsVersion, timedEventsVersion, newNodeCountSinceSnapshot);
+        newNodeCountSinceSnapshot = 0;
+        return snapshot;
+    }
+
+    /**
+     * Returns an immutable copy of the address book as it is now, which can be read from any thread.
+     * The persons and timed events are shared rather than copied, so this is O(1) unless change times were recorded
+     * since the previous copy, in which case only the change times are copied.
+     * Unlike {@link #takeSnapshot()}, this does not affect the snapshots taken for undo and redo.
+     */
+    public ImmutableAddressBook toImmutableAddressBook() {
+        releaseHeldChanges();
+        if (!areChangeTimesCopied) {
+            personModifiedTimesCopy = Map.copyOf(personModifiedTimes);
+            personDeletedTimesCopy = Map.copyOf(personDeletedTimes);
+            areChangeTimesCopied = true;
+        }
+        return new ImmutableAddressBook(personsVersion, timedEventsVersion, personModifiedTimesCopy,
+                personDeletedTimesCopy, lastExportTime);
+    }
+
+    /**
+     * Replaces the persons and timed events with those in {@code snapshot}.
+     * Persons that differ from the snapshot are recorded as changed or deleted now, since they differ from what was
+     * last exported just as if they had been edited.
+     */
+    public void restoreSnapshot(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        List<Person> restoredPersons = snapshot.getPersons().toList();
+        Map<StudentId, Person> currentPersons = new HashMap<>();
+        persons.forEach(person -> currentPersons.put(person.getStudentId(), person));
+
+        // The persistent lists are set to the snapshot's below, so the changes held in a batch must reach them before
+        releaseHeldChanges();
+        persons.setPersons(restoredPersons);
+        releaseHeldChanges();
+        timedEvents.setTimedEvents(snapshot.getTimedEvents().toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Person restoredPerson : restoredPersons) {
+            Person currentPerson = currentPersons.remove(restoredPerson.getStudentId());
+            if (currentPerson == null || !currentPerson.hasSameDetails(restoredPerson)) {
+                markModified(restoredPerson.getStudentId(), now);
+            }
+        }
+        currentPersons.keySet().forEach(studentId -> markDeleted(studentId, now));
+
+        // Share the snapshot's lists again, so that the restored state is recognised as the same version
+        personsVersion = snapshot.getPersons();
+        timedEventsVersion = snapshot.getTimedEvents();
+        newNodeCountSinceSnapshot = 0;
     }
 
     //// person-level operations
@@ -85,6 +355,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        markModified(p.getStudentId(), LocalDateTime.now());
     }
 
     /**
@@ -97,6 +368,27 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
         // Verify data consistency
         assert hasPerson(editedPerson) : "Edited person should exist in address book";
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!target.isSamePerson(editedPerson)) {
+            markDeleted(target.getStudentId(), now);
+        }
+        markModified(editedPerson.getStudentId(), now);
+    }
+
+    /**
+     * Replaces each person with the same identity as a person in {@code editedPersons} with that person,
+     * in a single update of the persons list.
+     * Every person in {@code editedPersons} must already exist in the address book.
+     */
+    public void updatePersons(List<Person> editedPersons) {
+        requireNonNull(editedPersons);
+        persons.updatePersons(editedPersons);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Person editedPerson : editedPersons) {
+            markModified(editedPerson.getStudentId(), now);
+        }
     }
 
     /**
@@ -107,6 +399,47 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
         // Verify person was removed
         assert !hasPerson(key) : "Person should be removed from address book";
+        markDeleted(key.getStudentId(), LocalDateTime.now());
+    }
+
+    /**
+     * Applies {@code delta} to this {@code AddressBook} in a single update of the persons list.
+     * Changed persons replace the persons with the same identity or are added if there is none, persons with a
+     * deleted student ID are removed if present, and timed events that do not exist yet are added.
+     */
+    public void applyDelta(AddressBookDelta delta) {
+        requireNonNull(delta);
+        persons.applyChanges(delta.getChangedPersons(), delta.getDeletedStudentIds());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (StudentId studentId : delta.getDeletedStudentIds()) {
+            if (personModifiedTimes.containsKey(studentId)) {
+                markDeleted(studentId, now);
+            }
+        }
+        for (Person person : delta.getChangedPersons()) {
+            markModified(person.getStudentId(), now);
+        }
+
+        for (TimedEvent timedEvent : delta.getTimedEvents()) {
+            if (!timedEvents.contains(timedEvent)) {
+                timedEvents.add(timedEvent);
+            }
+        }
+    }
+
+    private void markModified(StudentId studentId, LocalDateTime time) {
+        rememberChangeTimes(studentId);
+        personModifiedTimes.put(studentId, time);
+        personDeletedTimes.remove(studentId);
+        areChangeTimesCopied = false;
+    }
+
+    private void markDeleted(StudentId studentId, LocalDateTime time) {
+        rememberChangeTimes(studentId);
+        personModifiedTimes.remove(studentId);
+        personDeletedTimes.put(studentId, time);
+        areChangeTimesCopied = false;
     }
 
     //// timed event-level operations
@@ -160,6 +493,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         return timedEvents.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Map<StudentId, LocalDateTime> getPersonModifiedTimes() {
+        return Collections.unmodifiableMap(personModifiedTimes);
+    }
+
+    @Override
+    public Map<StudentId, LocalDateTime> getPersonDeletedTimes() {
+        return Collections.unmodifiableMap(personDeletedTimes);
+    }
+
+    @Override
+    public Optional<LocalDateTime> getLastExportTime() {
+        return Optional.ofNullable(lastExportTime);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -179,4 +527,32 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode() ^ timedEvents.hashCode();
     }
+
+    /**
+     * Represents what a batch changed that is restored if it is rolled back, other than the persons list.
+     */
+    private static class BatchRollback {
+        /** The change times of each student ID before the batch first changed them. */
+        private final Map<StudentId, ChangeTimes> changeTimes = new HashMap<>();
+        private final LocalDateTime lastExportTime;
+        private final PersistentList<TimedEvent> timedEventsVersion;
+
+        private BatchRollback(LocalDateTime lastExportTime, PersistentList<TimedEvent> timedEventsVersion) {
+            this.lastExportTime = lastExportTime;
+            this.timedEventsVersion = timedEventsVersion;
+        }
+    }
+
+    /**
+     * Represents the time a student ID was last modified and the time it was deleted, either of which may be null.
+     */
+    private static class ChangeTimes {
+        private final LocalDateTime modifiedTime;
+        private final LocalDateTime deletedTime;
+
+        private ChangeTimes(LocalDateTime modifiedTime, LocalDateTime deletedTime) {
+            this.modifiedTime = modifiedTime;
+            this.deletedTime = deletedTime;
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package tassist.address.model;
+
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import tassist.address.commons.util.ToStringBuilder;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Represents the persons that were changed or deleted in an address book since a point in time.
+ * The timed events of the address book are carried in full so that the changed persons can be applied on their own.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class AddressBookDelta {
+
+    private final LocalDateTime since;
+    private final List<Person> changedPersons;
+    private final List<StudentId> deletedStudentIds;
+    private final List<TimedEvent> timedEvents;
+
+    /**
+     * Every field except {@code since} must be present and not null.
+     * A null {@code since} means the delta covers every person in the address book.
+     */
+    public AddressBookDelta(LocalDateTime since, List<Person> changedPersons, List<StudentId> deletedStudentIds,
+            List<TimedEvent> timedEvents) {
+        requireAllNonNull(changedPersons, deletedStudentIds, timedEvents);
+        this.since = since;
+        this.changedPersons = Collections.unmodifiableList(new ArrayList<>(changedPersons));
+        this.deletedStudentIds = Collections.unmodifiableList(new ArrayList<>(deletedStudentIds));
+        this.timedEvents = Collections.unmodifiableList(new ArrayList<>(timedEvents));
+    }
+
+    /**
+     * Returns the changes made to {@code addressBook} at or after {@code since}.
+     * If {@code since} is null, every person in the address book is treated as changed.
+     */
+    public static AddressBookDelta since(ReadOnlyAddressBook addressBook, LocalDateTime since) {
+        Map<StudentId, LocalDateTime> modifiedTimes = addressBook.getPersonModifiedTimes();
+        List<Person> changedPersons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            LocalDateTime modifiedTime = modifiedTimes.get(person.getStudentId());
+            if (since == null || modifiedTime == null || !modifiedTime.isBefore(since)) {
+                changedPersons.add(person);
+            }
+        }
+
+        List<StudentId> deletedStudentIds = new ArrayList<>();
+        if (since != null) {
+            addressBook.getPersonDeletedTimes().forEach((studentId, deletedTime) -> {
+                if (!deletedTime.isBefore(since)) {
+                    deletedStudentIds.add(studentId);
+                }
+            });
+        }
+
+        return new AddressBookDelta(since, changedPersons, deletedStudentIds, addressBook.getTimedEventList());
+    }
+
+    /**
+     * Returns the time the delta was taken from, or {@code Optional.empty()} if it covers every person.
+     */
+    public Optional<LocalDateTime> getSince() {
+        return Optional.ofNullable(since);
+    }
+
+    public List<Person> getChangedPersons() {
+        return changedPersons;
+    }
+
+    public List<StudentId> getDeletedStudentIds() {
+        return deletedStudentIds;
+    }
+
+    public List<TimedEvent> getTimedEvents() {
+        return timedEvents;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookDelta)) {
+            return false;
+        }
+
+        AddressBookDelta otherDelta = (AddressBookDelta) other;
+        return Objects.equals(since, otherDelta.since)
+                && changedPersons.equals(otherDelta.changedPersons)
+                && deletedStudentIds.equals(otherDelta.deletedStudentIds)
+                && timedEvents.equals(otherDelta.timedEvents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(since, changedPersons, deletedStudentIds, timedEvents);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("since", since)
+                .add("changedPersons", changedPersons)
+                .add("deletedStudentIds", deletedStudentIds)
+                .add("timedEvents", timedEvents)
+                .toString();
+    }
+}
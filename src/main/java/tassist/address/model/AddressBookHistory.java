@@ -0,0 +1,146 @@
+package tassist.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tassist.address.commons.util.ToStringBuilder;
+
+/**
+ * Keeps the snapshots of an address book that undo and redo move between.
+ * The oldest snapshots are dropped once more than {@code depth} changes can be undone, or once the estimated memory
+ * held by the snapshots goes over the memory budget.
+ */
+public class AddressBookHistory {
+
+    /**
+     * The estimated memory held by each list node a snapshot does not share with the snapshot before it.
+     * This covers the node itself and a share of the changed element it refers to.
+     */
+    public static final long ESTIMATED_BYTES_PER_NODE = 128;
+
+    public static final String MESSAGE_CONSTRAINTS = "The undo history depth and memory budget must not be negative";
+
+    private final List<AddressBookSnapshot> snapshots = new ArrayList<>();
+    private int currentIndex;
+    private int depth;
+    private long memoryBudget;
+
+    /**
+     * Creates a history whose only snapshot is {@code initialSnapshot}.
+     *
+     * @param depth The maximum number of changes that can be undone.
+     * @param memoryBudget The maximum estimated memory, in bytes, the snapshots that can be returned to may hold.
+     */
+    public AddressBookHistory(AddressBookSnapshot initialSnapshot, int depth, long memoryBudget) {
+        requireNonNull(initialSnapshot);
+        snapshots.add(initialSnapshot);
+        currentIndex = 0;
+        setLimits(depth, memoryBudget);
+    }
+
+    /**
+     * Changes the depth and memory budget of the history, dropping the oldest snapshots if they no longer fit.
+     */
+    public void setLimits(int depth, long memoryBudget) {
+        checkArgument(depth >= 0 && memoryBudget >= 0, MESSAGE_CONSTRAINTS);
+        this.depth = depth;
+        this.memoryBudget = memoryBudget;
+        dropOldSnapshots();
+    }
+
+    /**
+     * Records {@code snapshot} as the current state, discarding the states that could be redone.
+     * Nothing is recorded if {@code snapshot} is the same version as the current state.
+     *
+     * @return true if the snapshot was recorded.
+     */
+    public boolean commit(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        if (snapshot.isSameVersionAs(getCurrentSnapshot())) {
+            return false;
+        }
+
+        snapshots.subList(currentIndex + 1, snapshots.size()).clear();
+        snapshots.add(snapshot);
+        currentIndex++;
+        dropOldSnapshots();
+        return true;
+    }
+
+    public boolean canUndo() {
+        return currentIndex > 0;
+    }
+
+    public boolean canRedo() {
+        return currentIndex < snapshots.size() - 1;
+    }
+
+    /**
+     * Moves back to the previous state and returns its snapshot.
+     *
+     * @throws IllegalStateException if there is no previous state.
+     */
+    public AddressBookSnapshot undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no state to undo to");
+        }
+        currentIndex--;
+        return getCurrentSnapshot();
+    }
+
+    /**
+     * Moves forward to the state that was last undone and returns its snapshot.
+     *
+     * @throws IllegalStateException if there is no undone state.
+     */
+    public AddressBookSnapshot redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no state to redo to");
+        }
+        currentIndex++;
+        return getCurrentSnapshot();
+    }
+
+    public AddressBookSnapshot getCurrentSnapshot() {
+        return snapshots.get(currentIndex);
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, held by the snapshots apart from the oldest one, which shares
+     * whatever it holds with the snapshots after it or is the current state.
+     */
+    public long getEstimatedMemory() {
+        long nodeCount = 0;
+        for (int i = 1; i < snapshots.size(); i++) {
+            nodeCount += snapshots.get(i).getNewNodeCount();
+        }
+        return nodeCount * ESTIMATED_BYTES_PER_NODE;
+    }
+
+    /**
+     * Drops the oldest snapshots until the history fits its depth and memory budget.
+     * The current state is never dropped.
+     */
+    private void dropOldSnapshots() {
+        while (currentIndex > 0 && (currentIndex > depth || getEstimatedMemory() > memoryBudget)) {
+            snapshots.remove(0);
+            currentIndex--;
+        }
+        while (snapshots.size() - 1 > depth) {
+            snapshots.remove(snapshots.size() - 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("snapshots", snapshots.size())
+                .add("currentIndex", currentIndex)
+                .add("depth", depth)
+                .add("memoryBudget", memoryBudget)
+                .toString();
+    }
+}
@@ -3,15 +3,26 @@ package tassist.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import tassist.address.commons.core.GuiSettings;
+import tassist.address.commons.util.CollectionUtil;
+import tassist.address.commons.util.PagedList;
 import tassist.address.model.person.Person;
+import tassist.address.model.query.PersonIndex;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
@@ -22,8 +33,17 @@ public class AddressBookModel implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
+    private final PagedList<Person> pagedPersons;
     private final FilteredList<TimedEvent> filteredTimedEvents;
     private final SortedList<TimedEvent> sortedTimedEvents;
+    private final AddressBookHistory history;
+    private final PersonIndex personIndex;
+    private final AtomicReference<ImmutableAddressBook> addressBookSnapshot = new AtomicReference<>();
+    private Predicate<Person> personPredicate;
+    private int matchingPersonCount;
+    private boolean isBatching = false;
+    /** Whether the shown persons must be refreshed once the lists derived from the address book catch up. */
+    private boolean isShownPersonsRefreshPending = false;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,8 +56,18 @@ public class AddressBookModel implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         sortedPersons = new SortedList<>(filteredPersons);
+        pagedPersons = new PagedList<>(sortedPersons);
         filteredTimedEvents = new FilteredList<>(this.addressBook.getTimedEventList());
         sortedTimedEvents = new SortedList<>(filteredTimedEvents);
+        personIndex = new PersonIndex(this.addressBook.getPersonList());
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            if (isShownPersonsRefreshPending || isTopPersonsShown()) {
+                refreshShownPersons();
+            }
+        });
+        history = new AddressBookHistory(this.addressBook.takeSnapshot(), this.userPrefs.getUndoHistoryDepth(),
+                this.userPrefs.getUndoMemoryBudget());
+        addressBookSnapshot.set(this.addressBook.toImmutableAddressBook());
     }
 
     public AddressBookModel() {
@@ -50,6 +80,7 @@ public class AddressBookModel implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setLimits(this.userPrefs.getUndoHistoryDepth(), this.userPrefs.getUndoMemoryBudget());
     }
 
     @Override
@@ -91,6 +122,87 @@ public class AddressBookModel implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBookSnapshot.get();
+    }
+
+    @Override
+    public <E extends Exception> void batch(BatchOperation<E> operation, boolean isRollbackOnFailure) throws E {
+        requireNonNull(operation);
+        if (isBatching) {
+            // The batch in progress decides what happens to the changes
+            operation.apply(this);
+            return;
+        }
+
+        UserPrefs userPrefsBefore = new UserPrefs(userPrefs);
+        Predicate<Person> personPredicateBefore = personPredicate;
+        Comparator<? super Person> personComparatorBefore = sortedPersons.getComparator();
+        PersonListWindow windowBefore = getPersonListWindow();
+        Predicate<? super TimedEvent> timedEventPredicateBefore = filteredTimedEvents.getPredicate();
+        Comparator<? super TimedEvent> timedEventComparatorBefore = sortedTimedEvents.getComparator();
+
+        isBatching = true;
+        addressBook.beginBatch();
+        boolean isCompleted = false;
+        try {
+            operation.apply(this);
+            isCompleted = true;
+        } finally {
+            boolean isRolledBack = !isCompleted && isRollbackOnFailure;
+            isBatching = false;
+            addressBook.endBatch(isRolledBack);
+            if (isRolledBack) {
+                setUserPrefs(userPrefsBefore);
+                personPredicate = personPredicateBefore;
+                sortedPersons.setComparator(personComparatorBefore);
+                pagedPersons.setWindow(windowBefore.getOffset(), windowBefore.getLimit());
+                filteredTimedEvents.setPredicate(timedEventPredicateBefore);
+                sortedTimedEvents.setComparator(timedEventComparatorBefore);
+                refreshShownPersons();
+            }
+        }
+    }
+
+    /**
+     * Brings the lists derived from the address book up to date with the changes held back in the batch in
+     * progress, if any.
+     */
+    private void releaseHeldChanges() {
+        addressBook.releaseHeldChanges();
+        if (isShownPersonsRefreshPending) {
+            refreshShownPersons();
+        }
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.restoreSnapshot(history.undo());
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.restoreSnapshot(history.redo());
+    }
+
+    @Override
+    public void commitAddressBook() {
+        releaseHeldChanges();
+        history.commit(addressBook.takeSnapshot());
+        addressBookSnapshot.set(addressBook.toImmutableAddressBook());
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -115,6 +227,31 @@ public class AddressBookModel implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void updatePersons(List<Person> editedPersons) {
+        requireNonNull(editedPersons);
+        addressBook.updatePersons(editedPersons);
+    }
+
+    @Override
+    public void applyAddressBookDelta(AddressBookDelta delta) {
+        requireNonNull(delta);
+        addressBook.applyDelta(delta);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void setLastExportTime(LocalDateTime time) {
+        requireNonNull(time);
+        addressBook.setLastExportTime(time);
+    }
+
+    @Override
+    public void recordFullExport(LocalDateTime time) {
+        requireNonNull(time);
+        addressBook.recordFullExport(time);
+    }
+
     @Override
     public boolean hasTimedEvent(TimedEvent timedEvent) {
         requireNonNull(timedEvent);
@@ -156,19 +293,96 @@ public class AddressBookModel implements Model {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return sortedPersons;
+        releaseHeldChanges();
+        return pagedPersons;
+    }
+
+    @Override
+    public void updatePersonListWindow(PersonListWindow window) {
+        requireNonNull(window);
+        pagedPersons.setWindow(window.getOffset(), window.getLimit());
+        refreshShownPersons();
+    }
+
+    @Override
+    public PersonListWindow getPersonListWindow() {
+        return new PersonListWindow(pagedPersons.getOffset(), pagedPersons.getLimit());
+    }
+
+    @Override
+    public List<Person> getMatchingPersons() {
+        releaseHeldChanges();
+        if (!isTopPersonsShown()) {
+            return Collections.unmodifiableList(filteredPersons);
+        }
+        // Only the persons up to the end of the window are kept in the filtered list, so the rest are found again
+        return addressBook.getPersonList().stream()
+                .filter(personPredicate == null ? PREDICATE_SHOW_ALL_PERSONS : personPredicate)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int getMatchingPersonCount() {
+        releaseHeldChanges();
+        return isTopPersonsShown() ? matchingPersonCount : sortedPersons.size();
+    }
+
+    /**
+     * Returns true if only the persons up to the end of the window are kept in the sorted list.
+     */
+    private boolean isTopPersonsShown() {
+        return sortedPersons.getComparator() != null && getPersonListWindow().isLimited();
+    }
+
+    /**
+     * Filters the person list by the current predicate, keeping only the persons up to the end of the window if the
+     * list is sorted and limited.
+     */
+    private void refreshShownPersons() {
+        if (addressBook.hasHeldPersonChanges()) {
+            isShownPersonsRefreshPending = true;
+            return;
+        }
+        isShownPersonsRefreshPending = false;
+        if (!isTopPersonsShown()) {
+            filteredPersons.setPredicate(personPredicate);
+            return;
+        }
+
+        List<Person> matches = addressBook.getPersonList().stream()
+                .filter(personPredicate == null ? PREDICATE_SHOW_ALL_PERSONS : personPredicate)
+                .collect(Collectors.toList());
+        PersonListWindow window = getPersonListWindow();
+        int topCount = (int) Math.min((long) window.getOffset() + window.getLimit(), Integer.MAX_VALUE);
+        Set<Person> topPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        topPersons.addAll(CollectionUtil.selectSmallest(matches, topCount, sortedPersons.getComparator()));
+        matchingPersonCount = matches.size();
+        filteredPersons.setPredicate(topPersons::contains);
+    }
+
+    @Override
+    public PersonIndex getPersonIndex() {
+        releaseHeldChanges();
+        return personIndex;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        personPredicate = predicate;
+        refreshShownPersons();
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonPredicate() {
+        return personPredicate == null ? PREDICATE_SHOW_ALL_PERSONS : personPredicate;
     }
 
     @Override
     public void updateSortedPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
         sortedPersons.setComparator(comparator);
+        refreshShownPersons();
     }
 
     @Override
@@ -188,6 +402,7 @@ public class AddressBookModel implements Model {
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
                 && filteredPersons.equals(other.filteredPersons)
+                && getPersonListWindow().equals(other.getPersonListWindow())
                 && filteredTimedEvents.equals(other.filteredTimedEvents);
     }
 
@@ -0,0 +1,68 @@
+package tassist.address.model;
+
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import tassist.address.commons.util.PersistentList;
+import tassist.address.commons.util.ToStringBuilder;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Represents the persons and timed events of an {@code AddressBook} at one point in time.
+ * Snapshots share structure with the snapshots taken before them, so taking one is O(1) and keeping one costs
+ * memory in proportion to the changes since the previous snapshot.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class AddressBookSnapshot {
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<TimedEvent> timedEvents;
+    private final int newNodeCount;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param newNodeCount The number of list nodes not shared with the previous snapshot.
+     */
+    public AddressBookSnapshot(PersistentList<Person> persons, PersistentList<TimedEvent> timedEvents,
+            int newNodeCount) {
+        requireAllNonNull(persons, timedEvents);
+        this.persons = persons;
+        this.timedEvents = timedEvents;
+        this.newNodeCount = newNodeCount;
+    }
+
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    public PersistentList<TimedEvent> getTimedEvents() {
+        return timedEvents;
+    }
+
+    /**
+     * Returns the number of list nodes this snapshot does not share with the snapshot taken before it.
+     */
+    public int getNewNodeCount() {
+        return newNodeCount;
+    }
+
+    /**
+     * Returns true if both snapshots are of the same version of the address book, i.e. nothing was changed
+     * between them. This is an O(1) check.
+     */
+    public boolean isSameVersionAs(AddressBookSnapshot other) {
+        return other != null
+                && persons == other.persons
+                && timedEvents == other.timedEvents;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("timedEvents", timedEvents)
+                .add("newNodeCount", newNodeCount)
+                .toString();
+    }
+}
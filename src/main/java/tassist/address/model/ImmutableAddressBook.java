@@ -0,0 +1,99 @@
+package tassist.address.model;
+
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.ObservableList;
+import tassist.address.commons.util.ImmutableObservableList;
+import tassist.address.commons.util.PersistentList;
+import tassist.address.commons.util.ToStringBuilder;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Represents an address book as it was at one point in time, which can be read from any thread without locking.
+ * The persons and timed events are the persistent lists the {@code AddressBook} mirrors its lists into, so an
+ * immutable address book shares them instead of copying them.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class ImmutableAddressBook implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<TimedEvent> timedEvents;
+    private final Map<StudentId, LocalDateTime> personModifiedTimes;
+    private final Map<StudentId, LocalDateTime> personDeletedTimes;
+    private final LocalDateTime lastExportTime;
+
+    /**
+     * Every field must be present and not null, except {@code lastExportTime}, which is null if the address book
+     * was never exported. The maps must not be modified afterwards.
+     */
+    public ImmutableAddressBook(PersistentList<Person> persons, PersistentList<TimedEvent> timedEvents,
+            Map<StudentId, LocalDateTime> personModifiedTimes, Map<StudentId, LocalDateTime> personDeletedTimes,
+            LocalDateTime lastExportTime) {
+        requireAllNonNull(persons, timedEvents, personModifiedTimes, personDeletedTimes);
+        this.persons = new ImmutableObservableList<>(persons);
+        this.timedEvents = new ImmutableObservableList<>(timedEvents);
+        this.personModifiedTimes = personModifiedTimes;
+        this.personDeletedTimes = personDeletedTimes;
+        this.lastExportTime = lastExportTime;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<TimedEvent> getTimedEventList() {
+        return timedEvents;
+    }
+
+    @Override
+    public Map<StudentId, LocalDateTime> getPersonModifiedTimes() {
+        return personModifiedTimes;
+    }
+
+    @Override
+    public Map<StudentId, LocalDateTime> getPersonDeletedTimes() {
+        return personDeletedTimes;
+    }
+
+    @Override
+    public Optional<LocalDateTime> getLastExportTime() {
+        return Optional.ofNullable(lastExportTime);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImmutableAddressBook)) {
+            return false;
+        }
+
+        ImmutableAddressBook otherAddressBook = (ImmutableAddressBook) other;
+        return persons.equals(otherAddressBook.persons)
+                && timedEvents.equals(otherAddressBook.timedEvents);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode() ^ timedEvents.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("timedEvents", timedEvents)
+                .toString();
+    }
+}
@@ -1,12 +1,15 @@
 package tassist.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import tassist.address.commons.core.GuiSettings;
 import tassist.address.model.person.Person;
+import tassist.address.model.query.PersonIndex;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
@@ -56,6 +59,58 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the address book as of the last {@link #commitAddressBook()}, which can be read
+     * from any thread without locking, e.g. to save, export or serve the data in the background.
+     * Changes that are not committed yet are not in it.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Applies every change {@code operation} makes to the model as one change to each of the model's lists,
+     * so the filtered and sorted lists are only updated once however many persons are changed.
+     * If {@code operation} throws, none of its changes are kept.
+     */
+    default <E extends Exception> void batch(BatchOperation<E> operation) throws E {
+        batch(operation, true);
+    }
+
+    /**
+     * Applies every change {@code operation} makes to the person list as one change, so the filtered and sorted
+     * lists are only updated once however many persons are changed. Reading the filtered list, the matching persons
+     * or the person index during the batch brings them up to date with the changes made so far first.
+     * If {@code operation} throws, its changes are undone if {@code isRollbackOnFailure} is true,
+     * or kept up to the point of failure otherwise, and the exception is rethrown.
+     * A batch started during another batch is part of it, so the outer batch decides whether to roll back.
+     */
+    <E extends Exception> void batch(BatchOperation<E> operation, boolean isRollbackOnFailure) throws E;
+
+    /**
+     * Returns true if there is an earlier address book state to undo to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone address book state to redo to.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last committed change.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last undo.
+     */
+    void redoAddressBook();
+
+    /**
+     * Records the current address book state in the undo history, if it has changed since the last commit, and
+     * publishes it as the address book snapshot.
+     */
+    void commitAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -80,15 +135,75 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Replaces each person with the same identity as a person in {@code editedPersons} with that person,
+     * as a single change to the person list.
+     * Every person in {@code editedPersons} must already exist in the address book.
+     */
+    void updatePersons(List<Person> editedPersons);
+
+    /**
+     * Applies the changed and deleted persons in {@code delta} to the address book.
+     */
+    void applyAddressBookDelta(AddressBookDelta delta);
+
+    /**
+     * Records {@code time} as the time the address book was last exported.
+     */
+    void setLastExportTime(LocalDateTime time);
+
+    /**
+     * Records {@code time} as the time the address book was last exported in full, forgetting the persons deleted
+     * before then.
+     */
+    void recordFullExport(LocalDateTime time);
+
+    /**
+     * Returns an unmodifiable view of the persons in the current window of the filtered, sorted person list.
+     * Displayed indices refer to this list. It leaves out the persons on other pages, so persons looked up by
+     * student ID or checked for duplicates are looked up in {@code getAddressBook().getPersonList()} instead.
+     */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the persons that match the filter of the person list, including those outside the window shown, in the
+     * order of the address book.
+     */
+    List<Person> getMatchingPersons();
+
+    /**
+     * Shows only the persons of the filtered, sorted person list that fall in {@code window}.
+     * If the list is sorted, only the persons up to the end of the window are put in order.
+     * @throws NullPointerException if {@code window} is null.
+     */
+    void updatePersonListWindow(PersonListWindow window);
+
+    /**
+     * Returns the window of the filtered, sorted person list that is shown.
+     */
+    PersonListWindow getPersonListWindow();
+
+    /**
+     * Returns the number of persons in the filtered person list, including those outside the window shown.
+     */
+    int getMatchingPersonCount();
+
+    /**
+     * Returns the index of all the persons in the address book, which queries look persons up in.
+     */
+    PersonIndex getPersonIndex();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the filter of the filtered person list.
+     */
+    Predicate<Person> getFilteredPersonPredicate();
+
     /**
      * Sort the student list by the given {@code comparator}.
      */
@@ -127,4 +242,15 @@ public interface Model {
      * Sort the timed events list by the given {@code comparator}.
      */
     void updateSortedTimedEventList(Comparator<TimedEvent> comparator);
+
+    /**
+     * Represents a group of changes to apply to a model in one batch.
+     */
+    @FunctionalInterface
+    interface BatchOperation<E extends Exception> {
+        /**
+         * Makes the changes to {@code model}, which is the batched model itself.
+         */
+        void apply(Model model) throws E;
+    }
 }
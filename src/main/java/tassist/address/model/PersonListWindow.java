@@ -0,0 +1,123 @@
+package tassist.address.model;
+
+import static tassist.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import tassist.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the part of the filtered, sorted person list that is shown: at most {@code limit} persons, starting
+ * from the person at position {@code offset}.
+ * Guarantees: immutable; the offset is not negative and the limit is positive.
+ */
+public class PersonListWindow {
+
+    public static final String MESSAGE_CONSTRAINTS = "The offset must not be negative, "
+            + "and the limit and page number must be positive";
+
+    /** The number of persons on a page when paging without a limit. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** The window that shows every person. */
+    public static final PersonListWindow ALL = new PersonListWindow(0, Integer.MAX_VALUE);
+
+    private final int offset;
+    private final int limit;
+
+    /**
+     * Creates a window of at most {@code limit} persons from position {@code offset}, counting from 0.
+     */
+    public PersonListWindow(int offset, int limit) {
+        checkArgument(offset >= 0 && limit > 0, MESSAGE_CONSTRAINTS);
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the window of page {@code pageNumber}, counting from 1, when each page holds {@code pageSize} persons.
+     */
+    public static PersonListWindow ofPage(int pageNumber, int pageSize) {
+        checkArgument(pageNumber > 0 && pageSize > 0, MESSAGE_CONSTRAINTS);
+        return new PersonListWindow((int) Math.min((long) (pageNumber - 1) * pageSize, Integer.MAX_VALUE), pageSize);
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns true if the window can leave persons out at the end, i.e. it is not {@code ALL} or an offset of it.
+     */
+    public boolean isLimited() {
+        return limit != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of the page this window shows, counting from 1, if pages hold {@code limit} persons.
+     */
+    public int getPageNumber() {
+        return offset / limit + 1;
+    }
+
+    /**
+     * Returns the number of pages needed to show {@code totalCount} persons, which is at least 1.
+     */
+    public int getPageCount(int totalCount) {
+        return Math.max(1, (int) (((long) totalCount + limit - 1) / limit));
+    }
+
+    /**
+     * Returns the number of persons this window shows out of {@code totalCount}.
+     */
+    public int getShownCount(int totalCount) {
+        return Math.max(0, Math.min(totalCount - offset, limit));
+    }
+
+    /**
+     * Returns the window of the same size just after this one.
+     */
+    public PersonListWindow next() {
+        return new PersonListWindow((int) Math.min((long) offset + limit, Integer.MAX_VALUE), limit);
+    }
+
+    /**
+     * Returns the window of the same size just before this one, which starts no earlier than the first person.
+     */
+    public PersonListWindow previous() {
+        return new PersonListWindow(Math.max(0, offset - limit), limit);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonListWindow)) {
+            return false;
+        }
+
+        PersonListWindow otherWindow = (PersonListWindow) other;
+        return offset == otherWindow.offset
+                && limit == otherWindow.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, limit);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("offset", offset)
+                .add("limit", limit)
+                .toString();
+    }
+}
@@ -1,7 +1,12 @@
 package tassist.address.model;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
@@ -21,4 +26,21 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<TimedEvent> getTimedEventList();
 
+    /**
+     * Returns an unmodifiable view of the time each person in the persons list was last added or changed,
+     * keyed by student ID.
+     */
+    Map<StudentId, LocalDateTime> getPersonModifiedTimes();
+
+    /**
+     * Returns an unmodifiable view of the time each person no longer in the persons list was deleted,
+     * keyed by student ID.
+     */
+    Map<StudentId, LocalDateTime> getPersonDeletedTimes();
+
+    /**
+     * Returns the time the address book was last exported, or {@code Optional.empty()} if it never was.
+     */
+    Optional<LocalDateTime> getLastExportTime();
+
 }
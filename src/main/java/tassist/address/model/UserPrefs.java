@@ -1,6 +1,7 @@
 package tassist.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,13 @@ import tassist.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 20;
+    public static final long DEFAULT_UNDO_MEMORY_BUDGET = 32L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private long undoMemoryBudget = DEFAULT_UNDO_MEMORY_BUDGET;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoMemoryBudget(newUserPrefs.getUndoMemoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the maximum number of changes that can be undone.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, AddressBookHistory.MESSAGE_CONSTRAINTS);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public long getUndoMemoryBudget() {
+        return undoMemoryBudget;
+    }
+
+    /**
+     * Sets the maximum estimated memory, in bytes, that the undo history may hold.
+     */
+    public void setUndoMemoryBudget(long undoMemoryBudget) {
+        checkArgument(undoMemoryBudget >= 0, AddressBookHistory.MESSAGE_CONSTRAINTS);
+        this.undoMemoryBudget = undoMemoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +101,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && undoMemoryBudget == otherUserPrefs.undoMemoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryDepth, undoMemoryBudget);
     }
 
     @Override
@@ -82,6 +116,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history : " + undoHistoryDepth + " change(s), " + undoMemoryBudget + " bytes");
         return sb.toString();
     }
 
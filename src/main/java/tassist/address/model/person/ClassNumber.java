@@ -3,6 +3,8 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's tutorial class number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidClassNumber(String)}
@@ -17,6 +19,7 @@ public class ClassNumber {
             + "a capital letter suffix (e.g. L01A).";
     public static final String VALIDATION_REGEX = "^(?:(T|R)(0[1-9]|[1-9][0-9])|(L)(0[1-9]|[1-9][0-9])([A-Z])?)$";
     public static final String DEFAULT_CLASS = "No tutorial assigned";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -34,7 +37,7 @@ public class ClassNumber {
      * Returns true if a given string is a valid class number.
      */
     public static boolean isValidClassNumber(String test) {
-        return test.matches(DEFAULT_CLASS) || test.matches(VALIDATION_REGEX);
+        return test.equals(DEFAULT_CLASS) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
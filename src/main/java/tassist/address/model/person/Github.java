@@ -3,6 +3,9 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Represents a student's Github link in the address book.
  */
@@ -28,6 +31,7 @@ public class Github {
     private static final String GITHUB_URL_REGEX = "^https://github\\.com/";
     private static final String USERNAME_REGEX = "(?=.{1,39}$)[a-zA-Z0-9]+(-[a-zA-Z0-9]+)*";
     public static final String VALIDATION_REGEX = GITHUB_URL_REGEX + USERNAME_REGEX + "$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -46,7 +50,17 @@ public class Github {
      * Returns true if a given string is a valid Github link.
      */
     public static boolean isValidGithub(String test) {
-        return test.matches(VALIDATION_REGEX) || test.matches(NO_GITHUB);
+        return test.equals(NO_GITHUB) || VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the username the link points to, or an empty optional if no GitHub is assigned.
+     */
+    public Optional<String> getUsername() {
+        if (value.equals(NO_GITHUB)) {
+            return Optional.empty();
+        }
+        return Optional.of(value.substring(value.lastIndexOf('/') + 1));
     }
 
     @Override
@@ -34,6 +34,9 @@ public class Person {
     private final ProjectTeam projectTeam;
     private final Repository repository;
 
+    // Computed on first use, which is safe without locking as PersonSortKeys is immutable
+    private PersonSortKeys sortKeys;
+
     /**
      * Every field must be present and not null.
      */
@@ -113,6 +116,18 @@ public class Person {
         return repository;
     }
 
+    /**
+     * Returns the normalised values this person is sorted by. They are computed once, on the first call.
+     */
+    public PersonSortKeys getSortKeys() {
+        PersonSortKeys keys = sortKeys;
+        if (keys == null) {
+            keys = new PersonSortKeys(this);
+            sortKeys = keys;
+        }
+        return keys;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -168,6 +183,40 @@ public class Person {
         timedEvents.remove(timedEvent);
     }
 
+    /**
+     * Returns a copy of this person with {@code timedEvent} added to its timed events.
+     * This person is left unchanged, so the copy can be committed with {@code Model#setPerson}.
+     *
+     * @throws tassist.address.model.timedevents.exceptions.DuplicateTimedEventException if this person already
+     *     has the timed event.
+     */
+    public Person withTimedEventAdded(TimedEvent timedEvent) {
+        UniqueTimedEventList updatedTimedEvents = copyTimedEvents();
+        updatedTimedEvents.add(timedEvent);
+        return new Person(name, phone, email, classNumber, studentId, github, projectTeam, repository, tags,
+                progress, updatedTimedEvents);
+    }
+
+    /**
+     * Returns a copy of this person with {@code timedEvent} removed from its timed events.
+     * This person is left unchanged, so the copy can be committed with {@code Model#setPerson}.
+     *
+     * @throws tassist.address.model.timedevents.exceptions.TimedEventNotFoundException if this person does not
+     *     have the timed event.
+     */
+    public Person withTimedEventRemoved(TimedEvent timedEvent) {
+        UniqueTimedEventList updatedTimedEvents = copyTimedEvents();
+        updatedTimedEvents.remove(timedEvent);
+        return new Person(name, phone, email, classNumber, studentId, github, projectTeam, repository, tags,
+                progress, updatedTimedEvents);
+    }
+
+    private UniqueTimedEventList copyTimedEvents() {
+        UniqueTimedEventList copy = new UniqueTimedEventList();
+        copy.setTimedEvents(timedEvents);
+        return copy;
+    }
+
     /**
      * Returns true if the person has the given timed event.
      */
@@ -188,6 +237,29 @@ public class Person {
                 && otherPerson.getStudentId().equals(getStudentId());
     }
 
+    /**
+     * Returns true if both persons have the same identity and data fields, including their timed events.
+     * This is stronger than {@link #equals(Object)}, which only compares student IDs.
+     */
+    public boolean hasSameDetails(Person otherPerson) {
+        if (otherPerson == this) {
+            return true;
+        }
+
+        return otherPerson != null
+                && name.equals(otherPerson.name)
+                && phone.equals(otherPerson.phone)
+                && email.equals(otherPerson.email)
+                && classNumber.equals(otherPerson.classNumber)
+                && studentId.equals(otherPerson.studentId)
+                && github.equals(otherPerson.github)
+                && projectTeam.equals(otherPerson.projectTeam)
+                && repository.equals(otherPerson.repository)
+                && tags.equals(otherPerson.tags)
+                && progress.equals(otherPerson.progress)
+                && getTimedEvents().equals(otherPerson.getTimedEvents());
+    }
+
     /**
      * Returns true if both persons have the same student id
      */
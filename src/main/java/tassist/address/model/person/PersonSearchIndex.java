@@ -0,0 +1,67 @@
+package tassist.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * An index of students by the words of their names, their student IDs and their class numbers.
+ * The terms are kept sorted, so the students with a term that starts with a keyword are found by looking at the
+ * range of terms with that prefix instead of going through every student.
+ */
+public class PersonSearchIndex {
+
+    private final TreeMap<String, List<StudentId>> studentIdsByTerm = new TreeMap<>();
+
+    /**
+     * Creates an index of {@code persons}.
+     */
+    public PersonSearchIndex(List<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            StudentId studentId = person.getStudentId();
+            for (String word : person.getName().value.split("\\s+")) {
+                addTerm(word, studentId);
+            }
+            addTerm(studentId.value, studentId);
+            if (!person.getClassNumber().value.equals(ClassNumber.DEFAULT_CLASS)) {
+                addTerm(person.getClassNumber().value, studentId);
+            }
+        }
+    }
+
+    private void addTerm(String term, StudentId studentId) {
+        if (term.isEmpty()) {
+            return;
+        }
+        studentIdsByTerm.computeIfAbsent(term.toLowerCase(), unused -> new ArrayList<>()).add(studentId);
+    }
+
+    /**
+     * Returns the IDs of the students with a name word, student ID or class number that starts with any of
+     * {@code keywords}, ignoring case.
+     *
+     * @param isCancelled Checked between keywords, so that a search that is no longer needed stops early.
+     * @throws CancellationException if {@code isCancelled} returns true.
+     */
+    public Set<StudentId> find(List<String> keywords, BooleanSupplier isCancelled) {
+        requireAllNonNull(keywords, isCancelled);
+        Set<StudentId> found = new HashSet<>();
+        for (String keyword : keywords) {
+            if (isCancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            String prefix = keyword.toLowerCase();
+            studentIdsByTerm.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()
+                    .forEach(found::addAll);
+        }
+        return found;
+    }
+}
@@ -0,0 +1,58 @@
+package tassist.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
+import tassist.address.commons.util.ToStringBuilder;
+
+/**
+ * Holds the normalised values a {@code Person} is sorted by, so that comparing two persons allocates nothing.
+ * Text values are compared ignoring case.
+ * Guarantees: details are present and not null, except {@code githubUsername}, immutable.
+ */
+public final class PersonSortKeys {
+
+    /** Orders names alphabetically, ignoring case but not accents. */
+    private static final Collator NAME_COLLATOR = createNameCollator();
+
+    public final CollationKey name;
+    public final String studentId;
+    public final String classNumber;
+    public final String projectTeam;
+    /** The lower-case GitHub username, or null if no GitHub is assigned. */
+    public final String githubUsername;
+
+    /**
+     * Computes the sort keys of {@code person}.
+     */
+    public PersonSortKeys(Person person) {
+        requireNonNull(person);
+        synchronized (NAME_COLLATOR) {
+            name = NAME_COLLATOR.getCollationKey(person.getName().value);
+        }
+        studentId = person.getStudentId().value.toLowerCase();
+        classNumber = person.getClassNumber().value.toLowerCase();
+        projectTeam = person.getProjectTeam().value.toLowerCase();
+        githubUsername = person.getGithub().getUsername().map(String::toLowerCase).orElse(null);
+    }
+
+    private static Collator createNameCollator() {
+        Collator collator = Collator.getInstance(Locale.ENGLISH);
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name.getSourceString())
+                .add("studentId", studentId)
+                .add("classNumber", classNumber)
+                .add("projectTeam", projectTeam)
+                .add("githubUsername", githubUsername)
+                .toString();
+    }
+}
@@ -3,6 +3,8 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a student's progress in TAssist.
  * Value must be between 0% to 100%.
@@ -10,6 +12,10 @@ import static tassist.address.commons.util.AppUtil.checkArgument;
 public class Progress {
 
     public static final String MESSAGE_CONSTRAINTS = "Progress must be an integer between 0 and 100.";
+    public static final String VALIDATION_REGEX = "^(100|[1-9]?\\d|0)(%)?$";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final int value;
 
     /**
@@ -33,7 +39,7 @@ public class Progress {
      * @return boolean True if the value is between 0 and 100 (with optional '%'), false otherwise.
      */
     public static boolean isValidProgress(String progressValue) {
-        return progressValue.matches("^(100|[1-9]?\\d|0)(%)?$");
+        return VALIDATION_PATTERN.matcher(progressValue).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a student's Project Team in TAssist.
  */
@@ -16,6 +18,7 @@ public class ProjectTeam {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -34,7 +37,7 @@ public class ProjectTeam {
      * Returns true if a given string is a valid projectTeam string.
      */
     public static boolean isValidProjectTeam(String test) {
-        return test.matches(VALIDATION_REGEX) || test.matches(NO_PROJECT_TEAM);
+        return test.equals(NO_PROJECT_TEAM) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
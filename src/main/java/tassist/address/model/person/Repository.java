@@ -5,6 +5,8 @@ import static tassist.address.commons.util.AppUtil.checkArgument;
 import static tassist.address.logic.commands.RepoCommand.MESSAGE_INVALID_REPOSITORY_NAME;
 import static tassist.address.logic.commands.RepoCommand.MESSAGE_INVALID_USERNAME;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a student's Repository in TAssist.
  */
@@ -38,6 +40,10 @@ public class Repository {
             + "/" + VALID_REPOSITORY_REGEX + "$";
     public static final String NO_REPOSITORY = "No Repository";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern USERNAME_PATTERN = Pattern.compile(VALID_USERNAME_REGEX);
+    private static final Pattern REPOSITORY_NAME_PATTERN = Pattern.compile(VALID_REPOSITORY_REGEX);
+
     public final String value;
 
     /**
@@ -70,21 +76,21 @@ public class Repository {
      * Returns true if a given string is a valid repository link.
      */
     public static boolean isValidRepository(String test) {
-        return test.matches(VALIDATION_REGEX) || test.matches(NO_REPOSITORY);
+        return test.equals(NO_REPOSITORY) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
      * Returns true if a given string is a valid username.
      */
     public static boolean isValidUsername(String test) {
-        return test.matches(VALID_USERNAME_REGEX);
+        return USERNAME_PATTERN.matcher(test).matches();
     }
 
     /**
      * Returns true if a given string is a valid repository name.
      */
     public static boolean isValidRepositoryName(String test) {
-        return test.matches(VALID_REPOSITORY_REGEX);
+        return REPOSITORY_NAME_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's StudentId in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentId(String)}
@@ -16,6 +18,7 @@ public class StudentId {
                     + "3. N is any uppercase letter from A to Z.\n"
                     + "Both 'A' and 'N' must be capitalized.";
     public static final String VALIDATION_REGEX = "^A\\d{7}[A-Z]$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -34,7 +37,7 @@ public class StudentId {
      * Returns if a given string is a valid studentId.
      */
     public static boolean isValidStudentId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
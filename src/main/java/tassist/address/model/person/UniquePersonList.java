@@ -3,10 +3,19 @@ package tassist.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import tassist.address.model.person.exceptions.DuplicatePersonException;
 import tassist.address.model.person.exceptions.PersonNotFoundException;
@@ -24,7 +33,7 @@ import tassist.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -109,6 +118,95 @@ public class UniquePersonList implements Iterable<Person> {
         assert personsAreUnique(internalList) : "List should not contain duplicate persons";
     }
 
+    /**
+     * Replaces every person in the list that has the same identity as a person in {@code changedPersons},
+     * appends the remaining {@code changedPersons}, and removes the persons whose student ID is in
+     * {@code removedStudentIds}, if present.
+     * The list is rebuilt in one pass and updated with a single change, regardless of the number of changes.
+     * {@code changedPersons} must not contain duplicate persons.
+     */
+    public void applyChanges(List<Person> changedPersons, Collection<StudentId> removedStudentIds) {
+        requireAllNonNull(changedPersons, removedStudentIds);
+        Set<StudentId> changedStudentIds = new HashSet<>();
+        for (Person person : changedPersons) {
+            if (!changedStudentIds.add(person.getStudentId())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        Map<StudentId, Person> updatedPersons = new LinkedHashMap<>();
+        for (Person person : internalList) {
+            updatedPersons.put(person.getStudentId(), person);
+        }
+        removedStudentIds.forEach(updatedPersons::remove);
+        for (Person person : changedPersons) {
+            updatedPersons.put(person.getStudentId(), person);
+        }
+
+        internalList.setAll(updatedPersons.values());
+    }
+
+    /**
+     * Replaces each person in the list that has the same identity as a person in {@code editedPersons} with that
+     * person, in a single change to the list. The order of the list is kept.
+     * The change only reports the edited positions, so listeners do not go through the persons left as they were.
+     * Every person in {@code editedPersons} must already exist in the list, and appear in it at most once.
+     */
+    public void updatePersons(List<Person> editedPersons) {
+        requireAllNonNull(editedPersons);
+        Map<StudentId, Person> editedPersonsById = new HashMap<>();
+        for (Person editedPerson : editedPersons) {
+            if (editedPersonsById.put(editedPerson.getStudentId(), editedPerson) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        Map<Integer, Person> editedPersonsByPosition = new TreeMap<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            Person editedPerson = editedPersonsById.get(internalList.get(i).getStudentId());
+            if (editedPerson != null) {
+                editedPersonsByPosition.put(i, editedPerson);
+            }
+        }
+        if (editedPersonsByPosition.size() != editedPersonsById.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        internalList.setEach(editedPersonsByPosition);
+    }
+
+    /**
+     * Starts holding back the notifications of changes to the list, so that the changes made until
+     * {@link #stopHoldingChanges(boolean)} reach listeners as one change. Changes must not already be held.
+     * Until then, lists that listen to this list have not seen the changes and must not be read.
+     */
+    public void holdChanges() {
+        internalList.holdChanges();
+    }
+
+    /**
+     * Notifies listeners of the changes held so far as one change, and keeps holding back later changes.
+     * Does nothing if changes are not held.
+     */
+    public void releaseHeldChanges() {
+        internalList.releaseHeldChanges();
+    }
+
+    /**
+     * Returns true if the list changed since its changes were last released to listeners.
+     */
+    public boolean hasHeldChanges() {
+        return internalList.hasHeldChanges();
+    }
+
+    /**
+     * Stops holding back notifications, first undoing every change made since {@link #holdChanges()} if
+     * {@code isUndone} is true, and notifies listeners of the changes not released yet as one change.
+     */
+    public void stopHoldingChanges(boolean isUndone) {
+        internalList.stopHoldingChanges(isUndone);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -146,6 +244,151 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * An observable array list that can also replace the elements at several positions as a single change, and
+     * hold back the notifications of its changes while recording how to undo them.
+     */
+    private static class PersonObservableList extends ModifiableObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+        /** How to undo each change made since changes started being held, or null if they are not held. */
+        private List<Edit> edits;
+        private boolean hasHeldChanges = false;
+
+        void holdChanges() {
+            if (edits != null) {
+                throw new IllegalStateException("Changes are already held");
+            }
+            // Changes made while a change is open are only reported when the outermost change ends
+            beginChange();
+            edits = new ArrayList<>();
+        }
+
+        void releaseHeldChanges() {
+            if (edits == null) {
+                return;
+            }
+            hasHeldChanges = false;
+            endChange();
+            beginChange();
+        }
+
+        boolean hasHeldChanges() {
+            return hasHeldChanges;
+        }
+
+        void stopHoldingChanges(boolean isUndone) {
+            if (edits == null) {
+                throw new IllegalStateException("Changes are not held");
+            }
+            List<Edit> editsToUndo = edits;
+            // Undoing is not recorded itself
+            edits = null;
+            if (isUndone) {
+                for (int i = editsToUndo.size() - 1; i >= 0; i--) {
+                    editsToUndo.get(i).undo(this);
+                }
+            }
+            hasHeldChanges = false;
+            endChange();
+        }
+
+        /**
+         * Replaces the person at each position in {@code personsByPosition} with the person mapped to it, notifying
+         * listeners once of just those positions.
+         */
+        void setEach(Map<Integer, Person> personsByPosition) {
+            beginChange();
+            try {
+                personsByPosition.forEach(this::set);
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public boolean setAll(Collection<? extends Person> replacement) {
+            if (persons.isEmpty() && replacement.isEmpty()) {
+                return false;
+            }
+
+            // Replaces the whole list at once, as removing the persons one by one from the front is quadratic
+            List<Person> removed = new ArrayList<>(persons);
+            persons.clear();
+            persons.addAll(replacement);
+            record(new Edit(0, removed, persons.size()));
+            beginChange();
+            nextReplace(0, persons.size(), removed);
+            endChange();
+            return true;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+            record(new Edit(index, List.of(), 1));
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            Person replaced = persons.set(index, element);
+            record(new Edit(index, List.of(replaced), 1));
+            return replaced;
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            Person removed = persons.remove(index);
+            record(new Edit(index, List.of(removed), 0));
+            return removed;
+        }
+
+        private void record(Edit edit) {
+            if (edits != null) {
+                edits.add(edit);
+                hasHeldChanges = true;
+            }
+        }
+    }
+
+    /**
+     * Represents a change at one position of a {@code PersonObservableList}, as the persons it removed from that
+     * position and the number of persons it put there.
+     */
+    private static class Edit {
+        private final int position;
+        private final List<Person> removed;
+        private final int addedSize;
+
+        private Edit(int position, List<Person> removed, int addedSize) {
+            this.position = position;
+            this.removed = removed;
+            this.addedSize = addedSize;
+        }
+
+        /**
+         * Puts the removed persons back in place of the persons added, in {@code list} as it was right after this
+         * change.
+         */
+        private void undo(PersonObservableList list) {
+            if (removed.size() == 1 && addedSize == 1) {
+                list.set(position, removed.get(0));
+                return;
+            }
+            list.subList(position, position + addedSize).clear();
+            list.addAll(position, removed);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
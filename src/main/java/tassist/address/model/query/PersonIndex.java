@@ -0,0 +1,110 @@
+package tassist.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import tassist.address.model.person.Person;
+
+/**
+ * Maps each value of the indexed {@code QueryField}s to the students with that value, so a query can look up the
+ * students in a class, team or tag without going through every student.
+ * The index listens to the list of students it was created on and stays up to date as that list changes.
+ */
+public class PersonIndex {
+
+    private final ObservableList<Person> persons;
+    private final Map<QueryField, Map<String, Set<Person>>> entries = new EnumMap<>(QueryField.class);
+
+    /**
+     * Creates an index of {@code persons} that follows every later change to the list.
+     */
+    public PersonIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        for (QueryField field : QueryField.values()) {
+            if (field.isIndexed()) {
+                entries.put(field, new HashMap<>());
+            }
+        }
+        persons.forEach(this::add);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                // Removed students go first so a replaced student is indexed by its new values
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns the list of students this index is of.
+     */
+    public ObservableList<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the students whose {@code field} has the value {@code key}, which must be in lower case.
+     *
+     * @throws IllegalArgumentException if {@code field} is not indexed.
+     */
+    public Set<Person> lookup(QueryField field, String key) {
+        requireNonNull(key);
+        Set<Person> matches = getEntries(field).get(key);
+        return matches == null ? Collections.emptySet() : Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns the number of students whose {@code field} has the value {@code key}, which must be in lower case.
+     *
+     * @throws IllegalArgumentException if {@code field} is not indexed.
+     */
+    public int count(QueryField field, String key) {
+        return lookup(field, key).size();
+    }
+
+    private Map<String, Set<Person>> getEntries(QueryField field) {
+        requireNonNull(field);
+        if (!field.isIndexed()) {
+            throw new IllegalArgumentException(field + " is not indexed");
+        }
+        return entries.get(field);
+    }
+
+    /**
+     * Returns a set that holds persons by identity, as a removed person is always the instance that was added.
+     */
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private void add(Person person) {
+        entries.forEach((field, fieldEntries) -> {
+            for (String key : field.getKeys(person)) {
+                fieldEntries.computeIfAbsent(key, unused -> newIdentitySet()).add(person);
+            }
+        });
+    }
+
+    private void remove(Person person) {
+        entries.forEach((field, fieldEntries) -> {
+            for (String key : field.getKeys(person)) {
+                Set<Person> matches = fieldEntries.get(key);
+                if (matches != null && matches.remove(person) && matches.isEmpty()) {
+                    fieldEntries.remove(key);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package tassist.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import tassist.address.model.PersonListWindow;
+import tassist.address.model.person.Person;
+
+/**
+ * Represents a query over the students, made of an optional {@code where} clause that selects the students, an
+ * optional {@code sort} clause that orders them and an optional window of them to show.
+ * The string representation of a query is the query syntax it was parsed from.
+ * Guarantees: immutable.
+ */
+public class PersonQuery {
+
+    private final QueryExpression where;
+    private final List<SortKey> sortKeys;
+    private final PersonListWindow window;
+
+    /**
+     * Creates a query that shows every student it selects.
+     *
+     * @param where The condition the students must match, or null to select every student.
+     * @param sortKeys The keys to sort the students by, most significant first. May be empty.
+     */
+    public PersonQuery(QueryExpression where, List<SortKey> sortKeys) {
+        this(where, sortKeys, PersonListWindow.ALL);
+    }
+
+    /**
+     * Creates a query that shows the students it selects in {@code window}.
+     *
+     * @param where The condition the students must match, or null to select every student.
+     * @param sortKeys The keys to sort the students by, most significant first. May be empty.
+     */
+    public PersonQuery(QueryExpression where, List<SortKey> sortKeys, PersonListWindow window) {
+        requireNonNull(sortKeys);
+        requireNonNull(window);
+        this.where = where;
+        this.sortKeys = Collections.unmodifiableList(new ArrayList<>(sortKeys));
+        this.window = window;
+    }
+
+    public Optional<QueryExpression> getWhere() {
+        return Optional.ofNullable(where);
+    }
+
+    public List<SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    public PersonListWindow getWindow() {
+        return window;
+    }
+
+    /**
+     * Returns a comparator that orders students by every sort key in turn, or an empty optional if the query does
+     * not sort.
+     *
+     * @see SortKey#getComparator(List)
+     */
+    public Optional<Comparator<Person>> getComparator() {
+        return sortKeys.isEmpty() ? Optional.empty() : Optional.of(SortKey.getComparator(sortKeys));
+    }
+
+    /**
+     * Returns the students in {@code persons} that the query selects, in the order it sorts them and within its
+     * window. The students are filtered and windowed lazily, so only a query that sorts holds every match at once.
+     */
+    public Stream<Person> select(Collection<Person> persons) {
+        requireNonNull(persons);
+        Stream<Person> matches = persons.stream();
+        if (where != null) {
+            matches = matches.filter(where);
+        }
+        Optional<Comparator<Person>> comparator = getComparator();
+        if (comparator.isPresent()) {
+            matches = matches.sorted(comparator.get());
+        }
+        return matches.skip(window.getOffset()).limit(window.getLimit());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return Objects.equals(where, otherQuery.where)
+                && sortKeys.equals(otherQuery.sortKeys)
+                && window.equals(otherQuery.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(where, sortKeys, window);
+    }
+
+    @Override
+    public String toString() {
+        List<String> clauses = new ArrayList<>();
+        if (where != null) {
+            clauses.add("where " + where);
+        }
+        if (!sortKeys.isEmpty()) {
+            clauses.add("sort " + sortKeys.stream().map(SortKey::toString).collect(Collectors.joining(", ")));
+        }
+        if (window.isLimited()) {
+            clauses.add("limit " + window.getLimit());
+        }
+        if (window.getOffset() > 0) {
+            clauses.add("offset " + window.getOffset());
+        }
+        return String.join(" ", clauses);
+    }
+}
@@ -0,0 +1,286 @@
+package tassist.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.AppUtil.checkArgument;
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import tassist.address.model.person.Person;
+
+/**
+ * Represents a node of the expression tree of a query's {@code where} clause, which tests whether a student matches.
+ * The string representation of an expression is the query syntax it was parsed from.
+ */
+public interface QueryExpression extends Predicate<Person> {
+
+    /**
+     * Represents an operator that compares the value of a field with a value given in a query.
+     */
+    enum Operator {
+        EQUAL("="),
+        NOT_EQUAL("!="),
+        LESS("<"),
+        LESS_OR_EQUAL("<="),
+        GREATER(">"),
+        GREATER_OR_EQUAL(">="),
+        CONTAINS("~");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns the operator written as {@code symbol}, if there is one.
+         */
+        public static Optional<Operator> fromSymbol(String symbol) {
+            return Arrays.stream(values())
+                    .filter(operator -> operator.symbol.equals(symbol))
+                    .findFirst();
+        }
+
+        /**
+         * Returns true if the operator can compare text fields, which are only compared for equality or containment.
+         */
+        public boolean isTextOperator() {
+            return this == EQUAL || this == NOT_EQUAL || this == CONTAINS;
+        }
+
+        /**
+         * Returns true if the operator can compare numeric fields.
+         */
+        public boolean isNumericOperator() {
+            return this != CONTAINS;
+        }
+
+        private boolean matches(int comparison) {
+            return switch (this) {
+            case EQUAL -> comparison == 0;
+            case NOT_EQUAL -> comparison != 0;
+            case LESS -> comparison < 0;
+            case LESS_OR_EQUAL -> comparison <= 0;
+            case GREATER -> comparison > 0;
+            case GREATER_OR_EQUAL -> comparison >= 0;
+            case CONTAINS -> throw new UnsupportedOperationException("Numbers cannot be compared with " + symbol);
+            };
+        }
+
+        @Override
+        public String toString() {
+            return symbol;
+        }
+    }
+
+    /**
+     * Tests a field of a student against a value, e.g. {@code progress < 50}.
+     */
+    final class Comparison implements QueryExpression {
+        private final QueryField field;
+        private final Operator operator;
+        private final String value;
+        private final String key;
+        private final int number;
+
+        /**
+         * Every field must be present and not null, and {@code operator} must be able to compare {@code field}.
+         * The value of a numeric field must be an integer.
+         */
+        public Comparison(QueryField field, Operator operator, String value) {
+            requireAllNonNull(field, operator, value);
+            checkArgument(field.isNumeric() ? operator.isNumericOperator() : operator.isTextOperator(),
+                    operator + " cannot compare " + field);
+            this.field = field;
+            this.operator = operator;
+            this.value = value;
+            this.number = field.isNumeric() ? Integer.parseInt(value) : 0;
+            this.key = field.isNumeric() ? String.valueOf(number) : value.toLowerCase();
+        }
+
+        public QueryField getField() {
+            return field;
+        }
+
+        public Operator getOperator() {
+            return operator;
+        }
+
+        /**
+         * Returns the value compared against, in the form a {@code PersonIndex} looks it up by.
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Returns true if a {@code PersonIndex} can look up the students this comparison matches.
+         */
+        public boolean isIndexLookup() {
+            return field.isIndexed() && operator == Operator.EQUAL;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (field.isNumeric()) {
+                return operator.matches(Integer.compare(field.getNumber(person), number));
+            }
+            List<String> personKeys = field.getKeys(person);
+            return switch (operator) {
+            case EQUAL -> personKeys.contains(key);
+            case NOT_EQUAL -> !personKeys.contains(key);
+            case CONTAINS -> personKeys.stream().anyMatch(personKey -> personKey.contains(key));
+            default -> throw new UnsupportedOperationException(operator + " cannot compare " + field);
+            };
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Comparison)) {
+                return false;
+            }
+
+            Comparison otherComparison = (Comparison) other;
+            return field == otherComparison.field
+                    && operator == otherComparison.operator
+                    && key.equals(otherComparison.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, operator, key);
+        }
+
+        @Override
+        public String toString() {
+            String shownValue = value.contains(" ") ? '"' + value + '"' : value;
+            return field + " " + operator + " " + shownValue;
+        }
+    }
+
+    /**
+     * Matches the students that match every one of its operands.
+     */
+    final class And implements QueryExpression {
+        private final List<QueryExpression> operands;
+
+        /**
+         * {@code operands} must not be null and must hold at least two expressions.
+         */
+        public And(List<? extends QueryExpression> operands) {
+            requireNonNull(operands);
+            checkArgument(operands.size() >= 2, "A conjunction needs at least two operands");
+            this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+        }
+
+        public List<QueryExpression> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (QueryExpression operand : operands) {
+                if (!operand.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof And)) {
+                return false;
+            }
+
+            And otherAnd = (And) other;
+            return operands.equals(otherAnd.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream()
+                    .map(operand -> operand instanceof Or ? "(" + operand + ")" : operand.toString())
+                    .collect(Collectors.joining(" and "));
+        }
+    }
+
+    /**
+     * Matches the students that match any one of its operands.
+     */
+    final class Or implements QueryExpression {
+        private final List<QueryExpression> operands;
+
+        /**
+         * {@code operands} must not be null and must hold at least two expressions.
+         */
+        public Or(List<? extends QueryExpression> operands) {
+            requireNonNull(operands);
+            checkArgument(operands.size() >= 2, "A disjunction needs at least two operands");
+            this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+        }
+
+        public List<QueryExpression> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (QueryExpression operand : operands) {
+                if (operand.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Or)) {
+                return false;
+            }
+
+            Or otherOr = (Or) other;
+            return operands.equals(otherOr.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream()
+                    .map(QueryExpression::toString)
+                    .collect(Collectors.joining(" or "));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package tassist.address.model.query;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import tassist.address.model.person.Person;
+
+/**
+ * Represents a field of a student that a query can filter or sort by.
+ * Text fields are compared case-insensitively.
+ */
+public enum QueryField {
+    NAME("name", false, false),
+    ID("id", true, false),
+    CLASS("class", true, false),
+    TEAM("team", true, false),
+    TAG("tag", true, false),
+    GITHUB("github", false, false),
+    PROGRESS("progress", false, true);
+
+    public static final String KEYWORDS = Arrays.stream(values())
+            .map(field -> field.keyword)
+            .collect(Collectors.joining(", "));
+
+    private final String keyword;
+    private final boolean isIndexed;
+    private final boolean isNumeric;
+
+    QueryField(String keyword, boolean isIndexed, boolean isNumeric) {
+        this.keyword = keyword;
+        this.isIndexed = isIndexed;
+        this.isNumeric = isNumeric;
+    }
+
+    /**
+     * Returns the field named {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<QueryField> fromKeyword(String keyword) {
+        return Arrays.stream(values())
+                .filter(field -> field.keyword.equalsIgnoreCase(keyword))
+                .findFirst();
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns true if a {@code PersonIndex} can look up the students with a given value of this field.
+     */
+    public boolean isIndexed() {
+        return isIndexed;
+    }
+
+    /**
+     * Returns true if the field holds a number, which can be compared with {@code <}, {@code <=}, {@code >} and
+     * {@code >=}.
+     */
+    public boolean isNumeric() {
+        return isNumeric;
+    }
+
+    /**
+     * Returns true if students can be sorted by this field, i.e. every student has exactly one value of it.
+     */
+    public boolean isSortable() {
+        return this != TAG;
+    }
+
+    /**
+     * Returns the values of this field for {@code person} in lower case.
+     * Every field has one value, except {@code TAG}, which has one value per tag.
+     */
+    public List<String> getKeys(Person person) {
+        return switch (this) {
+        case NAME -> List.of(person.getName().value.toLowerCase());
+        case ID -> List.of(person.getStudentId().value.toLowerCase());
+        case CLASS -> List.of(person.getClassNumber().value.toLowerCase());
+        case TEAM -> List.of(person.getProjectTeam().value.toLowerCase());
+        case TAG -> person.getTags().stream().map(tag -> tag.tagName.toLowerCase()).collect(Collectors.toList());
+        case GITHUB -> List.of(person.getGithub().value.toLowerCase());
+        case PROGRESS -> List.of(String.valueOf(person.getProgress().value));
+        };
+    }
+
+    /**
+     * Returns the value of this numeric field for {@code person}.
+     *
+     * @throws UnsupportedOperationException if the field is not numeric.
+     */
+    public int getNumber(Person person) {
+        if (this != PROGRESS) {
+            throw new UnsupportedOperationException(keyword + " is not a numeric field");
+        }
+        return person.getProgress().value;
+    }
+
+    /**
+     * Returns a comparator that orders students by this field, in ascending order if {@code isAscending} is true
+     * and in descending order otherwise.
+     * Text fields are compared by the sort keys cached in each student, so comparing allocates nothing.
+     * Students without a GitHub username are ordered after those with one in either order.
+     *
+     * @throws UnsupportedOperationException if the field can have several values.
+     */
+    public Comparator<Person> getComparator(boolean isAscending) {
+        if (this == GITHUB) {
+            Comparator<String> usernameOrder = isAscending ? Comparator.naturalOrder() : Comparator.reverseOrder();
+            return Comparator.comparing(person -> person.getSortKeys().githubUsername,
+                    Comparator.nullsLast(usernameOrder));
+        }
+
+        Comparator<Person> comparator = switch (this) {
+        case NAME -> Comparator.comparing(person -> person.getSortKeys().name);
+        case ID -> Comparator.comparing(person -> person.getSortKeys().studentId);
+        case CLASS -> Comparator.comparing(person -> person.getSortKeys().classNumber);
+        case TEAM -> Comparator.comparing(person -> person.getSortKeys().projectTeam);
+        case PROGRESS -> Comparator.comparingInt(person -> person.getProgress().value);
+        case GITHUB, TAG -> throw new UnsupportedOperationException("Students cannot be sorted by " + keyword);
+        };
+        return isAscending ? comparator : comparator.reversed();
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
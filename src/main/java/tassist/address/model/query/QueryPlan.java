@@ -0,0 +1,163 @@
+package tassist.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import tassist.address.commons.util.ToStringBuilder;
+import tassist.address.model.person.Person;
+
+/**
+ * Represents how a {@code where} clause is evaluated.
+ * The top-level condition that a {@code PersonIndex} can answer with the fewest students drives the plan: only the
+ * students it looks up are candidates, and the rest of the clause is evaluated on them as a residual filter.
+ * A condition can be answered by the index if it compares an indexed field for equality, or is a disjunction of such
+ * comparisons. If no condition can, every student is a candidate.
+ */
+public class QueryPlan {
+
+    private final PersonIndex index;
+    private final List<QueryExpression.Comparison> indexLookups;
+    private final QueryExpression residual;
+
+    private QueryPlan(PersonIndex index, List<QueryExpression.Comparison> indexLookups, QueryExpression residual) {
+        this.index = index;
+        this.indexLookups = Collections.unmodifiableList(indexLookups);
+        this.residual = residual;
+    }
+
+    /**
+     * Plans how to find the students in {@code index} that match {@code where}.
+     *
+     * @param where The condition the students must match, or null to match every student.
+     */
+    public static QueryPlan of(QueryExpression where, PersonIndex index) {
+        requireNonNull(index);
+        if (where == null) {
+            return new QueryPlan(index, List.of(), null);
+        }
+
+        List<QueryExpression> conditions = where instanceof QueryExpression.And
+                ? ((QueryExpression.And) where).getOperands()
+                : List.of(where);
+
+        QueryExpression driver = null;
+        List<QueryExpression.Comparison> driverLookups = List.of();
+        int driverCount = Integer.MAX_VALUE;
+        for (QueryExpression condition : conditions) {
+            List<QueryExpression.Comparison> lookups = toIndexLookups(condition);
+            if (lookups.isEmpty()) {
+                continue;
+            }
+            int count = lookups.stream().mapToInt(lookup -> index.count(lookup.getField(), lookup.getKey())).sum();
+            if (count < driverCount) {
+                driver = condition;
+                driverLookups = lookups;
+                driverCount = count;
+            }
+        }
+
+        List<QueryExpression> residualConditions = new ArrayList<>(conditions);
+        residualConditions.remove(driver);
+        return new QueryPlan(index, driverLookups, combine(residualConditions));
+    }
+
+    /**
+     * Returns the index lookups that together find exactly the students matching {@code condition}, or an empty list
+     * if the index cannot answer it.
+     */
+    private static List<QueryExpression.Comparison> toIndexLookups(QueryExpression condition) {
+        if (condition instanceof QueryExpression.Comparison) {
+            QueryExpression.Comparison comparison = (QueryExpression.Comparison) condition;
+            return comparison.isIndexLookup() ? List.of(comparison) : List.of();
+        }
+        if (condition instanceof QueryExpression.Or) {
+            List<QueryExpression.Comparison> lookups = new ArrayList<>();
+            for (QueryExpression operand : ((QueryExpression.Or) condition).getOperands()) {
+                List<QueryExpression.Comparison> operandLookups = toIndexLookups(operand);
+                if (operandLookups.isEmpty()) {
+                    return List.of();
+                }
+                lookups.addAll(operandLookups);
+            }
+            return lookups;
+        }
+        return List.of();
+    }
+
+    private static QueryExpression combine(List<QueryExpression> conditions) {
+        return switch (conditions.size()) {
+        case 0 -> null;
+        case 1 -> conditions.get(0);
+        default -> new QueryExpression.And(conditions);
+        };
+    }
+
+    /**
+     * Returns true if the candidates are looked up in the index rather than found by going through every student.
+     */
+    public boolean isIndexScan() {
+        return !indexLookups.isEmpty();
+    }
+
+    /**
+     * Returns the students the residual filter is evaluated on.
+     */
+    public Collection<Person> getCandidates() {
+        if (!isIndexScan()) {
+            return index.getPersons();
+        }
+        if (indexLookups.size() == 1) {
+            QueryExpression.Comparison lookup = indexLookups.get(0);
+            return index.lookup(lookup.getField(), lookup.getKey());
+        }
+        // A student can be found by several lookups of a disjunction
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (QueryExpression.Comparison lookup : indexLookups) {
+            candidates.addAll(index.lookup(lookup.getField(), lookup.getKey()));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the students that match the planned condition, in no particular order.
+     */
+    public List<Person> findMatches() {
+        return getCandidates().stream()
+                .filter(person -> residual == null || residual.test(person))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a description of the plan, with the number of candidates it looks up.
+     */
+    public String explain() {
+        int total = index.getPersons().size();
+        String candidates;
+        if (isIndexScan()) {
+            String lookups = indexLookups.stream()
+                    .map(QueryExpression.Comparison::toString)
+                    .collect(Collectors.joining(" or "));
+            candidates = String.format("index lookup on %1$s (%2$d of %3$d students)",
+                    lookups, getCandidates().size(), total);
+        } else {
+            candidates = String.format("full scan (%1$d students)", total);
+        }
+        return "Candidates: " + candidates + "\n"
+                + "Residual filter: " + (residual == null ? "none" : residual);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("indexLookups", indexLookups)
+                .add("residual", residual)
+                .toString();
+    }
+}
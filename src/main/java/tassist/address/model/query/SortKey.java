@@ -0,0 +1,85 @@
+package tassist.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import tassist.address.model.person.Person;
+
+/**
+ * Represents one key of a query's {@code sort} clause, e.g. {@code progress desc}.
+ * Guarantees: immutable; the field is sortable.
+ */
+public class SortKey {
+
+    private final QueryField field;
+    private final boolean isAscending;
+
+    /**
+     * {@code field} must not be null and must be sortable.
+     */
+    public SortKey(QueryField field, boolean isAscending) {
+        requireNonNull(field);
+        checkArgument(field.isSortable(), "Students cannot be sorted by " + field);
+        this.field = field;
+        this.isAscending = isAscending;
+    }
+
+    public QueryField getField() {
+        return field;
+    }
+
+    public boolean isAscending() {
+        return isAscending;
+    }
+
+    /**
+     * Returns a comparator that orders students by each of {@code sortKeys} in turn, most significant first.
+     * Students that tie on every key are ordered by student ID, which is unique, so the order never depends on the
+     * order the students were in before sorting.
+     */
+    public static Comparator<Person> getComparator(List<SortKey> sortKeys) {
+        requireNonNull(sortKeys);
+        Comparator<Person> comparator = QueryField.ID.getComparator(true);
+        for (int i = sortKeys.size() - 1; i >= 0; i--) {
+            comparator = sortKeys.get(i).getComparator().thenComparing(comparator);
+        }
+        return comparator;
+    }
+
+    /**
+     * Returns a comparator that orders students by this key only.
+     */
+    public Comparator<Person> getComparator() {
+        return field.getComparator(isAscending);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortKey)) {
+            return false;
+        }
+
+        SortKey otherSortKey = (SortKey) other;
+        return field == otherSortKey.field
+                && isAscending == otherSortKey.isAscending;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, isAscending);
+    }
+
+    @Override
+    public String toString() {
+        return field + (isAscending ? " asc" : " desc");
+    }
+}
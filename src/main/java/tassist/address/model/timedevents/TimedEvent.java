@@ -2,11 +2,13 @@ package tassist.address.model.timedevents;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
+import tassist.address.commons.core.DayClock;
 import tassist.address.commons.util.ToStringBuilder;
 
 /**
@@ -20,6 +22,8 @@ public abstract class TimedEvent {
     private final String name;
     private final String description;
     private final LocalDateTime time;
+    /** The remaining time last worked out, which is valid for the day it was worked out on. */
+    private volatile RemainingTime remainingTime;
 
     /**
      * Every field must be present and not null.
@@ -63,8 +67,14 @@ public abstract class TimedEvent {
      * Returns true if the event is overdue (due date is today or in the past).
      */
     public boolean isOverdue() {
-        return time.toLocalDate().isBefore(LocalDateTime.now().toLocalDate())
-                || time.toLocalDate().equals(LocalDateTime.now().toLocalDate());
+        return isOverdue(DayClock.system().today());
+    }
+
+    /**
+     * Returns true if the event is overdue on {@code today} (due date is today or in the past).
+     */
+    public boolean isOverdue(LocalDate today) {
+        return !time.toLocalDate().isAfter(today);
     }
 
     /**
@@ -72,47 +82,53 @@ public abstract class TimedEvent {
      * Only includes non-zero units (years, months, days) in the output.
      */
     public String calculateRemainingTime() {
-        if (isOverdue()) {
-            return "Overdue";
-        }
+        return calculateRemainingTime(DayClock.system().today());
+    }
 
-        LocalDateTime now = LocalDateTime.now();
-        long totalDays = ChronoUnit.DAYS.between(now.toLocalDate(), time.toLocalDate());
-        long totalMonths = ChronoUnit.MONTHS.between(now.toLocalDate(), time.toLocalDate());
-        long totalYears = ChronoUnit.YEARS.between(now.toLocalDate(), time.toLocalDate());
+    /**
+     * Calculates and formats the remaining time from {@code today} until this event.
+     * The result only depends on the dates, so it is worked out once per day and reused until {@code today}
+     * changes.
+     */
+    public String calculateRemainingTime(LocalDate today) {
+        requireNonNull(today);
+        RemainingTime cached = remainingTime;
+        if (cached != null && cached.today.equals(today)) {
+            return cached.text;
+        }
+        String text = formatRemainingTime(today);
+        remainingTime = new RemainingTime(today, text);
+        return text;
+    }
 
-        // If the event is due tomorrow, show 1 day
-        if (totalDays == 0 && time.isAfter(now)) {
-            return "1 day";
+    private String formatRemainingTime(LocalDate today) {
+        if (isOverdue(today)) {
+            return "Overdue";
         }
 
+        LocalDate dueDate = time.toLocalDate();
+        long totalYears = ChronoUnit.YEARS.between(today, dueDate);
+        LocalDate afterYears = today.plusYears(totalYears);
+        long remainingMonths = ChronoUnit.MONTHS.between(afterYears, dueDate);
+        LocalDate afterMonths = afterYears.plusMonths(remainingMonths);
+        long remainingDays = ChronoUnit.DAYS.between(afterMonths, dueDate);
+
+        // Only the non-zero units are shown, largest first
         StringBuilder timeLeft = new StringBuilder();
+        appendUnit(timeLeft, totalYears, "year");
+        appendUnit(timeLeft, remainingMonths, "month");
+        appendUnit(timeLeft, remainingDays, "day");
+        return timeLeft.toString();
+    }
 
-        // If less than a month, only show days
-        if (totalMonths == 0) {
-            timeLeft.append(totalDays).append(" day").append(totalDays > 1 ? "s" : "");
-        } else if (totalYears == 0) {
-            timeLeft.append(totalMonths).append(" month").append(totalMonths > 1 ? "s" : "");
-            LocalDateTime afterMonths = now.plusMonths(totalMonths);
-            long remainingDays = ChronoUnit.DAYS.between(afterMonths.toLocalDate(), time.toLocalDate());
-            if (remainingDays > 0) {
-                timeLeft.append(" ").append(remainingDays).append(" day").append(remainingDays > 1 ? "s" : "");
-            }
-        } else {
-            timeLeft.append(totalYears).append(" year").append(totalYears > 1 ? "s" : "");
-            LocalDateTime afterYears = now.plusYears(totalYears);
-            long remainingMonths = ChronoUnit.MONTHS.between(afterYears.toLocalDate(), time.toLocalDate());
-            if (remainingMonths > 0) {
-                timeLeft.append(" ").append(remainingMonths).append(" month").append(remainingMonths > 1 ? "s" : "");
-            }
-            LocalDateTime afterMonths = afterYears.plusMonths(remainingMonths);
-            long remainingDays = ChronoUnit.DAYS.between(afterMonths.toLocalDate(), time.toLocalDate());
-            if (remainingDays > 0) {
-                timeLeft.append(" ").append(remainingDays).append(" day").append(remainingDays > 1 ? "s" : "");
-            }
+    private static void appendUnit(StringBuilder timeLeft, long amount, String unit) {
+        if (amount == 0) {
+            return;
         }
-
-        return timeLeft.toString();
+        if (timeLeft.length() > 0) {
+            timeLeft.append(" ");
+        }
+        timeLeft.append(amount).append(" ").append(unit).append(amount > 1 ? "s" : "");
     }
 
     /**
@@ -163,4 +179,17 @@ public abstract class TimedEvent {
                 .add("time", time)
                 .toString();
     }
+
+    /**
+     * Represents the remaining time until an event as worked out on a given day.
+     */
+    private static class RemainingTime {
+        private final LocalDate today;
+        private final String text;
+
+        private RemainingTime(LocalDate today, String text) {
+            this.today = today;
+            this.text = text;
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package tassist.address.storage;
+
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import tassist.address.commons.util.ToStringBuilder;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Represents the result of parsing and validating an import file without applying it.
+ * Rows that are invalid or that repeat an earlier row are left out of the valid persons and timed events,
+ * and recorded as problems instead.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class CsvImportValidation {
+
+    private final List<Person> persons;
+    private final List<TimedEvent> timedEvents;
+    private final List<StudentId> deletedStudentIds;
+    private final int duplicateRowCount;
+    private final List<String> invalidRows;
+    private final Duration parseTime;
+    private final Duration validateTime;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public CsvImportValidation(List<Person> persons, List<TimedEvent> timedEvents, List<StudentId> deletedStudentIds,
+            int duplicateRowCount, List<String> invalidRows, Duration parseTime, Duration validateTime) {
+        requireAllNonNull(persons, timedEvents, deletedStudentIds, invalidRows, parseTime, validateTime);
+        this.persons = Collections.unmodifiableList(new ArrayList<>(persons));
+        this.timedEvents = Collections.unmodifiableList(new ArrayList<>(timedEvents));
+        this.deletedStudentIds = Collections.unmodifiableList(new ArrayList<>(deletedStudentIds));
+        this.duplicateRowCount = duplicateRowCount;
+        this.invalidRows = Collections.unmodifiableList(new ArrayList<>(invalidRows));
+        this.parseTime = parseTime;
+        this.validateTime = validateTime;
+    }
+
+    /**
+     * Returns the valid persons in the file, in file order.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the valid timed events in the file, in file order.
+     */
+    public List<TimedEvent> getTimedEvents() {
+        return timedEvents;
+    }
+
+    /**
+     * Returns the student IDs listed as deleted. Only delta files list deleted students.
+     */
+    public List<StudentId> getDeletedStudentIds() {
+        return deletedStudentIds;
+    }
+
+    /**
+     * Returns the number of rows that repeat a student or timed event from an earlier row.
+     */
+    public int getDuplicateRowCount() {
+        return duplicateRowCount;
+    }
+
+    /**
+     * Returns a description of each invalid row, naming the row and the value that made it invalid.
+     */
+    public List<String> getInvalidRows() {
+        return invalidRows;
+    }
+
+    /**
+     * Returns true if importing the file would succeed.
+     */
+    public boolean isImportable() {
+        return duplicateRowCount == 0 && invalidRows.isEmpty();
+    }
+
+    public Duration getParseTime() {
+        return parseTime;
+    }
+
+    public Duration getValidateTime() {
+        return validateTime;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("timedEvents", timedEvents)
+                .add("deletedStudentIds", deletedStudentIds)
+                .add("duplicateRowCount", duplicateRowCount)
+                .add("invalidRows", invalidRows)
+                .add("parseTime", parseTime)
+                .add("validateTime", validateTime)
+                .toString();
+    }
+}
@@ -5,10 +5,15 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -19,8 +24,11 @@ import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvException;
 
 import javafx.collections.ObservableList;
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.AddressBookDelta;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
 import tassist.address.model.tag.Tag;
 import tassist.address.model.timedevents.TimedEvent;
 
@@ -29,6 +37,11 @@ import tassist.address.model.timedevents.TimedEvent;
  */
 public class CsvJsonConverter {
 
+    public static final String DELTA_MARKER = "delta";
+    public static final String DELETED_PERSONS_MARKER = "deletedPersons";
+    public static final String TIMED_EVENTS_MARKER = "timedEvents";
+    public static final String MESSAGE_INVALID_ROW = "Row %1$d: %2$s";
+
     /**
      * Converts a CSV file to a JSON file.
      * <p>
@@ -57,7 +70,7 @@ public class CsvJsonConverter {
             boolean isTimedEventSection = false;
 
             for (String[] row : rows) {
-                if (row.length > 0 && row[0].equalsIgnoreCase("timedEvents")) {
+                if (row.length > 0 && row[0].equalsIgnoreCase(TIMED_EVENTS_MARKER)) {
                     isTimedEventSection = true; // We reached the timedEvents section
                 } else {
                     if (isTimedEventSection) {
@@ -84,34 +97,158 @@ public class CsvJsonConverter {
         }
     }
 
-    private List<Map<String, Object>> retrieveData(String[] headers, List<String[]> rows) {
-        List<Map<String, Object>> data = new ArrayList<>();
-        for (int i = 1; i < rows.size(); i++) {
+    /**
+     * Parses and validates a CSV file in the same way an import of it would, without writing any file.
+     * <p>
+     * Unlike an import, an invalid or duplicate row does not stop the validation. The row is left out of the
+     * result and recorded, so that every problem in the file can be reported at once.
+     * </p>
+     *
+     * @param csvFilePath the path to the CSV file to be validated
+     * @param isDelta whether the file is expected to be a delta file
+     * @return the valid contents of the file, the problems found and the time taken to find them
+     * @throws IOException if there is an error reading the file
+     * @throws CsvException if the file is empty, cannot be parsed, or is not a delta file when one is expected
+     */
+    public CsvImportValidation validateCsv(Path csvFilePath, boolean isDelta) throws IOException, CsvException {
+        long startTime = System.nanoTime();
+
+        List<String[]> rows;
+        try (FileReader fileReader = new FileReader(csvFilePath.toString());
+             CSVReader csvReader = new CSVReader(fileReader)) {
+            rows = csvReader.readAll();
+        }
+
+        if (rows.isEmpty()) {
+            throw new CsvException("No data");
+        }
+        if (isDelta && !rows.get(0)[0].equalsIgnoreCase(DELTA_MARKER)) {
+            throw new CsvException("Not a delta file");
+        }
+
+        // Row indices of each section, each starting with the section's header row
+        List<Integer> personRows = new ArrayList<>();
+        List<Integer> deletedRows = new ArrayList<>();
+        List<Integer> timedEventRows = new ArrayList<>();
+        List<Integer> currentSection = personRows;
+
+        for (int i = isDelta ? 1 : 0; i < rows.size(); i++) {
             String[] row = rows.get(i);
-            Map<String, Object> personData = new LinkedHashMap<>();
-
-            for (int j = 0; j < headers.length; j++) {
-                String key = headers[j];
-                String value = row[j];
-
-                if (key.equalsIgnoreCase("tags")) {
-                    Object newValue = processTags(value);
-                    personData.put(key, newValue);
-                } else if (key.equalsIgnoreCase("timedEvents")) {
-                    List<Map<String, String>> timedEventsList = processPersonTimedEvents(value);
-                    personData.put(key, timedEventsList);
+            if (isDelta && row.length > 0 && row[0].equalsIgnoreCase(DELETED_PERSONS_MARKER)) {
+                currentSection = deletedRows;
+            } else if (row.length > 0 && row[0].equalsIgnoreCase(TIMED_EVENTS_MARKER)) {
+                currentSection = timedEventRows;
+            } else {
+                currentSection.add(i);
+            }
+        }
+
+        String[] personHeaders = Person.getAttributes().toArray(new String[0]);
+        Map<Integer, Map<String, Object>> personsData = retrieveRecords(personHeaders, rows, personRows);
+        String[] timedEventHeaders = TimedEvent.getAttributes().toArray(new String[0]);
+        Map<Integer, Map<String, Object>> timedEventsData = retrieveRecords(timedEventHeaders, rows, timedEventRows);
+
+        long parsedTime = System.nanoTime();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> invalidRows = new ArrayList<>();
+        int duplicateRowCount = 0;
+
+        List<Person> persons = new ArrayList<>();
+        Set<StudentId> seenStudentIds = new HashSet<>();
+        for (Map.Entry<Integer, Map<String, Object>> record : personsData.entrySet()) {
+            try {
+                Person person = objectMapper.convertValue(record.getValue(), JsonAdaptedPerson.class).toModelType();
+                if (seenStudentIds.add(person.getStudentId())) {
+                    persons.add(person);
                 } else {
-                    String newValue = processAttribute(value);
-                    personData.put(key, newValue);
+                    duplicateRowCount++;
                 }
+            } catch (IllegalValueException | IllegalArgumentException | DateTimeException e) {
+                invalidRows.add(String.format(MESSAGE_INVALID_ROW, record.getKey() + 1, e.getMessage()));
             }
+        }
+
+        List<StudentId> deletedStudentIds = new ArrayList<>();
+        for (int rowIndex : deletedRows.subList(Math.min(1, deletedRows.size()), deletedRows.size())) {
+            String value = rows.get(rowIndex)[0].trim();
+            if (StudentId.isValidStudentId(value)) {
+                deletedStudentIds.add(new StudentId(value));
+            } else {
+                invalidRows.add(String.format(MESSAGE_INVALID_ROW, rowIndex + 1, StudentId.MESSAGE_CONSTRAINTS));
+            }
+        }
+
+        List<TimedEvent> timedEvents = new ArrayList<>();
+        // Keyed on what isSameTimedEvent compares, so each row is checked for a duplicate in O(1)
+        Set<Map.Entry<String, LocalDateTime>> seenTimedEventKeys = new HashSet<>();
+        for (Map.Entry<Integer, Map<String, Object>> record : timedEventsData.entrySet()) {
+            try {
+                TimedEvent timedEvent = objectMapper.convertValue(record.getValue(), JsonAdaptedTimedEvent.class)
+                        .toModelType();
+                if (seenTimedEventKeys.add(Map.entry(timedEvent.getName().toLowerCase(Locale.ROOT),
+                        timedEvent.getTime()))) {
+                    timedEvents.add(timedEvent);
+                } else {
+                    duplicateRowCount++;
+                }
+            } catch (IllegalValueException | IllegalArgumentException | DateTimeException e) {
+                invalidRows.add(String.format(MESSAGE_INVALID_ROW, record.getKey() + 1, e.getMessage()));
+            }
+        }
+
+        long validatedTime = System.nanoTime();
+
+        return new CsvImportValidation(persons, timedEvents, deletedStudentIds, duplicateRowCount, invalidRows,
+                Duration.ofNanos(parsedTime - startTime), Duration.ofNanos(validatedTime - parsedTime));
+    }
 
-            data.add(personData);
+    private List<Map<String, Object>> retrieveData(String[] headers, List<String[]> rows) {
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 1; i < rows.size(); i++) {
+            data.add(retrieveRecord(headers, rows.get(i)));
         }
 
         return data;
     }
 
+    /**
+     * Returns the records of the data rows in {@code sectionRows}, keyed by row index, skipping the header row.
+     * A row with too few values is kept with an empty record, so that it is reported as invalid rather than lost.
+     */
+    private Map<Integer, Map<String, Object>> retrieveRecords(String[] headers, List<String[]> rows,
+            List<Integer> sectionRows) {
+        Map<Integer, Map<String, Object>> records = new LinkedHashMap<>();
+        for (int rowIndex : sectionRows.subList(Math.min(1, sectionRows.size()), sectionRows.size())) {
+            String[] row = rows.get(rowIndex);
+            records.put(rowIndex, row.length < headers.length ? new LinkedHashMap<>() : retrieveRecord(headers, row));
+        }
+
+        return records;
+    }
+
+    private Map<String, Object> retrieveRecord(String[] headers, String[] row) {
+        Map<String, Object> personData = new LinkedHashMap<>();
+
+        for (int j = 0; j < headers.length; j++) {
+            String key = headers[j];
+            String value = row[j];
+
+            if (key.equalsIgnoreCase("tags")) {
+                Object newValue = processTags(value);
+                personData.put(key, newValue);
+            } else if (key.equalsIgnoreCase("timedEvents")) {
+                List<Map<String, String>> timedEventsList = processPersonTimedEvents(value);
+                personData.put(key, timedEventsList);
+            } else {
+                String newValue = processAttribute(value);
+                personData.put(key, newValue);
+            }
+        }
+
+        return personData;
+    }
+
     private String processAttribute(String value) {
         if (value == null || value.trim().isEmpty()) {
             return "";
@@ -168,13 +305,109 @@ public class CsvJsonConverter {
 
             writePersons(csvWriter, persons);
 
-            csvWriter.writeNext(new String[]{"timedEvents"});
+            csvWriter.writeNext(new String[]{TIMED_EVENTS_MARKER});
 
             writeTimedEvents(csvWriter, timedEvents);
         }
     }
 
-    private void writePersons(CSVWriter csvWriter, ObservableList<Person> persons) {
+    /**
+     * Writes {@code delta} into a delta CSV file.
+     * <p>
+     * The file starts with a {@code delta} row holding the time the delta was taken from, followed by the changed
+     * persons in the same layout as {@link #convertJsonToCsv(Path, ReadOnlyAddressBook)}, a {@code deletedPersons}
+     * section listing the student IDs of deleted persons, and the {@code timedEvents} section.
+     * </p>
+     *
+     * @param csvFilePath The path where the delta file should be saved. This path must be valid and writable.
+     * @param delta The changes to be written.
+     * @throws IOException If an error occurs during file writing.
+     */
+    public void convertDeltaToCsv(Path csvFilePath, AddressBookDelta delta) throws IOException {
+        try (FileWriter fileWriter = new FileWriter(csvFilePath.toString());
+             CSVWriter csvWriter = new CSVWriter(fileWriter)) {
+
+            csvWriter.writeNext(new String[]{DELTA_MARKER, delta.getSince().map(LocalDateTime::toString).orElse("")});
+
+            writePersons(csvWriter, delta.getChangedPersons());
+
+            csvWriter.writeNext(new String[]{DELETED_PERSONS_MARKER});
+            csvWriter.writeNext(new String[]{"studentId"});
+            for (StudentId studentId : delta.getDeletedStudentIds()) {
+                csvWriter.writeNext(new String[]{studentId.value});
+            }
+
+            csvWriter.writeNext(new String[]{TIMED_EVENTS_MARKER});
+
+            writeTimedEvents(csvWriter, delta.getTimedEvents());
+        }
+    }
+
+    /**
+     * Reads a delta CSV file written by {@link #convertDeltaToCsv(Path, AddressBookDelta)}.
+     * The rows are converted straight into model objects, without going through the address book data file.
+     *
+     * @param csvFilePath the path to the delta file to be read
+     * @return the changes recorded in the file
+     * @throws IOException if there is an error reading the file
+     * @throws CsvException if the file is not a delta file or contains invalid values
+     */
+    public AddressBookDelta readDeltaCsv(Path csvFilePath) throws IOException, CsvException {
+        try (FileReader fileReader = new FileReader(csvFilePath.toString());
+             CSVReader csvReader = new CSVReader(fileReader)) {
+
+            List<String[]> rows = csvReader.readAll();
+
+            if (rows.isEmpty() || !rows.get(0)[0].equalsIgnoreCase(DELTA_MARKER)) {
+                throw new CsvException("Not a delta file");
+            }
+
+            List<String[]> personRows = new ArrayList<>();
+            List<String[]> deletedRows = new ArrayList<>();
+            List<String[]> timedEventRows = new ArrayList<>();
+            List<String[]> currentSection = personRows;
+
+            for (String[] row : rows.subList(1, rows.size())) {
+                if (row.length > 0 && row[0].equalsIgnoreCase(DELETED_PERSONS_MARKER)) {
+                    currentSection = deletedRows;
+                } else if (row.length > 0 && row[0].equalsIgnoreCase(TIMED_EVENTS_MARKER)) {
+                    currentSection = timedEventRows;
+                } else {
+                    currentSection.add(row);
+                }
+            }
+
+            String since = rows.get(0).length > 1 ? rows.get(0)[1].trim() : "";
+            ObjectMapper objectMapper = new ObjectMapper();
+
+            List<Person> changedPersons = new ArrayList<>();
+            String[] personHeaders = Person.getAttributes().toArray(new String[0]);
+            for (Map<String, Object> personData : retrieveData(personHeaders, personRows)) {
+                changedPersons.add(objectMapper.convertValue(personData, JsonAdaptedPerson.class).toModelType());
+            }
+
+            List<StudentId> deletedStudentIds = new ArrayList<>();
+            for (String[] row : deletedRows.subList(Math.min(1, deletedRows.size()), deletedRows.size())) {
+                if (!StudentId.isValidStudentId(row[0].trim())) {
+                    throw new CsvException(StudentId.MESSAGE_CONSTRAINTS);
+                }
+                deletedStudentIds.add(new StudentId(row[0].trim()));
+            }
+
+            List<TimedEvent> timedEvents = new ArrayList<>();
+            String[] timedEventHeaders = TimedEvent.getAttributes().toArray(new String[0]);
+            for (Map<String, Object> timedEventData : retrieveData(timedEventHeaders, timedEventRows)) {
+                timedEvents.add(objectMapper.convertValue(timedEventData, JsonAdaptedTimedEvent.class).toModelType());
+            }
+
+            return new AddressBookDelta(since.isEmpty() ? null : LocalDateTime.parse(since),
+                    changedPersons, deletedStudentIds, timedEvents);
+        } catch (IllegalValueException | IllegalArgumentException | DateTimeException e) {
+            throw new CsvException(e.getMessage());
+        }
+    }
+
+    private void writePersons(CSVWriter csvWriter, List<Person> persons) {
         String[] personHeader = Person.getAttributes().toArray(new String[0]);
         csvWriter.writeNext(personHeader);
 
@@ -197,7 +430,7 @@ public class CsvJsonConverter {
         }
     }
 
-    private void writeTimedEvents(CSVWriter csvWriter, ObservableList<TimedEvent> timedEvents) {
+    private void writeTimedEvents(CSVWriter csvWriter, List<TimedEvent> timedEvents) {
         String[] timedEventHeader = TimedEvent.getAttributes().toArray(new String[0]);
         csvWriter.writeNext(timedEventHeader);
 
@@ -231,7 +464,7 @@ public class CsvJsonConverter {
         return tagsData.toString();
     }
 
-    private String convertTimedEventsToCsvString(ObservableList<TimedEvent> timedEvents) {
+    private String convertTimedEventsToCsvString(List<TimedEvent> timedEvents) {
         if (timedEvents.isEmpty()) {
             return "";
         }
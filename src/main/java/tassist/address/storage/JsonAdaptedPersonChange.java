@@ -0,0 +1,69 @@
+package tassist.address.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.person.StudentId;
+
+/**
+ * Jackson-friendly record of the time a person, identified by student ID, was last changed or deleted.
+ */
+class JsonAdaptedPersonChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person change's %s field is missing!";
+
+    private final String studentId;
+    private final String time;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonChange} with the given student ID and time.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonChange(@JsonProperty("studentId") String studentId, @JsonProperty("time") String time) {
+        this.studentId = studentId;
+        this.time = time;
+    }
+
+    /**
+     * Converts a given student ID and change time into this class for Jackson use.
+     */
+    public JsonAdaptedPersonChange(StudentId studentId, LocalDateTime time) {
+        this.studentId = studentId.value;
+        this.time = time.toString();
+    }
+
+    /**
+     * Converts the student ID of this change into the model's {@code StudentId} object.
+     *
+     * @throws IllegalValueException if the student ID is missing or invalid.
+     */
+    public StudentId getModelStudentId() throws IllegalValueException {
+        if (studentId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "studentId"));
+        }
+        if (!StudentId.isValidStudentId(studentId)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        return new StudentId(studentId);
+    }
+
+    /**
+     * Converts the time of this change into a {@code LocalDateTime}.
+     *
+     * @throws IllegalValueException if the time is missing or invalid.
+     */
+    public LocalDateTime getModelTime() throws IllegalValueException {
+        if (time == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "time"));
+        }
+        try {
+            return LocalDateTime.parse(time);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException("Invalid date format: " + time);
+        }
+    }
+}
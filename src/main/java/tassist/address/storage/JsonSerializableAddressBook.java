@@ -1,7 +1,11 @@
 package tassist.address.storage;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,6 +16,7 @@ import tassist.address.commons.exceptions.IllegalValueException;
 import tassist.address.model.AddressBook;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
@@ -25,17 +30,31 @@ class JsonSerializableAddressBook {
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedTimedEvent> timedEvents = new ArrayList<>();
+    private final List<JsonAdaptedPersonChange> modifiedPersons = new ArrayList<>();
+    private final List<JsonAdaptedPersonChange> deletedPersons = new ArrayList<>();
+    private final String lastExportTime;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons and timed events.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, timed events and change times.
+     * The change times are optional so that data files written before they were recorded can still be read.
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-            @JsonProperty("timedEvents") List<JsonAdaptedTimedEvent> timedEvents) {
+            @JsonProperty("timedEvents") List<JsonAdaptedTimedEvent> timedEvents,
+            @JsonProperty("modifiedPersons") List<JsonAdaptedPersonChange> modifiedPersons,
+            @JsonProperty("deletedPersons") List<JsonAdaptedPersonChange> deletedPersons,
+            @JsonProperty("lastExportTime") String lastExportTime) {
         this.persons.addAll(persons);
         if (timedEvents != null) {
             this.timedEvents.addAll(timedEvents);
         }
+        if (modifiedPersons != null) {
+            this.modifiedPersons.addAll(modifiedPersons);
+        }
+        if (deletedPersons != null) {
+            this.deletedPersons.addAll(deletedPersons);
+        }
+        this.lastExportTime = lastExportTime;
     }
 
     /**
@@ -47,6 +66,11 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         timedEvents.addAll(source.getTimedEventList().stream().map(JsonAdaptedTimedEvent::new)
                 .collect(Collectors.toList()));
+        source.getPersonModifiedTimes().forEach((studentId, time) ->
+                modifiedPersons.add(new JsonAdaptedPersonChange(studentId, time)));
+        source.getPersonDeletedTimes().forEach((studentId, time) ->
+                deletedPersons.add(new JsonAdaptedPersonChange(studentId, time)));
+        lastExportTime = source.getLastExportTime().map(LocalDateTime::toString).orElse(null);
     }
 
     /**
@@ -70,7 +94,29 @@ class JsonSerializableAddressBook {
             }
             addressBook.addTimedEvent(timedEvent);
         }
+        addressBook.restoreChangeTimes(toChangeTimes(modifiedPersons), toChangeTimes(deletedPersons),
+                toLastExportTime());
         return addressBook;
     }
 
+    private static Map<StudentId, LocalDateTime> toChangeTimes(List<JsonAdaptedPersonChange> changes)
+            throws IllegalValueException {
+        Map<StudentId, LocalDateTime> changeTimes = new HashMap<>();
+        for (JsonAdaptedPersonChange change : changes) {
+            changeTimes.put(change.getModelStudentId(), change.getModelTime());
+        }
+        return changeTimes;
+    }
+
+    private LocalDateTime toLastExportTime() throws IllegalValueException {
+        if (lastExportTime == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(lastExportTime);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException("Invalid date format: " + lastExportTime);
+        }
+    }
+
 }
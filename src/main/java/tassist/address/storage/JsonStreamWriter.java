@@ -0,0 +1,49 @@
+package tassist.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import tassist.address.commons.util.JsonUtil;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Writes persons and timed events as JSON arrays in the same format as the data file, one element at a time, so
+ * that a large address book is streamed to the output instead of being held in memory as a whole.
+ */
+public class JsonStreamWriter {
+
+    private JsonStreamWriter() {}
+
+    /**
+     * Writes {@code persons} to {@code out} as a JSON array, and closes {@code out}.
+     */
+    public static void writePersons(Iterator<Person> persons, OutputStream out) throws IOException {
+        writeArray(persons, JsonAdaptedPerson::new, out);
+    }
+
+    /**
+     * Writes {@code timedEvents} to {@code out} as a JSON array, and closes {@code out}.
+     */
+    public static void writeTimedEvents(Iterator<TimedEvent> timedEvents, OutputStream out) throws IOException {
+        writeArray(timedEvents, JsonAdaptedTimedEvent::new, out);
+    }
+
+    private static <T> void writeArray(Iterator<T> elements, Function<T, ?> adapter, OutputStream out)
+            throws IOException {
+        requireNonNull(elements);
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartArray();
+            while (elements.hasNext()) {
+                generator.writeObject(adapter.apply(elements.next()));
+            }
+            generator.writeEndArray();
+        }
+    }
+}
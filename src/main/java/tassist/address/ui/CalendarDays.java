@@ -0,0 +1,246 @@
+package tassist.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+
+/**
+ * Groups the timed events shown by a {@code CalendarView} by date, numbers them by their position in the event list
+ * and tracks the students assigned to each.
+ * Both lists are followed through their change events, so a change only updates the dates and events it affects,
+ * and the listener is told exactly which those are so the calendar can redraw only them.
+ */
+public class CalendarDays {
+
+    private final ObservableList<TimedEvent> events;
+    private final ObservableList<Person> persons;
+    private final TreeMap<LocalDate, List<TimedEvent>> eventsByDate = new TreeMap<>();
+    private final Map<TimedEvent, Integer> numbers = new HashMap<>();
+    private final Map<TimedEvent, List<Person>> assignees = new HashMap<>();
+    private final Comparator<TimedEvent> dayOrder = Comparator.comparing(TimedEvent::getTime)
+            .thenComparing(numbers::get);
+    private Listener listener = (changedDates, changedEvents) -> { };
+
+    /**
+     * Creates a {@code CalendarDays} of {@code events}, whose assignments are looked up in {@code persons}.
+     */
+    public CalendarDays(ObservableList<TimedEvent> events, ObservableList<Person> persons) {
+        requireAllNonNull(events, persons);
+        this.events = events;
+        this.persons = persons;
+
+        renumberFrom(0);
+        for (TimedEvent event : events) {
+            assignees.put(event, findAssignees(event));
+            addToDate(event);
+        }
+        events.addListener((ListChangeListener<TimedEvent>) this::handleEventsChanged);
+        persons.addListener((ListChangeListener<Person>) this::handlePersonsChanged);
+    }
+
+    /**
+     * Sets the listener told about each change, replacing the previous one.
+     */
+    public void setListener(Listener listener) {
+        requireNonNull(listener);
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the dates that have events, in chronological order.
+     */
+    public List<LocalDate> getDates() {
+        return new ArrayList<>(eventsByDate.keySet());
+    }
+
+    /**
+     * Returns the position of {@code date} among the dates that have events, or of where it would be if it has none.
+     */
+    public int getDateIndex(LocalDate date) {
+        return eventsByDate.headMap(date).size();
+    }
+
+    /**
+     * Returns the events on {@code date}, ordered by time, or an empty list if there are none.
+     */
+    public List<TimedEvent> getEvents(LocalDate date) {
+        List<TimedEvent> dayEvents = eventsByDate.get(date);
+        return dayEvents == null ? List.of() : Collections.unmodifiableList(dayEvents);
+    }
+
+    /**
+     * Returns the one-based position of {@code event} in the event list.
+     */
+    public int getNumber(TimedEvent event) {
+        return numbers.get(event);
+    }
+
+    /**
+     * Returns the students assigned to {@code event}, in the order of the student list.
+     */
+    public List<Person> getAssignees(TimedEvent event) {
+        return Collections.unmodifiableList(assignees.getOrDefault(event, List.of()));
+    }
+
+    private void handleEventsChanged(ListChangeListener.Change<? extends TimedEvent> change) {
+        Set<TimedEvent> removed = new HashSet<>();
+        Set<TimedEvent> added = new HashSet<>();
+        int firstChangedIndex = events.size();
+        while (change.next()) {
+            firstChangedIndex = Math.min(firstChangedIndex, change.getFrom());
+            if (change.wasPermutated()) {
+                List<? extends TimedEvent> permuted = change.getList().subList(change.getFrom(), change.getTo());
+                removed.addAll(permuted);
+                added.addAll(permuted);
+                continue;
+            }
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        // An event that is removed and added back in the same change only moves
+        Set<TimedEvent> moved = new HashSet<>(removed);
+        moved.retainAll(added);
+        removed.removeAll(moved);
+        added.removeAll(moved);
+
+        Set<LocalDate> changedDates = new TreeSet<>();
+        for (TimedEvent event : removed) {
+            changedDates.add(removeFromDate(event));
+            numbers.remove(event);
+            assignees.remove(event);
+        }
+        Set<TimedEvent> renumbered = renumberFrom(firstChangedIndex);
+        renumbered.removeAll(added);
+        for (TimedEvent event : moved) {
+            if (!renumbered.contains(event)) {
+                continue;
+            }
+            // The order of events within a day follows their numbers
+            changedDates.add(removeFromDate(event));
+            addToDate(event);
+        }
+        for (TimedEvent event : added) {
+            assignees.put(event, findAssignees(event));
+            changedDates.add(addToDate(event));
+        }
+
+        if (!changedDates.isEmpty() || !renumbered.isEmpty()) {
+            listener.onChanged(changedDates, renumbered);
+        }
+    }
+
+    private void handlePersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        // Only the events of the students added or removed can have gained or lost assignees
+        Set<TimedEvent> affected = new HashSet<>();
+        while (change.next()) {
+            for (Person person : change.getRemoved()) {
+                affected.addAll(person.getTimedEvents());
+            }
+            for (Person person : change.getAddedSubList()) {
+                affected.addAll(person.getTimedEvents());
+            }
+        }
+
+        Set<TimedEvent> changedEvents = new HashSet<>();
+        for (TimedEvent event : affected) {
+            if (!assignees.containsKey(event)) {
+                continue;
+            }
+            List<Person> eventAssignees = findAssignees(event);
+            if (!isSamePersons(eventAssignees, assignees.put(event, eventAssignees))) {
+                changedEvents.add(event);
+            }
+        }
+
+        if (!changedEvents.isEmpty()) {
+            listener.onChanged(Set.of(), changedEvents);
+        }
+    }
+
+    /**
+     * Numbers the events from {@code fromIndex} by their position, returning those whose number changed.
+     */
+    private Set<TimedEvent> renumberFrom(int fromIndex) {
+        Set<TimedEvent> renumbered = new HashSet<>();
+        for (int i = fromIndex; i < events.size(); i++) {
+            TimedEvent event = events.get(i);
+            Integer previous = numbers.put(event, i + 1);
+            if (previous != null && previous != i + 1) {
+                renumbered.add(event);
+            }
+        }
+        return renumbered;
+    }
+
+    private List<Person> findAssignees(TimedEvent event) {
+        return persons.stream()
+                .filter(person -> person.hasTimedEvent(event))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if both lists hold the same student objects in the same order.
+     * Students are equal if their IDs are, so an edited student is only told apart by identity.
+     */
+    static boolean isSamePersons(List<Person> persons, List<Person> otherPersons) {
+        if (persons.size() != otherPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != otherPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private LocalDate addToDate(TimedEvent event) {
+        LocalDate date = event.getTime().toLocalDate();
+        List<TimedEvent> dayEvents = eventsByDate.computeIfAbsent(date, unused -> new ArrayList<>());
+        int index = Collections.binarySearch(dayEvents, event, dayOrder);
+        dayEvents.add(index < 0 ? -index - 1 : index, event);
+        return date;
+    }
+
+    private LocalDate removeFromDate(TimedEvent event) {
+        LocalDate date = event.getTime().toLocalDate();
+        List<TimedEvent> dayEvents = eventsByDate.get(date);
+        dayEvents.remove(event);
+        if (dayEvents.isEmpty()) {
+            eventsByDate.remove(date);
+        }
+        return date;
+    }
+
+    /**
+     * Represents a function told about the changes of a {@code CalendarDays}.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called after the lists change.
+         *
+         * @param changedDates The dates whose events were added, removed or reordered, including dates that now
+         *     have no events.
+         * @param changedEvents The events that stayed on their date but whose number or assignees changed.
+         */
+        void onChanged(Set<LocalDate> changedDates, Set<TimedEvent> changedEvents);
+    }
+}
@@ -1,138 +1,386 @@
 package tassist.address.ui;
 
-import java.time.LocalDateTime;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.TreeSet;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
-import tassist.address.logic.Logic;
+import tassist.address.commons.core.DayClock;
 import tassist.address.model.person.Person;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
  * A UI component that displays timed events in a calendar format.
+ * The dates are shown as the cells of a horizontal {@code ListView}, so only the columns on screen are built and
+ * their nodes are reused as the calendar scrolls. The calendar follows the changes of the event and student lists,
+ * and only redraws the columns that a change affects.
+ * In month mode the events are shown on a grid of the weeks of one month instead. Its {@link MonthGrid#DAY_COUNT}
+ * day cells are built once and only shown other dates when moving to another month, each looking up the events of
+ * its date in the per-day buckets of {@link CalendarDays}, so moving between months takes the same time however
+ * many events there are.
  */
 public class CalendarView extends UiPart<Region> {
     private static final String FXML = "CalendarView.fxml";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMMM yyyy");
+    private static final double COLUMN_WIDTH = 270;
+    private static final int MAX_MONTH_DAY_EVENTS = 3;
+    private static final PseudoClass OUTSIDE_MONTH = PseudoClass.getPseudoClass("outside-month");
+    private static final PseudoClass TODAY = PseudoClass.getPseudoClass("today");
 
     @FXML
-    private HBox calendarGrid;
+    private ListView<LocalDate> calendarGrid;
 
-    private final Logic logic;
+    @FXML
+    private ToggleButton monthToggle;
+
+    @FXML
+    private HBox monthNavigation;
+
+    @FXML
+    private Label monthLabel;
+
+    @FXML
+    private GridPane monthGrid;
+
+    private final CalendarDays days;
+    private final ObservableList<LocalDate> dates;
+    private final List<MonthDayCell> monthDayCells = new ArrayList<>();
+    private MonthGrid shownMonth;
 
     /**
      * Constructor for CalendarView.
      * @param events The list of timed events to display.
-     * @param logic The logic component.
+     * @param persons The students shown, whose assignments to the events are displayed.
      */
-    public CalendarView(List<TimedEvent> events, Logic logic) {
+    public CalendarView(ObservableList<TimedEvent> events, ObservableList<Person> persons) {
         super(FXML);
-        this.logic = logic;
-        updateEvents(events);
+        days = new CalendarDays(events, persons);
+        dates = FXCollections.observableArrayList(days.getDates());
+        calendarGrid.setItems(dates);
+        calendarGrid.setCellFactory(listView -> new DateColumnCell());
+        // Fixing the width of the columns lets the list lay out only the visible ones
+        calendarGrid.setFixedCellSize(COLUMN_WIDTH);
+        buildMonthGrid();
+        days.setListener(this::handleDaysChanged);
     }
 
     /**
-     * Updates the calendar view with the given list of timed events.
+     * Lays out the weekday headings and the day cells of month mode, which are reused for every month shown.
      */
-    public void updateEvents(List<TimedEvent> events) {
-        calendarGrid.getChildren().clear();
+    private void buildMonthGrid() {
+        for (int column = 0; column < MonthGrid.DAYS_PER_WEEK; column++) {
+            ColumnConstraints constraints = new ColumnConstraints();
+            constraints.setPercentWidth(100.0 / MonthGrid.DAYS_PER_WEEK);
+            constraints.setHgrow(Priority.ALWAYS);
+            monthGrid.getColumnConstraints().add(constraints);
 
-        // Sort events by date
-        List<TimedEvent> sortedEvents = events.stream()
-                .sorted((e1, e2) -> e1.getTime().compareTo(e2.getTime()))
-                .collect(Collectors.toList());
+            DayOfWeek weekday = DayOfWeek.MONDAY.plus(column);
+            Label weekdayLabel = new Label(weekday.getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+            weekdayLabel.getStyleClass().addAll("calendar-date", "month-weekday");
+            monthGrid.add(weekdayLabel, column, 0);
+        }
 
-        // Group events by date using a TreeMap with custom comparator for chronological order
-        Map<LocalDateTime, List<TimedEvent>> eventsByDate = new TreeMap<>((d1, d2) -> d1.compareTo(d2));
+        for (int i = 0; i < MonthGrid.DAY_COUNT; i++) {
+            MonthDayCell cell = new MonthDayCell();
+            monthDayCells.add(cell);
+            monthGrid.add(cell.root, i % MonthGrid.DAYS_PER_WEEK, 1 + i / MonthGrid.DAYS_PER_WEEK);
+        }
+        showMonth(YearMonth.from(DayClock.system().today()));
+    }
 
-        for (TimedEvent event : sortedEvents) {
-            LocalDateTime eventDate = event.getTime().toLocalDate().atStartOfDay();
-            eventsByDate.computeIfAbsent(eventDate, k -> new ArrayList<>()).add(event);
+    /**
+     * Shows {@code month} on the month grid by giving each day cell its new date.
+     */
+    private void showMonth(YearMonth month) {
+        shownMonth = new MonthGrid(month);
+        monthLabel.setText(month.format(MONTH_FORMATTER));
+        LocalDate today = DayClock.system().today();
+        for (int i = 0; i < MonthGrid.DAY_COUNT; i++) {
+            LocalDate date = shownMonth.getDate(i);
+            monthDayCells.get(i).show(date, shownMonth.isInMonth(date), date.equals(today));
         }
+    }
 
-        // Create calendar grid
-        for (Map.Entry<LocalDateTime, List<TimedEvent>> entry : eventsByDate.entrySet()) {
-            String date = entry.getKey().format(DATE_FORMATTER);
-            List<TimedEvent> dayEvents = entry.getValue();
+    /**
+     * Switches between the strip of dates with events and the month grid.
+     */
+    @FXML
+    private void handleModeToggled() {
+        boolean isMonthMode = monthToggle.isSelected();
+        setShown(monthNavigation, isMonthMode);
+        setShown(monthGrid, isMonthMode);
+        setShown(calendarGrid, !isMonthMode);
+    }
 
-            // Sort events within the day by time
-            dayEvents.sort((e1, e2) -> e1.getTime().compareTo(e2.getTime()));
+    private static void setShown(Node node, boolean isShown) {
+        node.setVisible(isShown);
+        node.setManaged(isShown);
+    }
 
-            // Create a column for this date
-            VBox dateColumn = new VBox(10);
-            dateColumn.getStyleClass().add("calendar-date-column");
-            dateColumn.setMinWidth(250); // Set minimum width for each date column
+    @FXML
+    private void handlePreviousMonth() {
+        showMonth(shownMonth.getMonth().minusMonths(1));
+    }
 
-            // Date header
-            Label dateLabel = new Label(date);
-            dateLabel.getStyleClass().add("calendar-date");
-            dateColumn.getChildren().add(dateLabel);
+    @FXML
+    private void handleNextMonth() {
+        showMonth(shownMonth.getMonth().plusMonths(1));
+    }
 
-            // Events for the day
-            VBox dayEventsBox = new VBox(8);
-            dayEventsBox.getStyleClass().add("calendar-events");
-            for (TimedEvent event : dayEvents) {
-                VBox eventBox = new VBox(2);
-                eventBox.getStyleClass().add("calendar-event");
-
-                // Event name and type
-                TextFlow nameFlow = new TextFlow();
-                Text nameText = new Text(event.getName());
-                nameText.getStyleClass().add("event-name");
-                Text typeText = new Text(" - " + event.getClass().getSimpleName().toLowerCase()
-                        + " [" + (events.indexOf(event) + 1) + "]");
-                typeText.getStyleClass().add("event-type");
-                nameFlow.getChildren().addAll(nameText, typeText);
-                eventBox.getChildren().add(nameFlow);
-
-                // Description
-                if (!event.getDescription().isEmpty()) {
-                    Text descriptionText = new Text(event.getDescription());
-                    descriptionText.getStyleClass().add("event-description");
-                    eventBox.getChildren().add(descriptionText);
+    @FXML
+    private void handleCurrentMonth() {
+        showMonth(YearMonth.from(DayClock.system().today()));
+    }
+
+    /**
+     * Adds or removes the dates that gained their first or lost their last event, and redraws the columns of the
+     * other affected dates if they are on screen. The day cells of the affected dates in the month shown are
+     * updated too.
+     */
+    private void handleDaysChanged(Set<LocalDate> changedDates, Set<TimedEvent> changedEvents) {
+        Set<LocalDate> affectedDates = new TreeSet<>(changedDates);
+        for (TimedEvent event : changedEvents) {
+            affectedDates.add(event.getTime().toLocalDate());
+        }
+
+        for (LocalDate date : affectedDates) {
+            int index = Collections.binarySearch(dates, date);
+            boolean hasEvents = !days.getEvents(date).isEmpty();
+            if (index < 0) {
+                if (hasEvents) {
+                    dates.add(-index - 1, date);
+                }
+            } else if (hasEvents) {
+                // Replacing the date with itself only redraws its cell
+                dates.set(index, date);
+            } else {
+                dates.remove(index);
+            }
+
+            int cellIndex = shownMonth.indexOf(date);
+            if (cellIndex >= 0) {
+                monthDayCells.get(cellIndex).update();
+            }
+        }
+    }
+
+    /**
+     * The cell of one day on the month grid. Its labels are created once and given the events of each date it shows,
+     * up to {@link #MAX_MONTH_DAY_EVENTS} of them and a count of the rest.
+     */
+    private class MonthDayCell {
+        private final VBox root = new VBox(2);
+        private final Label dayLabel = new Label();
+        private final List<Label> eventLabels = new ArrayList<>();
+        private final Label moreLabel = new Label();
+        private LocalDate date;
+
+        MonthDayCell() {
+            root.getStyleClass().addAll("calendar-events", "month-day");
+            dayLabel.getStyleClass().addAll("calendar-date", "month-day-number");
+            moreLabel.getStyleClass().addAll("calendar-date", "month-more");
+            root.getChildren().add(dayLabel);
+            for (int i = 0; i < MAX_MONTH_DAY_EVENTS; i++) {
+                Label eventLabel = new Label();
+                eventLabel.getStyleClass().addAll("calendar-event", "month-event");
+                eventLabel.setMaxWidth(Double.MAX_VALUE);
+                eventLabels.add(eventLabel);
+                root.getChildren().add(eventLabel);
+            }
+            root.getChildren().add(moreLabel);
+        }
+
+        /**
+         * Shows {@code date} and its events in this cell.
+         */
+        void show(LocalDate date, boolean isInMonth, boolean isToday) {
+            this.date = date;
+            dayLabel.setText(String.valueOf(date.getDayOfMonth()));
+            root.pseudoClassStateChanged(OUTSIDE_MONTH, !isInMonth);
+            root.pseudoClassStateChanged(TODAY, isToday);
+            update();
+        }
+
+        /**
+         * Shows the current events of the date of this cell.
+         */
+        void update() {
+            List<TimedEvent> dayEvents = days.getEvents(date);
+            for (int i = 0; i < MAX_MONTH_DAY_EVENTS; i++) {
+                Label eventLabel = eventLabels.get(i);
+                boolean hasEvent = i < dayEvents.size();
+                setShown(eventLabel, hasEvent);
+                if (hasEvent) {
+                    TimedEvent event = dayEvents.get(i);
+                    eventLabel.setText(event.getName() + " [" + days.getNumber(event) + "]");
                 }
+            }
+
+            int hiddenCount = dayEvents.size() - MAX_MONTH_DAY_EVENTS;
+            setShown(moreLabel, hiddenCount > 0);
+            moreLabel.setText(hiddenCount > 0 ? "+" + hiddenCount + " more" : "");
+        }
+    }
 
-                // Assigned persons
-                List<Person> assignedPersons = getAssignedPersons(event);
-                if (!assignedPersons.isEmpty()) {
-                    VBox assignedBox = new VBox(1);
-                    assignedBox.getStyleClass().add("assigned-persons");
-                    Text assignedLabel = new Text("Assigned to:");
-                    assignedLabel.getStyleClass().add("assigned-label");
-                    assignedBox.getChildren().add(assignedLabel);
-
-                    for (Person person : assignedPersons) {
-                        Text personText = new Text("• " + person.getName().toString());
-                        personText.getStyleClass().add("assigned-person");
-                        assignedBox.getChildren().add(personText);
-                    }
-                    eventBox.getChildren().add(assignedBox);
+    /**
+     * The column of the events on one date. The list reuses its nodes for other dates as the calendar scrolls, and
+     * its event cards while it shows the same date.
+     */
+    private class DateColumnCell extends ListCell<LocalDate> {
+        private final VBox column = new VBox(10);
+        private final Label dateLabel = new Label();
+        private final VBox dayEventsBox = new VBox(8);
+        private final Map<TimedEvent, EventCard> cards = new HashMap<>();
+        private LocalDate shownDate;
+
+        DateColumnCell() {
+            column.getStyleClass().add("calendar-date-column");
+            dateLabel.getStyleClass().add("calendar-date");
+            dayEventsBox.getStyleClass().add("calendar-events");
+
+            ScrollPane eventsScrollPane = new ScrollPane(dayEventsBox);
+            eventsScrollPane.setFitToWidth(true);
+            eventsScrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
+            eventsScrollPane.getStyleClass().add("calendar-scroll-pane");
+            VBox.setVgrow(eventsScrollPane, Priority.ALWAYS);
+            column.getChildren().addAll(dateLabel, eventsScrollPane);
+        }
+
+        @Override
+        protected void updateItem(LocalDate date, boolean empty) {
+            super.updateItem(date, empty);
+
+            if (empty || date == null) {
+                shownDate = null;
+                cards.clear();
+                dayEventsBox.getChildren().clear();
+                setGraphic(null);
+                setText(null);
+                return;
+            }
+
+            if (!date.equals(shownDate)) {
+                shownDate = date;
+                cards.clear();
+                dateLabel.setText(date.format(DATE_FORMATTER));
+            }
+            showEvents(days.getEvents(date));
+            setGraphic(column);
+        }
+
+        /**
+         * Shows {@code dayEvents}, creating cards only for the events not shown yet.
+         */
+        private void showEvents(List<TimedEvent> dayEvents) {
+            Map<TimedEvent, EventCard> previousCards = new HashMap<>(cards);
+            cards.clear();
+            List<Node> eventBoxes = new ArrayList<>();
+            for (TimedEvent event : dayEvents) {
+                EventCard card = previousCards.remove(event);
+                if (card == null) {
+                    card = new EventCard(event);
                 }
+                card.update();
+                cards.put(event, card);
+                eventBoxes.add(card.root);
+            }
 
-                dayEventsBox.getChildren().add(eventBox);
+            if (!dayEventsBox.getChildren().equals(eventBoxes)) {
+                dayEventsBox.getChildren().setAll(eventBoxes);
             }
-            dateColumn.getChildren().add(dayEventsBox);
-            calendarGrid.getChildren().add(dateColumn);
         }
     }
 
     /**
-     * Gets the list of persons assigned to a timed event.
+     * The box of a single event. Its number and assignees are updated in place when they change.
      */
-    private List<Person> getAssignedPersons(TimedEvent event) {
-        return logic.getFilteredPersonList().stream()
-                .filter(person -> person.hasTimedEvent(event))
-                .collect(Collectors.toList());
+    private class EventCard {
+        private final TimedEvent event;
+        private final VBox root = new VBox(2);
+        private final Text typeText = new Text();
+        private final VBox assignedBox = new VBox(1);
+        private int shownNumber;
+        private List<Person> shownAssignees = List.of();
+
+        EventCard(TimedEvent event) {
+            this.event = event;
+            root.getStyleClass().add("calendar-event");
+
+            // Event name and type
+            Text nameText = new Text(event.getName());
+            nameText.getStyleClass().add("event-name");
+            typeText.getStyleClass().add("event-type");
+            root.getChildren().add(new TextFlow(nameText, typeText));
+
+            // Description
+            if (!event.getDescription().isEmpty()) {
+                Text descriptionText = new Text(event.getDescription());
+                descriptionText.getStyleClass().add("event-description");
+                root.getChildren().add(descriptionText);
+            }
+
+            assignedBox.getStyleClass().add("assigned-persons");
+        }
+
+        /**
+         * Shows the event's current number and assigned persons, if they changed since last shown.
+         */
+        void update() {
+            int number = days.getNumber(event);
+            if (number != shownNumber) {
+                shownNumber = number;
+                typeText.setText(" - " + event.getClass().getSimpleName().toLowerCase() + " [" + number + "]");
+            }
+
+            List<Person> assignedPersons = days.getAssignees(event);
+            if (CalendarDays.isSamePersons(assignedPersons, shownAssignees)) {
+                return;
+            }
+            shownAssignees = new ArrayList<>(assignedPersons);
+            root.getChildren().remove(assignedBox);
+            if (assignedPersons.isEmpty()) {
+                return;
+            }
+
+            Text assignedLabel = new Text("Assigned to:");
+            assignedLabel.getStyleClass().add("assigned-label");
+            List<Node> assignedNodes = new ArrayList<>();
+            assignedNodes.add(assignedLabel);
+            for (Person person : assignedPersons) {
+                Text personText = new Text("• " + person.getName().toString());
+                personText.getStyleClass().add("assigned-person");
+                assignedNodes.add(personText);
+            }
+            assignedBox.getChildren().setAll(assignedNodes);
+            root.getChildren().add(assignedBox);
+        }
     }
 }
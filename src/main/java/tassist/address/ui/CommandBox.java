@@ -1,12 +1,14 @@
 package tassist.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import tassist.address.logic.commands.CommandResult;
-import tassist.address.logic.commands.exceptions.CommandException;
-import tassist.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -15,8 +17,10 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration TYPING_PAUSE = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final PauseTransition typingPause = new PauseTransition(TYPING_PAUSE);
 
     @FXML
     private TextField commandTextField;
@@ -25,10 +29,26 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, null);
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which tells {@code typingListener} about
+     * the command text as it is typed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, TypingListener typingListener) {
         super(FXML);
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        if (typingListener != null) {
+            // Each change restarts the pause, so the listener only sees the text once typing stops
+            commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+                typingListener.onTextChanged();
+                typingPause.playFromStart();
+            });
+            typingPause.setOnFinished(unused -> typingListener.onTypingPaused(commandTextField.getText()));
+        }
     }
 
     /**
@@ -50,17 +70,26 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        submitCommand();
+    }
+
+    /**
+     * Submits the command text for execution and clears it, so the next command can be typed while it runs.
+     * If the command fails and nothing has been typed since, its text is put back and marked as failed.
+     */
+    public void submitCommand() {
         String commandText = commandTextField.getText();
         if (commandText.equals("")) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            if (error != null && commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -96,11 +125,27 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command for execution and returns a future of its result, which completes exceptionally with
+         * a {@code CommandException} or {@code ParseException} if the command fails.
          *
          * @see tassist.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a listener that is told about the command text as it is typed.
+     */
+    public interface TypingListener {
+        /**
+         * Called on every change of the command text.
+         */
+        void onTextChanged();
+
+        /**
+         * Called with the command text once it has not changed for a short while.
+         */
+        void onTypingPaused(String commandText);
     }
 
 }
@@ -0,0 +1,248 @@
+package tassist.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.util.ListMirror;
+import tassist.address.logic.Logic;
+import tassist.address.logic.commands.CommandResult;
+
+/**
+ * Executes the commands entered in the UI one at a time on a single writer thread, so that slow commands do not
+ * freeze the UI.
+ * Commands submitted while one runs are queued and run in order. The model's lists change on the writer thread, so
+ * the UI shows mirrors of them instead, which are brought up to date on the UI thread together with the result of
+ * each command. While a command runs, the UI must not read the model; it only needs to between commands, which is
+ * when the futures returned by {@link #submit(String)} complete.
+ * Before the application saves its data and exits, {@link #shutdown(long, TimeUnit)} lets the commands submitted
+ * so far finish.
+ */
+public class CommandRunner {
+
+    /** Describes the updates submitted through {@link #submitUpdate(Consumer)} to the timing listener. */
+    public static final String UPDATE_DESCRIPTION = "(update)";
+
+    public static final String MESSAGE_SHUT_DOWN = "TAssist is closing and no longer takes commands";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final Logic logic;
+    private final ExecutorService writer;
+    private final Executor uiExecutor;
+    private final List<ListMirror<?>> mirrors = new ArrayList<>();
+    private final Deque<QueuedCommand> queuedCommands = new ArrayDeque<>();
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(false);
+    private final ReadOnlyIntegerWrapper queuedCommandCount = new ReadOnlyIntegerWrapper(0);
+    private TimingListener timingListener = (description, executionNanos, applyNanos) -> { };
+    private boolean isShutdown = false;
+
+    /**
+     * Creates a {@code CommandRunner} that executes commands with {@code logic} on its own writer thread and
+     * completes them on the JavaFX Application Thread.
+     */
+    public CommandRunner(Logic logic) {
+        this(logic, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-writer");
+            // Commands are drained by shutdown(); a command still running after it gave up does not keep the JVM alive
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code CommandRunner} that executes commands with {@code logic} on {@code writer}, which must run
+     * tasks one at a time in order, and completes them on {@code uiExecutor}.
+     */
+    public CommandRunner(Logic logic, ExecutorService writer, Executor uiExecutor) {
+        requireAllNonNull(logic, writer, uiExecutor);
+        this.logic = logic;
+        this.writer = writer;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code source} that is brought up to date on the UI thread whenever a command
+     * completes. {@code source} must be a list of the model, which only changes while commands run.
+     */
+    public <E> ObservableList<E> mirror(ObservableList<E> source) {
+        ListMirror<E> mirror = new ListMirror<>(source);
+        mirrors.add(mirror);
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Returns a property that is true while a command runs or is queued.
+     */
+    public ReadOnlyBooleanProperty busyProperty() {
+        return busy.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns a property that holds the number of commands waiting for the running command to complete.
+     */
+    public ReadOnlyIntegerProperty queuedCommandCountProperty() {
+        return queuedCommandCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Sets the listener told how long each command took, replacing the previous one.
+     */
+    public void setTimingListener(TimingListener timingListener) {
+        requireNonNull(timingListener);
+        this.timingListener = timingListener;
+    }
+
+    /**
+     * Runs {@code commandText} after the commands submitted before it. Must be called on the UI thread.
+     *
+     * @return A future that completes on the UI thread with the result of the command, or with the exception it
+     *     failed with, once the mirrored lists show its changes.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        return enqueue(new QueuedCommand(commandText, () -> logic.execute(commandText)));
+    }
+
+    /**
+     * Runs {@code update} with the model's logic after the commands submitted before it, like a command but without
+     * a result. Must be called on the UI thread.
+     *
+     * @return A future that completes on the UI thread once the mirrored lists show the changes of {@code update}.
+     */
+    public CompletableFuture<Void> submitUpdate(Consumer<Logic> update) {
+        requireNonNull(update);
+        return enqueue(new QueuedCommand(UPDATE_DESCRIPTION, () -> {
+            update.accept(logic);
+            return null;
+        })).thenApply(unused -> null);
+    }
+
+    /**
+     * Stops taking commands and waits for up to {@code timeout} for the running and queued commands to finish on the
+     * writer thread, which is then stopped. Must be called on the UI thread. Queued commands no longer wait for
+     * the UI thread to start, so they finish even while the UI thread is blocked here, but their results may never
+     * be shown. Commands submitted afterwards fail with a {@code RejectedExecutionException}.
+     *
+     * @return true if every command finished before the timeout.
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        requireNonNull(unit);
+        isShutdown = true;
+        queuedCommands.forEach(this::run);
+        queuedCommands.clear();
+        queuedCommandCount.set(0);
+
+        writer.shutdown();
+        boolean isTerminated = writer.awaitTermination(timeout, unit);
+        if (!isTerminated) {
+            logger.warning("Commands were still running when TAssist stopped");
+        }
+        return isTerminated;
+    }
+
+    private CompletableFuture<CommandResult> enqueue(QueuedCommand command) {
+        if (isShutdown) {
+            command.result.completeExceptionally(new RejectedExecutionException(MESSAGE_SHUT_DOWN));
+        } else if (busy.get()) {
+            queuedCommands.add(command);
+            queuedCommandCount.set(queuedCommands.size());
+        } else {
+            busy.set(true);
+            run(command);
+        }
+        return command.result;
+    }
+
+    private void run(QueuedCommand command) {
+        writer.execute(() -> {
+            long startNanos = System.nanoTime();
+            CommandResult commandResult = null;
+            Exception failure = null;
+            try {
+                commandResult = command.task.call();
+            } catch (Exception e) {
+                failure = e;
+            }
+
+            long executionNanos = System.nanoTime() - startNanos;
+            CommandResult result = commandResult;
+            Exception error = failure;
+            uiExecutor.execute(() -> complete(command, result, error, executionNanos));
+        });
+    }
+
+    /**
+     * Brings the mirrors up to date, completes {@code command} and starts the next queued command, in one batch on
+     * the UI thread.
+     */
+    private void complete(QueuedCommand command, CommandResult commandResult, Exception failure,
+            long executionNanos) {
+        long startNanos = System.nanoTime();
+        mirrors.forEach(ListMirror::applyPendingChanges);
+        if (failure == null) {
+            command.result.complete(commandResult);
+        } else {
+            logger.fine("Command failed: " + failure.getMessage());
+            command.result.completeExceptionally(failure);
+        }
+        timingListener.onCompleted(command.description, executionNanos, System.nanoTime() - startNanos);
+
+        QueuedCommand next = queuedCommands.poll();
+        queuedCommandCount.set(queuedCommands.size());
+        if (next == null) {
+            busy.set(false);
+        } else {
+            run(next);
+        }
+    }
+
+    /**
+     * Represents a command waiting to be run and the future of its result.
+     */
+    private static class QueuedCommand {
+        private final String description;
+        private final Callable<CommandResult> task;
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+
+        private QueuedCommand(String description, Callable<CommandResult> task) {
+            this.description = description;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Represents a function told how long each command took.
+     */
+    @FunctionalInterface
+    public interface TimingListener {
+        /**
+         * Called on the UI thread once a command completed.
+         *
+         * @param description The command text, or {@link #UPDATE_DESCRIPTION} for an update.
+         * @param executionNanos How long the command ran on the writer thread.
+         * @param applyNanos How long it took on the UI thread to update the mirrored lists and complete the command.
+         */
+        void onCompleted(String description, long executionNanos, long applyNanos);
+    }
+}
@@ -0,0 +1,199 @@
+package tassist.address.ui;
+
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static tassist.address.logic.parser.CliSyntax.PREFIX_PAGE;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javafx.application.Platform;
+import tassist.address.logic.Logic;
+import tassist.address.logic.commands.FindCommand;
+import tassist.address.logic.parser.ArgumentTokenizer;
+import tassist.address.model.PersonListWindow;
+import tassist.address.model.ReadOnlyAddressBook;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.PersonSearchIndex;
+import tassist.address.model.person.StudentId;
+
+/**
+ * Filters the student list while a {@code find} command is typed, before it is entered.
+ * Once typing pauses, the keywords are looked up in a {@link PersonSearchIndex} of the students on a search thread,
+ * and the students found are shown through the {@code CommandRunner}, without recording or saving anything.
+ * Unlike {@code find}, a keyword matches the start of a name word, student ID or class number, so the list narrows
+ * as a word is typed. Every edit of the command text makes the searches in progress stale: they stop at their next
+ * check and their results are dropped, so only the search for the latest text changes the list.
+ * Every student found is shown, whatever the window shown before. Once the text stops being a {@code find} command,
+ * the filter and window shown before the live search started are shown again, unless a command changed the filter
+ * in the meantime.
+ */
+public class LiveSearch implements CommandBox.TypingListener {
+
+    private final CommandRunner commandRunner;
+    private final Supplier<ReadOnlyAddressBook> addressBook;
+    private final Executor searcher;
+    private final Executor uiExecutor;
+    /** Counts the edits of the command text, so a search can tell whether it is for the latest text. */
+    private final AtomicLong latestEdit = new AtomicLong();
+    /** Whether the students found by a live search may be shown, which is only used on the UI thread. */
+    private boolean isSearchShown = false;
+    // Only used on the search thread
+    private ReadOnlyAddressBook indexedAddressBook;
+    private PersonSearchIndex index;
+    // Only used in the updates submitted to the CommandRunner, which run one at a time
+    /** The filter the last live search showed, or null if the filter shown was not set by a live search. */
+    private Predicate<Person> searchPredicate;
+    private Predicate<Person> predicateBeforeSearch;
+    private PersonListWindow windowBeforeSearch;
+
+    /**
+     * Creates a {@code LiveSearch} that searches the students of {@code addressBook} on its own search thread and
+     * shows them through {@code commandRunner}.
+     *
+     * @param addressBook Returns the address book as of the last command, from any thread.
+     */
+    public LiveSearch(CommandRunner commandRunner, Supplier<ReadOnlyAddressBook> addressBook) {
+        this(commandRunner, addressBook, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code LiveSearch} that searches on {@code searcher}, and hands the results to
+     * {@code commandRunner} on {@code uiExecutor}.
+     */
+    public LiveSearch(CommandRunner commandRunner, Supplier<ReadOnlyAddressBook> addressBook, Executor searcher,
+            Executor uiExecutor) {
+        requireAllNonNull(commandRunner, addressBook, searcher, uiExecutor);
+        this.commandRunner = commandRunner;
+        this.addressBook = addressBook;
+        this.searcher = searcher;
+        this.uiExecutor = uiExecutor;
+    }
+
+    @Override
+    public void onTextChanged() {
+        latestEdit.incrementAndGet();
+    }
+
+    @Override
+    public void onTypingPaused(String commandText) {
+        Optional<List<String>> keywords = parseKeywords(commandText);
+        if (keywords.isEmpty()) {
+            if (isSearchShown) {
+                isSearchShown = false;
+                commandRunner.submitUpdate(this::restoreListBeforeSearch);
+            }
+            return;
+        }
+        long edit = latestEdit.get();
+        searcher.execute(() -> search(edit, keywords.get()));
+    }
+
+    private void search(long edit, List<String> keywords) {
+        Predicate<Person> predicate;
+        if (keywords.isEmpty()) {
+            // Not the shared predicate commands use, so that a command showing every student is told apart
+            predicate = person -> true;
+        } else {
+            try {
+                Set<StudentId> found = getIndex().find(keywords, () -> isStale(edit));
+                predicate = person -> found.contains(person.getStudentId());
+            } catch (CancellationException e) {
+                return;
+            }
+        }
+
+        uiExecutor.execute(() -> {
+            if (isStale(edit)) {
+                return;
+            }
+            isSearchShown = true;
+            commandRunner.submitUpdate(logic -> {
+                if (!isStale(edit)) {
+                    showFound(logic, predicate);
+                }
+            });
+        });
+    }
+
+    /**
+     * Shows every student matching {@code predicate}, first remembering the filter and window shown if they were not
+     * set by a live search.
+     */
+    private void showFound(Logic logic, Predicate<Person> predicate) {
+        if (!isSearchFilterShown(logic)) {
+            predicateBeforeSearch = logic.getFilteredPersonPredicate();
+            windowBeforeSearch = logic.getPersonListWindow();
+        }
+        // The students found may all fall outside the window shown before
+        logic.updatePersonListWindow(PersonListWindow.ALL);
+        logic.updateFilteredPersonList(predicate);
+        searchPredicate = predicate;
+    }
+
+    /**
+     * Shows the filter and window remembered by {@link #showFound} again, unless a command has changed the filter
+     * since, in which case the command's filter stays.
+     */
+    private void restoreListBeforeSearch(Logic logic) {
+        if (isSearchFilterShown(logic)) {
+            logic.updateFilteredPersonList(predicateBeforeSearch);
+            logic.updatePersonListWindow(windowBeforeSearch);
+        }
+        searchPredicate = null;
+        predicateBeforeSearch = null;
+        windowBeforeSearch = null;
+    }
+
+    private boolean isSearchFilterShown(Logic logic) {
+        return searchPredicate != null && logic.getFilteredPersonPredicate() == searchPredicate;
+    }
+
+    private boolean isStale(long edit) {
+        return latestEdit.get() != edit;
+    }
+
+    /**
+     * Returns the index of the students as of the last command, building it again only if a command ran since.
+     */
+    private PersonSearchIndex getIndex() {
+        ReadOnlyAddressBook currentAddressBook = addressBook.get();
+        if (currentAddressBook != indexedAddressBook) {
+            index = new PersonSearchIndex(currentAddressBook.getPersonList());
+            indexedAddressBook = currentAddressBook;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the keywords of {@code commandText} if it is a {@code find} command, leaving out its window
+     * arguments. The keywords are empty if none have been typed yet.
+     */
+    static Optional<List<String>> parseKeywords(String commandText) {
+        String[] commandWordAndArguments = commandText.stripLeading().split("\\s", 2);
+        if (commandWordAndArguments.length < 2
+                || !commandWordAndArguments[0].equalsIgnoreCase(FindCommand.COMMAND_WORD)) {
+            return Optional.empty();
+        }
+
+        String preamble = ArgumentTokenizer.tokenize(" " + commandWordAndArguments[1],
+                PREFIX_LIMIT, PREFIX_OFFSET, PREFIX_PAGE).getPreamble();
+        return Optional.of(Arrays.stream(preamble.trim().split("\\s+"))
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList()));
+    }
+}
@@ -4,10 +4,20 @@ import static tassist.address.logic.commands.HelpCommand.HELP_URL;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.MenuItem;
@@ -15,16 +25,19 @@ import javafx.scene.control.SplitPane;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import tassist.address.commons.core.DayClock;
 import tassist.address.commons.core.GuiSettings;
 import tassist.address.commons.core.LogsCenter;
+import tassist.address.commons.util.FileUtil;
 import tassist.address.logic.Logic;
 import tassist.address.logic.browser.BrowserService;
 import tassist.address.logic.browser.DesktopBrowserService;
 import tassist.address.logic.commands.CommandResult;
-import tassist.address.logic.commands.exceptions.CommandException;
-import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
 
 
 /**
@@ -36,10 +49,19 @@ import tassist.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    /** How long after midnight the day clock is ticked, so that the clock has certainly moved on to the new day. */
+    private static final long MIDNIGHT_TICK_DELAY_MILLIS = 1000;
+    private static final String PERFORMANCE_LOG_FILE = "performance.csv";
+    private static final long STOP_TIMEOUT_SECONDS = 30;
     private final Logger logger = LogsCenter.getLogger(getClass());
     private Stage primaryStage;
     private Logic logic;
     private final BrowserService browserService;
+    private final CommandRunner commandRunner;
+    private final ObservableList<Person> personList;
+    private final ObservableList<TimedEvent> timedEventList;
+    private final DayClock dayClock = DayClock.system();
+    private final PerformanceLog performanceLog = new PerformanceLog();
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -47,6 +69,8 @@ public class MainWindow extends UiPart<Stage> {
     private HelpWindow helpWindow;
     private CommandBox commandBox;
     private CalendarView calendarView;
+    private ProgressHeatmapView progressHeatmapView;
+    private PerformanceOverlay performanceOverlay;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -60,6 +84,12 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private MenuItem calendarMenuItem;
 
+    @FXML
+    private MenuItem heatmapMenuItem;
+
+    @FXML
+    private MenuItem performanceMenuItem;
+
     @FXML
     private MenuItem themeMenuItem;
 
@@ -81,6 +111,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane calendarViewPlaceholder;
 
+    @FXML
+    private StackPane heatmapViewPlaceholder;
+
     /**
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
      */
@@ -91,6 +124,9 @@ public class MainWindow extends UiPart<Stage> {
         this.primaryStage = primaryStage;
         this.logic = logic;
         this.browserService = new DesktopBrowserService();
+        this.commandRunner = new CommandRunner(logic);
+        this.personList = commandRunner.mirror(logic.getFilteredPersonList());
+        this.timedEventList = commandRunner.mirror(logic.getTimedEventList());
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -108,6 +144,8 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
         setAccelerator(calendarMenuItem, KeyCombination.valueOf("F3"));
         setAccelerator(themeMenuItem, KeyCombination.valueOf("F2"));
+        setAccelerator(heatmapMenuItem, KeyCombination.valueOf("F4"));
+        setAccelerator(performanceMenuItem, KeyCombination.valueOf("F12"));
     }
 
     /**
@@ -145,35 +183,54 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(personList, logic, commandRunner, dayClock);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        calendarView = new CalendarView(logic.getTimedEventList(), logic);
+        calendarView = new CalendarView(timedEventList, personList);
+        // The heatmap shows every student, not only those found by the last command
+        progressHeatmapView = new ProgressHeatmapView(
+                commandRunner.mirror(logic.getAddressBook().getPersonList()));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                commandRunner.busyProperty(), commandRunner.queuedCommandCountProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand,
+                new LiveSearch(commandRunner, logic::getAddressBookSnapshot));
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         // Add send button
         Button sendButton = new Button("Send");
-        sendButton.setOnAction(event -> {
-            try {
-                String commandText = commandBox.getCommandText();
-                if (!commandText.isEmpty()) {
-                    executeCommand(commandText);
-                    commandBox.clearCommandText();
-                }
-            } catch (CommandException | ParseException e) {
-                logger.warning("Error executing command: " + e.getMessage());
-                resultDisplay.setFeedbackToUser(e.getMessage());
-            }
-        });
+        sendButton.setOnAction(event -> commandBox.submitCommand());
         sendButtonPlaceholder.getChildren().add(sendButton);
+
+        Map<String, Node> views = new LinkedHashMap<>();
+        views.put("students", personListPanel.getRoot());
+        views.put("calendar", calendarView.getRoot());
+        views.put("heatmap", progressHeatmapView.getRoot());
+        views.put("result", resultDisplay.getRoot());
+        performanceOverlay = new PerformanceOverlay(primaryStage.getScene(), performanceLog, views);
+        mainContent.getChildren().add(performanceOverlay.getRoot());
+        commandRunner.setTimingListener(performanceOverlay::handleCommandCompleted);
+
+        scheduleMidnightTick();
+    }
+
+    /**
+     * Ticks the day clock just after the next midnight, so everything showing remaining times or overdue states is
+     * refreshed together, and schedules the tick after it.
+     * The wait is not an animation, as a running animation would make JavaFX pulse every frame until midnight.
+     */
+    private void scheduleMidnightTick() {
+        long delayMillis = dayClock.getMillisUntilNextDay() + MIDNIGHT_TICK_DELAY_MILLIS;
+        Executor atMidnight = CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, Platform::runLater);
+        atMidnight.execute(() -> {
+            dayClock.tick();
+            scheduleMidnightTick();
+        });
     }
 
     /**
@@ -222,53 +279,66 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        // The model may only change on the writer thread, after the commands submitted before
+        commandRunner.submitUpdate(logic -> logic.setGuiSettings(guiSettings));
         helpWindow.hide();
         primaryStage.hide();
     }
 
+    /**
+     * Stops taking commands and waits for the commands submitted so far to finish, so that their changes are in the
+     * model before it is saved.
+     */
+    void stop() {
+        try {
+            commandRunner.shutdown(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to the {@code CommandRunner} and shows its result once it completes.
+     * Commands submitted while another runs are queued behind it.
      *
      * @see tassist.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            // Refresh calendar view if it's visible
-            if (calendarViewPlaceholder.isVisible()) {
-                calendarView.updateEvents(logic.getTimedEventList());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = commandRunner.submit(commandText);
+        result.whenComplete((commandResult, error) -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
             }
 
+            List<String> feedbackLines = commandResult.getFeedbackLines();
+            logger.info(feedbackLines.size() <= ResultDisplay.MAX_TEXT_LINES
+                    ? "Result: " + commandResult.getFeedbackToUser()
+                    : "Result: " + feedbackLines.get(0) + " (" + feedbackLines.size() + " lines)");
+            resultDisplay.setFeedbackLines(feedbackLines);
+
             if (commandResult.isShowHelp()) {
                 handleHelp();
             }
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
+        return result;
     }
 
     @FXML
     private void handleStudentCardsView() {
-        // Show split pane and hide calendar view
+        // Show split pane and hide the other views
         splitPane.setVisible(true);
         splitPane.setManaged(true);
-        calendarViewPlaceholder.setVisible(false);
-        calendarViewPlaceholder.setManaged(false);
+        setViewShown(calendarViewPlaceholder, false);
+        setViewShown(heatmapViewPlaceholder, false);
 
         // Restore person list panel and split pane position
         personListPanelPlaceholder.getChildren().clear();
@@ -284,18 +354,7 @@ public class MainWindow extends UiPart<Stage> {
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         Button sendButton = new Button("Send");
-        sendButton.setOnAction(event -> {
-            try {
-                String commandText = commandBox.getCommandText();
-                if (!commandText.isEmpty()) {
-                    executeCommand(commandText);
-                    commandBox.clearCommandText();
-                }
-            } catch (CommandException | ParseException e) {
-                logger.warning("Error executing command: " + e.getMessage());
-                resultDisplay.setFeedbackToUser(e.getMessage());
-            }
-        });
+        sendButton.setOnAction(event -> commandBox.submitCommand());
         sendButtonPlaceholder.getChildren().clear();
         sendButtonPlaceholder.getChildren().add(sendButton);
 
@@ -305,23 +364,57 @@ public class MainWindow extends UiPart<Stage> {
 
     @FXML
     private void handleCalendarView() {
-        // Toggle between views
-        if (calendarViewPlaceholder.isVisible()) {
-            // If calendar is visible, switch back to student cards view
+        toggleView(calendarViewPlaceholder, calendarView);
+    }
+
+    @FXML
+    private void handleHeatmapView() {
+        toggleView(heatmapViewPlaceholder, progressHeatmapView);
+    }
+
+    /**
+     * Shows {@code view} in {@code placeholder} instead of the student cards and the other views, or goes back to the
+     * student cards if it is already shown.
+     */
+    private void toggleView(StackPane placeholder, UiPart<Region> view) {
+        if (placeholder.isVisible()) {
             handleStudentCardsView();
-        } else {
-            // If calendar is hidden, switch to calendar view
-            splitPane.setVisible(false);
-            splitPane.setManaged(false);
-            calendarViewPlaceholder.setVisible(true);
-            calendarViewPlaceholder.setManaged(true);
-            // Set up calendar view
-            calendarViewPlaceholder.getChildren().clear();
-            calendarViewPlaceholder.getChildren().add(calendarView.getRoot());
-            // Refresh the events in calendar view
-            calendarView.updateEvents(logic.getTimedEventList());
-            // Request focus on command box
-            commandBox.requestFocus();
+            return;
+        }
+
+        splitPane.setVisible(false);
+        splitPane.setManaged(false);
+        setViewShown(calendarViewPlaceholder, placeholder == calendarViewPlaceholder);
+        setViewShown(heatmapViewPlaceholder, placeholder == heatmapViewPlaceholder);
+        placeholder.getChildren().setAll(view.getRoot());
+        // Request focus on command box
+        commandBox.requestFocus();
+    }
+
+    private static void setViewShown(StackPane placeholder, boolean isShown) {
+        placeholder.setVisible(isShown);
+        placeholder.setManaged(isShown);
+    }
+
+    @FXML
+    private void handlePerformanceOverlay() {
+        performanceOverlay.setEnabled(!performanceOverlay.isEnabled());
+    }
+
+    /**
+     * Saves the timings recorded by the performance overlay next to the data file.
+     */
+    @FXML
+    private void handleExportPerformanceLog() {
+        Path path = logic.getAddressBookFilePath().resolveSibling(PERFORMANCE_LOG_FILE);
+        try {
+            FileUtil.createIfMissing(path);
+            FileUtil.writeToFile(path, performanceLog.toCsv());
+            resultDisplay.setFeedbackToUser("Exported " + performanceLog.getTraces().size()
+                    + " command timing(s) to " + path);
+        } catch (IOException e) {
+            logger.warning("Failed to export the performance log: " + e.getMessage());
+            resultDisplay.setFeedbackToUser("Could not export the performance log: " + e.getMessage());
         }
     }
 
@@ -0,0 +1,60 @@
+package tassist.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Represents the dates shown by the month mode of a {@code CalendarView}: the six weeks, starting on a Monday, from
+ * the week of the first day of a month. Six weeks hold every month, so the grid always has {@link #DAY_COUNT} days.
+ */
+public class MonthGrid {
+
+    public static final int DAY_COUNT = 42;
+    public static final int DAYS_PER_WEEK = 7;
+
+    private final YearMonth month;
+    private final LocalDate firstDate;
+
+    /**
+     * Creates the {@code MonthGrid} of {@code month}.
+     */
+    public MonthGrid(YearMonth month) {
+        requireNonNull(month);
+        this.month = month;
+        this.firstDate = month.atDay(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns the date of the day at {@code index}, counting from the top left of the grid.
+     */
+    public LocalDate getDate(int index) {
+        if (index < 0 || index >= DAY_COUNT) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return firstDate.plusDays(index);
+    }
+
+    /**
+     * Returns the index of the day of {@code date} in the grid, or -1 if the grid does not show it.
+     */
+    public int indexOf(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(firstDate, date);
+        return index >= 0 && index < DAY_COUNT ? (int) index : -1;
+    }
+
+    /**
+     * Returns true if {@code date} is in the month of the grid, rather than in the weeks around it.
+     */
+    public boolean isInMonth(LocalDate date) {
+        return YearMonth.from(date).equals(month);
+    }
+}
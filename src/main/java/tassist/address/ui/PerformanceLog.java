@@ -0,0 +1,182 @@
+package tassist.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records how long each command took, from running it to showing its result, for the developer performance overlay.
+ * A trace is started when a command completes, with the time it took to execute on the writer thread and to apply
+ * its changes to the UI. The JavaFX pulses within {@link #CORRELATION_WINDOW_NANOS} after that are counted towards
+ * the command, as they lay out and render what it changed, and so are the nodes of each view after its first pulse.
+ * Only the latest {@link #MAX_TRACES} traces are kept.
+ */
+public class PerformanceLog {
+
+    public static final int MAX_TRACES = 500;
+    public static final long CORRELATION_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private static final String CSV_HEADER = "command,execute_ms,apply_ms,pulses,layout_total_ms,layout_max_ms,"
+            + "pulse_interval_max_ms,node_counts";
+
+    private final Deque<CommandTrace> traces = new ArrayDeque<>();
+
+    /**
+     * Starts the trace of a command that completed at {@code completedAtNanos}, which the pulses after it are
+     * counted towards.
+     */
+    public CommandTrace startTrace(String commandText, long executionNanos, long applyNanos, long completedAtNanos) {
+        requireNonNull(commandText);
+        CommandTrace trace = new CommandTrace(commandText, executionNanos, applyNanos, completedAtNanos);
+        if (traces.size() == MAX_TRACES) {
+            traces.removeFirst();
+        }
+        traces.addLast(trace);
+        return trace;
+    }
+
+    /**
+     * Counts a pulse that started at {@code startNanos} towards the latest command, if it started within
+     * {@link #CORRELATION_WINDOW_NANOS} after the command completed.
+     *
+     * @param layoutNanos How long the pulse took to lay out the scene.
+     * @param intervalNanos How long after the pulse before it this pulse started.
+     * @return true if the pulse was counted.
+     */
+    public boolean recordPulse(long startNanos, long layoutNanos, long intervalNanos) {
+        Optional<CommandTrace> trace = getCorrelatedTrace(startNanos);
+        trace.ifPresent(latest -> latest.addPulse(layoutNanos, intervalNanos));
+        return trace.isPresent();
+    }
+
+    /**
+     * Returns the latest trace if {@code nanos} is within {@link #CORRELATION_WINDOW_NANOS} after it completed.
+     */
+    public Optional<CommandTrace> getCorrelatedTrace(long nanos) {
+        return getLatestTrace().filter(trace -> nanos - trace.completedAtNanos <= CORRELATION_WINDOW_NANOS);
+    }
+
+    public Optional<CommandTrace> getLatestTrace() {
+        return Optional.ofNullable(traces.peekLast());
+    }
+
+    /**
+     * Returns the traces kept, from the oldest.
+     */
+    public List<CommandTrace> getTraces() {
+        return new ArrayList<>(traces);
+    }
+
+    /**
+     * Returns the traces kept as comma-separated values with a header line, from the oldest.
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (CommandTrace trace : traces) {
+            csv.append(quote(trace.commandText)).append(',')
+                    .append(toMillis(trace.executionNanos)).append(',')
+                    .append(toMillis(trace.applyNanos)).append(',')
+                    .append(trace.pulseCount).append(',')
+                    .append(toMillis(trace.totalLayoutNanos)).append(',')
+                    .append(toMillis(trace.maxLayoutNanos)).append(',')
+                    .append(toMillis(trace.maxPulseIntervalNanos)).append(',')
+                    .append(quote(trace.formatNodeCounts()))
+                    .append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Returns {@code nanos} in milliseconds with three decimal places.
+     */
+    static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    /**
+     * Represents the timings of one command.
+     */
+    public static class CommandTrace {
+        private final String commandText;
+        private final long executionNanos;
+        private final long applyNanos;
+        private final long completedAtNanos;
+        private final Map<String, Integer> nodeCounts = new LinkedHashMap<>();
+        private int pulseCount;
+        private long totalLayoutNanos;
+        private long maxLayoutNanos;
+        private long maxPulseIntervalNanos;
+
+        private CommandTrace(String commandText, long executionNanos, long applyNanos, long completedAtNanos) {
+            this.commandText = commandText;
+            this.executionNanos = executionNanos;
+            this.applyNanos = applyNanos;
+            this.completedAtNanos = completedAtNanos;
+        }
+
+        private void addPulse(long layoutNanos, long intervalNanos) {
+            pulseCount++;
+            totalLayoutNanos += layoutNanos;
+            maxLayoutNanos = Math.max(maxLayoutNanos, layoutNanos);
+            maxPulseIntervalNanos = Math.max(maxPulseIntervalNanos, intervalNanos);
+        }
+
+        /**
+         * Records the number of nodes of each view, replacing those recorded before.
+         */
+        public void setNodeCounts(Map<String, Integer> nodeCounts) {
+            this.nodeCounts.clear();
+            this.nodeCounts.putAll(nodeCounts);
+        }
+
+        public boolean hasNodeCounts() {
+            return !nodeCounts.isEmpty();
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public int getPulseCount() {
+            return pulseCount;
+        }
+
+        public long getTotalLayoutNanos() {
+            return totalLayoutNanos;
+        }
+
+        public long getMaxPulseIntervalNanos() {
+            return maxPulseIntervalNanos;
+        }
+
+        private String formatNodeCounts() {
+            return nodeCounts.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + entry.getValue())
+                    .collect(Collectors.joining(";"));
+        }
+
+        /**
+         * Returns the timings as a few lines of text, as shown by the overlay.
+         */
+        public String format() {
+            return "Command: " + commandText
+                    + "\nExecute: " + toMillis(executionNanos) + " ms, apply: " + toMillis(applyNanos) + " ms"
+                    + "\nPulses: " + pulseCount + ", layout: " + toMillis(totalLayoutNanos) + " ms (max "
+                    + toMillis(maxLayoutNanos) + " ms), max interval: " + toMillis(maxPulseIntervalNanos) + " ms"
+                    + "\nNodes: " + (nodeCounts.isEmpty() ? "-" : formatNodeCounts().replace(";", ", "));
+        }
+    }
+}
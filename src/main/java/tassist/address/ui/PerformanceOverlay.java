@@ -0,0 +1,150 @@
+package tassist.address.ui;
+
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+
+/**
+ * A developer overlay that shows how long the latest command took, and records the timings of every command in a
+ * {@code PerformanceLog} while it is shown.
+ * The layout pass of each JavaFX pulse is timed with the scene's pulse listeners, and the nodes of each view are
+ * counted after the first pulse following a command. Nothing is recorded while the overlay is hidden.
+ */
+public class PerformanceOverlay extends UiPart<Region> {
+
+    private static final String FXML = "PerformanceOverlay.fxml";
+    private static final String MESSAGE_NO_COMMANDS = "Performance overlay: waiting for a command";
+    /** Pulses further apart than this are not part of the same burst of work, so their interval is not recorded. */
+    private static final long MAX_PULSE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @FXML
+    private Label summaryLabel;
+
+    private final Scene scene;
+    private final PerformanceLog performanceLog;
+    private final Map<String, Node> views;
+    private final Runnable preLayoutListener = this::handlePreLayout;
+    private final Runnable postLayoutListener = this::handlePostLayout;
+    private boolean isEnabled;
+    private long pulseStartNanos;
+    private long previousPulseStartNanos;
+
+    /**
+     * Creates a hidden {@code PerformanceOverlay} of the pulses of {@code scene}, which counts the nodes of
+     * {@code views} by their names.
+     */
+    public PerformanceOverlay(Scene scene, PerformanceLog performanceLog, Map<String, Node> views) {
+        super(FXML);
+        requireAllNonNull(scene, performanceLog, views);
+        this.scene = scene;
+        this.performanceLog = performanceLog;
+        this.views = new LinkedHashMap<>(views);
+        getRoot().setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        StackPane.setAlignment(getRoot(), Pos.TOP_RIGHT);
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Shows the overlay and starts recording, or hides it and stops.
+     */
+    public void setEnabled(boolean isEnabled) {
+        if (this.isEnabled == isEnabled) {
+            return;
+        }
+        this.isEnabled = isEnabled;
+        getRoot().setVisible(isEnabled);
+        if (isEnabled) {
+            previousPulseStartNanos = 0;
+            scene.addPreLayoutPulseListener(preLayoutListener);
+            scene.addPostLayoutPulseListener(postLayoutListener);
+            refresh();
+        } else {
+            scene.removePreLayoutPulseListener(preLayoutListener);
+            scene.removePostLayoutPulseListener(postLayoutListener);
+        }
+    }
+
+    /**
+     * Starts the trace of a command that just completed, if the overlay is shown.
+     *
+     * @see CommandRunner.TimingListener
+     */
+    public void handleCommandCompleted(String description, long executionNanos, long applyNanos) {
+        if (!isEnabled) {
+            return;
+        }
+        performanceLog.startTrace(description, executionNanos, applyNanos, System.nanoTime());
+        refresh();
+        // Showing the pulse counts as they change would cause more pulses, so they are shown once counted in full.
+        // The wait is not an animation either, as a running animation makes JavaFX pulse every frame.
+        CompletableFuture.delayedExecutor(PerformanceLog.CORRELATION_WINDOW_NANOS, TimeUnit.NANOSECONDS,
+                Platform::runLater).execute(this::refresh);
+    }
+
+    private void handlePreLayout() {
+        pulseStartNanos = System.nanoTime();
+    }
+
+    private void handlePostLayout() {
+        long layoutNanos = System.nanoTime() - pulseStartNanos;
+        long intervalNanos = pulseStartNanos - previousPulseStartNanos;
+        boolean isInBurst = previousPulseStartNanos != 0 && intervalNanos <= MAX_PULSE_INTERVAL_NANOS;
+        previousPulseStartNanos = pulseStartNanos;
+        performanceLog.recordPulse(pulseStartNanos, layoutNanos, isInBurst ? intervalNanos : 0);
+
+        performanceLog.getCorrelatedTrace(pulseStartNanos)
+                .filter(trace -> !trace.hasNodeCounts())
+                .ifPresent(trace -> trace.setNodeCounts(countNodes()));
+    }
+
+    private Map<String, Integer> countNodes() {
+        Map<String, Integer> nodeCounts = new LinkedHashMap<>();
+        views.forEach((name, root) -> nodeCounts.put(name, countNodes(root)));
+        return nodeCounts;
+    }
+
+    /**
+     * Returns the number of nodes in the scene graph under {@code root}, including it.
+     */
+    private static int countNodes(Node root) {
+        int count = 0;
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            count++;
+            if (node instanceof Parent) {
+                Parent parent = (Parent) node;
+                parent.getChildrenUnmodifiable().forEach(pending::push);
+            }
+        }
+        return count;
+    }
+
+    private void refresh() {
+        if (!isEnabled) {
+            return;
+        }
+        summaryLabel.setText(performanceLog.getLatestTrace()
+                .map(PerformanceLog.CommandTrace::format)
+                .orElse(MESSAGE_NO_COMMANDS));
+    }
+}
@@ -1,6 +1,13 @@
 package tassist.address.ui;
 
+import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -8,11 +15,13 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import tassist.address.commons.core.DayClock;
 import tassist.address.model.person.Person;
 import tassist.address.model.timedevents.TimedEvent;
 
 /**
  * A UI component that displays information of a {@code Person}.
+ * A card can be moved to another person, so a list cell loads the card's FXML once and reuses it as it scrolls.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -26,7 +35,11 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private final List<Label> tagLabels = new ArrayList<>();
+    private Person person;
+    private int displayedIndex;
+    private List<TimedEvent> shownTimedEvents;
+    private LocalDate shownDate;
 
     @FXML
     private HBox cardPane;
@@ -57,14 +70,42 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private VBox details;
 
+    /**
+     * Creates an empty {@code PersonCard}, which shows a person once {@link #setPerson} is called.
+     */
+    PersonCard() {
+        super(FXML);
+        cardPane.getStyleClass().add("person-card");
+    }
+
     /**
      * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex, DayClock.system().today());
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} on this card, reusing its nodes, with the time left until their
+     * timed events counted from {@code today}.
+     * Nothing but the index is updated if the card already shows the same person object on the same day.
+     */
+    public void setPerson(Person person, int displayedIndex, LocalDate today) {
+        requireAllNonNull(person, today);
+        if (displayedIndex != this.displayedIndex) {
+            this.displayedIndex = displayedIndex;
+            id.setText(displayedIndex + ". ");
+        }
+        if (person == this.person && today.equals(shownDate)) {
+            return;
+        }
+
         this.person = person;
-        cardPane.getStyleClass().add("person-card");
-        id.setText(displayedIndex + ". ");
         name.setText(person.getName().value);
         classNumber.setText("Class Number: " + person.getClassNumber().value);
         phone.setText("Phone: " + person.getPhone().value);
@@ -73,26 +114,53 @@ public class PersonCard extends UiPart<Region> {
         studentId.setText("Student ID: " + person.getStudentId().value);
         projectTeam.setText("ProjectTeam: " + person.getProjectTeam().value);
         repository.setText("Repository: " + person.getRepository().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        showTags(person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
         progress.setText("Progress: " + person.getProgress().value + "%");
+        // An edit that leaves the timed events alone does not recompute their text on the same day
+        if (!person.getTimedEvents().equals(shownTimedEvents) || !today.equals(shownDate)) {
+            shownTimedEvents = new ArrayList<>(person.getTimedEvents());
+            shownDate = today;
+            timedEvents.setText(formatTimedEvents(shownTimedEvents, today));
+        }
+    }
+
+    /**
+     * Shows {@code tagNames} in labels reused from the tags shown before, creating labels only for extra tags.
+     */
+    private void showTags(List<String> tagNames) {
+        while (tagLabels.size() < tagNames.size()) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            tagLabels.get(i).setText(tagNames.get(i));
+        }
+        if (tags.getChildren().size() != tagNames.size()) {
+            tags.getChildren().setAll(tagLabels.subList(0, tagNames.size()));
+        }
+    }
+
+    /**
+     * Returns the timed events in chronological order with the time left from {@code today} until each.
+     */
+    private static String formatTimedEvents(List<TimedEvent> events, LocalDate today) {
         // Display timed events with time differences
-        if (person.getTimedEvents().isEmpty()) {
-            timedEvents.setText("No assignments");
-        } else {
-            StringBuilder eventsText = new StringBuilder("Assignments:\n");
-            person.getTimedEvents().stream()
-                    .sorted(Comparator.comparing(TimedEvent::getTime))
-                    .forEach(event -> {
-                        String timeLeft = event.calculateRemainingTime();
-                        String eventText = String.format("%s - Due in: %s\n", event.getName(), timeLeft);
-                        eventsText.append(eventText);
-                    });
-            // Remove the last newline
-            eventsText.setLength(eventsText.length() - 1);
-            timedEvents.setText(eventsText.toString());
+        if (events.isEmpty()) {
+            return "No assignments";
         }
+        StringBuilder eventsText = new StringBuilder("Assignments:\n");
+        events.stream()
+                .sorted(Comparator.comparing(TimedEvent::getTime))
+                .forEach(event -> {
+                    String timeLeft = event.calculateRemainingTime(today);
+                    String eventText = String.format("%s - Due in: %s\n", event.getName(), timeLeft);
+                    eventsText.append(eventText);
+                });
+        // Remove the last newline
+        eventsText.setLength(eventsText.length() - 1);
+        return eventsText.toString();
     }
 
     @Override
@@ -110,6 +178,6 @@ public class PersonCard extends UiPart<Region> {
         // state check
         PersonCard card = (PersonCard) other;
         return id.getText().equals(card.id.getText())
-                && person.equals(card.person);
+                && Objects.equals(person, card.person);
     }
 }
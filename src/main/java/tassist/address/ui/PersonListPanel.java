@@ -2,37 +2,125 @@ package tassist.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import tassist.address.commons.core.DayClock;
 import tassist.address.commons.core.LogsCenter;
+import tassist.address.logic.Logic;
+import tassist.address.logic.Messages;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.person.Person;
 
 /**
- * Panel containing the list of persons.
+ * Panel containing the list of persons, with buttons to move between pages when the list is split into pages.
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
+    private final Logic logic;
+    private final CommandRunner commandRunner;
+    private final DayClock dayClock;
+
     @FXML
     private ListView<Person> personListView;
 
+    @FXML
+    private HBox pageBar;
+
+    @FXML
+    private Label pageStatus;
+
+    @FXML
+    private Button previousPageButton;
+
+    @FXML
+    private Button nextPageButton;
+
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * The page buttons move the window of students shown through {@code commandRunner}, without running a command
+     * or saving anything, and the time left until the students' timed events is counted from {@code dayClock}'s date.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, Logic logic, CommandRunner commandRunner,
+            DayClock dayClock) {
         super(FXML);
+        this.logic = logic;
+        this.commandRunner = commandRunner;
+        this.dayClock = dayClock;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+        // Only the visible cells are redrawn when the day changes
+        dayClock.addListener(today -> personListView.refresh());
+        // Moving the window, filtering and sorting all change the list shown, so the page bar is refreshed with it
+        personList.addListener((ListChangeListener<Person>) change -> refreshPageBar());
+        refreshPageBar();
+    }
+
+    /**
+     * Shows the page bar only if the list is split into pages, with the students shown and the pages around them.
+     */
+    private void refreshPageBar() {
+        PersonListWindow window = logic.getPersonListWindow();
+        boolean isPaged = window.isLimited();
+        pageBar.setVisible(isPaged);
+        pageBar.setManaged(isPaged);
+        if (!isPaged) {
+            return;
+        }
+
+        int matchCount = logic.getMatchingPersonCount();
+        pageStatus.setText(Messages.formatWindow(window, matchCount));
+        previousPageButton.setDisable(window.getOffset() == 0);
+        nextPageButton.setDisable(window.next().getOffset() >= matchCount);
+    }
+
+    @FXML
+    private void handlePreviousPage() {
+        changePage(false);
+    }
+
+    @FXML
+    private void handleNextPage() {
+        changePage(true);
+    }
+
+    /**
+     * Moves the window to the next or previous page on the writer thread, where it is checked again against the
+     * students matching then, as the buttons may have been pressed before the list shown caught up.
+     */
+    private void changePage(boolean isNext) {
+        commandRunner.submitUpdate(updatedLogic -> {
+            PersonListWindow current = updatedLogic.getPersonListWindow();
+            if (!current.isLimited()) {
+                return;
+            }
+            if (isNext && current.next().getOffset() < updatedLogic.getMatchingPersonCount()) {
+                updatedLogic.updatePersonListWindow(current.next());
+            } else if (!isNext && current.getOffset() > 0) {
+                updatedLogic.updatePersonListWindow(current.previous());
+            }
+        }).whenComplete((unused, error) -> {
+            if (error != null) {
+                logger.info("Could not change page: " + error.getMessage());
+            }
+        });
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell creates its card once and moves it to each person it shows.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +129,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setPerson(person, getIndex() + 1, dayClock.today());
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,240 @@
+package tassist.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import tassist.address.model.person.ClassNumber;
+import tassist.address.model.person.Person;
+
+/**
+ * Lays out the students shown by a {@code ProgressHeatmapView} as a grid of cells, one line per up to
+ * {@link #MAX_COLUMNS} students of a class, with the classes in order and the students without a class last.
+ * The layout follows the changes of the student list and tells its listener which lines and cells look different
+ * afterwards, so that only those are drawn again.
+ * The cells lie on a regular grid, so the student under a point is found directly from its coordinates.
+ */
+public class ProgressHeatmap {
+
+    public static final int MAX_COLUMNS = 50;
+    public static final double PADDING = 10;
+    public static final double LABEL_WIDTH = 110;
+    public static final double CELL_SIZE = 14;
+    public static final double CELL_PITCH = 16;
+
+    private static final Comparator<String> CLASS_ORDER = Comparator
+            .comparing((String classNumber) -> classNumber.equals(ClassNumber.DEFAULT_CLASS))
+            .thenComparing(Comparator.naturalOrder());
+
+    private final ObservableList<Person> persons;
+    private List<Line> lines;
+    private Listener listener = (dirtyLines, dirtyCells) -> { };
+
+    /**
+     * Creates a {@code ProgressHeatmap} of {@code persons}.
+     */
+    public ProgressHeatmap(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.lines = layOut(persons);
+        persons.addListener((ListChangeListener<Person>) change -> update());
+    }
+
+    /**
+     * Sets the listener told about each change, replacing the previous one.
+     */
+    public void setListener(Listener listener) {
+        requireNonNull(listener);
+        this.listener = listener;
+    }
+
+    public int getLineCount() {
+        return lines.size();
+    }
+
+    /**
+     * Returns the number of cells on the longest line.
+     */
+    public int getColumnCount() {
+        return lines.stream().mapToInt(line -> line.persons.size()).max().orElse(0);
+    }
+
+    /**
+     * Returns the class shown at the start of {@code line}, or an empty string if the line continues the class of
+     * the line before it.
+     */
+    public String getLabel(int line) {
+        return lines.get(line).label;
+    }
+
+    /**
+     * Returns the students on {@code line}, from left to right.
+     */
+    public List<Person> getPersons(int line) {
+        return lines.get(line).persons;
+    }
+
+    public double getWidth() {
+        return 2 * PADDING + LABEL_WIDTH + getColumnCount() * CELL_PITCH;
+    }
+
+    public double getHeight() {
+        return 2 * PADDING + getLineCount() * CELL_PITCH;
+    }
+
+    public static double getCellX(int column) {
+        return PADDING + LABEL_WIDTH + column * CELL_PITCH;
+    }
+
+    public static double getLineY(int line) {
+        return PADDING + line * CELL_PITCH;
+    }
+
+    /**
+     * Returns the student whose cell contains the point ({@code x}, {@code y}), if there is one.
+     */
+    public Optional<Person> getPersonAt(double x, double y) {
+        double columnOffset = x - getCellX(0);
+        double lineOffset = y - getLineY(0);
+        if (columnOffset < 0 || lineOffset < 0) {
+            return Optional.empty();
+        }
+
+        int column = (int) (columnOffset / CELL_PITCH);
+        int line = (int) (lineOffset / CELL_PITCH);
+        boolean isInGap = columnOffset - column * CELL_PITCH >= CELL_SIZE
+                || lineOffset - line * CELL_PITCH >= CELL_SIZE;
+        if (isInGap || line >= lines.size() || column >= lines.get(line).persons.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(lines.get(line).persons.get(column));
+    }
+
+    private void update() {
+        List<Line> previousLines = lines;
+        lines = layOut(persons);
+
+        Set<Integer> dirtyLines = new HashSet<>();
+        Set<Cell> dirtyCells = new HashSet<>();
+        for (int i = 0; i < Math.max(previousLines.size(), lines.size()); i++) {
+            if (i >= previousLines.size() || i >= lines.size()
+                    || !previousLines.get(i).label.equals(lines.get(i).label)) {
+                dirtyLines.add(i);
+                continue;
+            }
+
+            List<Person> previousPersons = previousLines.get(i).persons;
+            List<Person> currentPersons = lines.get(i).persons;
+            for (int j = 0; j < Math.max(previousPersons.size(), currentPersons.size()); j++) {
+                if (!Objects.equals(progressAt(previousPersons, j), progressAt(currentPersons, j))) {
+                    dirtyCells.add(new Cell(i, j));
+                }
+            }
+        }
+
+        if (!dirtyLines.isEmpty() || !dirtyCells.isEmpty()) {
+            listener.onChanged(dirtyLines, dirtyCells);
+        }
+    }
+
+    /**
+     * Returns the progress of the student in cell {@code column}, which is all a cell shows, or null if it is empty.
+     */
+    private static Integer progressAt(List<Person> linePersons, int column) {
+        return column < linePersons.size() ? linePersons.get(column).getProgress().value : null;
+    }
+
+    private static List<Line> layOut(List<Person> persons) {
+        Map<String, List<Person>> personsByClass = new TreeMap<>(CLASS_ORDER);
+        for (Person person : persons) {
+            personsByClass.computeIfAbsent(person.getClassNumber().value, unused -> new ArrayList<>()).add(person);
+        }
+
+        List<Line> lines = new ArrayList<>();
+        personsByClass.forEach((classNumber, classPersons) -> {
+            for (int from = 0; from < classPersons.size(); from += MAX_COLUMNS) {
+                int to = Math.min(from + MAX_COLUMNS, classPersons.size());
+                lines.add(new Line(from == 0 ? classNumber : "", classPersons.subList(from, to)));
+            }
+        });
+        return lines;
+    }
+
+    /**
+     * Represents a line of the heatmap.
+     */
+    private static class Line {
+        private final String label;
+        private final List<Person> persons;
+
+        private Line(String label, List<Person> persons) {
+            this.label = label;
+            this.persons = persons;
+        }
+    }
+
+    /**
+     * Represents the position of a cell in the heatmap.
+     */
+    public static class Cell {
+        public final int line;
+        public final int column;
+
+        /**
+         * Creates a {@code Cell} at {@code column} of {@code line}.
+         */
+        public Cell(int line, int column) {
+            this.line = line;
+            this.column = column;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Cell)) {
+                return false;
+            }
+
+            Cell otherCell = (Cell) other;
+            return line == otherCell.line && column == otherCell.column;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(line, column);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + line + ", " + column + ")";
+        }
+    }
+
+    /**
+     * Represents a function told about the changes of a {@code ProgressHeatmap}.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called after the student list changes.
+         *
+         * @param dirtyLines The lines whose class changed, or that were added or removed, to be drawn in full.
+         * @param dirtyCells The cells on the other lines whose progress changed, or that became empty or filled.
+         */
+        void onChanged(Set<Integer> dirtyLines, Set<Cell> dirtyCells);
+    }
+}
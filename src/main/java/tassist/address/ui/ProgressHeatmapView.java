@@ -0,0 +1,128 @@
+package tassist.address.ui;
+
+import static tassist.address.ui.ProgressHeatmap.CELL_PITCH;
+import static tassist.address.ui.ProgressHeatmap.CELL_SIZE;
+import static tassist.address.ui.ProgressHeatmap.LABEL_WIDTH;
+import static tassist.address.ui.ProgressHeatmap.PADDING;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import tassist.address.model.person.Person;
+
+/**
+ * A UI component that shows the progress of every student as a heatmap, with a line of cells for each class.
+ * The whole heatmap is drawn onto a single canvas instead of a node per student, and only the lines and cells that a
+ * change affects are drawn again. Hovering over a cell shows its student.
+ */
+public class ProgressHeatmapView extends UiPart<Region> {
+    private static final String FXML = "ProgressHeatmapView.fxml";
+    private static final String MESSAGE_HOVER_HINT = "Hover over a cell to see the student and their progress.";
+    private static final String MESSAGE_NO_STUDENTS = "No students to show.";
+
+    @FXML
+    private Label hoverLabel;
+
+    @FXML
+    private Canvas heatmapCanvas;
+
+    private final ProgressHeatmap heatmap;
+
+    /**
+     * Creates a {@code ProgressHeatmapView} of the progress of {@code persons}.
+     */
+    public ProgressHeatmapView(ObservableList<Person> persons) {
+        super(FXML);
+        heatmap = new ProgressHeatmap(persons);
+        heatmap.setListener(this::handleHeatmapChanged);
+        heatmapCanvas.setOnMouseMoved(this::handleMouseMoved);
+        heatmapCanvas.setOnMouseExited(event -> showHint());
+        // The label colour depends on the theme, which is only known once the view is shown
+        hoverLabel.textFillProperty().addListener((unused1, unused2, unused3) -> drawAll());
+        drawAll();
+    }
+
+    private void handleHeatmapChanged(Set<Integer> dirtyLines, Set<ProgressHeatmap.Cell> dirtyCells) {
+        if (heatmapCanvas.getWidth() != heatmap.getWidth() || heatmapCanvas.getHeight() != heatmap.getHeight()) {
+            drawAll();
+            return;
+        }
+
+        GraphicsContext graphics = heatmapCanvas.getGraphicsContext2D();
+        for (int line : dirtyLines) {
+            graphics.clearRect(0, ProgressHeatmap.getLineY(line), heatmapCanvas.getWidth(), CELL_PITCH);
+            if (line < heatmap.getLineCount()) {
+                drawLine(graphics, line);
+            }
+        }
+        for (ProgressHeatmap.Cell cell : dirtyCells) {
+            drawCell(graphics, cell.line, cell.column);
+        }
+        showHint();
+    }
+
+    private void drawAll() {
+        heatmapCanvas.setWidth(heatmap.getWidth());
+        heatmapCanvas.setHeight(heatmap.getHeight());
+        GraphicsContext graphics = heatmapCanvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, heatmapCanvas.getWidth(), heatmapCanvas.getHeight());
+        for (int line = 0; line < heatmap.getLineCount(); line++) {
+            drawLine(graphics, line);
+        }
+        showHint();
+    }
+
+    private void drawLine(GraphicsContext graphics, int line) {
+        graphics.setFill(hoverLabel.getTextFill());
+        graphics.setTextBaseline(VPos.CENTER);
+        graphics.fillText(heatmap.getLabel(line), PADDING, ProgressHeatmap.getLineY(line) + CELL_SIZE / 2,
+                LABEL_WIDTH - PADDING);
+        for (int column = 0; column < heatmap.getPersons(line).size(); column++) {
+            drawCell(graphics, line, column);
+        }
+    }
+
+    private void drawCell(GraphicsContext graphics, int line, int column) {
+        double x = ProgressHeatmap.getCellX(column);
+        double y = ProgressHeatmap.getLineY(line);
+        List<Person> linePersons = heatmap.getPersons(line);
+        if (column >= linePersons.size()) {
+            graphics.clearRect(x, y, CELL_SIZE, CELL_SIZE);
+            return;
+        }
+        graphics.setFill(getProgressColor(linePersons.get(column).getProgress().value));
+        graphics.fillRect(x, y, CELL_SIZE, CELL_SIZE);
+    }
+
+    /**
+     * Returns the colour of a cell, from red for no progress through yellow to green for full progress.
+     */
+    private static Paint getProgressColor(int progress) {
+        return Color.hsb(progress * 1.2, 0.75, 0.85);
+    }
+
+    private void handleMouseMoved(MouseEvent event) {
+        Optional<Person> person = heatmap.getPersonAt(event.getX(), event.getY());
+        if (person.isEmpty()) {
+            showHint();
+            return;
+        }
+        hoverLabel.setText(String.format("%s (%s), %s: %s", person.get().getName(), person.get().getStudentId(),
+                person.get().getClassNumber(), person.get().getProgress()));
+    }
+
+    private void showHint() {
+        hoverLabel.setText(heatmap.getLineCount() == 0 ? MESSAGE_NO_STUDENTS : MESSAGE_HOVER_HINT);
+    }
+}
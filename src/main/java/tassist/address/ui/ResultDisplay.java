@@ -2,27 +2,89 @@ package tassist.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionMode;
 import javafx.scene.control.TextArea;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ * Short feedback is shown as text. Feedback with more than {@link #MAX_TEXT_LINES} lines is shown as a list of its
+ * lines instead, which only lays out the lines on screen, so that very long outputs do not freeze the UI.
  */
 public class ResultDisplay extends UiPart<Region> {
 
+    public static final int MAX_TEXT_LINES = 200;
+
     private static final String FXML = "ResultDisplay.fxml";
 
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private ListView<String> resultLines;
+
+    /**
+     * Creates an empty {@code ResultDisplay}.
+     */
     public ResultDisplay() {
         super(FXML);
+        resultLines.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        resultLines.addEventFilter(KeyEvent.KEY_PRESSED, this::handleCopy);
     }
 
     public void setFeedbackToUser(String feedbackToUser) {
         requireNonNull(feedbackToUser);
-        resultDisplay.setText(feedbackToUser);
+        showText(feedbackToUser);
+    }
+
+    /**
+     * Shows the lines of the feedback, as text if there are few of them or as a list otherwise.
+     */
+    public void setFeedbackLines(List<String> feedbackLines) {
+        requireNonNull(feedbackLines);
+        if (feedbackLines.size() <= MAX_TEXT_LINES) {
+            showText(String.join("\n", feedbackLines));
+            return;
+        }
+
+        resultDisplay.clear();
+        resultLines.getItems().setAll(feedbackLines);
+        resultLines.scrollTo(0);
+        setShowsLines(true);
+    }
+
+    private void showText(String text) {
+        resultLines.getItems().clear();
+        setShowsLines(false);
+        resultDisplay.setText(text);
+    }
+
+    private void setShowsLines(boolean showsLines) {
+        resultLines.setVisible(showsLines);
+        resultLines.setManaged(showsLines);
+        resultDisplay.setVisible(!showsLines);
+        resultDisplay.setManaged(!showsLines);
+    }
+
+    /**
+     * Copies the selected lines when the copy shortcut is pressed, as the text is not selectable in the list.
+     */
+    private void handleCopy(KeyEvent event) {
+        if (!event.isShortcutDown() || event.getCode() != KeyCode.C) {
+            return;
+        }
+        ClipboardContent content = new ClipboardContent();
+        content.putString(String.join("\n", resultLines.getSelectionModel().getSelectedItems()));
+        Clipboard.getSystemClipboard().setContent(content);
+        event.consume();
     }
 
 }
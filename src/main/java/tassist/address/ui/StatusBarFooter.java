@@ -3,6 +3,9 @@ package tassist.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.beans.value.ObservableIntegerValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -12,17 +15,32 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String STATUS_RUNNING = "Running...";
+    public static final String STATUS_RUNNING_WITH_QUEUE = "Running... (%1$d queued)";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label commandStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows whether a command is running and
+     * how many commands wait for it.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableBooleanValue isBusy, ObservableIntegerValue queuedCount) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        commandStatus.textProperty().bind(Bindings.createStringBinding(() -> {
+            if (!isBusy.get()) {
+                return "";
+            }
+            return queuedCount.get() == 0
+                    ? STATUS_RUNNING
+                    : String.format(STATUS_RUNNING_WITH_QUEUE, queuedCount.get());
+        }, isBusy, queuedCount));
     }
 
 }
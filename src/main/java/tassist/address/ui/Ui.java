@@ -9,4 +9,7 @@ public interface Ui {
 
     /** Starts the UI (and the Tassist app).  */
     void start(Stage primaryStage);
+
+    /** Stops the UI, letting the commands already entered finish first. */
+    void stop();
 }
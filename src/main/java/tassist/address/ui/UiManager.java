@@ -1,8 +1,12 @@
 package tassist.address.ui;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
@@ -21,6 +25,9 @@ public class UiManager implements Ui {
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
+    /** FXML documents shown when the main window opens, which have no event handlers and so need no controller. */
+    private static final List<String> PRELOADED_FXML_FILES =
+            List.of("PersonListCard.fxml", "ResultDisplay.fxml", "StatusBarFooter.fxml");
 
     private Logic logic;
     private MainWindow mainWindow;
@@ -50,6 +57,31 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void stop() {
+        logger.info("Stopping UI...");
+        if (mainWindow != null) {
+            mainWindow.stop();
+        }
+    }
+
+    /**
+     * Loads the FXML documents of the main window's parts that need no controller, so that the classes and
+     * resources they use are loaded before the main window is built.
+     * The objects loaded are discarded without being shown, so this can be called on any thread.
+     *
+     * @throws UncheckedIOException if a document cannot be loaded.
+     */
+    public static void preloadFxml() {
+        for (String fxmlFileName : PRELOADED_FXML_FILES) {
+            try {
+                FXMLLoader.load(MainApp.class.getResource(UiPart.FXML_FILE_FOLDER + fxmlFileName));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
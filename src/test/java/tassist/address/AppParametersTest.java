@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -39,10 +40,65 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_headlessFlag_success() {
+        parametersStub.unnamedParameters.add(AppParameters.FLAG_HEADLESS);
+        parametersStub.namedParameters.put("script", "commands.txt");
+        expected.setHeadless(true);
+        expected.setScriptPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("script", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_serveFlag_success() {
+        parametersStub.unnamedParameters.add(AppParameters.FLAG_SERVE);
+        parametersStub.namedParameters.put("port", "9000");
+        expected.setServe(true);
+        expected.setPort(9000);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidPort_success() {
+        // not a number -> default port
+        parametersStub.namedParameters.put("port", "http");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        // out of range -> default port
+        parametersStub.namedParameters.put("port", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        parametersStub.namedParameters.put("port", "-1");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        // no arguments
+        assertEquals(expected, AppParameters.parse());
+
+        // named and unnamed arguments
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setHeadless(true);
+        expected.setScriptPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse("--config=config.json", AppParameters.FLAG_HEADLESS,
+                "--script=commands.txt"));
+
+        // unknown arguments are ignored
+        assertEquals(new AppParameters(), AppParameters.parse("--unknown=value", "headless", "--"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", isHeadless=" + appParameters.isHeadless() + ", scriptPath=" + appParameters.getScriptPath()
+                + ", isServe=" + appParameters.isServe() + ", port=" + appParameters.getPort() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,10 +122,31 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different headless flag -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setHeadless(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("commands.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different serve flag -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setServe(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setPort(9000);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
+        private List<String> unnamedParameters = new ArrayList<>();
 
         @Override
         public List<String> getRaw() {
@@ -78,7 +155,7 @@ public class AppParametersTest {
 
         @Override
         public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
+            return Collections.unmodifiableList(unnamedParameters);
         }
 
         @Override
@@ -0,0 +1,98 @@
+package tassist.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static tassist.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tassist.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static tassist.address.logic.commands.CommandTestUtil.PROGRESS_DESC_AMY;
+import static tassist.address.logic.commands.CommandTestUtil.PROJECT_TEAM_DESC_AMY;
+import static tassist.address.logic.commands.CommandTestUtil.REPOSITORY_DESC_AMY;
+import static tassist.address.logic.commands.CommandTestUtil.STUDENTID_DESC_AMY;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.logic.LogicManager;
+import tassist.address.logic.Messages;
+import tassist.address.logic.commands.AddCommand;
+import tassist.address.logic.commands.ExitCommand;
+import tassist.address.model.Model;
+import tassist.address.model.ModelManager;
+import tassist.address.storage.JsonAddressBookStorage;
+import tassist.address.storage.JsonUserPrefsStorage;
+import tassist.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + STUDENTID_DESC_AMY + PROJECT_TEAM_DESC_AMY + REPOSITORY_DESC_AMY + PROGRESS_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(model, storage));
+    }
+
+    @Test
+    public void constructor_nullLogic_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HeadlessApp(null));
+    }
+
+    @Test
+    public void run_validCommands_executesEveryCommand() throws IOException {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(ADD_AMY));
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(getOutput().startsWith(String.format(AddCommand.MESSAGE_SUCCESS, "")));
+    }
+
+    @Test
+    public void run_blankLinesAndComments_skipped() throws IOException {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run("", "   ", "# a comment", ExitCommand.COMMAND_WORD));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), getOutput());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws IOException {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(ExitCommand.COMMAND_WORD, ADD_AMY));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), getOutput());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_failingCommand_continuesAndReportsFailure() throws IOException {
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, run("uicfhmowqewca", ADD_AMY));
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(getOutput().startsWith(String.format(HeadlessApp.MESSAGE_ERROR, Messages.MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator()));
+    }
+
+    private int run(String... lines) throws IOException {
+        BufferedReader in = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return app.run(in, new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    private String getOutput() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,228 @@
+package tassist.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ELLE;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tassist.address.logic.LogicManager;
+import tassist.address.logic.Messages;
+import tassist.address.logic.commands.ClearCommand;
+import tassist.address.logic.commands.ExitCommand;
+import tassist.address.model.Model;
+import tassist.address.model.ModelManager;
+import tassist.address.model.UserPrefs;
+import tassist.address.storage.JsonAddressBookStorage;
+import tassist.address.storage.JsonUserPrefsStorage;
+import tassist.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model.addTimedEvent(ASSIGNMENT_1);
+        model.commitAddressBook();
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void constructor_nullLogic_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ApiServer(null, 0));
+    }
+
+    @Test
+    public void getPersons_noQuery_returnsEveryPerson() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_PERSONS);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+
+        JsonNode persons = objectMapper.readTree(response.body());
+        assertEquals(model.getAddressBook().getPersonList().size(), persons.size());
+        assertEquals(model.getAddressBook().getPersonList().get(0).getStudentId().value,
+                persons.get(0).get("studentId").asText());
+    }
+
+    @Test
+    public void getPersons_query_returnsSelectedPersons() throws Exception {
+        String query = URLEncoder.encode("where progress >= 50 sort progress desc limit 1", StandardCharsets.UTF_8);
+        HttpResponse<String> response = get(ApiServer.PATH_PERSONS + "?" + ApiServer.PARAMETER_QUERY + "=" + query);
+        assertEquals(200, response.statusCode());
+
+        JsonNode persons = objectMapper.readTree(response.body());
+        assertEquals(1, persons.size());
+        assertEquals(ELLE.getStudentId().value, persons.get(0).get("studentId").asText());
+    }
+
+    @Test
+    public void getPersons_invalidQuery_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_PERSONS + "?" + ApiServer.PARAMETER_QUERY + "=where");
+        assertEquals(400, response.statusCode());
+        assertTrue(objectMapper.readTree(response.body()).has("error"));
+    }
+
+    @Test
+    public void getEvents_returnsEveryTimedEvent() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_EVENTS);
+        assertEquals(200, response.statusCode());
+
+        JsonNode timedEvents = objectMapper.readTree(response.body());
+        assertEquals(1, timedEvents.size());
+        assertEquals(ASSIGNMENT_1.getName(), timedEvents.get(0).get("name").asText());
+    }
+
+    @Test
+    public void postCommand_validCommand_executesAndPublishesSnapshot() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, ClearCommand.COMMAND_WORD);
+        assertEquals(200, response.statusCode());
+        JsonNode result = objectMapper.readTree(response.body());
+        assertEquals(ClearCommand.MESSAGE_SUCCESS, result.get("feedback").asText());
+        assertFalse(result.get("exit").asBoolean());
+
+        assertEquals(0, objectMapper.readTree(get(ApiServer.PATH_PERSONS).body()).size());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, "uicfhmowqewca");
+        assertEquals(400, response.statusCode());
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND, objectMapper.readTree(response.body()).get("error").asText());
+    }
+
+    @Test
+    public void postCommand_emptyBody_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, "  ");
+        assertEquals(400, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_EMPTY_COMMAND, objectMapper.readTree(response.body()).get("error").asText());
+    }
+
+    @Test
+    public void postCommand_exitCommand_stopsServer() throws Exception {
+        HttpResponse<String> response = post(ApiServer.PATH_COMMANDS, ExitCommand.COMMAND_WORD);
+        assertTrue(objectMapper.readTree(response.body()).get("exit").asBoolean());
+        server.awaitStop();
+    }
+
+    @Test
+    public void postCommand_noToken_returnsForbidden() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(ApiServer.PATH_COMMANDS))
+                .POST(HttpRequest.BodyPublishers.ofString(ClearCommand.COMMAND_WORD)).build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_INVALID_TOKEN, objectMapper.readTree(response.body()).get("error").asText());
+
+        HttpResponse<String> wrongTokenResponse = post(ApiServer.PATH_COMMANDS, ClearCommand.COMMAND_WORD, "wrong");
+        assertEquals(403, wrongTokenResponse.statusCode());
+        assertEquals(model.getAddressBook().getPersonList().size(),
+                objectMapper.readTree(get(ApiServer.PATH_PERSONS).body()).size());
+    }
+
+    @Test
+    public void request_originHeader_returnsForbidden() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(ApiServer.PATH_COMMANDS))
+                .header("Origin", "http://example.com")
+                .header(ApiServer.HEADER_TOKEN, server.getToken())
+                .POST(HttpRequest.BodyPublishers.ofString(ClearCommand.COMMAND_WORD)).build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_FORBIDDEN_ORIGIN, objectMapper.readTree(response.body()).get("error").asText());
+        assertEquals(model.getAddressBook().getPersonList().size(),
+                objectMapper.readTree(get(ApiServer.PATH_PERSONS).body()).size());
+    }
+
+    @Test
+    public void request_hostHeader_onlyLoopbackHostsAccepted() throws Exception {
+        assertTrue(getStatusLine("localhost:" + server.getPort()).contains(" 200 "));
+        assertTrue(getStatusLine("evil.example.com:" + server.getPort()).contains(" 403 "));
+        assertTrue(getStatusLine("127.0.0.1").contains(" 403 "));
+    }
+
+    @Test
+    public void request_wrongMethod_returnsMethodNotAllowed() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PATH_COMMANDS);
+        assertEquals(405, response.statusCode());
+        assertEquals("POST", response.headers().firstValue("Allow").orElse(""));
+
+        assertEquals(405, post(ApiServer.PATH_PERSONS, ClearCommand.COMMAND_WORD).statusCode());
+        assertEquals(model.getAddressBook().getPersonList().size(),
+                objectMapper.readTree(get(ApiServer.PATH_PERSONS).body()).size());
+    }
+
+    @Test
+    public void request_unknownPath_returnsNotFound() throws Exception {
+        assertEquals(404, get("/api/unknown").statusCode());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return post(path, body, server.getToken());
+    }
+
+    private HttpResponse<String> post(String path, String body, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).header(ApiServer.HEADER_TOKEN, token)
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Sends a request for the persons with {@code host} as its {@code Host} header, which {@code HttpClient} does not
+     * allow to be set, and returns the status line of the response.
+     */
+    private String getStatusLine(String host) throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(("GET " + ApiServer.PATH_PERSONS + " HTTP/1.1\r\nHost: " + host
+                    + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            InputStream input = socket.getInputStream();
+            String response = new String(input.readAllBytes(), StandardCharsets.US_ASCII);
+            return response.substring(0, response.indexOf("\r\n"));
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+}
@@ -0,0 +1,92 @@
+package tassist.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DayClockTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 4, 1);
+
+    private final SettableClock clock = new SettableClock(DAY.atTime(23, 59));
+    private final DayClock dayClock = new DayClock(clock);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DayClock(null));
+    }
+
+    @Test
+    public void today_followsClockAcrossMidnight() {
+        assertEquals(DAY, dayClock.today());
+        assertEquals(60_000, dayClock.getMillisUntilNextDay());
+
+        clock.set(DAY.plusDays(1).atStartOfDay());
+        assertEquals(DAY.plusDays(1), dayClock.today());
+        assertEquals(24 * 60 * 60 * 1000, dayClock.getMillisUntilNextDay());
+    }
+
+    @Test
+    public void tick_sameDay_doesNotNotify() {
+        List<LocalDate> notified = new ArrayList<>();
+        dayClock.addListener(notified::add);
+
+        assertFalse(dayClock.tick());
+        assertTrue(notified.isEmpty());
+    }
+
+    @Test
+    public void tick_newDay_notifiesOnce() {
+        List<LocalDate> notified = new ArrayList<>();
+        dayClock.addListener(notified::add);
+        clock.set(DAY.plusDays(1).atTime(0, 0, 1));
+
+        // Reading the new date does not tell the listeners, the tick does
+        assertEquals(DAY.plusDays(1), dayClock.today());
+        assertTrue(dayClock.tick());
+        assertFalse(dayClock.tick());
+        assertEquals(List.of(DAY.plusDays(1)), notified);
+    }
+
+    /**
+     * A clock in UTC whose time can be set.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        SettableClock(LocalDateTime time) {
+            set(time);
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
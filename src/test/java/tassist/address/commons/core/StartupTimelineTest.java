@@ -0,0 +1,51 @@
+package tassist.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimelineTest {
+
+    @Test
+    public void measure_returnsResultAndRecordsPhase() {
+        StartupTimeline timeline = new StartupTimeline();
+
+        assertEquals("config", timeline.measure("read config", () -> "config"));
+
+        List<StartupTimeline.Phase> phases = timeline.getPhases();
+        assertEquals(1, phases.size());
+        assertEquals("read config", phases.get(0).getName());
+        assertEquals(Thread.currentThread().getName(), phases.get(0).getThreadName());
+        assertTrue(phases.get(0).getDurationMillis() >= 0);
+    }
+
+    @Test
+    public void measure_taskThrows_recordsPhase() {
+        StartupTimeline timeline = new StartupTimeline();
+
+        assertThrows(IllegalStateException.class, () -> timeline.measure("fail", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("fail", timeline.getPhases().get(0).getName());
+    }
+
+    @Test
+    public void measure_severalThreads_phasesOrderedByStart() {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.measure("first", () -> { });
+        CompletableFuture.runAsync(() -> timeline.measure("background", () -> { })).join();
+        timeline.measure("last", () -> { });
+
+        List<StartupTimeline.Phase> phases = timeline.getPhases();
+        assertEquals(3, phases.size());
+        for (int i = 1; i < phases.size(); i++) {
+            assertTrue(phases.get(i - 1).getStartMillis() <= phases.get(i).getStartMillis());
+        }
+        assertTrue(timeline.toString().contains("background"));
+    }
+}
@@ -1,5 +1,6 @@
 package tassist.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -8,7 +9,11 @@ import static tassist.address.testutil.Assert.assertThrows;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +87,33 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void selectSmallest() {
+        List<Integer> items = List.of(5, 3, 9, 1, 7, 3);
+
+        assertEquals(List.of(1, 3, 3), CollectionUtil.selectSmallest(items, 3, Comparator.naturalOrder()));
+        assertEquals(List.of(9, 7), CollectionUtil.selectSmallest(items, 2, Comparator.reverseOrder()));
+        assertEquals(List.of(), CollectionUtil.selectSmallest(items, 0, Comparator.naturalOrder()));
+
+        // fewer items than requested
+        assertEquals(List.of(1, 3, 3, 5, 7, 9), CollectionUtil.selectSmallest(items, 10, Comparator.naturalOrder()));
+        assertEquals(List.of(), CollectionUtil.selectSmallest(List.<Integer>of(), 3, Comparator.naturalOrder()));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                CollectionUtil.selectSmallest(items, -1, Comparator.naturalOrder()));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.selectSmallest(items, 1, null));
+    }
+
+    @Test
+    public void selectSmallest_randomItems_sameAsSortingAll() {
+        Random random = new Random(42);
+        List<Integer> items = IntStream.range(0, 1000).map(i -> random.nextInt(200)).boxed()
+                .collect(Collectors.toList());
+        List<Integer> sorted = items.stream().sorted().collect(Collectors.toList());
+
+        assertEquals(sorted.subList(0, 20), CollectionUtil.selectSmallest(items, 20, Comparator.naturalOrder()));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
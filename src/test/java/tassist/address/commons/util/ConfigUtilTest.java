@@ -2,11 +2,14 @@ package tassist.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -101,6 +104,22 @@ public class ConfigUtilTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveConfigIfChanged_unchangedConfig_fileNotWritten() throws DataLoadingException, IOException {
+        Config original = getTypicalConfig();
+        Path configFilePath = tempDir.resolve("TempConfig.json");
+
+        assertTrue(ConfigUtil.saveConfigIfChanged(original, configFilePath));
+        FileTime savedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(configFilePath, savedTime);
+        assertFalse(ConfigUtil.saveConfigIfChanged(ConfigUtil.readConfig(configFilePath).get(), configFilePath));
+        assertEquals(savedTime, Files.getLastModifiedTime(configFilePath));
+
+        original.setLogLevel(Level.FINE);
+        assertTrue(ConfigUtil.saveConfigIfChanged(original, configFilePath));
+        assertEquals(original, ConfigUtil.readConfig(configFilePath).get());
+    }
+
     private void save(Config config, String configFileInTestDataFolder) throws IOException {
         Path configFilePath = addToTestDataPathIfNotNull(configFileInTestDataFolder);
         ConfigUtil.saveConfig(config, configFilePath);
@@ -0,0 +1,47 @@
+package tassist.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ImmutableObservableListTest {
+
+    private final ImmutableObservableList<String> list =
+            new ImmutableObservableList<>(PersistentList.of(List.of("a", "b", "c")));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImmutableObservableList<>(null));
+    }
+
+    @Test
+    public void get_validIndex_returnsElement() {
+        assertEquals(3, list.size());
+        assertEquals("b", list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    @Test
+    public void iterator_returnsElementsInOrder() {
+        List<String> elements = new ArrayList<>();
+        list.forEach(elements::add);
+        assertEquals(List.of("a", "b", "c"), elements);
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "d"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.setAll("d"));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+}
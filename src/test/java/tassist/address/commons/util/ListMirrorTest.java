@@ -0,0 +1,112 @@
+package tassist.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+
+public class ListMirrorTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private final ListMirror<String> mirror = new ListMirror<>(source);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ListMirror<>(null));
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(List.of("a", "b", "c"), mirror);
+        assertFalse(mirror.hasPendingChanges());
+    }
+
+    @Test
+    public void sourceChanged_mirrorUnchangedUntilApplied() {
+        source.add("d");
+        source.remove("a");
+
+        assertTrue(mirror.hasPendingChanges());
+        assertEquals(List.of("a", "b", "c"), mirror);
+
+        mirror.applyPendingChanges();
+        assertEquals(List.of("b", "c", "d"), mirror);
+        assertFalse(mirror.hasPendingChanges());
+    }
+
+    @Test
+    public void applyPendingChanges_severalChanges_notifiesOnce() {
+        List<Integer> notifications = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) change -> notifications.add(1));
+
+        source.add(1, "x");
+        source.set(0, "y");
+        source.removeAll("c");
+        source.setAll("p", "q");
+        mirror.applyPendingChanges();
+
+        assertEquals(1, notifications.size());
+        assertEquals(List.of("p", "q"), mirror);
+    }
+
+    @Test
+    public void applyPendingChanges_noChanges_doesNotNotify() {
+        List<Integer> notifications = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) change -> notifications.add(1));
+
+        mirror.applyPendingChanges();
+
+        assertTrue(notifications.isEmpty());
+    }
+
+    @Test
+    public void applyPendingChanges_reportsChangedRange() {
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        source.set(1, "x");
+        mirror.applyPendingChanges();
+
+        assertEquals(List.of("x"), added);
+        assertEquals(List.of("b"), removed);
+    }
+
+    @Test
+    public void applyPendingChanges_permutedSource_copiesOrder() {
+        ObservableList<String> unsorted = FXCollections.observableArrayList("c", "a", "b");
+        SortedList<String> sorted = new SortedList<>(unsorted);
+        ListMirror<String> sortedMirror = new ListMirror<>(sorted);
+
+        sorted.setComparator(Comparator.naturalOrder());
+        sortedMirror.applyPendingChanges();
+        assertEquals(List.of("a", "b", "c"), sortedMirror);
+
+        sorted.setComparator(Comparator.reverseOrder());
+        unsorted.add("d");
+        sortedMirror.applyPendingChanges();
+        assertEquals(List.of("d", "c", "b", "a"), sortedMirror);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> mirror.add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> mirror.remove(0));
+    }
+}
@@ -0,0 +1,97 @@
+package tassist.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PagedListTest {
+
+    private ObservableList<String> source;
+    private PagedList<String> pagedList;
+    private List<List<String>> notifiedContents;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        pagedList = new PagedList<>(source);
+        notifiedContents = new ArrayList<>();
+        pagedList.addListener((ListChangeListener<String>) change -> notifiedContents.add(List.copyOf(pagedList)));
+    }
+
+    @Test
+    public void constructor_showsWholeSource() {
+        assertEquals(source, pagedList);
+        assertEquals(0, pagedList.getOffset());
+        assertEquals(Integer.MAX_VALUE, pagedList.getLimit());
+    }
+
+    @Test
+    public void setWindow_window_showsElementsInWindow() {
+        pagedList.setWindow(1, 2);
+        assertEquals(List.of("b", "c"), pagedList);
+        assertEquals(List.of(List.of("b", "c")), notifiedContents);
+        assertEquals(2, pagedList.getSourceIndex(1));
+        assertEquals(0, pagedList.getViewIndex(1));
+        assertEquals(-1, pagedList.getViewIndex(3));
+
+        // window reaching past the end of the source
+        pagedList.setWindow(4, 2);
+        assertEquals(List.of("e"), pagedList);
+
+        // window starting past the end of the source
+        pagedList.setWindow(6, 2);
+        assertTrue(pagedList.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> pagedList.get(0));
+    }
+
+    @Test
+    public void setWindow_sameWindow_noNotification() {
+        pagedList.setWindow(0, Integer.MAX_VALUE);
+        assertTrue(notifiedContents.isEmpty());
+    }
+
+    @Test
+    public void setWindow_invalidWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> pagedList.setWindow(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> pagedList.setWindow(0, 0));
+    }
+
+    @Test
+    public void sourceChanged_limitedWindow_showsShiftedElements() {
+        pagedList.setWindow(1, 2);
+        notifiedContents.clear();
+
+        source.add(0, "z");
+        assertEquals(List.of("a", "b"), pagedList);
+        source.remove("a");
+        assertEquals(List.of("b", "c"), pagedList);
+        source.set(4, "x");
+        assertEquals(List.of("b", "c"), pagedList);
+
+        assertEquals(List.of(List.of("a", "b"), List.of("b", "c"), List.of("b", "c")), notifiedContents);
+    }
+
+    @Test
+    public void sourceChanged_wholeSource_passesChangesOn() {
+        List<String> added = new ArrayList<>();
+        pagedList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        source.add("f");
+        assertEquals(source, pagedList);
+        assertEquals(List.of("f"), added);
+    }
+}
@@ -0,0 +1,165 @@
+package tassist.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        List<String> elements = List.of("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+
+        assertEquals(elements, list.toList());
+        assertEquals(5, list.size());
+        assertEquals("c", list.get(2));
+        assertEquals(5, list.getNewNodeCount());
+    }
+
+    @Test
+    public void empty_noElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(List.of(), list.toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void set_element_originalUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> changed = original.set(1, "x");
+
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertEquals(List.of("a", "x", "c"), changed.toList());
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.insert(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.set(index, i);
+            }
+            versions.add(list);
+            expectedVersions.add(new ArrayList<>(expected));
+        }
+
+        // every earlier version is unaffected by the later changes
+        for (int i = 0; i < versions.size(); i += 97) {
+            assertEquals(expectedVersions.get(i), versions.get(i).toList());
+        }
+        assertEquals(expected, list.toList());
+    }
+
+    @Test
+    public void insert_manyElements_staysBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 1024; i++) {
+            list = list.insert(list.size(), i);
+        }
+
+        // a balanced tree of 1024 nodes is at most 1.44 * log2(1024) high, so an update copies at most 15 nodes
+        assertTrue(list.set(512, -1).getNewNodeCount() <= 15);
+    }
+
+    @Test
+    public void replace_range_matchesArrayList() {
+        List<String> elements = List.of("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+
+        assertEquals(List.of("a", "x", "d", "e"), list.replace(1, 2, List.of("x")).toList());
+        assertEquals(List.of("a", "x", "y", "z", "c", "d", "e"), list.replace(1, 1, List.of("x", "y", "z")).toList());
+        assertEquals(List.of("a", "b", "c", "d", "e", "f"), list.replace(5, 0, List.of("f")).toList());
+        assertEquals(List.of(), list.replace(0, 5, List.of()).toList());
+        assertEquals(elements, list.toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.replace(4, 2, List.of()));
+    }
+
+    @Test
+    public void replace_sameElements_returnsSameList() {
+        List<String> elements = List.of("a", "b", "c");
+        PersistentList<String> list = PersistentList.of(elements);
+
+        assertSame(list, list.replace(0, 3, elements));
+    }
+
+    @Test
+    public void replace_oneElementOfLargeList_copiesPathOnly() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(elements);
+
+        assertTrue(list.replace(5000, 1, List.of(-1)).getNewNodeCount() <= 20);
+        assertTrue(list.replace(1234, 1, List.of()).getNewNodeCount() <= 40);
+    }
+
+    @Test
+    public void withElements_unchangedElements_returnsSameList() {
+        List<String> elements = List.of("a", "b", "c");
+        PersistentList<String> list = PersistentList.of(elements);
+
+        assertSame(list, list.withElements(new ArrayList<>(elements)));
+    }
+
+    @Test
+    public void withElements_fewChanges_sharesUnchangedNodes() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(elements);
+
+        List<Integer> replaced = new ArrayList<>(elements);
+        replaced.set(5000, -1);
+        PersistentList<Integer> replacedList = list.withElements(replaced);
+        assertEquals(replaced, replacedList.toList());
+        assertTrue(replacedList.getNewNodeCount() <= 20);
+
+        List<Integer> removed = new ArrayList<>(elements);
+        removed.remove(1234);
+        PersistentList<Integer> removedList = list.withElements(removed);
+        assertEquals(removed, removedList.toList());
+        assertTrue(removedList.getNewNodeCount() <= 40);
+
+        List<Integer> added = new ArrayList<>(elements);
+        added.add(-1);
+        PersistentList<Integer> addedList = list.withElements(added);
+        assertEquals(added, addedList.toList());
+        assertTrue(addedList.getNewNodeCount() <= 40);
+    }
+
+    @Test
+    public void withElements_allChanged_rebuilt() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> rebuilt = list.withElements(List.of("x", "y"));
+
+        assertEquals(List.of("x", "y"), rebuilt.toList());
+        assertEquals(2, rebuilt.getNewNodeCount());
+    }
+}
@@ -1,6 +1,7 @@
 package tassist.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static tassist.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static tassist.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static tassist.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
@@ -18,6 +19,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,10 +31,14 @@ import tassist.address.logic.commands.CommandResult;
 import tassist.address.logic.commands.DeleteCommand;
 import tassist.address.logic.commands.ListCommand;
 import tassist.address.logic.commands.OpenCommand;
+import tassist.address.logic.commands.RedoCommand;
+import tassist.address.logic.commands.RunCommand;
+import tassist.address.logic.commands.UndoCommand;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.logic.parser.exceptions.ParseException;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.UserPrefs;
 import tassist.address.model.person.Person;
@@ -169,6 +175,23 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_keepsWindowWithoutSaving() {
+        Person amy = new PersonBuilder(AMY).build();
+        model.addPerson(amy);
+        model.updatePersonListWindow(new PersonListWindow(1, 1));
+
+        Predicate<Person> isAmy = person -> person.equals(amy);
+        logic.updateFilteredPersonList(isAmy);
+        assertEquals(List.of(), logic.getFilteredPersonList());
+        assertEquals(new PersonListWindow(1, 1), logic.getPersonListWindow());
+        assertEquals(isAmy, logic.getFilteredPersonPredicate());
+
+        logic.updatePersonListWindow(PersonListWindow.ALL);
+        assertEquals(List.of(amy), logic.getFilteredPersonList());
+        assertFalse(temporaryFolder.resolve("addressBook.json").toFile().exists());
+    }
+
     @Test
     public void execute_openCommandWithIndex_success() throws Exception {
         Person personToOpen = new PersonBuilder(AMY).build();
@@ -204,6 +227,45 @@ public class LogicManagerTest {
         assertEquals(personToOpen.getGithub().value, browserService.getLastUrlOpened());
     }
 
+    @Test
+    public void executeScript_validScript_savesOnce() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + STUDENTID_DESC_AMY + PROJECT_TEAM_DESC_AMY + REPOSITORY_DESC_AMY + PROGRESS_DESC_AMY;
+
+        CommandResult result = logic.executeScript(List.of(addCommand, ListCommand.COMMAND_WORD));
+
+        assertEquals(String.format(RunCommand.MESSAGE_RUN_COMMANDS_SUCCESS, 2), result.getFeedbackToUser());
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertEquals(expectedModel, model);
+        assertEquals(model.getAddressBook().getPersonList(),
+                addressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void executeScript_failingCommand_leavesModelUnchanged() {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + STUDENTID_DESC_AMY + PROJECT_TEAM_DESC_AMY + REPOSITORY_DESC_AMY + PROGRESS_DESC_AMY;
+
+        assertThrows(CommandException.class, () -> logic.executeScript(List.of(addCommand, "delete 9")));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_undoRedoAfterScript_restoresEachState() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + STUDENTID_DESC_AMY + PROJECT_TEAM_DESC_AMY + REPOSITORY_DESC_AMY + PROGRESS_DESC_AMY;
+        logic.executeScript(List.of(addCommand));
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertEquals(0, addressBookStorage.readAddressBook().get().getPersonList().size());
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(RedoCommand.COMMAND_WORD, CommandException.class, RedoCommand.MESSAGE_FAILURE);
+    }
+
     private void assertCommandSuccess(String inputCommand, String expectedMessage,
                                       Model expectedModel) throws CommandException, ParseException {
         CommandResult result = logic.execute(inputCommand);
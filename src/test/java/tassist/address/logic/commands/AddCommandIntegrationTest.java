@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import tassist.address.logic.Messages;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.UserPrefs;
 import tassist.address.model.person.Person;
 import tassist.address.testutil.PersonBuilder;
@@ -51,4 +52,17 @@ public class AddCommandIntegrationTest {
                 AddCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_emailOfStudentOnAnotherPage_throwsCommandException() {
+        Person personOnSecondPage = model.getAddressBook().getPersonList().get(1);
+        model.updatePersonListWindow(PersonListWindow.ofPage(1, 1));
+        Person personWithSameEmail = new PersonBuilder()
+                .withStudentId("A9999999Z")
+                .withPhone("99999999")
+                .withEmail(personOnSecondPage.getEmail().value)
+                .build();
+
+        assertCommandFailure(new AddCommand(personWithSameEmail), model, AddCommand.MESSAGE_EXISTING_EMAIL);
+    }
+
 }
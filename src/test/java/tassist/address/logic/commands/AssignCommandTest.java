@@ -10,18 +10,24 @@ import static tassist.address.testutil.AssignCommandTestUtil.CARL;
 import static tassist.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static tassist.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import tassist.address.commons.core.index.Index;
 import tassist.address.logic.Messages;
+import tassist.address.logic.commands.AssignCommand.StudentSelection;
 import tassist.address.model.AddressBook;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.UserPrefs;
 import tassist.address.model.person.ClassNumber;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.ProjectTeam;
 import tassist.address.model.person.StudentId;
+import tassist.address.model.tag.Tag;
 import tassist.address.model.timedevents.TimedEvent;
 import tassist.address.testutil.AssignCommandTestUtil;
 import tassist.address.testutil.PersonBuilder;
@@ -42,7 +48,7 @@ public class AssignCommandTest {
         // Create fresh instances of the persons to avoid state sharing
         alice = new PersonBuilder(ALICE).build();
         benson = new PersonBuilder(BENSON).build();
-        carl = new PersonBuilder(CARL).build();
+        carl = new PersonBuilder(CARL).withProjectTeam("Team Alpha").build();
 
         // Create a fresh address book with the new person instances
         AddressBook ab = new AddressBook();
@@ -58,6 +64,22 @@ public class AssignCommandTest {
         model = new ModelManager(ab, new UserPrefs());
     }
 
+    @Test
+    public void execute_studentIdAndClassOnAnotherPage_assignsThoseStudents() throws Exception {
+        TimedEvent targetEvent = model.getTimedEventList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.updatePersonListWindow(PersonListWindow.ofPage(3, 1));
+        StudentSelection selection = new StudentSelection()
+                .addStudentId(alice.getStudentId())
+                .addClassNumber(benson.getClassNumber());
+
+        new AssignCommand(INDEX_FIRST_PERSON, selection).execute(model);
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertTrue(persons.get(0).hasTimedEvent(targetEvent));
+        assertTrue(persons.get(1).hasTimedEvent(targetEvent));
+        assertFalse(persons.get(2).hasTimedEvent(targetEvent));
+    }
+
     @Test
     public void execute_validIndexUnfilteredList_success() {
         Person targetPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
@@ -101,12 +123,58 @@ public class AssignCommandTest {
         expectedModel.setPerson(alice, expectedAlice);
         expectedModel.setPerson(benson, expectedBenson);
 
-        String expectedMessage = String.format(AssignCommand.MESSAGE_ASSIGN_SUCCESS, Messages.format(alice))
-                + "\n" + String.format(AssignCommand.MESSAGE_ASSIGN_SUCCESS, Messages.format(benson));
+        String expectedMessage = String.format(AssignCommand.MESSAGE_ASSIGN_SUMMARY,
+                expectedModel.getTimedEventList().get(INDEX_FIRST_PERSON.getZeroBased()).getName(), 2);
 
         assertCommandSuccess(assignCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_mixedSelectors_assignsEachStudentOnce() {
+        TimedEvent targetEvent = model.getTimedEventList().get(INDEX_FIRST_PERSON.getZeroBased());
+        StudentSelection selection = new StudentSelection()
+                .addIndexRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)
+                .addStudentId(alice.getStudentId())
+                .addProjectTeam(new ProjectTeam("Team Alpha"))
+                .addTag(new Tag("friends"));
+        AssignCommand assignCommand = new AssignCommand(INDEX_FIRST_PERSON, selection);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updatePersons(List.of(alice.withTimedEventAdded(targetEvent),
+                benson.withTimedEventAdded(targetEvent), carl.withTimedEventAdded(targetEvent)));
+
+        String expectedMessage = String.format(AssignCommand.MESSAGE_ASSIGN_SUMMARY, targetEvent.getName(), 3);
+
+        assertCommandSuccess(assignCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().stream().allMatch(person -> person.hasTimedEvent(targetEvent)));
+    }
+
+    @Test
+    public void execute_someStudentsAlreadyAssigned_summarisesSkippedStudents() {
+        TimedEvent targetEvent = model.getTimedEventList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.setPerson(alice, alice.withTimedEventAdded(targetEvent));
+        AssignCommand assignCommand = new AssignCommand(INDEX_FIRST_PERSON, new ClassNumber("T01"));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(benson, benson.withTimedEventAdded(targetEvent));
+
+        String expectedMessage = String.format(AssignCommand.MESSAGE_ASSIGN_SUMMARY, targetEvent.getName(), 1)
+                + "\n" + String.format(AssignCommand.MESSAGE_ALREADY_ASSIGNED, 1);
+
+        assertCommandSuccess(assignCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_singleStudentAlreadyAssigned_reportsDuplicate() {
+        TimedEvent targetEvent = model.getTimedEventList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.setPerson(alice, alice.withTimedEventAdded(targetEvent));
+        AssignCommand assignCommand = new AssignCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(assignCommand, model, AssignCommand.MESSAGE_DUPLICATE_ASSIGNMENT, expectedModel);
+    }
+
     @Test
     public void execute_invalidTimedEventIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getTimedEventList().size() + 1);
@@ -123,6 +191,15 @@ public class AssignCommandTest {
         assertCommandFailure(assignCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_rangeEndOutOfBounds_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        AssignCommand assignCommand = new AssignCommand(INDEX_FIRST_PERSON,
+                new StudentSelection().addIndexRange(INDEX_FIRST_PERSON, outOfBoundIndex));
+
+        assertCommandFailure(assignCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
     @Test
     public void execute_invalidStudentId_failure() {
         StudentId nonExistentId = new StudentId("A9999999Z");
@@ -139,6 +216,22 @@ public class AssignCommandTest {
                 String.format(AssignCommand.MESSAGE_NO_STUDENTS_IN_CLASS, nonExistentClass));
     }
 
+    @Test
+    public void execute_emptyProjectTeam_failure() {
+        ProjectTeam emptyTeam = new ProjectTeam("Team Beta");
+        AssignCommand assignCommand = new AssignCommand(INDEX_FIRST_PERSON,
+                new StudentSelection().addProjectTeam(emptyTeam));
+        assertCommandFailure(assignCommand, model,
+                String.format(AssignCommand.MESSAGE_NO_STUDENTS_IN_PROJECT_TEAM, emptyTeam));
+    }
+
+    @Test
+    public void execute_unusedTag_failure() {
+        AssignCommand assignCommand = new AssignCommand(INDEX_FIRST_PERSON,
+                new StudentSelection().addTag(new Tag("unused")));
+        assertCommandFailure(assignCommand, model, String.format(AssignCommand.MESSAGE_NO_STUDENTS_WITH_TAG, "unused"));
+    }
+
     @Test
     public void equals() {
         final AssignCommand standardCommand = new AssignCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON);
@@ -167,5 +260,13 @@ public class AssignCommandTest {
 
         // different class number -> returns false
         assertFalse(standardCommand.equals(new AssignCommand(INDEX_FIRST_PERSON, new ClassNumber("T01"))));
+
+        // same index as a selection -> returns true
+        assertTrue(standardCommand.equals(new AssignCommand(INDEX_FIRST_PERSON,
+                new StudentSelection().addIndex(INDEX_FIRST_PERSON))));
+
+        // different index range -> returns false
+        assertFalse(standardCommand.equals(new AssignCommand(INDEX_FIRST_PERSON,
+                new StudentSelection().addIndexRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON))));
     }
 }
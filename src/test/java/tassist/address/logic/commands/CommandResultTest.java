@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import tassist.address.model.Model;
@@ -25,6 +27,18 @@ public class CommandResultTest {
     };
 
 
+    @Test
+    public void feedbackLines_convertBetweenStringAndLines() {
+        CommandResult fromLines = new CommandResult(List.of("first", "", "third"));
+        assertEquals("first\n\nthird", fromLines.getFeedbackToUser());
+        assertEquals(List.of("first", "", "third"), fromLines.getFeedbackLines());
+
+        CommandResult fromString = new CommandResult("first\n\nthird");
+        assertEquals(List.of("first", "", "third"), fromString.getFeedbackLines());
+        assertEquals(fromString, fromLines);
+        assertEquals(fromString.hashCode(), fromLines.hashCode());
+    }
+
     @Test
     public void equals() {
         CommandResult commandResult = new CommandResult("feedback");
@@ -1,6 +1,7 @@
 package tassist.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,6 +17,7 @@ import tassist.address.logic.Messages;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.UserPrefs;
 import tassist.address.model.person.Person;
 import tassist.address.model.person.StudentId;
@@ -59,6 +61,18 @@ public class DeleteCommandTest {
         assertTrue(commandResult.requiresConfirmation());
     }
 
+    @Test
+    public void executeConfirmed_studentIdOnAnotherPage_deletesSuccessfully() throws CommandException {
+        Person personOnSecondPage = model.getAddressBook().getPersonList().get(1);
+        model.updatePersonListWindow(PersonListWindow.ofPage(1, 1));
+        DeleteCommand deleteCommand = new DeleteCommand(personOnSecondPage.getStudentId());
+
+        deleteCommand.execute(model);
+        deleteCommand.executeConfirmed(model);
+
+        assertFalse(model.hasPerson(personOnSecondPage));
+    }
+
     @Test
     public void executeConfirmed_validIndexUnfilteredList_deletesSuccessfully() throws CommandException {
         Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
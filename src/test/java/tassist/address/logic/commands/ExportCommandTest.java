@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.TypicalPersons.ALICE;
 import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -42,6 +43,39 @@ public class ExportCommandTest {
                 result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_sinceLastExport_exportsChangedPersonsOnly() throws CommandException {
+        Path fullExportFilePath = temporaryFolder.resolve("full.csv");
+        new ExportCommand(fullExportFilePath).execute(model);
+        assertTrue(model.getAddressBook().getLastExportTime().isPresent());
+
+        model.deletePerson(ALICE);
+        Path deltaFilePath = temporaryFolder.resolve("delta.csv");
+        CommandResult result = new ExportCommand(deltaFilePath, true, null).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORT_DELTA_SUCCESS, 0, 1, deltaFilePath),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_fullExportAfterDeletion_forgetsDeletion() throws CommandException {
+        model.deletePerson(ALICE);
+        assertTrue(model.getAddressBook().getPersonDeletedTimes().containsKey(ALICE.getStudentId()));
+
+        new ExportCommand(temporaryFolder.resolve("full-after-delete.csv")).execute(model);
+
+        assertFalse(model.getAddressBook().getPersonDeletedTimes().containsKey(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void execute_neverExported_exportsAllPersons() throws CommandException {
+        Path deltaFilePath = temporaryFolder.resolve("delta-all.csv");
+        CommandResult result = new ExportCommand(deltaFilePath, true, null).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORT_DELTA_SUCCESS,
+                model.getAddressBook().getPersonList().size(), 0, deltaFilePath), result.getFeedbackToUser());
+    }
+
     @Test
     public void execute_nullFilePath_throwsCommandException() {
         assertThrows(CommandException.class, () -> new ExportCommand(null).execute(model));
@@ -73,5 +107,8 @@ public class ExportCommandTest {
 
         // different filePath -> returns false
         assertFalse(standardCommand.equals(new ExportCommand(temporaryFolder.resolve("output-2.csv"))));
+
+        // different mode -> returns false
+        assertFalse(standardCommand.equals(new ExportCommand(filePath, true, null)));
     }
 }
@@ -21,8 +21,10 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import tassist.address.logic.Messages;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.UserPrefs;
 import tassist.address.model.person.NameContainsKeywordsPredicate;
 import tassist.address.model.person.Person;
@@ -82,6 +84,11 @@ public class FindCommandTest {
         assertFalse(findFirstClassNumberCommand.equals(findSecondClassNumberCommand));
         assertFalse(findFirstNameCommand.equals(findFirstStudentIdCommand));
         assertFalse(findFirstNameCommand.equals(findFirstClassNumberCommand));
+
+        // different window -> returns false
+        assertFalse(findFirstNameCommand.equals(findFirstNameCommand.withWindow(new PersonListWindow(0, 5))));
+        assertTrue(findFirstNameCommand.withWindow(new PersonListWindow(0, 5))
+                .equals(findFirstCommandCopy.withWindow(new PersonListWindow(0, 5))));
     }
 
     @Test
@@ -126,6 +133,19 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_window_showsPartOfPersonsFound() {
+        PersonListWindow window = new PersonListWindow(1, 1);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3) + "\n"
+                + Messages.formatWindow(window, 3);
+        NameContainsKeywordsPredicate predicate = prepareNameKeywordsPredicate("Kurz Elle Kunz");
+        FindCommand command = new FindCommand(predicate).withWindow(window);
+        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updatePersonListWindow(window);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_partialNameMatch_personFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
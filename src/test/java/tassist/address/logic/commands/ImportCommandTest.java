@@ -5,12 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
 import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,12 +28,14 @@ import tassist.address.model.ModelManager;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.ReadOnlyUserPrefs;
 import tassist.address.model.UserPrefs;
+import tassist.address.model.person.Person;
 import tassist.address.storage.AddressBookStorage;
 import tassist.address.storage.JsonAddressBookStorage;
 import tassist.address.storage.JsonUserPrefsStorage;
 import tassist.address.storage.Storage;
 import tassist.address.storage.StorageManager;
 import tassist.address.storage.UserPrefsStorage;
+import tassist.address.testutil.PersonBuilder;
 
 public class ImportCommandTest {
 
@@ -103,6 +108,81 @@ public class ImportCommandTest {
         assertThrows(CommandException.class, () -> new ImportCommand(testCsvFilePath).execute(testModel));
     }
 
+    @Test
+    public void execute_deltaFile_appliesChangesOnly() throws Exception {
+        Model sourceModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        LocalDateTime since = LocalDateTime.now();
+        Person editedAlice = new PersonBuilder(ALICE).withProgress("90").build();
+        sourceModel.setPerson(ALICE, editedAlice);
+        sourceModel.deletePerson(BENSON);
+
+        Path deltaFilePath = temporaryFolder.resolve("delta.csv");
+        new ExportCommand(deltaFilePath, true, since).execute(sourceModel);
+
+        CommandResult result = new ImportCommand(deltaFilePath, true).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_IMPORT_DELTA_SUCCESS, 1, 1, deltaFilePath),
+                result.getFeedbackToUser());
+        assertFalse(model.hasPerson(BENSON));
+        assertEquals(editedAlice.getProgress(), model.getAddressBook().getPersonList().get(0).getProgress());
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1,
+                model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_fullExportAsDelta_throwsCommandException() {
+        Path validCsvFilePath = Paths.get("src", "test", "data",
+                "CsvJsonConverterTest", "valid.csv");
+        assertThrows(CommandException.class, () -> new ImportCommand(validCsvFilePath, true).execute(model));
+    }
+
+    @Test
+    public void execute_dryRun_reportsChangesWithoutChangingData() throws Exception {
+        Path dryRunCsvFilePath = Paths.get("src", "test", "data",
+                "CsvJsonConverterTest", "dryRun.csv");
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        String dataBefore = Files.readString(addressBookFilePath);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        CommandResult result = new ImportCommand(dryRunCsvFilePath, false, true).execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.contains("Students: 1 new, 1 changed, 0 unchanged, 6 removed"));
+        assertTrue(feedback.contains("Rows: 1 duplicate, 2 invalid"));
+        assertTrue(feedback.contains(ImportCommand.MESSAGE_DRY_RUN_WOULD_FAIL));
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+        assertEquals(dataBefore, Files.readString(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_dryRunValidFile_reportsNoProblems() throws Exception {
+        Path validCsvFilePath = Paths.get("src", "test", "data",
+                "CsvJsonConverterTest", "valid.csv");
+
+        CommandResult result = new ImportCommand(validCsvFilePath, false, true).execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_DRY_RUN_SUCCESS.split("\n")[0],
+                validCsvFilePath)));
+        assertTrue(feedback.contains("Rows: 0 duplicate, 0 invalid"));
+        assertFalse(feedback.contains(ImportCommand.MESSAGE_DRY_RUN_WOULD_FAIL));
+    }
+
+    @Test
+    public void execute_dryRunDeltaFile_reportsChangesWithoutChangingData() throws Exception {
+        Model sourceModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        LocalDateTime since = LocalDateTime.now();
+        sourceModel.setPerson(ALICE, new PersonBuilder(ALICE).withProgress("90").build());
+        sourceModel.deletePerson(BENSON);
+
+        Path deltaFilePath = temporaryFolder.resolve("dryRunDelta.csv");
+        new ExportCommand(deltaFilePath, true, since).execute(sourceModel);
+
+        CommandResult result = new ImportCommand(deltaFilePath, true, true).execute(model);
+
+        assertTrue(result.getFeedbackToUser().contains("Students: 0 new, 1 changed, 0 unchanged, 1 removed"));
+        assertTrue(model.hasPerson(BENSON));
+    }
+
     @Test
     public void equals() {
         Path filePath = temporaryFolder.resolve("test1.csv");
@@ -123,6 +203,10 @@ public class ImportCommandTest {
 
         // different filePath -> returns false
         assertFalse(standardCommand.equals(new ImportCommand(temporaryFolder.resolve("test2.csv"))));
+
+        // different mode -> returns false
+        assertFalse(standardCommand.equals(new ImportCommand(filePath, true)));
+        assertFalse(standardCommand.equals(new ImportCommand(filePath, false, true)));
     }
 
     /**
@@ -213,6 +297,14 @@ public class ImportCommandTest {
             return addressBookFilePath;
         }
 
+        public int getUndoHistoryDepth() {
+            return UserPrefs.DEFAULT_UNDO_HISTORY_DEPTH;
+        }
+
+        public long getUndoMemoryBudget() {
+            return UserPrefs.DEFAULT_UNDO_MEMORY_BUDGET;
+        }
+
         public void setAddressBookFilePath(Path addressBookFilePath) {
             // do nothing
         }
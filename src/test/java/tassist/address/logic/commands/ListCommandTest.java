@@ -7,6 +7,9 @@ import static tassist.address.logic.commands.CommandTestUtil.assertCommandSucces
 import static tassist.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static tassist.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
 import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
@@ -17,11 +20,19 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import tassist.address.logic.Messages;
 import tassist.address.logic.commands.exceptions.CommandException;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.UserPrefs;
 import tassist.address.model.person.Person;
+import tassist.address.model.query.PersonQuery;
+import tassist.address.model.query.QueryExpression.And;
+import tassist.address.model.query.QueryExpression.Comparison;
+import tassist.address.model.query.QueryExpression.Operator;
+import tassist.address.model.query.QueryField;
+import tassist.address.model.query.SortKey;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -65,8 +76,9 @@ public class ListCommandTest {
     public void execute_sortByProgressDescending_success() {
         ListCommand command = new ListCommand("progress", "des", null, null);
         expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        expectedModel.updateSortedPersonList(Comparator.comparing(p -> p.getProgress().value,
-                Comparator.reverseOrder()));
+        // students with the same progress are ordered by student ID
+        expectedModel.updateSortedPersonList(Comparator.comparing((Person p) -> p.getProgress().value,
+                Comparator.reverseOrder()).thenComparing(p -> p.getStudentId().value));
         assertCommandSuccess(command, model, ListCommand.MESSAGE_LIST_SORTED, expectedModel);
 
         List<Person> actualList = new ArrayList<>(model.getFilteredPersonList());
@@ -180,6 +192,98 @@ public class ListCommandTest {
         assertEquals(ListCommand.MESSAGE_INVALID_FILTER_VALUE, thrown.getMessage());
     }
 
+    @Test
+    public void execute_query_listsMatchingStudentsSorted() {
+        PersonQuery query = new PersonQuery(new And(List.of(
+                new Comparison(QueryField.TAG, Operator.EQUAL, "friends"),
+                new Comparison(QueryField.PROGRESS, Operator.LESS, "50"))),
+                List.of(new SortKey(QueryField.CLASS, false), new SortKey(QueryField.NAME, true)));
+        expectedModel.updateFilteredPersonList(person -> person.getTags().stream()
+                .anyMatch(tag -> tag.tagName.equals("friends")) && person.getProgress().value < 50);
+        expectedModel.updateSortedPersonList(Comparator.comparing((Person p) -> p.getClassNumber().value)
+                .reversed().thenComparing(p -> p.getName().value));
+
+        assertCommandSuccess(new ListCommand(query, false), model,
+                String.format(ListCommand.MESSAGE_LIST_QUERY, 3), expectedModel);
+        assertEquals(List.of(DANIEL, ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_queryNoMatch_noStudentsFound() {
+        PersonQuery query = new PersonQuery(new Comparison(QueryField.CLASS, Operator.EQUAL, "T99"), List.of());
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(new ListCommand(query, false), model, ListCommand.MESSAGE_NO_STUDENTS, expectedModel);
+    }
+
+    @Test
+    public void execute_explainQuery_describesPlanWithoutListing() {
+        Comparison classT01 = new Comparison(QueryField.CLASS, Operator.EQUAL, "T01");
+        Comparison progressBelow50 = new Comparison(QueryField.PROGRESS, Operator.LESS, "50");
+        PersonQuery query = new PersonQuery(new And(List.of(progressBelow50, classT01)),
+                List.of(new SortKey(QueryField.NAME, true), new SortKey(QueryField.PROGRESS, false)));
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+
+        String expectedMessage = String.format(ListCommand.MESSAGE_EXPLAIN, query,
+                "Candidates: index lookup on class = T01 (2 of 7 students)\nResidual filter: progress < 50",
+                "name asc, progress desc", 2);
+        assertCommandSuccess(new ListCommand(query, true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sortWithLimit_showsLowestProgress() {
+        PersonListWindow window = new PersonListWindow(0, 3);
+        ListCommand command = new ListCommand("progress", "asc", null, null, window);
+        Comparator<Person> comparator = SortKey.getComparator(List.of(new SortKey(QueryField.PROGRESS, true)));
+        expectedModel.updateSortedPersonList(comparator);
+        expectedModel.updatePersonListWindow(window);
+        List<Person> expectedList = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        expectedList.sort(comparator);
+
+        String expectedMessage = ListCommand.MESSAGE_LIST_SORTED + "\n" + Messages.formatWindow(window, 7);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedList.subList(0, 3), model.getFilteredPersonList());
+        assertEquals(7, model.getMatchingPersonCount());
+    }
+
+    @Test
+    public void execute_sortWithPage_showsPage() {
+        PersonListWindow window = PersonListWindow.ofPage(2, 3);
+        ListCommand command = new ListCommand("progress", "asc", null, null, window);
+        Comparator<Person> comparator = SortKey.getComparator(List.of(new SortKey(QueryField.PROGRESS, true)));
+        expectedModel.updateSortedPersonList(comparator);
+        expectedModel.updatePersonListWindow(window);
+        List<Person> expectedList = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        expectedList.sort(comparator);
+
+        String expectedMessage = ListCommand.MESSAGE_LIST_SORTED + "\n"
+                + String.format(Messages.MESSAGE_PERSONS_WINDOW, 4, 6, 7, 2, 3);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedList.subList(3, 6), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_pagePastEnd_reportsEmptyPage() {
+        PersonListWindow window = PersonListWindow.ofPage(4, 3);
+        expectedModel.updatePersonListWindow(window);
+
+        assertCommandSuccess(new ListCommand(null, null, null, null, window), model,
+                String.format(Messages.MESSAGE_PERSONS_WINDOW_EMPTY, 4, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_queryWithLimit_showsFirstMatches() throws Exception {
+        PersonListWindow window = new PersonListWindow(0, 2);
+        PersonQuery query = new PersonQuery(new Comparison(QueryField.TAG, Operator.EQUAL, "friends"),
+                List.of(new SortKey(QueryField.NAME, false)), window);
+
+        String expectedMessage = String.format(ListCommand.MESSAGE_LIST_QUERY, 3) + "\n"
+                + Messages.formatWindow(window, 3);
+        assertEquals(expectedMessage, new ListCommand(query, false).execute(model).getFeedbackToUser());
+        assertEquals(List.of(DANIEL, BENSON), model.getFilteredPersonList());
+        assertEquals(3, model.getMatchingPersonCount());
+    }
+
     @Test
     public void equals() {
         // Same values
@@ -212,6 +316,15 @@ public class ListCommandTest {
 
         // different type -> returns false
         assertNotEquals(5, command1);
+
+        // Different window
+        assertNotEquals(command1, new ListCommand("name", "asc", "course", "cs2103", new PersonListWindow(0, 5)));
+
+        // Queries
+        PersonQuery query = new PersonQuery(null, List.of(new SortKey(QueryField.NAME, true)));
+        assertEquals(new ListCommand(query, false), new ListCommand(query, false));
+        assertNotEquals(new ListCommand(query, false), new ListCommand(query, true));
+        assertNotEquals(new ListCommand(query, false), defaultCommand);
     }
 
     @Test
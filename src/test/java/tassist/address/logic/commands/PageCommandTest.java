@@ -0,0 +1,89 @@
+package tassist.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tassist.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tassist.address.logic.Messages;
+import tassist.address.model.Model;
+import tassist.address.model.ModelManager;
+import tassist.address.model.PersonListWindow;
+import tassist.address.model.UserPrefs;
+
+public class PageCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_pageNumberOfPagedList_showsPageOfSameSize() {
+        model.updatePersonListWindow(new PersonListWindow(0, 3));
+        PersonListWindow expectedWindow = PersonListWindow.ofPage(3, 3);
+        expectedModel.updatePersonListWindow(expectedWindow);
+
+        assertCommandSuccess(PageCommand.ofPage(3), model, Messages.formatWindow(expectedWindow, 7), expectedModel);
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_pageNumberOfUnpagedList_showsPageOfDefaultSize() {
+        PersonListWindow expectedWindow = PersonListWindow.ofPage(1, PersonListWindow.DEFAULT_PAGE_SIZE);
+        expectedModel.updatePersonListWindow(expectedWindow);
+
+        assertCommandSuccess(PageCommand.ofPage(1), model, Messages.formatWindow(expectedWindow, 7), expectedModel);
+    }
+
+    @Test
+    public void execute_pageNumberPastEnd_throwsCommandException() {
+        model.updatePersonListWindow(new PersonListWindow(0, 3));
+        assertCommandFailure(PageCommand.ofPage(4), model, String.format(PageCommand.MESSAGE_INVALID_PAGE, 4, 3));
+    }
+
+    @Test
+    public void execute_nextAndPrevious_movesWindow() {
+        model.updatePersonListWindow(new PersonListWindow(0, 3));
+        PersonListWindow secondPage = new PersonListWindow(3, 3);
+        expectedModel.updatePersonListWindow(secondPage);
+        assertCommandSuccess(PageCommand.next(), model, Messages.formatWindow(secondPage, 7), expectedModel);
+
+        PersonListWindow firstPage = new PersonListWindow(0, 3);
+        expectedModel.updatePersonListWindow(firstPage);
+        assertCommandSuccess(PageCommand.previous(), model, Messages.formatWindow(firstPage, 7), expectedModel);
+    }
+
+    @Test
+    public void execute_pastFirstOrLastPage_throwsCommandException() {
+        model.updatePersonListWindow(new PersonListWindow(0, 3));
+        assertCommandFailure(PageCommand.previous(), model, PageCommand.MESSAGE_FIRST_PAGE);
+
+        model.updatePersonListWindow(new PersonListWindow(6, 3));
+        assertCommandFailure(PageCommand.next(), model, PageCommand.MESSAGE_LAST_PAGE);
+    }
+
+    @Test
+    public void execute_nextOnUnpagedList_throwsCommandException() {
+        assertCommandFailure(PageCommand.next(), model, PageCommand.MESSAGE_NOT_PAGED);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(PageCommand.next().equals(PageCommand.next()));
+        assertTrue(PageCommand.ofPage(2).equals(PageCommand.ofPage(2)));
+        assertFalse(PageCommand.next().equals(PageCommand.previous()));
+        assertFalse(PageCommand.ofPage(1).equals(PageCommand.ofPage(2)));
+        assertFalse(PageCommand.next().equals(null));
+        assertFalse(PageCommand.next().equals(1));
+    }
+}
@@ -7,8 +7,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,12 +20,16 @@ import javafx.collections.ObservableList;
 import tassist.address.commons.core.GuiSettings;
 import tassist.address.commons.core.index.Index;
 import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.AddressBook;
+import tassist.address.model.AddressBookDelta;
 import tassist.address.model.Model;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.ReadOnlyAddressBook;
 import tassist.address.model.ReadOnlyUserPrefs;
 import tassist.address.model.person.Person;
 import tassist.address.model.person.Repository;
 import tassist.address.model.person.StudentId;
+import tassist.address.model.query.PersonIndex;
 import tassist.address.model.timedevents.TimedEvent;
 import tassist.address.testutil.PersonBuilder;
 
@@ -244,6 +250,66 @@ public class RepoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <E extends Exception> void batch(BatchOperation<E> operation, boolean isRollbackOnFailure) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonIndex getPersonIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updatePersonListWindow(PersonListWindow window) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonListWindow getPersonListWindow() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getMatchingPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getMatchingPersonCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -259,6 +325,26 @@ public class RepoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updatePersons(List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyAddressBookDelta(AddressBookDelta delta) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLastExportTime(LocalDateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordFullExport(LocalDateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -269,6 +355,11 @@ public class RepoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Person> getFilteredPersonPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortedPersonList(Comparator<Person> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -324,6 +415,13 @@ public class RepoCommandTest {
             return internalList;
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(internalList);
+            return addressBook;
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             requireNonNull(target);
@@ -0,0 +1,168 @@
+package tassist.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tassist.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.logic.Messages;
+import tassist.address.logic.commands.exceptions.CommandException;
+import tassist.address.model.Model;
+import tassist.address.model.ModelManager;
+import tassist.address.model.UserPrefs;
+import tassist.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code RunCommand}.
+ */
+public class RunCommandTest {
+
+    @TempDir
+    public Path testRoot;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_success() throws IOException {
+        Path script = testRoot.resolve("script.txt");
+        Files.write(script, List.of("# remove the first two students", "", "delete 1", "Y", "delete 1", "y"));
+        RunCommand runCommand = new RunCommand(script);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(BENSON);
+
+        assertCommandSuccess(runCommand, model,
+                String.format(RunCommand.MESSAGE_RUN_SUCCESS, 2, script), expectedModel);
+    }
+
+    @Test
+    public void execute_cancelledConfirmation_success() {
+        RunCommand runCommand = new RunCommand(List.of("delete 1", "N", "list"));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(runCommand, model,
+                String.format(RunCommand.MESSAGE_RUN_COMMANDS_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_failingLine_rollsBack() {
+        RunCommand runCommand = new RunCommand(List.of("delete 1", "Y", "delete 99"));
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_LINE_FAILED, 3, "delete 99",
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_unknownCommand_rollsBack() {
+        RunCommand runCommand = new RunCommand(List.of("delete 1", "Y", "unknown"));
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_LINE_FAILED, 3, "unknown",
+                Messages.MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void execute_invalidConfirmation_rollsBack() {
+        RunCommand runCommand = new RunCommand(List.of("delete 1", "maybe"));
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_LINE_FAILED, 2, "maybe",
+                RunCommand.MESSAGE_INVALID_CONFIRMATION));
+    }
+
+    @Test
+    public void execute_missingConfirmation_rollsBack() {
+        RunCommand runCommand = new RunCommand(List.of("delete 1"));
+
+        assertCommandFailure(runCommand, model, RunCommand.MESSAGE_MISSING_CONFIRMATION);
+    }
+
+    @Test
+    public void execute_commandNotAllowed_rollsBack() {
+        RunCommand runCommand = new RunCommand(List.of("exit"));
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_LINE_FAILED, 1, "exit",
+                RunCommand.MESSAGE_COMMAND_NOT_ALLOWED));
+    }
+
+    @Test
+    public void execute_export_notAllowed() throws IOException {
+        Path exportFile = testRoot.resolve("students.csv");
+        String exportText = "export " + exportFile;
+        RunCommand runCommand = new RunCommand(List.of("delete 1", "Y", exportText));
+
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_LINE_FAILED, 3, exportText,
+                RunCommand.MESSAGE_COMMAND_NOT_ALLOWED));
+        // the parser may create the file to check the path, but nothing is written to it
+        assertTrue(Files.notExists(exportFile) || Files.size(exportFile) == 0);
+    }
+
+    @Test
+    public void execute_scriptEndsWithFind_foundPersonsStillShown() throws CommandException {
+        RunCommand runCommand = new RunCommand(List.of("delete 1", "Y", "find Benson"));
+        runCommand.execute(model);
+
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_failingLine_shownPersonsKept() {
+        List<Person> shownPersons = new ArrayList<>(model.getFilteredPersonList());
+        RunCommand runCommand = new RunCommand(List.of("find Benson", "delete 99"));
+
+        assertThrows(CommandException.class, () -> runCommand.execute(model));
+        assertEquals(shownPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        RunCommand runCommand = new RunCommand(testRoot.resolve("missing.txt"));
+
+        assertCommandFailure(runCommand, model, RunCommand.MESSAGE_UNABLE_TO_READ_FILE);
+    }
+
+    @Test
+    public void equals() {
+        Path script = testRoot.resolve("script.txt");
+        RunCommand runScriptCommand = new RunCommand(script);
+        RunCommand runCommandsCommand = new RunCommand(List.of("list"));
+
+        // same object -> returns true
+        assertTrue(runScriptCommand.equals(runScriptCommand));
+
+        // same values -> returns true
+        assertTrue(runScriptCommand.equals(new RunCommand(script)));
+        assertTrue(runCommandsCommand.equals(new RunCommand(List.of("list"))));
+
+        // different types -> returns false
+        assertFalse(runScriptCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runScriptCommand.equals(null));
+
+        // different source -> returns false
+        assertFalse(runScriptCommand.equals(runCommandsCommand));
+        assertFalse(runScriptCommand.equals(new RunCommand(testRoot.resolve("other.txt"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunCommand runCommand = new RunCommand(List.of("list"));
+        String expected = RunCommand.class.getCanonicalName() + "{filePath=null, commandTexts=[list]}";
+        assertEquals(expected, runCommand.toString());
+    }
+}
@@ -91,6 +91,21 @@ public class UnassignCommandTest {
         assertEquals(expectedMessage, unassignmentResult.getFeedbackToUser());
     }
 
+    @Test
+    public void executeConfirmed_filteredList_unassignsFromStudentsNotShown() throws CommandException {
+        TimedEvent eventToUnassign = model.getTimedEventList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.setPerson(benson, benson.withTimedEventAdded(eventToUnassign));
+        model.updateFilteredPersonList(person -> person.isSamePerson(alice));
+
+        UnassignCommand unassignCommand = new UnassignCommand(INDEX_FIRST_PERSON);
+        unassignCommand.execute(model);
+        unassignCommand.executeConfirmed(model);
+
+        assertFalse(model.getTimedEventList().contains(eventToUnassign));
+        assertTrue(model.getAddressBook().getPersonList().stream()
+                .noneMatch(person -> person.hasTimedEvent(eventToUnassign)));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getTimedEventList().size() + 1);
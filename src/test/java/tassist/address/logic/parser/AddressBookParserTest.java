@@ -34,7 +34,11 @@ import tassist.address.logic.commands.HelpCommand;
 import tassist.address.logic.commands.ImportCommand;
 import tassist.address.logic.commands.ListCommand;
 import tassist.address.logic.commands.OpenCommand;
+import tassist.address.logic.commands.PageCommand;
 import tassist.address.logic.commands.ProgressCommand;
+import tassist.address.logic.commands.RedoCommand;
+import tassist.address.logic.commands.RunCommand;
+import tassist.address.logic.commands.UndoCommand;
 import tassist.address.logic.parser.exceptions.ParseException;
 import tassist.address.model.person.ClassNumber;
 import tassist.address.model.person.Github;
@@ -97,6 +101,24 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_page() throws Exception {
+        assertEquals(PageCommand.next(), parser.parseCommand(PageCommand.COMMAND_WORD + " next"));
+        assertEquals(PageCommand.ofPage(2), parser.parseCommand(PageCommand.COMMAND_WORD + " 2"));
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -196,6 +218,19 @@ public class AddressBookParserTest {
                 + " " + outputCsvFilePath.toString()) instanceof ExportCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        final Path scriptFilePath = testRoot.resolve("script.txt");
+
+        // creates the file so it "exists"
+        if (!Files.exists(scriptFilePath)) {
+            Files.createFile(scriptFilePath);
+        }
+
+        assertEquals(new RunCommand(scriptFilePath),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " " + scriptFilePath));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
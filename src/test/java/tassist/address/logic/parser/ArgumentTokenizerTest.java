@@ -136,6 +136,33 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingFirstCharacter() {
+        Prefix prSlash = new Prefix("pr/");
+        String argsString = " p/ 98765432 pr/ 50 p/12345678";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, prSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "98765432", "12345678");
+        assertArgumentPresent(argMultimap, prSlash, "50");
+    }
+
+    @Test
+    public void tokenize_prefixStartingWithAnotherPrefix_longestMatched() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "preamble -tt longer -t shorter";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTt, "longer");
+        assertArgumentPresent(argMultimap, dashT, "shorter");
+    }
+
+    @Test
+    public void tokenize_samePrefixGivenTwice_valuesNotRepeated() {
+        String argsString = "preamble p/ value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, new Prefix("p/"));
+        assertArgumentPresent(argMultimap, pSlash, "value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
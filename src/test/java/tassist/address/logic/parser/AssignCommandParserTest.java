@@ -11,9 +11,13 @@ import static tassist.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import org.junit.jupiter.api.Test;
 
+import tassist.address.commons.core.index.Index;
 import tassist.address.logic.commands.AssignCommand;
+import tassist.address.logic.commands.AssignCommand.StudentSelection;
 import tassist.address.model.person.ClassNumber;
+import tassist.address.model.person.ProjectTeam;
 import tassist.address.model.person.StudentId;
+import tassist.address.model.tag.Tag;
 
 public class AssignCommandParserTest {
     private AssignCommandParser parser = new AssignCommandParser();
@@ -47,6 +51,52 @@ public class AssignCommandParserTest {
                 expectedAssignCommand);
     }
 
+    @Test
+    public void parse_multipleSelectors_returnsAssignCommand() {
+        StudentSelection expectedSelection = new StudentSelection()
+                .addIndexRange(INDEX_FIRST_PERSON, Index.fromOneBased(20))
+                .addStudentId(new StudentId(VALID_STUDENT_ID))
+                .addClassNumber(new ClassNumber(VALID_CLASS_NUMBER))
+                .addIndex(INDEX_SECOND_PERSON)
+                .addProjectTeam(new ProjectTeam("Team Alpha"))
+                .addTag(new Tag("friends"));
+        assertParseSuccess(parser,
+                "1-20," + VALID_STUDENT_ID + "," + VALID_CLASS_NUMBER + ",2 2 pt/Team Alpha t/friends",
+                new AssignCommand(INDEX_SECOND_PERSON, expectedSelection));
+    }
+
+    @Test
+    public void parse_groupSelectorsOnly_returnsAssignCommand() {
+        StudentSelection expectedSelection = new StudentSelection()
+                .addProjectTeam(new ProjectTeam("Team Alpha"))
+                .addProjectTeam(new ProjectTeam("Team Beta"));
+        assertParseSuccess(parser, "2 pt/Team Alpha pt/Team Beta",
+                new AssignCommand(INDEX_SECOND_PERSON, expectedSelection));
+    }
+
+    @Test
+    public void parse_invalidSelectors_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE);
+
+        // range ending before it starts
+        assertParseFailure(parser, "5-2 1", expectedMessage);
+
+        // range missing an end
+        assertParseFailure(parser, "5- 1", expectedMessage);
+
+        // empty selector in list
+        assertParseFailure(parser, "1,,2 1", expectedMessage);
+
+        // invalid tag
+        assertParseFailure(parser, "1 1 t/not a tag", expectedMessage);
+
+        // project team without a timed event index
+        assertParseFailure(parser, "pt/Team Alpha", expectedMessage);
+
+        // too many arguments
+        assertParseFailure(parser, "1 2 3", expectedMessage);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // invalid student index
@@ -13,6 +13,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -49,6 +50,30 @@ public class ExportCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_sinceFlag_returnsDeltaExportCommand() {
+        final Path absoluteOutputFilePath = testRoot.resolve(VALID_FILE_PATH_2);
+        String userInput = absoluteOutputFilePath + " " + ExportCommand.FLAG_SINCE;
+
+        // no time -> since last export
+        assertParseSuccess(parser, userInput, new ExportCommand(absoluteOutputFilePath, true, null));
+
+        // date only
+        assertParseSuccess(parser, userInput + " 01-10-2024",
+                new ExportCommand(absoluteOutputFilePath, true, LocalDateTime.of(2024, 10, 1, 0, 0)));
+
+        // date and time
+        assertParseSuccess(parser, userInput + " 01-10-2024 13:45",
+                new ExportCommand(absoluteOutputFilePath, true, LocalDateTime.of(2024, 10, 1, 13, 45)));
+    }
+
+    @Test
+    public void parse_invalidSince_throwsParseException() {
+        final Path absoluteOutputFilePath = testRoot.resolve(VALID_FILE_PATH_2);
+        assertParseFailure(parser, absoluteOutputFilePath + " " + ExportCommand.FLAG_SINCE + " 2024/10/01",
+                ExportCommandParser.MESSAGE_INVALID_SINCE);
+    }
+
     @Test
     public void parse_rootDirectory_throwsParseException() {
         // root directory
@@ -15,6 +15,7 @@ import tassist.address.logic.commands.FindCommand;
 import tassist.address.logic.parser.exceptions.ParseException;
 import tassist.address.model.Model;
 import tassist.address.model.ModelManager;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.person.NameContainsKeywordsPredicate;
 import tassist.address.model.person.Person;
 import tassist.address.testutil.PersonBuilder;
@@ -37,6 +38,17 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // paged
+        assertParseSuccess(parser, "Alice Bob page/2 limit/5",
+                expectedFindCommand.withWindow(PersonListWindow.ofPage(2, 5)));
+    }
+
+    @Test
+    public void parse_invalidWindow_throwsParseException() {
+        assertParseFailure(parser, "Alice limit/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " limit/5",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
     @Test
@@ -73,6 +73,34 @@ public class ImportCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_deltaFlag_returnsDeltaImportCommand() throws IOException {
+        final Path absoluteFilePath = testRoot.resolve(VALID_FILE_PATH_2);
+        if (!Files.exists(absoluteFilePath)) {
+            Files.createFile(absoluteFilePath);
+        }
+
+        String userInput = absoluteFilePath + " " + ImportCommand.FLAG_DELTA;
+        assertParseSuccess(parser, userInput, new ImportCommand(absoluteFilePath, true));
+    }
+
+    @Test
+    public void parse_dryRunFlags_returnsDryRunImportCommand() throws IOException {
+        final Path absoluteFilePath = testRoot.resolve(VALID_FILE_PATH_2);
+        if (!Files.exists(absoluteFilePath)) {
+            Files.createFile(absoluteFilePath);
+        }
+
+        String userInput = absoluteFilePath + " " + ImportCommand.FLAG_DRY_RUN;
+        assertParseSuccess(parser, userInput, new ImportCommand(absoluteFilePath, false, true));
+
+        // flags in either order
+        userInput = absoluteFilePath + " " + ImportCommand.FLAG_DELTA + " " + ImportCommand.FLAG_DRY_RUN;
+        assertParseSuccess(parser, userInput, new ImportCommand(absoluteFilePath, true, true));
+        userInput = absoluteFilePath + "  " + ImportCommand.FLAG_DRY_RUN + " " + ImportCommand.FLAG_DELTA;
+        assertParseSuccess(parser, userInput, new ImportCommand(absoluteFilePath, true, true));
+    }
+
     @Test
     public void parse_invalidAbsolutePath_throwsParseException() throws IOException {
         // mimics absolute path
@@ -7,10 +7,18 @@ import static tassist.address.logic.commands.ListCommand.MESSAGE_MISSING_SORT_OR
 import static tassist.address.logic.parser.ListCommandParser.MESSAGE_MISSING_FILTER_TYPE;
 import static tassist.address.logic.parser.ListCommandParser.MESSAGE_MISSING_SORT_TYPE;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import tassist.address.logic.commands.ListCommand;
 import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.PersonListWindow;
+import tassist.address.model.query.PersonQuery;
+import tassist.address.model.query.QueryExpression.Comparison;
+import tassist.address.model.query.QueryExpression.Operator;
+import tassist.address.model.query.QueryField;
+import tassist.address.model.query.SortKey;
 
 public class ListCommandParserTest {
     private final ListCommandParser parser = new ListCommandParser();
@@ -36,6 +44,22 @@ public class ListCommandParserTest {
         // Sort by GitHub ascending, filter by team Alpha
         ListCommand expectedCommand5 = new ListCommand("github", "asc", "team", "Alpha");
         assertEquals(expectedCommand5, parser.parse(" s/github o/asc f/team fv/Alpha"));
+
+        // Sort by progress ascending, first 20 students
+        ListCommand expectedCommand6 = new ListCommand("progress", "asc", null, null, new PersonListWindow(0, 20));
+        assertEquals(expectedCommand6, parser.parse(" s/progress o/asc limit/20"));
+
+        // Second page of 10 students
+        ListCommand expectedCommand7 = new ListCommand(null, null, null, null, PersonListWindow.ofPage(2, 10));
+        assertEquals(expectedCommand7, parser.parse(" page/2 limit/10"));
+        assertEquals(expectedCommand7, parser.parse(" offset/10 limit/10"));
+    }
+
+    @Test
+    public void parse_invalidWindow_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" limit/0"));
+        assertThrows(ParseException.class, () -> parser.parse(" page/2 offset/5"));
+        assertThrows(ParseException.class, () -> parser.parse(" limit/5 limit/6"));
     }
 
     @Test
@@ -102,4 +126,22 @@ public class ListCommandParserTest {
         assertEquals(MESSAGE_MISSING_FILTER_TYPE, thrown2.getMessage());
     }
 
+    @Test
+    public void parse_query_returnsQueryListCommand() throws Exception {
+        PersonQuery query = new PersonQuery(new Comparison(QueryField.CLASS, Operator.EQUAL, "T01"),
+                List.of(new SortKey(QueryField.NAME, false)));
+        assertEquals(new ListCommand(query, false), parser.parse(" where class=T01 sort name desc"));
+        assertEquals(new ListCommand(query, true), parser.parse(" EXPLAIN where class=T01 sort name desc"));
+        assertEquals(new ListCommand(new PersonQuery(null, List.of()), true), parser.parse(" explain"));
+        assertEquals(new ListCommand(new PersonQuery(null, List.of(new SortKey(QueryField.PROGRESS, true))), false),
+                parser.parse(" sort progress"));
+        assertEquals(new ListCommand(new PersonQuery(null, List.of(), new PersonListWindow(0, 5)), false),
+                parser.parse(" limit 5"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" where class"));
+        assertThrows(ParseException.class, () -> parser.parse(" explain s/name o/asc"));
+    }
 }
@@ -0,0 +1,29 @@
+package tassist.address.logic.parser;
+
+import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tassist.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tassist.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.logic.commands.PageCommand;
+
+public class PageCommandParserTest {
+
+    private final PageCommandParser parser = new PageCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPageCommand() {
+        assertParseSuccess(parser, " next", PageCommand.next());
+        assertParseSuccess(parser, " PREV ", PageCommand.previous());
+        assertParseSuccess(parser, " 3", PageCommand.ofPage(3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, PageCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " last", expectedMessage);
+    }
+}
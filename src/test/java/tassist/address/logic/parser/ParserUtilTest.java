@@ -11,12 +11,14 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.PersonListWindow;
 import tassist.address.model.person.ClassNumber;
 import tassist.address.model.person.Email;
 import tassist.address.model.person.Name;
@@ -77,6 +79,39 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parsePersonListWindow_validValues_success() throws Exception {
+        Optional<String> none = Optional.empty();
+        assertEquals(PersonListWindow.ALL, ParserUtil.parsePersonListWindow(none, none, none));
+        assertEquals(new PersonListWindow(0, 20), ParserUtil.parsePersonListWindow(Optional.of(" 20 "), none, none));
+        assertEquals(new PersonListWindow(5, 10),
+                ParserUtil.parsePersonListWindow(Optional.of("10"), Optional.of("5"), none));
+        assertEquals(new PersonListWindow(5, Integer.MAX_VALUE),
+                ParserUtil.parsePersonListWindow(none, Optional.of("5"), none));
+        assertEquals(PersonListWindow.ALL, ParserUtil.parsePersonListWindow(none, Optional.of("0"), none));
+
+        // a page holds the limit, or the default page size without a limit
+        assertEquals(new PersonListWindow(20, 10),
+                ParserUtil.parsePersonListWindow(Optional.of("10"), none, Optional.of("3")));
+        assertEquals(PersonListWindow.ofPage(2, PersonListWindow.DEFAULT_PAGE_SIZE),
+                ParserUtil.parsePersonListWindow(none, none, Optional.of("2")));
+    }
+
+    @Test
+    public void parsePersonListWindow_invalidValues_throwsParseException() {
+        Optional<String> none = Optional.empty();
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_LIMIT, () ->
+                ParserUtil.parsePersonListWindow(Optional.of("0"), none, none));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_LIMIT, () ->
+                ParserUtil.parsePersonListWindow(Optional.of("ten"), none, none));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_OFFSET, () ->
+                ParserUtil.parsePersonListWindow(none, Optional.of("-1"), none));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_PAGE, () ->
+                ParserUtil.parsePersonListWindow(none, none, Optional.of("0")));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_PAGE_WITH_OFFSET, () ->
+                ParserUtil.parsePersonListWindow(none, Optional.of("5"), Optional.of("2")));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,128 @@
+package tassist.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_DUPLICATE_WINDOW_KEYWORD;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_EXPECTED_FIELD;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_EXPECTED_OPERATOR;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_EXPECTED_VALUE;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_INVALID_OPERATOR;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_INVALID_PROGRESS;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_INVALID_QUERY;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_UNCLOSED_PARENTHESIS;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_UNCLOSED_QUOTE;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_UNEXPECTED_TOKEN;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_UNKNOWN_FIELD;
+import static tassist.address.logic.parser.QueryParser.MESSAGE_UNSORTABLE_FIELD;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.PersonListWindow;
+import tassist.address.model.query.PersonQuery;
+import tassist.address.model.query.QueryExpression.And;
+import tassist.address.model.query.QueryExpression.Comparison;
+import tassist.address.model.query.QueryExpression.Operator;
+import tassist.address.model.query.QueryExpression.Or;
+import tassist.address.model.query.QueryField;
+import tassist.address.model.query.SortKey;
+
+public class QueryParserTest {
+
+    private static final Comparison CLASS_T01 = new Comparison(QueryField.CLASS, Operator.EQUAL, "T01");
+    private static final Comparison PROGRESS_BELOW_50 = new Comparison(QueryField.PROGRESS, Operator.LESS, "50");
+    private static final Comparison TAG_WEAK = new Comparison(QueryField.TAG, Operator.EQUAL, "weak");
+
+    private final QueryParser parser = new QueryParser();
+
+    @Test
+    public void parse_whereAndSort_success() throws Exception {
+        PersonQuery expected = new PersonQuery(new And(List.of(CLASS_T01, PROGRESS_BELOW_50, TAG_WEAK)),
+                List.of(new SortKey(QueryField.NAME, true), new SortKey(QueryField.PROGRESS, false)));
+        assertEquals(expected,
+                parser.parse("where class=T01 and progress<50 and tag=weak sort name asc, progress desc"));
+
+        // whitespace and keyword case do not matter
+        assertEquals(expected, parser.parse(
+                "  WHERE class = T01 AND progress < 50 And tag = weak   SORT name, progress DESC "));
+    }
+
+    @Test
+    public void parse_orAndParentheses_precedenceKept() throws Exception {
+        Comparison classT02 = new Comparison(QueryField.CLASS, Operator.EQUAL, "T02");
+        assertEquals(new PersonQuery(new Or(List.of(new And(List.of(CLASS_T01, PROGRESS_BELOW_50)), classT02)),
+                List.of()), parser.parse("where class=T01 and progress<50 or class=T02"));
+        assertEquals(new PersonQuery(new And(List.of(CLASS_T01, new Or(List.of(PROGRESS_BELOW_50, classT02)))),
+                List.of()), parser.parse("where class=T01 and (progress<50 or class=T02)"));
+    }
+
+    @Test
+    public void parse_operatorsAndQuotedValues_success() throws Exception {
+        assertEquals(new PersonQuery(new Comparison(QueryField.TEAM, Operator.EQUAL, "Bim Bim Bap"), List.of()),
+                parser.parse("where team = \"Bim Bim Bap\""));
+        assertEquals(new PersonQuery(new Comparison(QueryField.NAME, Operator.CONTAINS, "and"), List.of()),
+                parser.parse("where name ~ \"and\""));
+        assertEquals(new PersonQuery(new Comparison(QueryField.PROGRESS, Operator.GREATER_OR_EQUAL, "5"), List.of()),
+                parser.parse("where progress>=5"));
+        assertEquals(new PersonQuery(new Comparison(QueryField.TAG, Operator.NOT_EQUAL, "weak"), List.of()),
+                parser.parse("where tag!=weak"));
+    }
+
+    @Test
+    public void parse_sortOnly_success() throws Exception {
+        assertEquals(new PersonQuery(null, List.of(new SortKey(QueryField.CLASS, true))), parser.parse("sort class"));
+    }
+
+    @Test
+    public void parse_emptyQuery_selectsEverything() throws Exception {
+        assertEquals(new PersonQuery(null, List.of()), parser.parse(""));
+    }
+
+    @Test
+    public void parse_window_success() throws Exception {
+        List<SortKey> progressAscending = List.of(new SortKey(QueryField.PROGRESS, true));
+        assertEquals(new PersonQuery(null, progressAscending, new PersonListWindow(0, 20)),
+                parser.parse("sort progress limit 20"));
+        assertEquals(new PersonQuery(CLASS_T01, List.of(), new PersonListWindow(10, 5)),
+                parser.parse("where class=T01 offset 10 LIMIT 5"));
+        assertEquals(new PersonQuery(null, progressAscending, PersonListWindow.ofPage(3, 10)),
+                parser.parse("sort progress page 3 limit 10"));
+        assertEquals(new PersonQuery(null, List.of(), PersonListWindow.ofPage(2, PersonListWindow.DEFAULT_PAGE_SIZE)),
+                parser.parse("page 2"));
+
+        // the string representation of a query can be parsed back into it
+        PersonQuery query = parser.parse("sort progress page 3 limit 10");
+        assertEquals("sort progress asc limit 10 offset 20", query.toString());
+        assertEquals(query, parser.parse(query.toString()));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure("limit 0", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure("sort name page x", ParserUtil.MESSAGE_INVALID_PAGE);
+        assertParseFailure("page 2 offset 5", ParserUtil.MESSAGE_PAGE_WITH_OFFSET);
+        assertParseFailure("limit 5 limit 6", String.format(MESSAGE_DUPLICATE_WINDOW_KEYWORD, "limit"));
+        assertParseFailure("limit", String.format(MESSAGE_EXPECTED_VALUE, "limit"));
+        assertParseFailure("limit 5 where class=T01", String.format(MESSAGE_UNEXPECTED_TOKEN, "'where'"));
+        assertParseFailure("where grade=A", String.format(MESSAGE_UNKNOWN_FIELD, "grade"));
+        assertParseFailure("where =T01", String.format(MESSAGE_EXPECTED_FIELD, "'='"));
+        assertParseFailure("where class T01", String.format(MESSAGE_EXPECTED_OPERATOR, "class", "'T01'"));
+        assertParseFailure("where class", String.format(MESSAGE_EXPECTED_OPERATOR, "class", "the end of the query"));
+        assertParseFailure("where class<T01", String.format(MESSAGE_INVALID_OPERATOR, "class", "<"));
+        assertParseFailure("where progress~5", String.format(MESSAGE_INVALID_OPERATOR, "progress", "~"));
+        assertParseFailure("where class=", String.format(MESSAGE_EXPECTED_VALUE, "class ="));
+        assertParseFailure("where progress<abc", MESSAGE_INVALID_PROGRESS);
+        assertParseFailure("where progress<150", MESSAGE_INVALID_PROGRESS);
+        assertParseFailure("where (class=T01", MESSAGE_UNCLOSED_PARENTHESIS);
+        assertParseFailure("where team=\"Bim", MESSAGE_UNCLOSED_QUOTE);
+        assertParseFailure("where class=T01 progress<50", String.format(MESSAGE_UNEXPECTED_TOKEN, "'progress'"));
+        assertParseFailure("sort tag", String.format(MESSAGE_UNSORTABLE_FIELD, "tag"));
+        assertParseFailure("sort name,", String.format(MESSAGE_EXPECTED_FIELD, "the end of the query"));
+    }
+
+    private void assertParseFailure(String query, String detail) {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_QUERY, detail), () -> parser.parse(query));
+    }
+}
@@ -0,0 +1,49 @@
+package tassist.address.logic.parser;
+
+import static tassist.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tassist.address.logic.Messages.MESSAGE_INVALID_FILE_PATH;
+import static tassist.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tassist.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path testRoot;
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_relativePath_throwsParseException() {
+        assertParseFailure(parser, "script.txt", MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, testRoot.resolve("missing.txt").toString(), MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_directory_throwsParseException() {
+        assertParseFailure(parser, testRoot.toString(), MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_existingFile_success() throws IOException {
+        Path script = Files.createFile(testRoot.resolve("script.txt"));
+        assertParseSuccess(parser, "  " + script + "  ", new RunCommand(script));
+    }
+}
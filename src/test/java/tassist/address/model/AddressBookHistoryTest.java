@@ -0,0 +1,109 @@
+package tassist.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.model.person.Person;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final AddressBookHistory history = new AddressBookHistory(addressBook.takeSnapshot(), 10, 1 << 20);
+
+    @Test
+    public void constructor_negativeLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AddressBookHistory(addressBook.takeSnapshot(), -1, 0));
+    }
+
+    @Test
+    public void commit_unchangedAddressBook_notRecorded() {
+        assertFalse(history.commit(addressBook.takeSnapshot()));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_changesCommitted_movesBetweenSnapshots() {
+        AddressBookSnapshot initial = history.getCurrentSnapshot();
+        addressBook.addPerson(ALICE);
+        assertTrue(history.commit(addressBook.takeSnapshot()));
+        AddressBookSnapshot withAlice = history.getCurrentSnapshot();
+
+        assertTrue(history.canUndo());
+        assertSame(initial, history.undo());
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+        assertSame(withAlice, history.redo());
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        addressBook.addPerson(ALICE);
+        history.commit(addressBook.takeSnapshot());
+        addressBook.restoreSnapshot(history.undo());
+
+        addressBook.addPerson(BENSON);
+        history.commit(addressBook.takeSnapshot());
+
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_overDepth_dropsOldestSnapshots() {
+        AddressBookHistory shallowHistory = new AddressBookHistory(addressBook.takeSnapshot(), 2, 1 << 20);
+        addressBook.addPerson(ALICE);
+        shallowHistory.commit(addressBook.takeSnapshot());
+        addressBook.addPerson(BENSON);
+        shallowHistory.commit(addressBook.takeSnapshot());
+        addressBook.addPerson(CARL);
+        shallowHistory.commit(addressBook.takeSnapshot());
+
+        shallowHistory.undo();
+        shallowHistory.undo();
+        assertFalse(shallowHistory.canUndo());
+    }
+
+    @Test
+    public void commit_overMemoryBudget_dropsOldestSnapshots() {
+        long memoryBudget = AddressBookHistory.ESTIMATED_BYTES_PER_NODE * 10;
+        AddressBookHistory smallHistory = new AddressBookHistory(addressBook.takeSnapshot(), 10, memoryBudget);
+        List<Person> persons = getTypicalPersons();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+            smallHistory.commit(addressBook.takeSnapshot());
+        }
+
+        assertTrue(smallHistory.getEstimatedMemory() <= memoryBudget);
+        int undoCount = 0;
+        while (smallHistory.canUndo()) {
+            smallHistory.undo();
+            undoCount++;
+        }
+        assertTrue(undoCount > 0 && undoCount < persons.size());
+    }
+
+    @Test
+    public void setLimits_smallerDepth_dropsOldestSnapshots() {
+        addressBook.addPerson(ALICE);
+        history.commit(addressBook.takeSnapshot());
+        addressBook.addPerson(BENSON);
+        history.commit(addressBook.takeSnapshot());
+
+        history.setLimits(0, 0);
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getEstimatedMemory());
+    }
+}
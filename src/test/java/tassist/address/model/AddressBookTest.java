@@ -2,23 +2,33 @@ package tassist.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.BOB;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.GEORGE;
 import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
 import tassist.address.model.person.exceptions.DuplicatePersonException;
 import tassist.address.model.timedevents.Assignment;
 import tassist.address.model.timedevents.TimedEvent;
@@ -150,6 +160,184 @@ public class AddressBookTest {
         assertFalse(addressBook.hasTimedEvent(timedEvent));
     }
 
+    @Test
+    public void addPerson_recordsModifiedTime() {
+        LocalDateTime before = LocalDateTime.now();
+        addressBook.addPerson(ALICE);
+        assertFalse(addressBook.getPersonModifiedTimes().get(ALICE.getStudentId()).isBefore(before));
+        assertFalse(addressBook.getPersonDeletedTimes().containsKey(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void removePerson_recordsDeletedTime() {
+        addressBook.addPerson(ALICE);
+        addressBook.removePerson(ALICE);
+        assertFalse(addressBook.getPersonModifiedTimes().containsKey(ALICE.getStudentId()));
+        assertTrue(addressBook.getPersonDeletedTimes().containsKey(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void setPerson_differentStudentId_recordsDeletionOfOldStudentId() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withStudentId("A0000000Z").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonDeletedTimes().containsKey(ALICE.getStudentId()));
+        assertTrue(addressBook.getPersonModifiedTimes().containsKey(editedAlice.getStudentId()));
+    }
+
+    @Test
+    public void recordFullExport_dropsEarlierDeletions() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(ALICE);
+        LocalDateTime exportTime = LocalDateTime.now().plusSeconds(1);
+
+        addressBook.recordFullExport(exportTime);
+        assertFalse(addressBook.getPersonDeletedTimes().containsKey(ALICE.getStudentId()));
+        assertEquals(Optional.of(exportTime), addressBook.getLastExportTime());
+
+        // A deletion after the export time is kept
+        LocalDateTime earlierExportTime = LocalDateTime.now().minusSeconds(1);
+        addressBook.removePerson(BENSON);
+        addressBook.recordFullExport(earlierExportTime);
+        assertTrue(addressBook.getPersonDeletedTimes().containsKey(BENSON.getStudentId()));
+    }
+
+    @Test
+    public void resetData_withChangeTimes_restoresChangeTimes() {
+        AddressBook source = getTypicalAddressBook();
+        LocalDateTime exportTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        source.setLastExportTime(exportTime);
+        AddressBook copy = new AddressBook(source);
+        assertEquals(source.getPersonModifiedTimes(), copy.getPersonModifiedTimes());
+        assertEquals(Optional.of(exportTime), copy.getLastExportTime());
+    }
+
+    @Test
+    public void applyDelta_changedAndDeletedPersons_appliesChanges() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person newPerson = new PersonBuilder().withStudentId("A0000000Z").build();
+        AddressBookDelta delta = new AddressBookDelta(null, Arrays.asList(editedAlice, newPerson),
+                List.of(BENSON.getStudentId()), Collections.emptyList());
+
+        typicalAddressBook.applyDelta(delta);
+
+        assertTrue(typicalAddressBook.hasPerson(newPerson));
+        assertFalse(typicalAddressBook.hasPerson(BENSON));
+        assertEquals(editedAlice, typicalAddressBook.getPersonList().get(0));
+        assertTrue(typicalAddressBook.getPersonDeletedTimes().containsKey(BENSON.getStudentId()));
+    }
+
+    @Test
+    public void applyDelta_duplicateChangedPersons_throwsDuplicatePersonException() {
+        AddressBookDelta delta = new AddressBookDelta(null, Arrays.asList(ALICE, ALICE),
+                Collections.emptyList(), Collections.emptyList());
+        assertThrows(DuplicatePersonException.class, () -> addressBook.applyDelta(delta));
+    }
+
+    @Test
+    public void takeSnapshot_nothingChanged_sameVersion() {
+        AddressBookSnapshot snapshot = addressBook.takeSnapshot();
+        assertTrue(snapshot.isSameVersionAs(addressBook.takeSnapshot()));
+
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot changedSnapshot = addressBook.takeSnapshot();
+        assertFalse(snapshot.isSameVersionAs(changedSnapshot));
+        assertEquals(List.of(ALICE), changedSnapshot.getPersons().toList());
+    }
+
+    @Test
+    public void takeSnapshot_oneChangeInLargeAddressBook_sharesUnchangedPersons() {
+        for (int i = 0; i < 1000; i++) {
+            addressBook.addPerson(new PersonBuilder().withStudentId(String.format("A%07dB", i)).build());
+        }
+        addressBook.takeSnapshot();
+
+        Person target = addressBook.getPersonList().get(500);
+        addressBook.setPerson(target, new PersonBuilder(target).withProgress("50").build());
+
+        assertTrue(addressBook.takeSnapshot().getNewNodeCount() <= 15);
+    }
+
+    @Test
+    public void takeSnapshot_mixedChanges_matchesPersonList() {
+        addressBook.setPersons(getTypicalPersons());
+        addressBook.removePerson(CARL);
+        addressBook.addPerson(BOB);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withProgress("50").build());
+        addressBook.updatePersons(List.of(new PersonBuilder(BENSON).withProgress("60").build(),
+                new PersonBuilder(GEORGE).withProgress("70").build()));
+        TimedEvent lab = new Assignment("Lab", "Description", LocalDateTime.of(2030, 1, 1, 0, 0));
+        addressBook.addTimedEvent(lab);
+        addressBook.addTimedEvent(new Assignment("Quiz", "Description", LocalDateTime.of(2030, 1, 2, 0, 0)));
+        addressBook.removeTimedEvent(lab);
+
+        AddressBookSnapshot snapshot = addressBook.takeSnapshot();
+        assertIdenticalElements(addressBook.getPersonList(), snapshot.getPersons().toList());
+        assertIdenticalElements(addressBook.getTimedEventList(), snapshot.getTimedEvents().toList());
+    }
+
+    private static void assertIdenticalElements(List<?> expected, List<?> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void restoreSnapshot_changedAddressBook_restoresDataAndRecordsChanges() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.takeSnapshot();
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addPerson(BENSON);
+        LocalDateTime beforeRestore = LocalDateTime.now();
+
+        addressBook.restoreSnapshot(snapshot);
+
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+        assertTrue(addressBook.getPersonList().get(0).hasSameDetails(ALICE));
+        assertFalse(addressBook.getPersonModifiedTimes().get(ALICE.getStudentId()).isBefore(beforeRestore));
+        assertTrue(addressBook.getPersonDeletedTimes().containsKey(BENSON.getStudentId()));
+        assertTrue(snapshot.isSameVersionAs(addressBook.takeSnapshot()));
+    }
+
+    @Test
+    public void toImmutableAddressBook_laterChanges_notInCopy() {
+        addressBook.addPerson(ALICE);
+        ImmutableAddressBook copy = addressBook.toImmutableAddressBook();
+
+        addressBook.addPerson(BENSON);
+        addressBook.setLastExportTime(LocalDateTime.now());
+
+        assertEquals(List.of(ALICE), copy.getPersonList());
+        assertEquals(Map.of(ALICE.getStudentId(), addressBook.getPersonModifiedTimes().get(ALICE.getStudentId())),
+                copy.getPersonModifiedTimes());
+        assertEquals(Optional.empty(), copy.getLastExportTime());
+        assertEquals(List.of(ALICE, BENSON), addressBook.toImmutableAddressBook().getPersonList());
+    }
+
+    @Test
+    public void toImmutableAddressBook_changeTimesUnchanged_sharesChangeTimes() {
+        addressBook.addPerson(ALICE);
+        ImmutableAddressBook copy = addressBook.toImmutableAddressBook();
+        assertSame(copy.getPersonModifiedTimes(), addressBook.toImmutableAddressBook().getPersonModifiedTimes());
+
+        addressBook.removePerson(ALICE);
+        assertNotSame(copy.getPersonDeletedTimes(), addressBook.toImmutableAddressBook().getPersonDeletedTimes());
+    }
+
+    @Test
+    public void toImmutableAddressBook_doesNotAffectSnapshots() {
+        AddressBook largeAddressBook = getTypicalAddressBook();
+        largeAddressBook.takeSnapshot();
+        largeAddressBook.addPerson(new PersonBuilder().withStudentId("A9999999Z").build());
+
+        largeAddressBook.toImmutableAddressBook();
+        assertTrue(largeAddressBook.takeSnapshot().getNewNodeCount() > 0);
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -170,6 +358,21 @@ public class AddressBookTest {
         public ObservableList<TimedEvent> getTimedEventList() {
             return timedEvents;
         }
+
+        @Override
+        public Map<StudentId, LocalDateTime> getPersonModifiedTimes() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Map<StudentId, LocalDateTime> getPersonDeletedTimes() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Optional<LocalDateTime> getLastExportTime() {
+            return Optional.empty();
+        }
     }
 
 }
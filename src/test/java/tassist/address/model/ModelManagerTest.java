@@ -7,16 +7,30 @@ import static tassist.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.ALICE;
 import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.HOON;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import tassist.address.commons.core.GuiSettings;
 import tassist.address.model.person.NameContainsKeywordsPredicate;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.StudentId;
 import tassist.address.testutil.AddressBookBuilder;
+import tassist.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +107,210 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void batch_manyChanges_notifiesFilteredListOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        ListChangeListener<Person> listener = changes::add;
+        modelManager.getFilteredPersonList().addListener(listener);
+
+        Person editedAlice = new PersonBuilder(ALICE).withProgress("50").build();
+        Person editedBenson = new PersonBuilder(BENSON).withProgress("50").build();
+        modelManager.batch(model -> {
+            model.setPerson(ALICE, editedAlice);
+            model.setPerson(BENSON, editedBenson);
+            model.addPerson(CARL);
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getFilteredPersonList().get(0).hasSameDetails(editedAlice));
+    }
+
+    @Test
+    public void batch_editsOfSomePersons_oneChangeOfEditedPositions() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> persons = getTypicalPersons();
+        List<String> changes = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            List<Integer> replacedPositions = new ArrayList<>();
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    replacedPositions.add(i);
+                }
+            }
+            changes.add(replacedPositions.toString());
+        });
+
+        modelManager.batch(model -> {
+            for (int position : List.of(5, 1, 3)) {
+                Person person = persons.get(position);
+                model.setPerson(person, new PersonBuilder(person).withProgress("99").build());
+            }
+        });
+
+        assertEquals(List.of("[1, 3, 5]"), changes);
+        assertEquals(99, modelManager.getFilteredPersonList().get(3).getProgress().value);
+    }
+
+    @Test
+    public void batch_readFilteredListDuringBatch_seesChangesMadeSoFar() {
+        modelManager.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withProgress("50").build();
+
+        modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.setPerson(ALICE, editedAlice);
+            model.deletePerson(BENSON);
+            model.addPerson(CARL);
+            assertEquals(List.of(editedAlice, CARL), model.getFilteredPersonList());
+            assertEquals(2, model.getMatchingPersonCount());
+            model.deletePerson(editedAlice);
+        });
+
+        assertEquals(List.of(CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_operationThrows_undoesChangesInPlace() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> persons = getTypicalPersons();
+        Map<StudentId, ?> modifiedTimes = Map.copyOf(modelManager.getAddressBook().getPersonModifiedTimes());
+        modelManager.updateSortedPersonList(Comparator.comparing(person -> person.getName().value));
+        modelManager.updatePersonListWindow(new PersonListWindow(0, 3));
+        List<Person> shownPersons = List.copyOf(modelManager.getFilteredPersonList());
+
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(model -> {
+            model.setPerson(persons.get(2), new PersonBuilder(persons.get(2)).withProgress("99").build());
+            model.deletePerson(persons.get(0));
+            model.addPerson(HOON);
+            model.updatePersonListWindow(PersonListWindow.ALL);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(persons, modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.getAddressBook().getPersonList().get(2).hasSameDetails(persons.get(2)));
+        assertEquals(modifiedTimes, modelManager.getAddressBook().getPersonModifiedTimes());
+        assertEquals(Map.of(), modelManager.getAddressBook().getPersonDeletedTimes());
+        assertEquals(new PersonListWindow(0, 3), modelManager.getPersonListWindow());
+        assertEquals(shownPersons, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_operationThrows_rollsBackChanges() {
+        modelManager.addPerson(ALICE);
+        ModelManager expectedModel = new ModelManager(modelManager.getAddressBook(), new UserPrefs());
+
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(expectedModel, modelManager);
+    }
+
+    @Test
+    public void batch_operationThrowsWithoutRollback_keepsChangesBeforeFailure() {
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            throw new IllegalStateException();
+        }, false));
+
+        assertTrue(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void batch_filterChangedInBatch_keepsFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        String[] keywords = ALICE.getName().value.split("\\s+");
+
+        modelManager.batch(model -> model.updateFilteredPersonList(
+                new NameContainsKeywordsPredicate(Arrays.asList(keywords))));
+
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updatePersonListWindow_sortedList_showsTopPersonsAndCountsAllMatches() {
+        Person lowest = new PersonBuilder(ALICE).withProgress("10").build();
+        Person middle = new PersonBuilder(BENSON).withProgress("20").build();
+        Person highest = new PersonBuilder(CARL).withProgress("30").build();
+        modelManager.addPerson(highest);
+        modelManager.addPerson(lowest);
+        modelManager.addPerson(middle);
+        modelManager.updateSortedPersonList(Comparator.comparingInt(person -> person.getProgress().value));
+
+        modelManager.updatePersonListWindow(new PersonListWindow(0, 2));
+        assertEquals(List.of(lowest, middle), modelManager.getFilteredPersonList());
+        assertEquals(3, modelManager.getMatchingPersonCount());
+
+        modelManager.updatePersonListWindow(new PersonListWindow(2, 2));
+        assertEquals(List.of(highest), modelManager.getFilteredPersonList());
+
+        // a change to the address book is reflected in the students picked
+        Person newLowest = new PersonBuilder(CARL).withProgress("0").build();
+        modelManager.updatePersonListWindow(new PersonListWindow(0, 2));
+        modelManager.setPerson(highest, newLowest);
+        assertEquals(List.of(newLowest, lowest), modelManager.getFilteredPersonList());
+
+        modelManager.updatePersonListWindow(PersonListWindow.ALL);
+        assertEquals(List.of(newLowest, lowest, middle), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getMatchingPersons_sortedListWithWindow_includesStudentsOnOtherPages() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateSortedPersonList(Comparator.comparing(person -> person.getName().value));
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+
+        modelManager.updatePersonListWindow(new PersonListWindow(0, 1));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(List.of(ALICE, CARL), modelManager.getMatchingPersons());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_publishedOnCommit() {
+        assertEquals(List.of(), modelManager.getAddressBookSnapshot().getPersonList());
+
+        // uncommitted change -> not published
+        modelManager.addPerson(ALICE);
+        assertEquals(List.of(), modelManager.getAddressBookSnapshot().getPersonList());
+
+        modelManager.commitAddressBook();
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+
+        // later changes leave the published snapshot unchanged
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBookSnapshot().getPersonList());
+
+        // undo publishes the restored state once committed
+        modelManager.undoAddressBook();
+        modelManager.commitAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_readFromOtherThread_seesCommittedState() throws Exception {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(List.of(ALICE), reader.submit(() ->
+                    new ArrayList<>(modelManager.getAddressBookSnapshot().getPersonList())).get());
+        } finally {
+            reader.shutdown();
+        }
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
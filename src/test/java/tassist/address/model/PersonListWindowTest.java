@@ -0,0 +1,74 @@
+package tassist.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonListWindowTest {
+
+    @Test
+    public void constructor_invalidWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonListWindow(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new PersonListWindow(0, 0));
+    }
+
+    @Test
+    public void ofPage() {
+        assertEquals(new PersonListWindow(0, 20), PersonListWindow.ofPage(1, 20));
+        assertEquals(new PersonListWindow(40, 20), PersonListWindow.ofPage(3, 20));
+        assertThrows(IllegalArgumentException.class, () -> PersonListWindow.ofPage(0, 20));
+        assertThrows(IllegalArgumentException.class, () -> PersonListWindow.ofPage(1, 0));
+
+        // the offset of a page far beyond the end is capped instead of overflowing
+        assertEquals(Integer.MAX_VALUE, PersonListWindow.ofPage(Integer.MAX_VALUE, 20).getOffset());
+    }
+
+    @Test
+    public void isLimited() {
+        assertFalse(PersonListWindow.ALL.isLimited());
+        assertFalse(new PersonListWindow(5, Integer.MAX_VALUE).isLimited());
+        assertTrue(new PersonListWindow(0, 10).isLimited());
+    }
+
+    @Test
+    public void pages() {
+        PersonListWindow window = PersonListWindow.ofPage(2, 10);
+        assertEquals(2, window.getPageNumber());
+        assertEquals(1, window.getPageCount(0));
+        assertEquals(3, window.getPageCount(25));
+        assertEquals(10, window.getShownCount(25));
+        assertEquals(5, window.getShownCount(15));
+        assertEquals(0, window.getShownCount(5));
+    }
+
+    @Test
+    public void nextAndPrevious() {
+        PersonListWindow window = new PersonListWindow(15, 10);
+        assertEquals(new PersonListWindow(25, 10), window.next());
+        assertEquals(new PersonListWindow(5, 10), window.previous());
+
+        // the window before one near the start starts at the first person
+        assertEquals(new PersonListWindow(0, 10), new PersonListWindow(5, 10).previous());
+    }
+
+    @Test
+    public void equals() {
+        PersonListWindow window = new PersonListWindow(10, 5);
+
+        assertTrue(window.equals(new PersonListWindow(10, 5)));
+        assertTrue(window.equals(window));
+        assertFalse(window.equals(null));
+        assertFalse(window.equals(5));
+        assertFalse(window.equals(new PersonListWindow(5, 5)));
+        assertFalse(window.equals(new PersonListWindow(10, 10)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = PersonListWindow.class.getCanonicalName() + "{offset=10, limit=5}";
+        assertEquals(expected, new PersonListWindow(10, 5).toString());
+    }
+}
@@ -1,9 +1,12 @@
 package tassist.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class GithubTest {
@@ -38,6 +41,12 @@ public class GithubTest {
         assertTrue(Github.isValidGithub("https://github.com/jOhn12")); // without dash
         assertTrue((Github.isValidGithub("No Github assigned")));
     }
+    @Test
+    public void getUsername() {
+        assertEquals(Optional.of("John-Doe"), new Github("https://github.com/John-Doe").getUsername());
+        assertEquals(Optional.empty(), new Github(Github.NO_GITHUB).getUsername());
+    }
+
     @Test
     public void equals() {
         Github github = new Github("https://github.com/url");
@@ -0,0 +1,53 @@
+package tassist.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex(getTypicalPersons());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonSearchIndex(null));
+    }
+
+    @Test
+    public void find_namePrefix_returnsStudentsWithMatchingNameWord() {
+        assertEquals(Set.of(BENSON.getStudentId(), DANIEL.getStudentId()), find("MEI"));
+        assertEquals(Set.of(ALICE.getStudentId()), find("alice", "paul"));
+    }
+
+    @Test
+    public void find_studentIdOrClassPrefix_returnsMatchingStudents() {
+        assertEquals(Set.of(BENSON.getStudentId(), CARL.getStudentId()), find("a01010"));
+        assertEquals(Set.of(ALICE.getStudentId(), BENSON.getStudentId()), find("t01"));
+    }
+
+    @Test
+    public void find_noMatch_returnsEmptySet() {
+        assertEquals(Set.of(), find("zzz"));
+        // The class of students without one is not a term
+        assertEquals(Set.of(), find("tutorial"));
+    }
+
+    @Test
+    public void find_cancelled_throwsCancellationException() {
+        assertThrows(CancellationException.class, () -> index.find(List.of("alice"), () -> true));
+    }
+
+    private Set<StudentId> find(String... keywords) {
+        return index.find(List.of(keywords), () -> false);
+    }
+}
@@ -0,0 +1,42 @@
+package tassist.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.testutil.PersonBuilder;
+
+public class PersonSortKeysTest {
+
+    @Test
+    public void constructor_normalisesValues() {
+        Person person = new PersonBuilder(ALICE).withClassNumber("T01").withProjectTeam("Team Alpha")
+                .withGithub("https://github.com/Alice-P").build();
+        PersonSortKeys keys = new PersonSortKeys(person);
+        assertEquals(ALICE.getStudentId().value.toLowerCase(), keys.studentId);
+        assertEquals("t01", keys.classNumber);
+        assertEquals("team alpha", keys.projectTeam);
+        assertEquals("alice-p", keys.githubUsername);
+
+        assertNull(new PersonSortKeys(new PersonBuilder(ALICE).withGithub(Github.NO_GITHUB).build()).githubUsername);
+    }
+
+    @Test
+    public void name_comparedIgnoringCase() {
+        PersonSortKeys lowerCase = new PersonSortKeys(new PersonBuilder().withName("alex yeoh").build());
+        PersonSortKeys upperCase = new PersonSortKeys(new PersonBuilder().withName("ALEX YEOH").build());
+        PersonSortKeys later = new PersonSortKeys(new PersonBuilder().withName("Bernice Yu").build());
+        assertEquals(0, lowerCase.name.compareTo(upperCase.name));
+        assertTrue(upperCase.name.compareTo(later.name) < 0);
+    }
+
+    @Test
+    public void getSortKeys_computedOnce() {
+        Person person = new PersonBuilder().build();
+        assertSame(person.getSortKeys(), person.getSortKeys());
+    }
+}
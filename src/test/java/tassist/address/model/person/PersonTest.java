@@ -13,6 +13,7 @@ import static tassist.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.ALICE;
 import static tassist.address.testutil.TypicalPersons.BOB;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -87,6 +88,35 @@ public class PersonTest {
         assertFalse(ALICE.isSamePerson(editedAlice));
     }
 
+    @Test
+    public void hasSameDetails() {
+        // same object -> returns true
+        assertTrue(ALICE.hasSameDetails(ALICE));
+
+        // same values -> returns true
+        assertTrue(ALICE.hasSameDetails(new PersonBuilder(ALICE).build()));
+
+        // null -> returns false
+        assertFalse(ALICE.hasSameDetails(null));
+
+        // same studentId, different progress -> returns false
+        assertFalse(ALICE.hasSameDetails(new PersonBuilder(ALICE).withProgress(VALID_PROGRESS_BOB).build()));
+
+        // same studentId, different timed events -> returns false
+        assertFalse(ALICE.hasSameDetails(ALICE.withTimedEventAdded(ASSIGNMENT_1)));
+    }
+
+    @Test
+    public void withTimedEventAdded_leavesOriginalUnchanged() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person assignedAlice = alice.withTimedEventAdded(ASSIGNMENT_1);
+
+        assertFalse(alice.hasTimedEvent(ASSIGNMENT_1));
+        assertTrue(assignedAlice.hasTimedEvent(ASSIGNMENT_1));
+        assertTrue(assignedAlice.withTimedEventRemoved(ASSIGNMENT_1).hasSameDetails(alice));
+        assertTrue(assignedAlice.hasTimedEvent(ASSIGNMENT_1));
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
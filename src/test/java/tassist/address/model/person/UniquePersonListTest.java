@@ -7,13 +7,16 @@ import static tassist.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tassist.address.testutil.Assert.assertThrows;
 import static tassist.address.testutil.TypicalPersons.ALICE;
 import static tassist.address.testutil.TypicalPersons.BOB;
+import static tassist.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import tassist.address.model.person.exceptions.DuplicatePersonException;
 import tassist.address.model.person.exceptions.PersonNotFoundException;
 import tassist.address.testutil.PersonBuilder;
@@ -161,6 +164,82 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void updatePersons_editedPersons_replacedInOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        ListChangeListener<Person> listener = changes::add;
+        uniquePersonList.asUnmodifiableObservableList().addListener(listener);
+
+        uniquePersonList.updatePersons(Arrays.asList(editedBob, editedAlice));
+
+        assertEquals(1, changes.size());
+        List<Person> persons = uniquePersonList.asUnmodifiableObservableList();
+        assertTrue(persons.get(0).hasSameDetails(editedAlice));
+        assertTrue(persons.get(1).hasSameDetails(editedBob));
+    }
+
+    @Test
+    public void updatePersons_editedPersons_onlyEditedPositionsReported() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        List<String> replacedRanges = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                replacedRanges.add(change.getFrom() + "-" + change.getTo());
+            }
+        });
+
+        uniquePersonList.updatePersons(List.of(editedCarl, editedAlice));
+
+        assertEquals(List.of("0-1", "2-3"), replacedRanges);
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().get(2).hasSameDetails(editedCarl));
+    }
+
+    @Test
+    public void stopHoldingChanges_undone_restoresListPositionByPosition() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        List<Integer> changeCounts = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCounts.add(1));
+
+        uniquePersonList.holdChanges();
+        uniquePersonList.setPerson(BOB, new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build());
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(CARL);
+        assertTrue(uniquePersonList.hasHeldChanges());
+        assertEquals(List.of(), changeCounts);
+        uniquePersonList.stopHoldingChanges(true);
+
+        assertFalse(uniquePersonList.hasHeldChanges());
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().get(1).hasSameDetails(BOB));
+        assertTrue(changeCounts.size() <= 1);
+    }
+
+    @Test
+    public void holdChanges_alreadyHeld_throwsIllegalStateException() {
+        uniquePersonList.holdChanges();
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.holdChanges());
+    }
+
+    @Test
+    public void updatePersons_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.updatePersons(List.of(BOB)));
+    }
+
+    @Test
+    public void updatePersons_samePersonTwice_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.updatePersons(List.of(ALICE, ALICE)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
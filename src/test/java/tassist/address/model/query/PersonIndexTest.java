@@ -0,0 +1,65 @@
+package tassist.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tassist.address.model.person.Person;
+import tassist.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonIndex index = new PersonIndex(persons);
+
+    @Test
+    public void lookup_existingValues_returnsMatchingPersons() {
+        assertEquals(Set.of(ALICE, BENSON), index.lookup(QueryField.CLASS, "t01"));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.lookup(QueryField.TAG, "friends"));
+        assertEquals(Set.of(BENSON), index.lookup(QueryField.TAG, "owesmoney"));
+        assertEquals(3, index.count(QueryField.TEAM, "wealthassist"));
+    }
+
+    @Test
+    public void lookup_missingValue_returnsEmptySet() {
+        assertTrue(index.lookup(QueryField.CLASS, "t99").isEmpty());
+    }
+
+    @Test
+    public void lookup_unindexedField_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.lookup(QueryField.PROGRESS, "0"));
+    }
+
+    @Test
+    public void listChanged_indexFollowsChanges() {
+        Person editedAlice = new PersonBuilder(ALICE).withClassNumber("T02").withTags().build();
+        persons.set(0, editedAlice);
+        assertEquals(Set.of(BENSON), index.lookup(QueryField.CLASS, "t01"));
+        assertEquals(Set.of(editedAlice), index.lookup(QueryField.CLASS, "t02"));
+        assertEquals(Set.of(BENSON, DANIEL), index.lookup(QueryField.TAG, "friends"));
+
+        persons.remove(BENSON);
+        assertTrue(index.lookup(QueryField.CLASS, "t01").isEmpty());
+
+        persons.setAll(ALICE);
+        assertEquals(Set.of(ALICE), index.lookup(QueryField.CLASS, "t01"));
+        assertTrue(index.lookup(QueryField.CLASS, "t02").isEmpty());
+        assertEquals(1, index.count(QueryField.ID, ALICE.getStudentId().value.toLowerCase()));
+    }
+
+    @Test
+    public void listSorted_indexUnchanged() {
+        FXCollections.reverse(persons);
+        assertEquals(Set.of(ALICE, BENSON), index.lookup(QueryField.CLASS, "t01"));
+    }
+}
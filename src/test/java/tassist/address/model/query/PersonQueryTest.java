@@ -0,0 +1,63 @@
+package tassist.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
+import static tassist.address.testutil.TypicalPersons.ELLE;
+import static tassist.address.testutil.TypicalPersons.FIONA;
+import static tassist.address.testutil.TypicalPersons.GEORGE;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.model.PersonListWindow;
+import tassist.address.model.person.Person;
+
+public class PersonQueryTest {
+
+    private static final QueryExpression PROGRESS_AT_LEAST_30 =
+            new QueryExpression.Comparison(QueryField.PROGRESS, QueryExpression.Operator.GREATER_OR_EQUAL, "30");
+
+    @Test
+    public void select_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonQuery(null, List.of()).select(null));
+    }
+
+    @Test
+    public void select_emptyQuery_selectsEveryPersonInOrder() {
+        assertEquals(getTypicalPersons(), select(new PersonQuery(null, List.of())));
+    }
+
+    @Test
+    public void select_where_selectsMatchingPersonsInOrder() {
+        assertEquals(List.of(BENSON, CARL, ELLE, FIONA), select(new PersonQuery(PROGRESS_AT_LEAST_30, List.of())));
+    }
+
+    @Test
+    public void select_sort_sortsPersons() {
+        PersonQuery query = new PersonQuery(null, List.of(new SortKey(QueryField.PROGRESS, false),
+                new SortKey(QueryField.NAME, true)));
+        assertEquals(List.of(ELLE, CARL, FIONA, BENSON, GEORGE, ALICE, DANIEL), select(query));
+    }
+
+    @Test
+    public void select_window_selectsPersonsInWindow() {
+        PersonQuery query = new PersonQuery(PROGRESS_AT_LEAST_30, List.of(new SortKey(QueryField.PROGRESS, true)),
+                new PersonListWindow(1, 2));
+        assertEquals(List.of(FIONA, CARL), select(query));
+
+        // window past the last match
+        query = new PersonQuery(PROGRESS_AT_LEAST_30, List.of(), new PersonListWindow(10, 2));
+        assertEquals(List.of(), select(query));
+    }
+
+    private static List<Person> select(PersonQuery query) {
+        return query.select(getTypicalPersons()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,92 @@
+package tassist.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import tassist.address.model.person.Person;
+import tassist.address.testutil.PersonBuilder;
+
+/**
+ * Benchmarks re-sorting a roster of 10,000 students by class, then progress, then name.
+ * The comparators on the cached sort keys are compared against comparators that lowercase the values on every
+ * comparison, by the memory each sort allocates.
+ * Excluded from the normal test run, run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class PersonSortBenchmarkTest {
+
+    private static final int PERSON_COUNT = 10_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    public void sort_cachedSortKeys_allocateLessThanLowercasing() {
+        List<Person> persons = createPersons();
+        Comparator<Person> cached = SortKey.getComparator(List.of(new SortKey(QueryField.CLASS, true),
+                new SortKey(QueryField.PROGRESS, true), new SortKey(QueryField.NAME, true)));
+        Comparator<Person> lowercasing = Comparator.comparing((Person p) -> p.getClassNumber().value.toLowerCase())
+                .thenComparingInt(p -> p.getProgress().value)
+                .thenComparing(p -> p.getName().value.toLowerCase())
+                .thenComparing(p -> p.getStudentId().value.toLowerCase());
+
+        // Sorts once first so the sort keys are cached and the code is compiled
+        sortCopy(persons, cached);
+        sortCopy(persons, lowercasing);
+
+        long cachedBytes = Long.MAX_VALUE;
+        long lowercasingBytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            cachedBytes = Math.min(cachedBytes, measureAllocatedBytes(persons, cached));
+            lowercasingBytes = Math.min(lowercasingBytes, measureAllocatedBytes(persons, lowercasing));
+        }
+        assertEquals(sortCopy(persons, lowercasing), sortCopy(persons, cached));
+
+        System.out.printf("Sorting %d persons: cached sort keys %d KiB, lowercasing %d KiB allocated%n",
+                PERSON_COUNT, cachedBytes / 1024, lowercasingBytes / 1024);
+        assertTrue(cachedBytes * 10 < lowercasingBytes);
+    }
+
+    private static long measureAllocatedBytes(List<Person> persons, Comparator<Person> comparator) {
+        List<Person> copy = new ArrayList<>(persons);
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        copy.sort(comparator);
+        return threadBean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static List<Person> sortCopy(List<Person> persons, Comparator<Person> comparator) {
+        List<Person> copy = new ArrayList<>(persons);
+        copy.sort(comparator);
+        return copy;
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Student " + toLetters(i * 7919 % PERSON_COUNT))
+                    .withStudentId(String.format("A%07dX", i))
+                    .withClassNumber(String.format("T%02d", i % 20 + 1))
+                    .withProgress(String.valueOf(i % 101))
+                    .build());
+        }
+        return persons;
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
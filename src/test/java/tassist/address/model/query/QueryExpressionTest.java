@@ -0,0 +1,81 @@
+package tassist.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.model.query.QueryExpression.And;
+import tassist.address.model.query.QueryExpression.Comparison;
+import tassist.address.model.query.QueryExpression.Operator;
+import tassist.address.model.query.QueryExpression.Or;
+
+public class QueryExpressionTest {
+
+    private final Comparison classT01 = new Comparison(QueryField.CLASS, Operator.EQUAL, "T01");
+    private final Comparison progressBelow30 = new Comparison(QueryField.PROGRESS, Operator.LESS, "30");
+
+    @Test
+    public void comparison_invalidOperator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Comparison(QueryField.NAME, Operator.LESS, "a"));
+        assertThrows(IllegalArgumentException.class, () -> new Comparison(QueryField.PROGRESS, Operator.CONTAINS,
+                "1"));
+    }
+
+    @Test
+    public void comparison_test() {
+        // text fields are compared ignoring case
+        assertTrue(classT01.test(ALICE));
+        assertFalse(classT01.test(CARL));
+        assertTrue(new Comparison(QueryField.CLASS, Operator.NOT_EQUAL, "t01").test(CARL));
+        assertTrue(new Comparison(QueryField.NAME, Operator.CONTAINS, "PAUL").test(ALICE));
+        assertTrue(new Comparison(QueryField.TAG, Operator.EQUAL, "owesMoney").test(BENSON));
+        assertFalse(new Comparison(QueryField.TAG, Operator.EQUAL, "owesMoney").test(ALICE));
+
+        // numeric fields are compared as numbers
+        assertTrue(progressBelow30.test(ALICE));
+        assertFalse(progressBelow30.test(BENSON));
+        assertTrue(new Comparison(QueryField.PROGRESS, Operator.GREATER_OR_EQUAL, "30").test(BENSON));
+    }
+
+    @Test
+    public void andOr_test() {
+        And and = new And(List.of(classT01, progressBelow30));
+        assertTrue(and.test(ALICE));
+        assertFalse(and.test(BENSON));
+
+        Or or = new Or(List.of(classT01, progressBelow30));
+        assertTrue(or.test(BENSON));
+        assertFalse(or.test(CARL));
+    }
+
+    @Test
+    public void andOr_tooFewOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new And(List.of(classT01)));
+        assertThrows(IllegalArgumentException.class, () -> new Or(List.of(classT01)));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(classT01, new Comparison(QueryField.CLASS, Operator.EQUAL, "t01"));
+        assertNotEquals(classT01, new Comparison(QueryField.CLASS, Operator.NOT_EQUAL, "T01"));
+        assertEquals(new And(List.of(classT01, progressBelow30)), new And(List.of(classT01, progressBelow30)));
+        assertNotEquals(new And(List.of(classT01, progressBelow30)), new Or(List.of(classT01, progressBelow30)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Comparison team = new Comparison(QueryField.TEAM, Operator.EQUAL, "Bim Bim Bap");
+        assertEquals("team = \"Bim Bim Bap\"", team.toString());
+        assertEquals("class = T01 and (progress < 30 or team = \"Bim Bim Bap\")",
+                new And(List.of(classT01, new Or(List.of(progressBelow30, team)))).toString());
+    }
+}
@@ -0,0 +1,88 @@
+package tassist.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
+import static tassist.address.testutil.TypicalPersons.FIONA;
+import static tassist.address.testutil.TypicalPersons.GEORGE;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import tassist.address.model.person.Person;
+import tassist.address.model.query.QueryExpression.And;
+import tassist.address.model.query.QueryExpression.Comparison;
+import tassist.address.model.query.QueryExpression.Operator;
+import tassist.address.model.query.QueryExpression.Or;
+
+public class QueryPlanTest {
+
+    private final PersonIndex index = new PersonIndex(FXCollections.observableArrayList(getTypicalPersons()));
+
+    private final Comparison classT01 = new Comparison(QueryField.CLASS, Operator.EQUAL, "T01");
+    private final Comparison classT04 = new Comparison(QueryField.CLASS, Operator.EQUAL, "T04");
+    private final Comparison tagFriends = new Comparison(QueryField.TAG, Operator.EQUAL, "friends");
+    private final Comparison progressBelow50 = new Comparison(QueryField.PROGRESS, Operator.LESS, "50");
+
+    @Test
+    public void of_noCondition_fullScan() {
+        QueryPlan plan = QueryPlan.of(null, index);
+        assertFalse(plan.isIndexScan());
+        assertEquals(getTypicalPersons().size(), plan.findMatches().size());
+        assertEquals("Candidates: full scan (7 students)\nResidual filter: none", plan.explain());
+    }
+
+    @Test
+    public void of_noIndexedCondition_fullScanWithResidual() {
+        QueryPlan plan = QueryPlan.of(progressBelow50, index);
+        assertFalse(plan.isIndexScan());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL, FIONA, GEORGE), new HashSet<>(plan.findMatches()));
+        assertEquals("Candidates: full scan (7 students)\nResidual filter: progress < 50", plan.explain());
+    }
+
+    @Test
+    public void of_conjunction_mostSelectiveLookupDrives() {
+        QueryPlan plan = QueryPlan.of(new And(List.of(tagFriends, progressBelow50, classT01)), index);
+        assertTrue(plan.isIndexScan());
+        assertEquals(Set.of(ALICE, BENSON), new HashSet<>(plan.getCandidates()));
+        assertEquals(Set.of(ALICE, BENSON), new HashSet<>(plan.findMatches()));
+        assertEquals("Candidates: index lookup on class = T01 (2 of 7 students)\n"
+                + "Residual filter: tag = friends and progress < 50", plan.explain());
+    }
+
+    @Test
+    public void of_disjunctionOfLookups_unionOfLookups() {
+        QueryPlan plan = QueryPlan.of(new And(List.of(new Or(List.of(classT01, classT04)), progressBelow50)), index);
+        assertTrue(plan.isIndexScan());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), new HashSet<>(plan.findMatches()));
+        assertEquals("Candidates: index lookup on class = T01 or class = T04 (3 of 7 students)\n"
+                + "Residual filter: progress < 50", plan.explain());
+    }
+
+    @Test
+    public void of_disjunctionWithUnindexedOperand_fullScan() {
+        QueryPlan plan = QueryPlan.of(new Or(List.of(classT01, progressBelow50)), index);
+        assertFalse(plan.isIndexScan());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL, FIONA, GEORGE), new HashSet<>(plan.findMatches()));
+    }
+
+    @Test
+    public void findMatches_matchesSameStudentsAsCondition() {
+        And where = new And(List.of(tagFriends, progressBelow50, classT01));
+        QueryPlan plan = QueryPlan.of(where, index);
+        List<Person> matches = plan.findMatches();
+        for (Person person : getTypicalPersons()) {
+            assertEquals(where.test(person), matches.contains(person));
+        }
+        assertFalse(matches.contains(CARL));
+    }
+}
@@ -0,0 +1,80 @@
+package tassist.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
+import static tassist.address.testutil.TypicalPersons.ELLE;
+import static tassist.address.testutil.TypicalPersons.FIONA;
+import static tassist.address.testutil.TypicalPersons.GEORGE;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.model.person.Github;
+import tassist.address.model.person.Person;
+import tassist.address.testutil.PersonBuilder;
+
+public class SortKeyTest {
+
+    @Test
+    public void constructor_unsortableField_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortKey(QueryField.TAG, true));
+    }
+
+    @Test
+    public void getComparator_multipleKeys_sortsByEachKeyInTurn() {
+        List<Person> persons = getTypicalPersons();
+        Collections.reverse(persons);
+        persons.sort(SortKey.getComparator(List.of(new SortKey(QueryField.CLASS, true),
+                new SortKey(QueryField.PROGRESS, false), new SortKey(QueryField.NAME, true))));
+        // "No tutorial assigned" sorts before T01 and T04
+        assertEquals(List.of(ELLE, CARL, FIONA, GEORGE, BENSON, ALICE, DANIEL), persons);
+    }
+
+    @Test
+    public void getComparator_ties_orderedByStudentId() {
+        Person alice = new PersonBuilder().withName("Alex").withStudentId("A0000002B").build();
+        Person bob = new PersonBuilder().withName("Alex").withStudentId("A0000001B").build();
+        List<Person> persons = new ArrayList<>(List.of(alice, bob));
+        persons.sort(SortKey.getComparator(List.of(new SortKey(QueryField.NAME, true))));
+        assertEquals(List.of(bob, alice), persons);
+
+        persons.sort(SortKey.getComparator(List.of(new SortKey(QueryField.NAME, false))));
+        assertEquals(List.of(bob, alice), persons);
+    }
+
+    @Test
+    public void getComparator_github_studentsWithoutGithubLast() {
+        Person withoutGithub = new PersonBuilder(ALICE).withGithub(Github.NO_GITHUB).build();
+        List<Person> persons = new ArrayList<>(List.of(withoutGithub, BENSON));
+        persons.sort(new SortKey(QueryField.GITHUB, true).getComparator());
+        assertEquals(List.of(BENSON, withoutGithub), persons);
+    }
+
+    @Test
+    public void getComparator_githubDescending_studentsWithoutGithubStillLast() {
+        Person withoutGithub = new PersonBuilder(ALICE).withGithub(Github.NO_GITHUB).build();
+        Person githubA = new PersonBuilder(BENSON).withGithub("https://github.com/a-student").build();
+        Person githubZ = new PersonBuilder(CARL).withGithub("https://github.com/z-student").build();
+        List<Person> persons = new ArrayList<>(List.of(withoutGithub, githubA, githubZ));
+        persons.sort(new SortKey(QueryField.GITHUB, false).getComparator());
+        assertEquals(List.of(githubZ, githubA, withoutGithub), persons);
+    }
+
+    @Test
+    public void equals() {
+        SortKey nameAscending = new SortKey(QueryField.NAME, true);
+        assertEquals(nameAscending, new SortKey(QueryField.NAME, true));
+        assertNotEquals(nameAscending, new SortKey(QueryField.NAME, false));
+        assertNotEquals(nameAscending, new SortKey(QueryField.PROGRESS, true));
+        assertEquals("name asc", nameAscending.toString());
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
@@ -90,6 +91,22 @@ public class AssignmentTest {
         assertEquals("1 year 2 months 5 days", dueInYearsAssignment.calculateRemainingTime());
     }
 
+    @Test
+    public void calculateRemainingTime_givenDay_countsFromThatDay() {
+        Assignment assignment = new Assignment("Assignment", "Description", LocalDateTime.of(2024, 4, 10, 12, 0));
+        assertEquals("9 days", assignment.calculateRemainingTime(LocalDate.of(2024, 4, 1)));
+        assertEquals("1 day", assignment.calculateRemainingTime(LocalDate.of(2024, 4, 9)));
+        // Asking again for the first day gives the same text after the day changed in between
+        assertEquals("9 days", assignment.calculateRemainingTime(LocalDate.of(2024, 4, 1)));
+    }
+
+    @Test
+    public void isOverdue_givenDay_comparesWithThatDay() {
+        Assignment assignment = new Assignment("Assignment", "Description", LocalDateTime.of(2024, 4, 10, 12, 0));
+        assertFalse(assignment.isOverdue(LocalDate.of(2024, 4, 9)));
+        assertTrue(assignment.isOverdue(LocalDate.of(2024, 4, 10)));
+    }
+
     @Test
     public void isSameTimedEvent_sameAssignment_returnsTrue() {
         Assignment assignment = new Assignment(
@@ -1,6 +1,7 @@
 package tassist.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tassist.address.testutil.Assert.assertThrows;
@@ -89,6 +90,52 @@ public class CsvJsonConverterTest {
         assertThrows(IOException.class, () -> csvJsonConverter.convertCsvToJson(inputCsv, outputJson));
     }
 
+    @Test
+    public void validateCsv_validCsv_noProblems() throws IOException, CsvException {
+        CsvImportValidation validation = csvJsonConverter.validateCsv(TEST_DATA_FOLDER.resolve("valid.csv"), false);
+
+        assertEquals(7, validation.getPersons().size());
+        assertEquals(0, validation.getDuplicateRowCount());
+        assertTrue(validation.getInvalidRows().isEmpty());
+        assertTrue(validation.isImportable());
+    }
+
+    @Test
+    public void validateCsv_invalidAndDuplicateRows_reportsEachRow() throws IOException, CsvException {
+        CsvImportValidation validation = csvJsonConverter.validateCsv(TEST_DATA_FOLDER.resolve("dryRun.csv"), false);
+
+        assertEquals(2, validation.getPersons().size());
+        assertEquals(1, validation.getDuplicateRowCount());
+        assertEquals(2, validation.getInvalidRows().size());
+        assertTrue(validation.getInvalidRows().get(0).startsWith(String.format(CsvJsonConverter.MESSAGE_INVALID_ROW,
+                5, "")));
+        assertTrue(validation.getInvalidRows().get(1).startsWith(String.format(CsvJsonConverter.MESSAGE_INVALID_ROW,
+                6, "")));
+        assertFalse(validation.isImportable());
+    }
+
+    @Test
+    public void validateCsv_sameTimedEventTwice_countsDuplicate() throws IOException, CsvException {
+        CsvImportValidation validation = csvJsonConverter.validateCsv(
+                TEST_DATA_FOLDER.resolve("dryRunTimedEvents.csv"), false);
+
+        assertEquals(2, validation.getTimedEvents().size());
+        assertEquals(1, validation.getDuplicateRowCount());
+        assertTrue(validation.getInvalidRows().isEmpty());
+    }
+
+    @Test
+    public void validateCsv_fullExportAsDelta_throwsCsvException() {
+        assertThrows(CsvException.class, () -> csvJsonConverter.validateCsv(TEST_DATA_FOLDER.resolve("valid.csv"),
+                true));
+    }
+
+    @Test
+    public void validateCsv_emptyCsv_throwsCsvException() {
+        assertThrows(CsvException.class, () -> csvJsonConverter.validateCsv(TEST_DATA_FOLDER.resolve("empty.csv"),
+                false));
+    }
+
     @Test
     public void testConvertJsonToCsv_validJson_createsCsv() throws IOException, CsvException {
         ReadOnlyAddressBook addressBook = model.getAddressBook();
@@ -0,0 +1,55 @@
+package tassist.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tassist.address.testutil.TypicalPersons.getTypicalPersons;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_1;
+import static tassist.address.testutil.TypicalTimedEvents.ASSIGNMENT_2;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tassist.address.commons.util.JsonUtil;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+
+public class JsonStreamWriterTest {
+
+    @Test
+    public void writePersons_persons_writesSameJsonAsDataFile() throws Exception {
+        List<Person> persons = getTypicalPersons();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamWriter.writePersons(persons.iterator(), out);
+
+        JsonAdaptedPerson[] written = JsonUtil.fromJsonString(out.toString(StandardCharsets.UTF_8),
+                JsonAdaptedPerson[].class);
+        assertEquals(persons.size(), written.length);
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i), written[i].toModelType());
+        }
+    }
+
+    @Test
+    public void writePersons_noPersons_writesEmptyArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamWriter.writePersons(Collections.emptyIterator(), out);
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeTimedEvents_timedEvents_writesSameJsonAsDataFile() throws Exception {
+        List<TimedEvent> timedEvents = List.of(ASSIGNMENT_1, ASSIGNMENT_2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamWriter.writeTimedEvents(timedEvents.iterator(), out);
+
+        JsonAdaptedTimedEvent[] written = JsonUtil.fromJsonString(out.toString(StandardCharsets.UTF_8),
+                JsonAdaptedTimedEvent[].class);
+        assertEquals(timedEvents.size(), written.length);
+        for (int i = 0; i < timedEvents.size(); i++) {
+            assertEquals(timedEvents.get(i), written[i].toModelType());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package tassist.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import tassist.address.commons.exceptions.IllegalValueException;
+import tassist.address.model.person.ClassNumber;
+import tassist.address.model.person.Email;
+import tassist.address.model.person.Github;
+import tassist.address.model.person.Name;
+import tassist.address.model.person.Person;
+import tassist.address.model.person.Phone;
+import tassist.address.model.person.Progress;
+import tassist.address.model.person.ProjectTeam;
+import tassist.address.model.person.Repository;
+import tassist.address.model.person.StudentId;
+
+/**
+ * Benchmarks loading 50,000 stored persons, which is dominated by validating their fields.
+ * The field validators are compared against validating the same fields with {@code String#matches},
+ * which recompiles the validation regex on every call.
+ * Excluded from the normal test run, run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class PersonLoadBenchmarkTest {
+
+    private static final int RECORD_COUNT = 50_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    public void validateFields_fieldValidators_fasterThanStringMatches() {
+        List<String[]> records = createRecords();
+
+        long validatorNanos = Long.MAX_VALUE;
+        long stringMatchesNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long startTime = System.nanoTime();
+            assertEquals(RECORD_COUNT, countValidWithValidators(records));
+            validatorNanos = Math.min(validatorNanos, System.nanoTime() - startTime);
+
+            startTime = System.nanoTime();
+            assertEquals(RECORD_COUNT, countValidWithStringMatches(records));
+            stringMatchesNanos = Math.min(stringMatchesNanos, System.nanoTime() - startTime);
+        }
+
+        System.out.printf("Validating %d records: field validators %d ms, String#matches %d ms%n",
+                RECORD_COUNT, validatorNanos / 1_000_000, stringMatchesNanos / 1_000_000);
+        assertTrue(validatorNanos < stringMatchesNanos);
+    }
+
+    @Test
+    public void toModelType_fiftyThousandPersons_allLoaded() throws IllegalValueException {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (String[] record : createRecords()) {
+            jsonAdaptedPersons.add(new JsonAdaptedPerson(record[0], record[1], record[2], record[3], record[4],
+                    record[5], record[6], record[7], List.of(new JsonAdaptedTag("friends")), record[8], null));
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Person> persons = new ArrayList<>();
+            long startTime = System.nanoTime();
+            for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+                persons.add(jsonAdaptedPerson.toModelType());
+            }
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startTime);
+            assertEquals(RECORD_COUNT, persons.size());
+        }
+
+        System.out.printf("Loading %d persons: %d ms%n", RECORD_COUNT, bestNanos / 1_000_000);
+    }
+
+    /**
+     * Returns the fields of {@code RECORD_COUNT} distinct, valid persons, in the order
+     * name, phone, email, class, student ID, GitHub, project team, repository and progress.
+     */
+    private static List<String[]> createRecords() {
+        List<String[]> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            String handle = "student" + i;
+            records.add(new String[] {
+                "Student " + toLetters(i),
+                String.format("9%07d", i),
+                handle + "@u.nus.edu",
+                String.format("T%02d", i % 99 + 1),
+                String.format("A%07dX", i),
+                "https://github.com/" + handle,
+                "Team " + i % 100,
+                "https://github.com/" + handle + "/tp",
+                String.valueOf(i % 101)
+            });
+        }
+        return records;
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    private static int countValidWithValidators(List<String[]> records) {
+        int validCount = 0;
+        for (String[] record : records) {
+            if (Name.isValidName(record[0])
+                    && Phone.isValidPhone(record[1])
+                    && Email.isValidEmail(record[2])
+                    && ClassNumber.isValidClassNumber(record[3])
+                    && StudentId.isValidStudentId(record[4])
+                    && Github.isValidGithub(record[5])
+                    && ProjectTeam.isValidProjectTeam(record[6])
+                    && Repository.isValidRepository(record[7])
+                    && Progress.isValidProgress(record[8])
+                    && tassist.address.model.tag.Tag.isValidTagName("friends")) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    private static int countValidWithStringMatches(List<String[]> records) {
+        int validCount = 0;
+        for (String[] record : records) {
+            if (record[0].matches(Name.VALIDATION_REGEX)
+                    && record[1].matches(Phone.VALIDATION_REGEX)
+                    && record[2].matches(Email.VALIDATION_REGEX)
+                    && record[3].matches(ClassNumber.VALIDATION_REGEX)
+                    && record[4].matches(StudentId.VALIDATION_REGEX)
+                    && record[5].matches(Github.VALIDATION_REGEX)
+                    && record[6].matches(ProjectTeam.VALIDATION_REGEX)
+                    && record[7].matches(Repository.VALIDATION_REGEX)
+                    && record[8].matches(Progress.VALIDATION_REGEX)
+                    && "friends".matches(tassist.address.model.tag.Tag.VALIDATION_REGEX)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+}
@@ -0,0 +1,69 @@
+package tassist.address.testutil;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor that runs its tasks only when asked to, on the thread that asks.
+ */
+public class ManualExecutor extends AbstractExecutorService {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private boolean isShutdown = false;
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+    }
+
+    /**
+     * Runs the tasks waiting to run, including those they submit, until there are none left.
+     */
+    public void runAll() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    public int getTaskCount() {
+        return tasks.size();
+    }
+
+    public boolean hasTasks() {
+        return !tasks.isEmpty();
+    }
+
+    @Override
+    public void shutdown() {
+        isShutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        isShutdown = true;
+        List<Runnable> pendingTasks = new ArrayList<>(tasks);
+        tasks.clear();
+        return pendingTasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return isShutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return isShutdown && tasks.isEmpty();
+    }
+
+    /**
+     * Returns at once, as the tasks only run when {@link #runAll()} is called.
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return isTerminated();
+    }
+}
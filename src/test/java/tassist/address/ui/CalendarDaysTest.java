@@ -0,0 +1,137 @@
+package tassist.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tassist.address.model.person.Person;
+import tassist.address.model.timedevents.TimedEvent;
+import tassist.address.testutil.AssignmentBuilder;
+import tassist.address.testutil.PersonBuilder;
+
+public class CalendarDaysTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 4, 1);
+    private static final LocalDate TUESDAY = LocalDate.of(2024, 4, 2);
+    private static final TimedEvent MONDAY_EVENING = event("Evening", MONDAY.atTime(20, 0));
+    private static final TimedEvent MONDAY_MORNING = event("Morning", MONDAY.atTime(9, 0));
+    private static final TimedEvent TUESDAY_NOON = event("Noon", TUESDAY.atTime(12, 0));
+
+    private final ObservableList<TimedEvent> events =
+            FXCollections.observableArrayList(MONDAY_EVENING, TUESDAY_NOON, MONDAY_MORNING);
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON);
+    private final List<Set<LocalDate>> changedDates = new ArrayList<>();
+    private final List<Set<TimedEvent>> changedEvents = new ArrayList<>();
+    private CalendarDays days;
+
+    @BeforeEach
+    public void setUp() {
+        days = new CalendarDays(events, persons);
+        days.setListener((dates, dayEvents) -> {
+            changedDates.add(dates);
+            changedEvents.add(dayEvents);
+        });
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CalendarDays(null, persons));
+        assertThrows(NullPointerException.class, () -> new CalendarDays(events, null));
+    }
+
+    @Test
+    public void constructor_groupsEventsByDateInTimeOrder() {
+        assertEquals(List.of(MONDAY, TUESDAY), days.getDates());
+        assertEquals(List.of(MONDAY_MORNING, MONDAY_EVENING), days.getEvents(MONDAY));
+        assertEquals(List.of(TUESDAY_NOON), days.getEvents(TUESDAY));
+        assertEquals(List.of(), days.getEvents(TUESDAY.plusDays(1)));
+        assertEquals(1, days.getNumber(MONDAY_EVENING));
+        assertEquals(3, days.getNumber(MONDAY_MORNING));
+    }
+
+    @Test
+    public void getDateIndex_returnsPositionAmongDates() {
+        assertEquals(0, days.getDateIndex(MONDAY.minusDays(1)));
+        assertEquals(1, days.getDateIndex(TUESDAY));
+        assertEquals(2, days.getDateIndex(TUESDAY.plusDays(1)));
+    }
+
+    @Test
+    public void eventAdded_reportsOnlyItsDate() {
+        TimedEvent tuesdayMorning = event("Tuesday morning", TUESDAY.atTime(8, 0));
+        events.add(tuesdayMorning);
+
+        assertEquals(List.of(Set.of(TUESDAY)), changedDates);
+        assertEquals(List.of(Set.of()), changedEvents);
+        assertEquals(List.of(tuesdayMorning, TUESDAY_NOON), days.getEvents(TUESDAY));
+        assertEquals(4, days.getNumber(tuesdayMorning));
+    }
+
+    @Test
+    public void eventRemoved_reportsDateAndRenumberedEvents() {
+        events.remove(TUESDAY_NOON);
+
+        assertEquals(List.of(Set.of(TUESDAY)), changedDates);
+        assertEquals(List.of(Set.of(MONDAY_MORNING)), changedEvents);
+        assertEquals(List.of(MONDAY), days.getDates());
+        assertEquals(2, days.getNumber(MONDAY_MORNING));
+    }
+
+    @Test
+    public void eventsReordered_reportsDatesOfMovedEvents() {
+        events.setAll(MONDAY_MORNING, TUESDAY_NOON, MONDAY_EVENING);
+
+        assertEquals(List.of(Set.of(MONDAY)), changedDates);
+        assertEquals(List.of(Set.of(MONDAY_MORNING, MONDAY_EVENING)), changedEvents);
+        assertEquals(1, days.getNumber(MONDAY_MORNING));
+        assertEquals(List.of(MONDAY_MORNING, MONDAY_EVENING), days.getEvents(MONDAY));
+    }
+
+    @Test
+    public void personAssigned_reportsOnlyItsEvents() {
+        Person assignedAlice = ALICE.withTimedEventAdded(TUESDAY_NOON);
+        persons.set(0, assignedAlice);
+
+        assertEquals(List.of(Set.of()), changedDates);
+        assertEquals(List.of(Set.of(TUESDAY_NOON)), changedEvents);
+        assertEquals(List.of(assignedAlice), days.getAssignees(TUESDAY_NOON));
+        assertEquals(List.of(), days.getAssignees(MONDAY_MORNING));
+    }
+
+    @Test
+    public void assignedPersonEdited_reportsItsEvents() {
+        persons.set(0, ALICE.withTimedEventAdded(TUESDAY_NOON));
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia").build().withTimedEventAdded(TUESDAY_NOON);
+        changedEvents.clear();
+
+        persons.set(0, renamedAlice);
+
+        assertEquals(List.of(Set.of(TUESDAY_NOON)), changedEvents);
+        assertSame(renamedAlice, days.getAssignees(TUESDAY_NOON).get(0));
+    }
+
+    @Test
+    public void unassignedPersonChanged_reportsNothing() {
+        persons.set(1, new PersonBuilder(BENSON).withName("Ben").build());
+
+        assertTrue(changedDates.isEmpty());
+    }
+
+    private static TimedEvent event(String name, LocalDateTime time) {
+        return new AssignmentBuilder().withName(name).withTime(time).build();
+    }
+}
@@ -0,0 +1,176 @@
+package tassist.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import tassist.address.logic.Logic;
+import tassist.address.logic.LogicManager;
+import tassist.address.logic.commands.CommandResult;
+import tassist.address.logic.commands.ListCommand;
+import tassist.address.logic.parser.exceptions.ParseException;
+import tassist.address.model.Model;
+import tassist.address.model.ModelManager;
+import tassist.address.model.UserPrefs;
+import tassist.address.model.person.Person;
+import tassist.address.storage.JsonAddressBookStorage;
+import tassist.address.storage.JsonUserPrefsStorage;
+import tassist.address.storage.StorageManager;
+import tassist.address.testutil.ManualExecutor;
+
+public class CommandRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ManualExecutor writer = new ManualExecutor();
+    private final ManualExecutor uiExecutor = new ManualExecutor();
+    private Logic logicManager;
+    private CommandRunner runner;
+    private ObservableList<Person> persons;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logicManager = new LogicManager(model, storage);
+        runner = new CommandRunner(logicManager, writer, uiExecutor);
+        persons = runner.mirror(model.getFilteredPersonList());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandRunner(null, writer, uiExecutor));
+    }
+
+    @Test
+    public void submit_validCommand_completesOnUiExecutorWithMirrorUpdated() throws Exception {
+        int size = persons.size();
+        CompletableFuture<CommandResult> result = runner.submit("list where name ~ alice");
+        assertTrue(runner.busyProperty().get());
+
+        writer.runAll();
+        // The model changed on the writer, but the mirror only changes with the result
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+        assertEquals(size, persons.size());
+        assertFalse(result.isDone());
+
+        uiExecutor.runAll();
+        assertTrue(result.isDone());
+        assertEquals(List.of(ALICE), persons);
+        assertFalse(runner.busyProperty().get());
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() {
+        CompletableFuture<CommandResult> result = runner.submit("unknowncommand");
+        writer.runAll();
+        uiExecutor.runAll();
+
+        assertTrue(result.isCompletedExceptionally());
+        result.whenComplete((unused, error) -> assertTrue(error instanceof ParseException));
+        assertFalse(runner.busyProperty().get());
+    }
+
+    @Test
+    public void submit_whileBusy_queuesCommandsInOrder() throws Exception {
+        CompletableFuture<CommandResult> first = runner.submit("list");
+        CompletableFuture<CommandResult> second = runner.submit("unknowncommand");
+        CompletableFuture<CommandResult> third = runner.submit("list");
+        assertEquals(2, runner.queuedCommandCountProperty().get());
+        // Only the running command is handed to the writer
+        assertEquals(1, writer.getTaskCount());
+
+        List<CompletableFuture<CommandResult>> completed = new ArrayList<>();
+        first.whenComplete((result, error) -> completed.add(first));
+        second.whenComplete((result, error) -> completed.add(second));
+        third.whenComplete((result, error) -> completed.add(third));
+        while (writer.hasTasks()) {
+            writer.runAll();
+            uiExecutor.runAll();
+        }
+
+        assertEquals(List.of(first, second, third), completed);
+        assertEquals(ListCommand.MESSAGE_LIST_ALL, third.get().getFeedbackToUser());
+        assertTrue(second.isCompletedExceptionally());
+        assertEquals(0, runner.queuedCommandCountProperty().get());
+        assertFalse(runner.busyProperty().get());
+    }
+
+    @Test
+    public void submitUpdate_runsAfterQueuedCommands() {
+        runner.submit("list where name ~ alice");
+        CompletableFuture<Void> update = runner.submitUpdate(logic ->
+                logic.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS));
+        assertEquals(1, runner.queuedCommandCountProperty().get());
+
+        while (writer.hasTasks()) {
+            writer.runAll();
+            uiExecutor.runAll();
+        }
+
+        assertTrue(update.isDone());
+        assertEquals(getTypicalAddressBook().getPersonList(), persons);
+        assertFalse(runner.busyProperty().get());
+    }
+
+    @Test
+    public void setTimingListener_toldAboutEachCompletedCommand() {
+        List<String> timedCommands = new ArrayList<>();
+        runner.setTimingListener((description, executionNanos, applyNanos) -> timedCommands.add(description));
+        runner.submit("list");
+        runner.submitUpdate(logic -> { });
+
+        while (writer.hasTasks()) {
+            writer.runAll();
+            uiExecutor.runAll();
+        }
+
+        assertEquals(List.of("list", CommandRunner.UPDATE_DESCRIPTION), timedCommands);
+    }
+
+    @Test
+    public void shutdown_queuedCommands_finishesThemWithoutUiThread() throws Exception {
+        ExecutorService writerThread = Executors.newSingleThreadExecutor();
+        CommandRunner threadedRunner = new CommandRunner(logicManager, writerThread, uiExecutor);
+        threadedRunner.submit("list where name ~ alice");
+        threadedRunner.submit("clear");
+        threadedRunner.submitUpdate(logic -> logic.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS));
+
+        // The UI executor never runs, as the UI thread is the one waiting
+        assertTrue(threadedRunner.shutdown(10, TimeUnit.SECONDS));
+        assertTrue(writerThread.isTerminated());
+        assertEquals(List.of(), model.getAddressBook().getPersonList());
+        assertEquals(0, threadedRunner.queuedCommandCountProperty().get());
+    }
+
+    @Test
+    public void submit_afterShutdown_rejected() throws Exception {
+        assertTrue(runner.shutdown(0, TimeUnit.SECONDS));
+
+        CompletableFuture<CommandResult> result = runner.submit("clear");
+        assertTrue(result.isCompletedExceptionally());
+        result.whenComplete((unused, error) -> assertTrue(error instanceof RejectedExecutionException));
+        assertFalse(writer.hasTasks());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+    }
+}
@@ -0,0 +1,149 @@
+package tassist.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+import static tassist.address.testutil.TypicalPersons.DANIEL;
+import static tassist.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tassist.address.logic.LogicManager;
+import tassist.address.model.Model;
+import tassist.address.model.ModelManager;
+import tassist.address.model.PersonListWindow;
+import tassist.address.model.UserPrefs;
+import tassist.address.storage.JsonAddressBookStorage;
+import tassist.address.storage.JsonUserPrefsStorage;
+import tassist.address.storage.StorageManager;
+import tassist.address.testutil.ManualExecutor;
+
+public class LiveSearchTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ManualExecutor searcher = new ManualExecutor();
+    private final ManualExecutor writer = new ManualExecutor();
+    private final ManualExecutor uiExecutor = new ManualExecutor();
+    private CommandRunner runner;
+    private LiveSearch liveSearch;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logic = new LogicManager(model, storage);
+        runner = new CommandRunner(logic, writer, uiExecutor);
+        liveSearch = new LiveSearch(runner, logic::getAddressBookSnapshot, searcher, uiExecutor);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LiveSearch(null, () -> null, searcher, uiExecutor));
+    }
+
+    @Test
+    public void parseKeywords() {
+        assertEquals(Optional.empty(), LiveSearch.parseKeywords(""));
+        assertEquals(Optional.empty(), LiveSearch.parseKeywords("find"));
+        assertEquals(Optional.empty(), LiveSearch.parseKeywords("list alice"));
+        assertEquals(Optional.of(List.of()), LiveSearch.parseKeywords("find "));
+        assertEquals(Optional.of(List.of("alice", "bob")), LiveSearch.parseKeywords(" FIND  alice bob"));
+        assertEquals(Optional.of(List.of("alice")), LiveSearch.parseKeywords("find alice page/2"));
+    }
+
+    @Test
+    public void onTypingPaused_findQuery_showsMatchingStudentsWithoutSaving() {
+        type("find mei");
+        runAll();
+
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+        assertFalse(temporaryFolder.resolve("addressBook.json").toFile().exists());
+
+        type("find ");
+        runAll();
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void onTypingPaused_notFindCommand_doesNothing() {
+        type("list");
+        runAll();
+
+        assertFalse(searcher.hasTasks());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void onTypingPaused_notFindCommandAfterSearch_restoresFilterAndWindow() {
+        model.updateFilteredPersonList(person -> !person.equals(ALICE));
+        model.updatePersonListWindow(new PersonListWindow(0, 2));
+
+        type("find mei");
+        runAll();
+        type("find alice");
+        runAll();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+        assertEquals(PersonListWindow.ALL, model.getPersonListWindow());
+
+        type("lis");
+        runAll();
+        assertEquals(List.of(BENSON, CARL), model.getFilteredPersonList());
+        assertEquals(new PersonListWindow(0, 2), model.getPersonListWindow());
+    }
+
+    @Test
+    public void onTypingPaused_commandEnteredAfterSearch_keepsCommandFilter() {
+        type("find mei");
+        runAll();
+        runner.submit("find alice");
+        type("");
+        runAll();
+
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void onTextChanged_duringSearch_dropsStaleResult() {
+        type("find mei");
+        searcher.runAll();
+        type("find alice");
+        runAll();
+
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void onTextChanged_beforeSearchRuns_cancelsSearch() {
+        type("find mei");
+        liveSearch.onTextChanged();
+        runAll();
+
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    private void type(String commandText) {
+        liveSearch.onTextChanged();
+        liveSearch.onTypingPaused(commandText);
+    }
+
+    private void runAll() {
+        while (searcher.hasTasks() || uiExecutor.hasTasks() || writer.hasTasks()) {
+            searcher.runAll();
+            uiExecutor.runAll();
+            writer.runAll();
+        }
+    }
+}
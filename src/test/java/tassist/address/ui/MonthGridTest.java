@@ -0,0 +1,50 @@
+package tassist.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+public class MonthGridTest {
+
+    // 1 October 2026 is a Thursday
+    private final MonthGrid grid = new MonthGrid(YearMonth.of(2026, 10));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MonthGrid(null));
+    }
+
+    @Test
+    public void getDate_startsOnMondayOfFirstWeek() {
+        assertEquals(LocalDate.of(2026, 9, 28), grid.getDate(0));
+        assertEquals(LocalDate.of(2026, 10, 1), grid.getDate(3));
+        assertEquals(LocalDate.of(2026, 11, 8), grid.getDate(MonthGrid.DAY_COUNT - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.getDate(MonthGrid.DAY_COUNT));
+    }
+
+    @Test
+    public void getDate_monthStartingOnMonday_startsOnFirstDay() {
+        // 1 June 2026 is a Monday
+        assertEquals(LocalDate.of(2026, 6, 1), new MonthGrid(YearMonth.of(2026, 6)).getDate(0));
+    }
+
+    @Test
+    public void indexOf() {
+        assertEquals(0, grid.indexOf(LocalDate.of(2026, 9, 28)));
+        assertEquals(33, grid.indexOf(LocalDate.of(2026, 10, 31)));
+        assertEquals(-1, grid.indexOf(LocalDate.of(2026, 9, 27)));
+        assertEquals(-1, grid.indexOf(LocalDate.of(2026, 11, 9)));
+    }
+
+    @Test
+    public void isInMonth() {
+        assertTrue(grid.isInMonth(LocalDate.of(2026, 10, 31)));
+        assertFalse(grid.isInMonth(LocalDate.of(2026, 11, 1)));
+    }
+}
@@ -0,0 +1,67 @@
+package tassist.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class PerformanceLogTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final PerformanceLog performanceLog = new PerformanceLog();
+
+    @Test
+    public void startTrace_nullCommandText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> performanceLog.startTrace(null, 0, 0, 0));
+    }
+
+    @Test
+    public void recordPulse_noCommand_notCounted() {
+        assertFalse(performanceLog.recordPulse(0, MILLIS, 0));
+        assertEquals(Optional.empty(), performanceLog.getLatestTrace());
+    }
+
+    @Test
+    public void recordPulse_withinWindow_countedTowardsLatestCommand() {
+        performanceLog.startTrace("list", 3 * MILLIS, MILLIS, 0);
+        PerformanceLog.CommandTrace trace = performanceLog.startTrace("find alice", 3 * MILLIS, MILLIS, 100 * MILLIS);
+
+        assertTrue(performanceLog.recordPulse(110 * MILLIS, 2 * MILLIS, 0));
+        assertTrue(performanceLog.recordPulse(126 * MILLIS, 4 * MILLIS, 16 * MILLIS));
+        assertFalse(performanceLog.recordPulse(100 * MILLIS + PerformanceLog.CORRELATION_WINDOW_NANOS + 1, MILLIS,
+                0));
+
+        assertEquals(2, trace.getPulseCount());
+        assertEquals(6 * MILLIS, trace.getTotalLayoutNanos());
+        assertEquals(16 * MILLIS, trace.getMaxPulseIntervalNanos());
+        assertEquals(0, performanceLog.getTraces().get(0).getPulseCount());
+    }
+
+    @Test
+    public void startTrace_full_dropsOldestTrace() {
+        for (int i = 0; i <= PerformanceLog.MAX_TRACES; i++) {
+            performanceLog.startTrace("command " + i, 0, 0, 0);
+        }
+
+        assertEquals(PerformanceLog.MAX_TRACES, performanceLog.getTraces().size());
+        assertEquals("command 1", performanceLog.getTraces().get(0).getCommandText());
+    }
+
+    @Test
+    public void toCsv_quotesCommandsAndListsNodeCounts() {
+        PerformanceLog.CommandTrace trace = performanceLog.startTrace("find \"al\", bo", 1_500_000, 250_000, 0);
+        performanceLog.recordPulse(MILLIS, 2 * MILLIS, 0);
+        trace.setNodeCounts(Map.of("students", 42));
+
+        assertEquals("command,execute_ms,apply_ms,pulses,layout_total_ms,layout_max_ms,pulse_interval_max_ms,"
+                + "node_counts\n"
+                + "\"find \"\"al\"\", bo\",1.500,0.250,1,2.000,2.000,0.000,\"students=42\"\n",
+                performanceLog.toCsv());
+    }
+}
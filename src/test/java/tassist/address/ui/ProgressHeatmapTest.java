@@ -0,0 +1,109 @@
+package tassist.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tassist.address.testutil.Assert.assertThrows;
+import static tassist.address.testutil.TypicalPersons.ALICE;
+import static tassist.address.testutil.TypicalPersons.BENSON;
+import static tassist.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tassist.address.model.person.ClassNumber;
+import tassist.address.model.person.Person;
+import tassist.address.testutil.PersonBuilder;
+
+public class ProgressHeatmapTest {
+
+    private static final Person T02_PERSON = new PersonBuilder().withName("Dora").withStudentId("A0000002D")
+            .withClassNumber("T02").withProgress("40").build();
+
+    // ALICE and BENSON are in T01, CARL has no class
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(CARL, T02_PERSON, ALICE, BENSON);
+    private final List<Set<Integer>> dirtyLines = new ArrayList<>();
+    private final List<Set<ProgressHeatmap.Cell>> dirtyCells = new ArrayList<>();
+    private ProgressHeatmap heatmap;
+
+    @BeforeEach
+    public void setUp() {
+        heatmap = new ProgressHeatmap(persons);
+        heatmap.setListener((lines, cells) -> {
+            dirtyLines.add(lines);
+            dirtyCells.add(cells);
+        });
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ProgressHeatmap(null));
+    }
+
+    @Test
+    public void constructor_linesOrderedByClassWithUnassignedLast() {
+        assertEquals(3, heatmap.getLineCount());
+        assertEquals("T01", heatmap.getLabel(0));
+        assertEquals(List.of(ALICE, BENSON), heatmap.getPersons(0));
+        assertEquals("T02", heatmap.getLabel(1));
+        assertEquals(ClassNumber.DEFAULT_CLASS, heatmap.getLabel(2));
+        assertEquals(List.of(CARL), heatmap.getPersons(2));
+        assertEquals(2, heatmap.getColumnCount());
+    }
+
+    @Test
+    public void constructor_largeClass_wrapsOntoContinuationLines() {
+        List<Person> manyPersons = new ArrayList<>();
+        for (int i = 0; i < ProgressHeatmap.MAX_COLUMNS + 1; i++) {
+            manyPersons.add(new PersonBuilder().withStudentId(String.format("A%07dB", i)).withClassNumber("T03")
+                    .build());
+        }
+        ProgressHeatmap largeHeatmap = new ProgressHeatmap(FXCollections.observableArrayList(manyPersons));
+
+        assertEquals(2, largeHeatmap.getLineCount());
+        assertEquals("", largeHeatmap.getLabel(1));
+        assertEquals(ProgressHeatmap.MAX_COLUMNS, largeHeatmap.getColumnCount());
+    }
+
+    @Test
+    public void progressChanged_reportsOnlyItsCell() {
+        persons.set(3, new PersonBuilder(BENSON).withProgress("5").build());
+
+        assertEquals(List.of(Set.of()), dirtyLines);
+        assertEquals(List.of(Set.of(new ProgressHeatmap.Cell(0, 1))), dirtyCells);
+    }
+
+    @Test
+    public void otherFieldChanged_reportsNothing() {
+        persons.set(3, new PersonBuilder(BENSON).withName("Ben").build());
+
+        assertTrue(dirtyLines.isEmpty());
+    }
+
+    @Test
+    public void classEmptied_reportsShiftedLines() {
+        persons.remove(T02_PERSON);
+
+        assertEquals(List.of(Set.of(1, 2)), dirtyLines);
+        assertEquals(2, heatmap.getLineCount());
+    }
+
+    @Test
+    public void getPersonAt_findsCellUnderPoint() {
+        double x = ProgressHeatmap.getCellX(1) + 1;
+        double y = ProgressHeatmap.getLineY(0) + 1;
+        assertEquals(Optional.of(BENSON), heatmap.getPersonAt(x, y));
+
+        // Gap between cells, label area, and past the end of a line
+        assertEquals(Optional.empty(), heatmap.getPersonAt(ProgressHeatmap.getCellX(1) - 1, y));
+        assertEquals(Optional.empty(), heatmap.getPersonAt(ProgressHeatmap.PADDING, y));
+        assertEquals(Optional.empty(), heatmap.getPersonAt(x, ProgressHeatmap.getLineY(1) + 1));
+        assertEquals(Optional.empty(), heatmap.getPersonAt(x, ProgressHeatmap.getLineY(5)));
+    }
+}